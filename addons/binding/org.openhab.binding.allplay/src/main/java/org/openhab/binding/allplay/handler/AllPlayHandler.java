@@ -10,8 +10,6 @@ package org.openhab.binding.allplay.handler;
 
 import static org.openhab.binding.allplay.AllPlayBindingConstants.*;
 
-import java.net.URL;
-import java.net.URLConnection;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -19,7 +17,6 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
-import org.apache.commons.io.IOUtils;
 import org.eclipse.smarthome.core.common.ThreadPoolManager;
 import org.eclipse.smarthome.core.library.types.DecimalType;
 import org.eclipse.smarthome.core.library.types.IncreaseDecreaseType;
@@ -40,6 +37,7 @@ import org.eclipse.smarthome.core.types.RefreshType;
 import org.eclipse.smarthome.core.types.UnDefType;
 import org.openhab.binding.allplay.AllPlayBindingConstants;
 import org.openhab.binding.allplay.internal.AllPlayBindingProperties;
+import org.openhab.io.transport.image.ImageCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -72,6 +70,8 @@ public class AllPlayHandler extends BaseThingHandler
     private final Logger logger = LoggerFactory.getLogger(AllPlayHandler.class);
     private final AllPlay allPlay;
     private final AllPlayBindingProperties bindingProperties;
+    private final ImageCache imageCache;
+    private volatile String coverArtUrl;
     private Speaker speaker;
     private VolumeRange volumeRange;
 
@@ -79,10 +79,12 @@ public class AllPlayHandler extends BaseThingHandler
     private ScheduledFuture<?> reconnectionJob;
     private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool(ALLPLAY_THREADPOOL_NAME);
 
-    public AllPlayHandler(Thing thing, AllPlay allPlay, AllPlayBindingProperties properties) {
+    public AllPlayHandler(Thing thing, AllPlay allPlay, AllPlayBindingProperties properties,
+            ImageCache imageCache) {
         super(thing);
         this.allPlay = allPlay;
         this.bindingProperties = properties;
+        this.imageCache = imageCache;
     }
 
     @Override
@@ -454,6 +456,7 @@ public class AllPlayHandler extends BaseThingHandler
             updateState(CURRENT_GENRE, UnDefType.NULL);
             updateState(CURRENT_URL, UnDefType.NULL);
             updateState(COVER_ART_URL, UnDefType.NULL);
+            coverArtUrl = null;
             updateState(COVER_ART, UnDefType.NULL);
         }
     }
@@ -486,8 +489,10 @@ public class AllPlayHandler extends BaseThingHandler
         try {
             logger.debug("{}: Cover art URL changed to {}", speaker.getName(), coverArtUrl);
             updateState(COVER_ART_URL, new StringType(coverArtUrl));
+            this.coverArtUrl = coverArtUrl;
             if (!coverArtUrl.isEmpty()) {
-                updateState(COVER_ART, new RawType(getRawDataFromUrl(coverArtUrl)));
+                // All speakers of a zone play the same item, so the cover art is downloaded once for all of them
+                imageCache.getImage(coverArtUrl, this::updateCoverArt);
             } else {
                 updateState(COVER_ART, UnDefType.NULL);
             }
@@ -496,6 +501,17 @@ public class AllPlayHandler extends BaseThingHandler
         }
     }
 
+    private void updateCoverArt(String url, RawType image) {
+        if (!url.equals(coverArtUrl)) {
+            return;
+        }
+        if (image != null) {
+            updateState(COVER_ART, image);
+        } else {
+            logger.warn("Error getting cover art from {}", url);
+        }
+    }
+
     /**
      * Starts streaming the audio at the given URL.
      *
@@ -523,12 +539,6 @@ public class AllPlayHandler extends BaseThingHandler
         }
     }
 
-    private byte[] getRawDataFromUrl(String urlString) throws Exception {
-        URL url = new URL(urlString);
-        URLConnection connection = url.openConnection();
-        return IOUtils.toByteArray(connection.getInputStream());
-    }
-
     private int convertPercentToAbsoluteVolume(PercentType percentVolume) throws SpeakerException {
         int range = volumeRange.getMax() - volumeRange.getMin();
         int volume = (percentVolume.shortValue() * range) / 100;
@@ -28,6 +28,7 @@ import org.eclipse.smarthome.core.thing.binding.ThingHandler;
 import org.eclipse.smarthome.core.thing.binding.ThingHandlerFactory;
 import org.openhab.binding.allplay.AllPlayBindingConstants;
 import org.openhab.binding.allplay.handler.AllPlayHandler;
+import org.openhab.io.transport.image.ImageCache;
 import org.osgi.framework.ServiceRegistration;
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Component;
@@ -58,6 +59,7 @@ public class AllPlayHandlerFactory extends BaseThingHandlerFactory {
 
     private AudioHTTPServer audioHTTPServer;
     private NetworkAddressService networkAddressService;
+    private ImageCache imageCache;
     private String callbackUrl;
 
     @Override
@@ -71,7 +73,7 @@ public class AllPlayHandlerFactory extends BaseThingHandlerFactory {
         if (thingTypeUID.equals(AllPlayBindingConstants.SPEAKER_THING_TYPE)) {
             logger.debug("Creating AllPlayHandler for thing {}", thing.getUID());
 
-            AllPlayHandler handler = new AllPlayHandler(thing, allPlay, bindingProperties);
+            AllPlayHandler handler = new AllPlayHandler(thing, allPlay, bindingProperties, imageCache);
             registerAudioSink(thing, handler);
 
             return handler;
@@ -142,6 +144,15 @@ public class AllPlayHandlerFactory extends BaseThingHandlerFactory {
         this.networkAddressService = null;
     }
 
+    @Reference
+    protected void setImageCache(ImageCache imageCache) {
+        this.imageCache = imageCache;
+    }
+
+    protected void unsetImageCache(ImageCache imageCache) {
+        this.imageCache = null;
+    }
+
     private String assembleCallbackUrl() {
         String callbackUrl = bindingProperties.getCallbackUrl();
         if (callbackUrl == null) {
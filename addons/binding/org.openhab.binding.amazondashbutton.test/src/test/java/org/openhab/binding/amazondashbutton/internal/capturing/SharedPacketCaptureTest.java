@@ -0,0 +1,143 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.amazondashbutton.internal.capturing;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pcap4j.core.PcapNativeException;
+import org.pcap4j.core.Pcaps;
+import org.pcap4j.util.MacAddress;
+
+/**
+ * Tests cases for {@link SharedPacketCapture}, replaying a recorded capture. The capture contains, in this order:
+ * <ol>
+ * <li>an ARP request of button A</li>
+ * <li>an ARP reply of button A</li>
+ * <li>a DHCP discover (BOOTP request) of button B</li>
+ * <li>an ARP request of device C</li>
+ * <li>a DNS query of button A</li>
+ * <li>an ARP request of button A</li>
+ * </ol>
+ *
+ * The tests are skipped if libpcap is not available.
+ *
+ * @author agent - Initial contribution
+ */
+public class SharedPacketCaptureTest {
+
+    private static final String CAPTURE = "org/openhab/binding/amazondashbutton/internal/capturing/dash-buttons.pcap";
+
+    private static final String BUTTON_A = "44:65:0d:00:00:01";
+    private static final String BUTTON_B = "44:65:0d:00:00:02";
+    private static final String DEVICE_C = "00:11:22:33:44:55";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private SharedPacketCapture capture;
+
+    /**
+     * Records the source MAC addresses of the packets it has been called for.
+     */
+    private static class RecordingHandler implements PacketCapturingHandler {
+        private final List<String> captured = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void packetCaptured(MacAddress sourceMacAddress) {
+            captured.add(sourceMacAddress.toString());
+        }
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        try {
+            Pcaps.libVersion();
+        } catch (LinkageError e) {
+            Assume.assumeNoException("libpcap is not available", e);
+        }
+        final File file = folder.newFile("dash-buttons.pcap");
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(CAPTURE)) {
+            Files.copy(inputStream, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+        capture = SharedPacketCapture.forPcapFile(file.getAbsolutePath());
+    }
+
+    @Test
+    public void dispatchesRequestsToTheHandlersOfTheirSourceMacAddress() throws PcapNativeException {
+        final RecordingHandler handlerA = new RecordingHandler();
+        final RecordingHandler handlerB = new RecordingHandler();
+        assertTrue(capture.addHandler(handlerA, BUTTON_A));
+        assertTrue(capture.addHandler(handlerB, BUTTON_B.toUpperCase()));
+
+        capture.replay();
+
+        assertEquals(Arrays.asList(BUTTON_A, BUTTON_A), handlerA.captured);
+        assertEquals(Arrays.asList(BUTTON_B), handlerB.captured);
+    }
+
+    @Test
+    public void dispatchesToAllHandlersOfTheSameMacAddress() throws PcapNativeException {
+        final RecordingHandler first = new RecordingHandler();
+        final RecordingHandler second = new RecordingHandler();
+        assertTrue(capture.addHandler(first, BUTTON_B));
+        assertTrue(capture.addHandler(second, BUTTON_B));
+
+        capture.replay();
+
+        assertEquals(Arrays.asList(BUTTON_B), first.captured);
+        assertEquals(Arrays.asList(BUTTON_B), second.captured);
+    }
+
+    @Test
+    public void dispatchesAllRequestsToHandlersWithoutMacAddress() throws PcapNativeException {
+        final RecordingHandler discovery = new RecordingHandler();
+        final RecordingHandler handlerA = new RecordingHandler();
+        assertTrue(capture.addHandler(discovery, null));
+        assertTrue(capture.addHandler(handlerA, BUTTON_A));
+
+        capture.replay();
+
+        assertEquals(Arrays.asList(BUTTON_A, BUTTON_B, DEVICE_C, BUTTON_A), discovery.captured);
+        assertEquals(Arrays.asList(BUTTON_A, BUTTON_A), handlerA.captured);
+    }
+
+    @Test
+    public void stopsDispatchingToRemovedHandlers() throws PcapNativeException {
+        final RecordingHandler handlerA = new RecordingHandler();
+        final RecordingHandler handlerB = new RecordingHandler();
+        assertTrue(capture.addHandler(handlerA, BUTTON_A));
+        assertTrue(capture.addHandler(handlerB, BUTTON_B));
+        capture.removeHandler(handlerB, BUTTON_B);
+
+        capture.replay();
+
+        assertEquals(Arrays.asList(BUTTON_A, BUTTON_A), handlerA.captured);
+        assertTrue(handlerB.captured.isEmpty());
+    }
+
+    @Test
+    public void rejectsInvalidMacAddresses() {
+        assertFalse(capture.addHandler(new RecordingHandler(), "not a mac address"));
+    }
+}
@@ -8,28 +8,15 @@
  */
 package org.openhab.binding.amazondashbutton.internal.capturing;
 
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-
 import org.openhab.binding.amazondashbutton.internal.pcap.PcapNetworkInterfaceWrapper;
-import org.pcap4j.core.BpfProgram.BpfCompileMode;
-import org.pcap4j.core.NotOpenException;
-import org.pcap4j.core.PacketListener;
-import org.pcap4j.core.PcapHandle;
-import org.pcap4j.core.PcapNetworkInterface.PromiscuousMode;
-import org.pcap4j.packet.ArpPacket;
-import org.pcap4j.packet.EthernetPacket;
-import org.pcap4j.packet.Packet;
-import org.pcap4j.packet.UdpPacket;
-import org.pcap4j.packet.namednumber.ArpOperation;
-import org.pcap4j.packet.namednumber.UdpPort;
 import org.pcap4j.util.MacAddress;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * The {@link PacketCapturingService} is responsible for capturing packets.
+ * The {@link PacketCapturingService} is responsible for capturing packets. All services of a network interface share
+ * its {@link SharedPacketCapture}, so the interface is captured by one pcap handle only no matter how many buttons are
+ * configured.
  *
  * @author Oliver Libutzki - Initial contribution
  *
@@ -38,12 +25,11 @@ public class PacketCapturingService {
 
     private final Logger logger = LoggerFactory.getLogger(PacketCapturingService.class);
 
-    private static final int READ_TIMEOUT = 10; // [ms]
-    private static final int SNAPLEN = 65536; // [bytes]
-
     private final PcapNetworkInterfaceWrapper pcapNetworkInterface;
 
-    private PcapHandle pcapHandle;
+    private SharedPacketCapture sharedPacketCapture;
+    private PacketCapturingHandler packetCapturingHandler;
+    private String macAddress;
 
     public PacketCapturingService(PcapNetworkInterfaceWrapper pcapNetworkInterface) {
         this.pcapNetworkInterface = pcapNetworkInterface;
@@ -60,7 +46,8 @@ public class PacketCapturingService {
     }
 
     /**
-     * Starts the capturing in a dedicated thread, so this method returns immediately. Every time a packet is captured,
+     * Starts the capturing by adding the handler to the {@link SharedPacketCapture} of the network interface, so this
+     * method returns immediately. Every time a packet is captured,
      * the {@link PacketCapturingHandler#packetCaptured(MacAddress)} of the given
      * {@link PacketCapturingHandler} is called.
      *
@@ -71,57 +58,20 @@ public class PacketCapturingService {
      * @param macAddress The source MAC address of the captured packet, might be null in order to deactivate this filter
      *            criteria
      * @return Returns true, if the capturing has been started successfully, otherwise returns false
-     * @throws IllegalStateException Thrown if {@link PcapHandle#isOpen()} of {@link #pcapHandle} returns true
+     * @throws IllegalStateException Thrown if the capturing has already been started
      */
 
     public boolean startCapturing(final PacketCapturingHandler packetCapturingHandler, final String macAddress) {
-        if (pcapHandle != null) {
-            if (pcapHandle.isOpen()) {
-                throw new IllegalStateException("There is an open pcap handle.");
-            } else {
-                pcapHandle.close();
-            }
+        if (sharedPacketCapture != null) {
+            throw new IllegalStateException("The capturing has already been started.");
         }
-        try {
-            pcapHandle = pcapNetworkInterface.openLive(SNAPLEN, PromiscuousMode.PROMISCUOUS, READ_TIMEOUT);
-            StringBuilder filterBuilder = new StringBuilder("(arp or port bootps)");
-            if (macAddress != null) {
-                filterBuilder.append(" and ether src " + macAddress);
-            }
-            pcapHandle.setFilter(filterBuilder.toString(), BpfCompileMode.OPTIMIZE);
-        } catch (Exception e) {
-            logger.error("Capturing packets on device {} failed.", pcapNetworkInterface.getName(), e);
+        final SharedPacketCapture capture = SharedPacketCapture.getLiveCapture(pcapNetworkInterface);
+        if (!capture.addHandler(packetCapturingHandler, macAddress)) {
             return false;
         }
-        ExecutorService executorService = Executors.newSingleThreadExecutor();
-        executorService.submit(new Callable<Void>() {
-
-            @Override
-            public Void call() throws Exception {
-                try {
-                    pcapHandle.loop(-1, new PacketListener() {
-
-                        @Override
-                        public void gotPacket(Packet packet) {
-                            if (!packet.contains(EthernetPacket.class)) {
-                                return;
-                            }
-                            final EthernetPacket ethernetPacket = packet.get(EthernetPacket.class);
-                            final MacAddress sourceMacAddress = ethernetPacket.getHeader().getSrcAddr();
-                            if (shouldCapture(packet)) {
-                                packetCapturingHandler.packetCaptured(sourceMacAddress);
-                            }
-                        }
-                    });
-                } finally {
-                    if (pcapHandle != null && pcapHandle.isOpen()) {
-                        pcapHandle.close();
-                        pcapHandle = null;
-                    }
-                }
-                return null;
-            }
-        });
+        this.sharedPacketCapture = capture;
+        this.packetCapturingHandler = packetCapturingHandler;
+        this.macAddress = macAddress;
         if (macAddress == null) {
             logger.debug("Started capturing ARP and BOOTP requests for network device {}.",
                     pcapNetworkInterface.getName());
@@ -132,45 +82,17 @@ public class PacketCapturingService {
         return true;
     }
 
-    /**
-     * Checks if the given {@link Packet} should be captured.
-     *
-     * @param packet The packet to be checked
-     * @return Returns true, if the packet should be captured, otherwise false
-     */
-    private boolean shouldCapture(final Packet packet) {
-        if (packet.contains(ArpPacket.class)) {
-            ArpPacket arpPacket = packet.get(ArpPacket.class);
-            if (arpPacket.getHeader().getOperation().equals(ArpOperation.REQUEST)) {
-                return true;
-            }
-        }
-        if (packet.contains(UdpPacket.class)) {
-            final UdpPacket udpPacket = packet.get(UdpPacket.class);
-            if (UdpPort.BOOTPS == udpPacket.getHeader().getDstPort()) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     /**
      * Stops the capturing. This can be called without calling {@link #startCapturing(PacketCapturingHandler)} or
      * {@link #startCapturing(PacketCapturingHandler, String)} before.
      */
     public void stopCapturing() {
-        if (pcapHandle != null) {
-            if (pcapHandle.isOpen()) {
-                try {
-                    pcapHandle.breakLoop();
-                    logger.debug("Stopped capturing ARP and BOOTP requests for network device {}.",
-                            pcapNetworkInterface.getName());
-                } catch (NotOpenException e) {
-                    // Just ignore
-                }
-            } else {
-                pcapHandle = null;
-            }
+        if (sharedPacketCapture != null) {
+            sharedPacketCapture.removeHandler(packetCapturingHandler, macAddress);
+            sharedPacketCapture = null;
+            packetCapturingHandler = null;
+            logger.debug("Stopped capturing ARP and BOOTP requests for network device {}.",
+                    pcapNetworkInterface.getName());
         }
     }
 
@@ -0,0 +1,364 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.amazondashbutton.internal.capturing;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.openhab.binding.amazondashbutton.internal.pcap.PcapNetworkInterfaceWrapper;
+import org.pcap4j.core.BpfProgram.BpfCompileMode;
+import org.pcap4j.core.NotOpenException;
+import org.pcap4j.core.PcapHandle;
+import org.pcap4j.core.PcapNativeException;
+import org.pcap4j.core.PcapNetworkInterface.PromiscuousMode;
+import org.pcap4j.core.Pcaps;
+import org.pcap4j.core.RawPacketListener;
+import org.pcap4j.packet.ArpPacket;
+import org.pcap4j.packet.EthernetPacket;
+import org.pcap4j.packet.IllegalRawDataException;
+import org.pcap4j.packet.Packet;
+import org.pcap4j.packet.UdpPacket;
+import org.pcap4j.packet.namednumber.ArpOperation;
+import org.pcap4j.packet.namednumber.UdpPort;
+import org.pcap4j.util.MacAddress;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link SharedPacketCapture} is the single capture of a network interface shared by all
+ * {@link PacketCapturingHandler}s interested in it. It opens one pcap handle with one BPF filter covering the MAC
+ * addresses of all registered handlers, decodes each captured packet once and dispatches it to the handlers registered
+ * for its source MAC address.
+ *
+ * The filter is recompiled whenever a handler is added or removed, so buttons can come and go without restarting the
+ * capture. The handle is closed once the last handler has been removed.
+ *
+ * For testing purposes, a capture can also be created for a pcap file (see {@link #forPcapFile(String)}) and replayed
+ * via {@link #replay()}.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+public class SharedPacketCapture {
+
+    private static final Logger logger = LoggerFactory.getLogger(SharedPacketCapture.class);
+
+    private static final int READ_TIMEOUT = 10; // [ms]
+    private static final int SNAPLEN = 65536; // [bytes]
+
+    private static final String BASE_FILTER = "(arp or port bootps)";
+
+    private static final int ETHERNET_SOURCE_OFFSET = 6;
+    private static final int ETHERNET_SOURCE_END = ETHERNET_SOURCE_OFFSET + MacAddress.SIZE_IN_BYTES;
+
+    /**
+     * The live captures by network interface
+     */
+    private static final Map<PcapNetworkInterfaceWrapper, SharedPacketCapture> LIVE_CAPTURES = new HashMap<>();
+
+    /**
+     * Opens the pcap handle of a capture.
+     */
+    private interface PcapHandleOpener {
+        PcapHandle open() throws PcapNativeException;
+    }
+
+    private final String name;
+    private final PcapHandleOpener pcapHandleOpener;
+    private final boolean live;
+
+    /**
+     * The handlers by source MAC address
+     */
+    private final Map<MacAddress, List<PacketCapturingHandler>> handlersByMacAddress = new ConcurrentHashMap<>();
+
+    /**
+     * The handlers interested in packets of all MAC addresses (ie the discovery)
+     */
+    private final List<PacketCapturingHandler> allMacAddressesHandlers = new CopyOnWriteArrayList<>();
+
+    private PcapHandle pcapHandle;
+    private String filter;
+
+    /**
+     * Returns the live capture of the given network interface, creating it if needed. The capture does not open a pcap
+     * handle until the first handler is added.
+     *
+     * @param pcapNetworkInterface The network interface to be captured
+     * @return the shared capture of the network interface
+     */
+    public static SharedPacketCapture getLiveCapture(final PcapNetworkInterfaceWrapper pcapNetworkInterface) {
+        synchronized (LIVE_CAPTURES) {
+            SharedPacketCapture capture = LIVE_CAPTURES.get(pcapNetworkInterface);
+            if (capture == null) {
+                capture = new SharedPacketCapture(pcapNetworkInterface.getName(),
+                        () -> pcapNetworkInterface.openLive(SNAPLEN, PromiscuousMode.PROMISCUOUS, READ_TIMEOUT), true);
+                LIVE_CAPTURES.put(pcapNetworkInterface, capture);
+            }
+            return capture;
+        }
+    }
+
+    /**
+     * Creates a capture which reads the packets from the given pcap file instead of a network interface. The packets
+     * are read on {@link #replay()}, after the handlers have been added.
+     *
+     * @param pcapFilePath The path of the pcap file
+     * @return the capture of the pcap file
+     */
+    public static SharedPacketCapture forPcapFile(final String pcapFilePath) {
+        return new SharedPacketCapture(pcapFilePath, () -> Pcaps.openOffline(pcapFilePath), false);
+    }
+
+    private SharedPacketCapture(String name, PcapHandleOpener pcapHandleOpener, boolean live) {
+        this.name = name;
+        this.pcapHandleOpener = pcapHandleOpener;
+        this.live = live;
+    }
+
+    /**
+     * Adds the handler to the capture. If the capture is live and not yet running, it is started in a dedicated
+     * thread, otherwise its filter is updated to include the given MAC address.
+     *
+     * @param packetCapturingHandler The handler to be called every time a packet is captured
+     * @param macAddress The source MAC address of the captured packets, might be null in order to receive the packets
+     *            of all MAC addresses
+     * @return Returns true, if the handler has been added successfully, otherwise returns false
+     */
+    public synchronized boolean addHandler(final PacketCapturingHandler packetCapturingHandler,
+            final String macAddress) {
+        final MacAddress parsedMacAddress;
+        try {
+            parsedMacAddress = macAddress == null ? null : MacAddress.getByName(macAddress);
+        } catch (IllegalArgumentException e) {
+            logger.error("The MAC address {} is invalid.", macAddress);
+            return false;
+        }
+        if (parsedMacAddress == null) {
+            allMacAddressesHandlers.add(packetCapturingHandler);
+        } else {
+            handlersByMacAddress.computeIfAbsent(parsedMacAddress, m -> new CopyOnWriteArrayList<>())
+                    .add(packetCapturingHandler);
+        }
+        if (!updateCapture()) {
+            removeHandler(packetCapturingHandler, parsedMacAddress);
+            updateCapture();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Removes a handler added via {@link #addHandler(PacketCapturingHandler, String)}. The capture is stopped if this
+     * was the last handler.
+     *
+     * @param packetCapturingHandler The handler to be removed
+     * @param macAddress The MAC address the handler has been added with
+     */
+    public synchronized void removeHandler(final PacketCapturingHandler packetCapturingHandler,
+            final String macAddress) {
+        try {
+            removeHandler(packetCapturingHandler, macAddress == null ? null : MacAddress.getByName(macAddress));
+        } catch (IllegalArgumentException e) {
+            // The handler has never been added
+            return;
+        }
+        updateCapture();
+    }
+
+    private void removeHandler(final PacketCapturingHandler packetCapturingHandler, final MacAddress macAddress) {
+        if (macAddress == null) {
+            allMacAddressesHandlers.remove(packetCapturingHandler);
+        } else {
+            handlersByMacAddress.computeIfPresent(macAddress, (m, handlers) -> {
+                handlers.remove(packetCapturingHandler);
+                return handlers.isEmpty() ? null : handlers;
+            });
+        }
+    }
+
+    /**
+     * Reads all packets of an offline capture, calling the handlers on the current thread. Returns once the end of the
+     * file has been reached.
+     *
+     * @throws PcapNativeException Thrown if the file cannot be read
+     * @throws IllegalStateException Thrown if this capture is a live one
+     */
+    public void replay() throws PcapNativeException {
+        if (live) {
+            throw new IllegalStateException("Only offline captures can be replayed.");
+        }
+        final PcapHandle offlineHandle = pcapHandleOpener.open();
+        try {
+            offlineHandle.setFilter(buildFilter(), BpfCompileMode.OPTIMIZE);
+            offlineHandle.loop(-1, createPacketListener());
+        } catch (NotOpenException e) {
+            // Cannot happen as the handle has just been opened
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            offlineHandle.close();
+        }
+    }
+
+    /**
+     * Brings the pcap handle of a live capture in line with the registered handlers: the handle is closed if there are
+     * no handlers anymore, opened if it is not open yet and its filter is recompiled if it changed.
+     *
+     * @return Returns false, if the capture should be running but the handle cannot be opened or the filter cannot be
+     *         applied (in which case a running capture keeps its previous filter)
+     */
+    private boolean updateCapture() {
+        if (!live) {
+            return true;
+        }
+        if (allMacAddressesHandlers.isEmpty() && handlersByMacAddress.isEmpty()) {
+            stopCapturing();
+            return true;
+        }
+        final String newFilter = buildFilter();
+        final boolean running = pcapHandle != null;
+        try {
+            if (!running) {
+                pcapHandle = pcapHandleOpener.open();
+                pcapHandle.setFilter(newFilter, BpfCompileMode.OPTIMIZE);
+                startLoop(pcapHandle);
+                logger.debug("Started capturing ARP and BOOTP requests for network device {}.", name);
+            } else if (!newFilter.equals(filter)) {
+                pcapHandle.setFilter(newFilter, BpfCompileMode.OPTIMIZE);
+            }
+            filter = newFilter;
+            logger.trace("Capturing network device {} with filter {}.", name, filter);
+            return true;
+        } catch (Exception e) {
+            logger.error("Capturing packets on device {} failed.", name, e);
+            if (!running) {
+                stopCapturing();
+            }
+            return false;
+        }
+    }
+
+    private void startLoop(final PcapHandle handle) {
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        executorService.submit(() -> {
+            try {
+                handle.loop(-1, createPacketListener());
+            } catch (InterruptedException e) {
+                // The loop has been broken by stopCapturing()
+            } catch (PcapNativeException | NotOpenException e) {
+                logger.debug("Capturing packets on device {} stopped: {}", name, e.getMessage());
+            } finally {
+                if (handle.isOpen()) {
+                    handle.close();
+                }
+                synchronized (SharedPacketCapture.this) {
+                    // The loop may have ended on its own (ie the device went away): let the next update reopen it
+                    if (pcapHandle == handle) {
+                        pcapHandle = null;
+                        filter = null;
+                    }
+                }
+            }
+        });
+        executorService.shutdown();
+    }
+
+    private void stopCapturing() {
+        if (pcapHandle != null) {
+            try {
+                pcapHandle.breakLoop();
+                logger.debug("Stopped capturing ARP and BOOTP requests for network device {}.", name);
+            } catch (NotOpenException e) {
+                // Just ignore
+            }
+            pcapHandle = null;
+            filter = null;
+        }
+    }
+
+    /**
+     * Builds the BPF filter matching the ARP and BOOTP requests of all registered MAC addresses, or of any MAC address
+     * if a handler is interested in all of them.
+     *
+     * @return the filter expression
+     */
+    private String buildFilter() {
+        if (!allMacAddressesHandlers.isEmpty() || handlersByMacAddress.isEmpty()) {
+            return BASE_FILTER;
+        }
+        final StringBuilder filterBuilder = new StringBuilder(BASE_FILTER).append(" and (");
+        boolean first = true;
+        for (MacAddress macAddress : handlersByMacAddress.keySet()) {
+            if (!first) {
+                filterBuilder.append(" or ");
+            }
+            filterBuilder.append("ether src ").append(macAddress);
+            first = false;
+        }
+        return filterBuilder.append(')').toString();
+    }
+
+    /**
+     * Creates the listener which looks up the handlers by the source MAC address of the raw frame first, so the packet
+     * is only decoded if some handler is interested in it.
+     */
+    private RawPacketListener createPacketListener() {
+        return rawData -> {
+            if (rawData.length < ETHERNET_SOURCE_END) {
+                return;
+            }
+            final MacAddress sourceMacAddress = MacAddress
+                    .getByAddress(Arrays.copyOfRange(rawData, ETHERNET_SOURCE_OFFSET, ETHERNET_SOURCE_END));
+            final List<PacketCapturingHandler> handlers = handlersByMacAddress.get(sourceMacAddress);
+            if (handlers == null && allMacAddressesHandlers.isEmpty()) {
+                return;
+            }
+            final Packet packet;
+            try {
+                packet = EthernetPacket.newPacket(rawData, 0, rawData.length);
+            } catch (IllegalRawDataException e) {
+                logger.trace("Ignoring malformed packet from {}: {}", sourceMacAddress, e.getMessage());
+                return;
+            }
+            if (!shouldCapture(packet)) {
+                return;
+            }
+            if (handlers != null) {
+                for (PacketCapturingHandler handler : handlers) {
+                    handler.packetCaptured(sourceMacAddress);
+                }
+            }
+            for (PacketCapturingHandler handler : allMacAddressesHandlers) {
+                handler.packetCaptured(sourceMacAddress);
+            }
+        };
+    }
+
+    /**
+     * Checks if the given {@link Packet} should be captured.
+     *
+     * @param packet The packet to be checked
+     * @return Returns true, if the packet should be captured, otherwise false
+     */
+    private static boolean shouldCapture(final Packet packet) {
+        final ArpPacket arpPacket = packet.get(ArpPacket.class);
+        if (arpPacket != null && arpPacket.getHeader().getOperation().equals(ArpOperation.REQUEST)) {
+            return true;
+        }
+        final UdpPacket udpPacket = packet.get(UdpPacket.class);
+        return udpPacket != null && UdpPort.BOOTPS.equals(udpPacket.getHeader().getDstPort());
+    }
+}
@@ -73,4 +73,13 @@ public interface SocketSession {
      */
     void sendCommand(String command) throws IOException;
 
+    /**
+     * Returns the delay to wait before trying to reconnect, backing off the given delay when the previous connection
+     * attempts failed (or the connections dropped shortly after being established)
+     *
+     * @param retryDelay the configured retry delay (in seconds)
+     * @return the delay (in seconds) to wait before reconnecting
+     */
+    int getReconnectDelay(int retryDelay);
+
 }
\ No newline at end of file
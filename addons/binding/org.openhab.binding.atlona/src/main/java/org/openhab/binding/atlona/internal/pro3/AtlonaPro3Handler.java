@@ -578,16 +578,16 @@ public class AtlonaPro3Handler extends AtlonaHandler<AtlonaPro3Capabilities> {
     }
 
     /**
-     * Retries the connection attempt - schedules a job in {@link AtlonaPro3Config#getRetryPolling()} seconds to call
-     * the
-     * {@link #connect()} method. If a retry attempt is pending, the request is ignored.
+     * Retries the connection attempt - schedules a job in {@link AtlonaPro3Config#getRetryPolling()} seconds (backed off
+     * by the session after consecutive failures) to call the {@link #connect()} method. If a retry attempt is pending, the request is ignored.
      */
     private void retryConnect() {
         if (_retryConnection == null) {
             final AtlonaPro3Config config = getAtlonaConfig();
             if (config != null) {
+                final int retryDelay = _session.getReconnectDelay(config.getRetryPolling());
 
-                logger.info("Will try to reconnect in {} seconds", config.getRetryPolling());
+                logger.info("Will try to reconnect in {} seconds", retryDelay);
                 _retryConnection = this.scheduler.schedule(new Runnable() {
                     @Override
                     public void run() {
@@ -595,7 +595,7 @@ public class AtlonaPro3Handler extends AtlonaHandler<AtlonaPro3Capabilities> {
                         connect();
                     }
 
-                }, config.getRetryPolling(), TimeUnit.SECONDS);
+                }, retryDelay, TimeUnit.SECONDS);
             }
         } else {
             logger.debug("RetryConnection called when a retry connection is pending - ignoring request");
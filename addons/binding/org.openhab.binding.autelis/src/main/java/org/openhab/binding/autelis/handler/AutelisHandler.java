@@ -8,18 +8,13 @@
  */
 package org.openhab.binding.autelis.handler;
 
-import java.io.StringReader;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
-import javax.xml.xpath.XPath;
-import javax.xml.xpath.XPathExpressionException;
-import javax.xml.xpath.XPathFactory;
+import javax.xml.stream.XMLStreamException;
 
 import org.apache.commons.lang.StringUtils;
 import org.eclipse.jetty.client.HttpClient;
@@ -41,10 +36,10 @@ import org.eclipse.smarthome.core.thing.ThingStatusDetail;
 import org.eclipse.smarthome.core.thing.binding.BaseThingHandler;
 import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.State;
+import org.openhab.binding.autelis.internal.AutelisResponseParser;
 import org.openhab.binding.autelis.internal.config.AutelisConfiguration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.xml.sax.InputSource;
 
 /**
  *
@@ -111,13 +106,6 @@ public class AutelisHandler extends BaseThingHandler {
      */
     private HttpClient client = new HttpClient();
 
-    /**
-     * Regex expression to match XML responses from the Autelis, this is used to
-     * combine similar XML docs into a single document, {@link XPath} is still
-     * used for XML querying
-     */
-    private Pattern responsePattern = Pattern.compile("<response>(.+?)</response>", Pattern.DOTALL);
-
     /**
      * is our config correct
      */
@@ -310,9 +298,8 @@ public class AutelisHandler extends BaseThingHandler {
 
         clearState(false);
 
-        // we will reconstruct the document with all the responses combined for
-        // XPATH
-        StringBuilder sb = new StringBuilder("<response>");
+        // the values of the three xml documents by element path, decoded in a single pass each
+        Map<String, String> values = new HashMap<>();
 
         // pull down the three xml documents
         String[] statuses = { "status", "chem", "pumps" };
@@ -323,44 +310,29 @@ public class AutelisHandler extends BaseThingHandler {
                 updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.OFFLINE.COMMUNICATION_ERROR);
                 return;
             }
-            // get the xml data between the response tags and append to our main
-            // doc
-            Matcher m = responsePattern.matcher(response);
-            if (m.find()) {
-                sb.append(m.group(1));
+            try {
+                AutelisResponseParser.parse(response, values);
+            } catch (XMLStreamException e) {
+                logger.error("could not parse xml", e);
             }
         }
-        // finish our "new" XML Document
-        sb.append("</response>");
 
         if (!getThing().getStatus().equals(ThingStatus.ONLINE)) {
             updateStatus(ThingStatus.ONLINE);
         }
 
-        /*
-         * This xmlDoc will now contain the three XML documents we retrieved
-         * wrapped in response tags for easier querying in XPath.
-         */
-        String xmlDoc = sb.toString();
         for (Channel channel : getThing().getChannels()) {
             String key = channel.getUID().getId().replace('-', '/');
-            XPathFactory xpathFactory = XPathFactory.newInstance();
-            XPath xpath = xpathFactory.newXPath();
-            try {
-                InputSource is = new InputSource(new StringReader(xmlDoc));
-                String value = xpath.evaluate("response/" + key, is);
+            String value = values.get(key);
 
-                if (StringUtils.isEmpty((value))) {
-                    continue;
-                }
-                State state = toState(channel.getAcceptedItemType(), value);
-                State oldState = stateMap.put(channel.getUID().getAsString(), state);
-                if (!state.equals(oldState)) {
-                    logger.trace("updating channel {} with state {}", channel, state);
-                    updateState(channel.getUID(), state);
-                }
-            } catch (XPathExpressionException e) {
-                logger.error("could not parse xml", e);
+            if (StringUtils.isEmpty((value))) {
+                continue;
+            }
+            State state = toState(channel.getAcceptedItemType(), value);
+            State oldState = stateMap.put(channel.getUID().getAsString(), state);
+            if (!state.equals(oldState)) {
+                logger.trace("updating channel {} with state {}", channel, state);
+                updateState(channel.getUID(), state);
             }
         }
     }
@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.autelis.internal;
+
+import java.io.StringReader;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Decodes the XML responses of an Autelis controller (status.xml, chem.xml, pumps.xml) in a single streaming pass into
+ * a map of element path to value, where the path is relative to the &lt;response&gt; root element (ie "equipment/pump"
+ * for &lt;response&gt;&lt;equipment&gt;&lt;pump&gt;1&lt;/pump&gt;...). The value of an element is the concatenation
+ * of all text it contains and, as with XPath, only the first element of a given path is kept.
+ *
+ * @author agent - Initial contribution
+ */
+public class AutelisResponseParser {
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
+
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    private AutelisResponseParser() {
+    }
+
+    /**
+     * Parses a response and adds the values of its elements to the given map. Paths already present in the map are
+     * left untouched, so several responses can be parsed into the same map.
+     *
+     * @param response the XML response
+     * @param values the map to add the values to, keyed by element path
+     * @throws XMLStreamException if the response is not well formed
+     */
+    public static void parse(String response, Map<String, String> values) throws XMLStreamException {
+        XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(new StringReader(response));
+        try {
+            // the paths and text of the open elements below the root element
+            Deque<String> paths = new ArrayDeque<>();
+            Deque<StringBuilder> texts = new ArrayDeque<>();
+            int depth = 0;
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.START_ELEMENT:
+                        if (depth++ > 0) {
+                            String name = reader.getLocalName();
+                            paths.push(paths.isEmpty() ? name : paths.peek() + '/' + name);
+                            texts.push(new StringBuilder());
+                        }
+                        break;
+                    case XMLStreamConstants.CHARACTERS:
+                    case XMLStreamConstants.CDATA:
+                    case XMLStreamConstants.SPACE:
+                        if (!texts.isEmpty()) {
+                            texts.peek().append(reader.getTextCharacters(), reader.getTextStart(),
+                                    reader.getTextLength());
+                        }
+                        break;
+                    case XMLStreamConstants.END_ELEMENT:
+                        if (--depth > 0) {
+                            String text = texts.pop().toString();
+                            values.putIfAbsent(paths.pop(), text);
+                            if (!texts.isEmpty()) {
+                                texts.peek().append(text);
+                            }
+                        }
+                        break;
+                    default:
+                        break;
+                }
+            }
+        } finally {
+            reader.close();
+        }
+    }
+}
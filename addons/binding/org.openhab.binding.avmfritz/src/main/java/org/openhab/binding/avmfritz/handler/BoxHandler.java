@@ -14,6 +14,8 @@ import static org.openhab.binding.avmfritz.BindingConstants.*;
 import java.math.BigDecimal;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -33,6 +35,7 @@ import org.eclipse.smarthome.core.thing.ThingStatusInfo;
 import org.eclipse.smarthome.core.thing.ThingTypeUID;
 import org.eclipse.smarthome.core.thing.ThingUID;
 import org.eclipse.smarthome.core.thing.binding.BaseBridgeHandler;
+import org.eclipse.smarthome.core.thing.binding.ThingHandler;
 import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.RefreshType;
 import org.eclipse.smarthome.core.types.State;
@@ -44,6 +47,7 @@ import org.openhab.binding.avmfritz.internal.ahamodel.SwitchModel;
 import org.openhab.binding.avmfritz.internal.config.AvmFritzConfiguration;
 import org.openhab.binding.avmfritz.internal.hardware.FritzahaWebInterface;
 import org.openhab.binding.avmfritz.internal.hardware.callbacks.FritzAhaUpdateXmlCallback;
+import org.openhab.binding.avmfritz.internal.util.DevicelistDecoder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -75,6 +79,14 @@ public class BoxHandler extends BaseBridgeHandler implements IFritzHandler {
      * Schedule for polling
      */
     private ScheduledFuture<?> pollingJob;
+    /**
+     * Decoder keeping track of the devices which changed since the previous poll
+     */
+    private final DevicelistDecoder devicelistDecoder = new DevicelistDecoder();
+    /**
+     * Last state sent to the channels of the things of this bridge
+     */
+    private final Map<ChannelUID, State> channelStates = new ConcurrentHashMap<>();
 
     /**
      * Constructor
@@ -119,9 +131,34 @@ public class BoxHandler extends BaseBridgeHandler implements IFritzHandler {
         }
     }
 
+    /**
+     * Makes sure a new (or re-initialized) thing gets all of its values with the next poll.
+     */
+    @Override
+    public void childHandlerInitialized(ThingHandler childHandler, Thing childThing) {
+        super.childHandlerInitialized(childHandler, childThing);
+        resetDevices();
+    }
+
     @Override
     public void setStatusInfo(ThingStatus status, ThingStatusDetail statusDetail, String description) {
         super.updateStatus(status, statusDetail, description);
+        if (status != ThingStatus.ONLINE) {
+            resetDevices();
+        }
+    }
+
+    /**
+     * Forgets the known device and channel states, so all devices are updated with the next poll.
+     */
+    public void resetDevices() {
+        devicelistDecoder.clear();
+        channelStates.clear();
+    }
+
+    @Override
+    public DevicelistDecoder getDevicelistDecoder() {
+        return devicelistDecoder;
     }
 
     @Override
@@ -230,7 +267,7 @@ public class BoxHandler extends BaseBridgeHandler implements IFritzHandler {
     }
 
     /**
-     * Updates thing channels.
+     * Updates thing channels, skipping channels whose state did not change.
      *
      * @param thing Thing which channels should be updated.
      * @param channelId ID of the channel to be updated.
@@ -239,7 +276,9 @@ public class BoxHandler extends BaseBridgeHandler implements IFritzHandler {
     private void updateThingChannelState(Thing thing, String channelId, State state) {
         final Channel channel = thing.getChannel(channelId);
         if (channel != null) {
-            updateState(channel.getUID(), state);
+            if (!state.equals(channelStates.put(channel.getUID(), state))) {
+                updateState(channel.getUID(), state);
+            }
         } else {
             logger.warn("Channel {} in thing {} does not exist, please recreate the thing", channelId, thing.getUID());
         }
@@ -294,6 +333,8 @@ public class BoxHandler extends BaseBridgeHandler implements IFritzHandler {
         logger.debug("command for {}: {}", channelUID, command);
         if (command instanceof RefreshType) {
             if (getWebInterface() != null) {
+                // the devices are only updated on change, so forget their states to have all of them refreshed
+                resetDevices();
                 logger.debug("polling FRITZ!Box {}", getThing().getUID());
                 FritzAhaUpdateXmlCallback callback = new FritzAhaUpdateXmlCallback(getWebInterface(), this);
                 getWebInterface().asyncGet(callback);
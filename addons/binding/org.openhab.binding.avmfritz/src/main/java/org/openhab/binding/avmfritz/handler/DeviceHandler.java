@@ -14,6 +14,8 @@ import static org.openhab.binding.avmfritz.BindingConstants.*;
 import java.math.BigDecimal;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -45,6 +47,7 @@ import org.openhab.binding.avmfritz.internal.ahamodel.SwitchModel;
 import org.openhab.binding.avmfritz.internal.config.AvmFritzConfiguration;
 import org.openhab.binding.avmfritz.internal.hardware.FritzahaWebInterface;
 import org.openhab.binding.avmfritz.internal.hardware.callbacks.FritzAhaUpdateXmlCallback;
+import org.openhab.binding.avmfritz.internal.util.DevicelistDecoder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -81,6 +84,14 @@ public class DeviceHandler extends BaseThingHandler implements IFritzHandler {
      * keeps track of the current state for handling of increase/decrease
      */
     private DeviceModel state;
+    /**
+     * Decoder keeping track of the device changes for PL546E stand-alone
+     */
+    private final DevicelistDecoder devicelistDecoder = new DevicelistDecoder();
+    /**
+     * Last state sent to the channels for PL546E stand-alone
+     */
+    private final Map<ChannelUID, State> channelStates = new ConcurrentHashMap<>();
 
     /**
      * Constructor
@@ -248,9 +259,37 @@ public class DeviceHandler extends BaseThingHandler implements IFritzHandler {
         }
     }
 
+    /**
+     * Sends the last known values to a newly linked channel.
+     */
+    @Override
+    public void channelLinked(ChannelUID channelUID) {
+        super.channelLinked(channelUID);
+        DeviceModel device = state;
+        if (device != null) {
+            channelStates.remove(channelUID);
+            Bridge bridge = getBridge();
+            if (bridge != null && bridge.getHandler() instanceof BoxHandler) {
+                // the bridge skips unchanged values as well
+                ((BoxHandler) bridge.getHandler()).resetDevices();
+            } else {
+                updateThingFromDevice(getThing(), device);
+            }
+        }
+    }
+
     @Override
     public void setStatusInfo(ThingStatus status, ThingStatusDetail statusDetail, String description) {
         super.updateStatus(status, statusDetail, description);
+        if (status != ThingStatus.ONLINE) {
+            devicelistDecoder.clear();
+            channelStates.clear();
+        }
+    }
+
+    @Override
+    public DevicelistDecoder getDevicelistDecoder() {
+        return devicelistDecoder;
     }
 
     @Override
@@ -373,7 +412,7 @@ public class DeviceHandler extends BaseThingHandler implements IFritzHandler {
     }
 
     /**
-     * Updates thing channels.
+     * Updates thing channels, skipping channels whose state did not change.
      *
      * @param thing Thing which channels should be updated.
      * @param channelId ID of the channel to be updated.
@@ -382,7 +421,9 @@ public class DeviceHandler extends BaseThingHandler implements IFritzHandler {
     private void updateThingChannelState(Thing thing, String channelId, State state) {
         final Channel channel = thing.getChannel(channelId);
         if (channel != null) {
-            updateState(channel.getUID(), state);
+            if (!state.equals(channelStates.put(channel.getUID(), state))) {
+                updateState(channel.getUID(), state);
+            }
         } else {
             logger.warn("Channel {} in thing {} does not exist, please recreate the thing", channelId, thing.getUID());
         }
@@ -13,6 +13,7 @@ import org.eclipse.smarthome.core.thing.ThingStatusDetail;
 import org.openhab.binding.avmfritz.internal.ahamodel.DeviceModel;
 import org.openhab.binding.avmfritz.internal.hardware.FritzahaWebInterface;
 import org.openhab.binding.avmfritz.internal.hardware.callbacks.FritzAhaUpdateXmlCallback;
+import org.openhab.binding.avmfritz.internal.util.DevicelistDecoder;
 
 /**
  * Interface defining common methods for devices supporting the AHA webservice
@@ -41,6 +42,14 @@ public interface IFritzHandler {
      */
     public void addDeviceList(DeviceModel model);
 
+    /**
+     * Provides the decoder used by {@link FritzAhaUpdateXmlCallback} to find out which devices have changed since
+     * the previous update.
+     *
+     * @return The device list decoder of this handler
+     */
+    public DevicelistDecoder getDevicelistDecoder();
+
     /**
      * Provides the web interface object.
      *
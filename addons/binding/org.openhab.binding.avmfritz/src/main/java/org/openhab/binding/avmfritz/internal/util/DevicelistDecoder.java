@@ -0,0 +1,183 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.avmfritz.internal.util;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.stream.StreamSource;
+
+import org.openhab.binding.avmfritz.internal.ahamodel.DeviceModel;
+
+/**
+ * Streaming decoder for <b>getdevicelistinfos</b> responses which only returns the devices that changed since the
+ * previous response.
+ *
+ * The response is read once with StAX. Each &lt;device&gt; element is written back as a normalized XML fragment
+ * (whitespace between elements dropped) which serves as the fingerprint of the device, keyed by its AIN. Only devices
+ * whose fingerprint differs from the previous one are unmarshalled into a {@link DeviceModel}, using an
+ * {@link Unmarshaller} that is reused across responses.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+public class DevicelistDecoder {
+
+    private static final String DEVICE_ELEMENT = "device";
+    private static final String IDENTIFIER_ATTRIBUTE = "identifier";
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
+
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    /**
+     * Fingerprints of the devices of the previous response by AIN
+     */
+    private final Map<String, String> fingerprints = new HashMap<>();
+
+    private Unmarshaller unmarshaller;
+
+    /**
+     * Decodes a <b>getdevicelistinfos</b> response.
+     *
+     * @param response XML response of the FRITZ!Box
+     * @return Device models of the devices which are new or changed since the previous response
+     * @throws XMLStreamException if the response is not well formed
+     * @throws JAXBException if a device cannot be unmarshalled
+     */
+    public synchronized List<DeviceModel> decodeChanged(String response) throws XMLStreamException, JAXBException {
+        final List<DeviceModel> changed = new ArrayList<>();
+        final Set<String> seen = new HashSet<>();
+        final XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(new StringReader(response));
+        try {
+            int depth = 0;
+            while (reader.hasNext()) {
+                final int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    if (depth == 1 && DEVICE_ELEMENT.equals(reader.getLocalName())) {
+                        final String ain = reader.getAttributeValue(null, IDENTIFIER_ATTRIBUTE);
+                        final String fragment = readFragment(reader);
+                        if (ain != null) {
+                            seen.add(ain);
+                            if (!fragment.equals(fingerprints.put(ain, fragment))) {
+                                changed.add(unmarshal(fragment));
+                            }
+                        }
+                        continue;
+                    }
+                    depth++;
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    depth--;
+                }
+            }
+        } catch (XMLStreamException | JAXBException e) {
+            // the devices decoded so far are lost to the caller, so report all of them again next time
+            fingerprints.clear();
+            throw e;
+        } finally {
+            reader.close();
+        }
+        // forget devices which are gone, so they are reported again when they come back
+        fingerprints.keySet().retainAll(seen);
+        return changed;
+    }
+
+    /**
+     * Forgets all fingerprints, so all devices of the next response are reported as changed.
+     */
+    public synchronized void clear() {
+        fingerprints.clear();
+    }
+
+    /**
+     * Writes the element the reader is positioned on, including all of its children, as a normalized XML fragment and
+     * leaves the reader positioned on its end element.
+     */
+    private static String readFragment(XMLStreamReader reader) throws XMLStreamException {
+        final StringBuilder fragment = new StringBuilder(512);
+        int depth = 0;
+        int event = reader.getEventType();
+        while (true) {
+            switch (event) {
+                case XMLStreamConstants.START_ELEMENT:
+                    depth++;
+                    fragment.append('<').append(reader.getLocalName());
+                    for (int i = 0; i < reader.getAttributeCount(); i++) {
+                        fragment.append(' ').append(reader.getAttributeLocalName(i)).append("=\"");
+                        escape(reader.getAttributeValue(i), fragment);
+                        fragment.append('"');
+                    }
+                    fragment.append('>');
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                    if (!reader.isWhiteSpace()) {
+                        escape(reader.getText(), fragment);
+                    }
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    fragment.append("</").append(reader.getLocalName()).append('>');
+                    if (--depth == 0) {
+                        return fragment.toString();
+                    }
+                    break;
+                default:
+                    break;
+            }
+            event = reader.next();
+        }
+    }
+
+    private static void escape(String value, StringBuilder target) {
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '&':
+                    target.append("&amp;");
+                    break;
+                case '<':
+                    target.append("&lt;");
+                    break;
+                case '>':
+                    target.append("&gt;");
+                    break;
+                case '"':
+                    target.append("&quot;");
+                    break;
+                default:
+                    target.append(c);
+                    break;
+            }
+        }
+    }
+
+    private DeviceModel unmarshal(String fragment) throws JAXBException {
+        if (unmarshaller == null) {
+            unmarshaller = JAXBtUtils.JAXBCONTEXT.createUnmarshaller();
+        }
+        return unmarshaller.unmarshal(new StreamSource(new StringReader(fragment)), DeviceModel.class).getValue();
+    }
+}
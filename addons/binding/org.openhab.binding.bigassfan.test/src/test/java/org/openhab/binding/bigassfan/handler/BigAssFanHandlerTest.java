@@ -0,0 +1,181 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.bigassfan.handler;
+
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.initMocks;
+import static org.openhab.binding.bigassfan.BigAssFanBindingConstants.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Scanner;
+
+import org.eclipse.smarthome.config.core.Configuration;
+import org.eclipse.smarthome.core.library.types.OnOffType;
+import org.eclipse.smarthome.core.library.types.PercentType;
+import org.eclipse.smarthome.core.library.types.StringType;
+import org.eclipse.smarthome.core.thing.Channel;
+import org.eclipse.smarthome.core.thing.ChannelUID;
+import org.eclipse.smarthome.core.thing.Thing;
+import org.eclipse.smarthome.core.thing.ThingUID;
+import org.eclipse.smarthome.core.thing.binding.ThingHandlerCallback;
+import org.eclipse.smarthome.core.thing.binding.builder.ChannelBuilder;
+import org.eclipse.smarthome.core.thing.binding.builder.ThingBuilder;
+import org.eclipse.smarthome.core.types.RefreshType;
+import org.eclipse.smarthome.core.types.State;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.openhab.binding.bigassfan.handler.BigAssFanHandler.FanListener;
+
+/**
+ * Tests cases for the message processing of {@link BigAssFanHandler}, replaying a recorded message stream of a fan.
+ * The stream contains the status messages of the fan twice, first with the name and then with the MAC address of
+ * the fan as id. Only the fan speed, the motion sensor and the time change between both. The stream also contains
+ * an unsupported message, a message of another fan and a malformed message.
+ *
+ * @author agent - Initial contribution
+ */
+public class BigAssFanHandlerTest {
+
+    private static final String MESSAGES = "fan-messages.txt";
+
+    private static final String LABEL = "Living Room Fan";
+    private static final String MAC_ADDRESS = "20:F8:5E:D9:EE:07";
+    // The handler fails to connect to the fan, which is fine as the messages are replayed
+    private static final String IP_ADDRESS = "127.0.0.1";
+
+    private static final Map<String, String> CHANNELS = new LinkedHashMap<>();
+    static {
+        CHANNELS.put(CHANNEL_FAN_POWER, "Switch");
+        CHANNELS.put(CHANNEL_FAN_SPEED, "Dimmer");
+        CHANNELS.put(CHANNEL_FAN_DIRECTION, "String");
+        CHANNELS.put(CHANNEL_FAN_AUTO, "Switch");
+        CHANNELS.put(CHANNEL_FAN_WHOOSH, "Switch");
+        CHANNELS.put(CHANNEL_FAN_SMARTMODE, "String");
+        CHANNELS.put(CHANNEL_FAN_SPEED_MIN, "Dimmer");
+        CHANNELS.put(CHANNEL_FAN_SPEED_MAX, "Dimmer");
+        CHANNELS.put(CHANNEL_FAN_LEARN_MINSPEED, "Dimmer");
+        CHANNELS.put(CHANNEL_FAN_LEARN_MAXSPEED, "Dimmer");
+        CHANNELS.put(CHANNEL_FAN_WINTERMODE, "Switch");
+        CHANNELS.put(CHANNEL_LIGHT_POWER, "Switch");
+        CHANNELS.put(CHANNEL_LIGHT_LEVEL, "Dimmer");
+        CHANNELS.put(CHANNEL_LIGHT_AUTO, "Switch");
+        CHANNELS.put(CHANNEL_LIGHT_SMARTER, "Switch");
+        CHANNELS.put(CHANNEL_LIGHT_LEVEL_MIN, "Dimmer");
+        CHANNELS.put(CHANNEL_LIGHT_LEVEL_MAX, "Dimmer");
+        CHANNELS.put(CHANNEL_LIGHT_PRESENT, "String");
+        CHANNELS.put(CHANNEL_MOTION, "Switch");
+        CHANNELS.put(CHANNEL_TIME, "DateTime");
+    }
+
+    @Mock
+    private ThingHandlerCallback callback;
+
+    private Thing thing;
+    private BigAssFanHandler handler;
+    private FanListener listener;
+
+    @Before
+    public void setUp() {
+        initMocks(this);
+
+        Configuration configuration = new Configuration();
+        configuration.put(THING_PROPERTY_LABEL, LABEL);
+        configuration.put(THING_PROPERTY_IP, IP_ADDRESS);
+        configuration.put(THING_PROPERTY_MAC, MAC_ADDRESS);
+
+        ThingUID thingUID = new ThingUID(THING_TYPE_FAN, "fan");
+        List<Channel> channels = new ArrayList<>();
+        for (Map.Entry<String, String> channel : CHANNELS.entrySet()) {
+            channels.add(ChannelBuilder.create(new ChannelUID(thingUID, channel.getKey()), channel.getValue()).build());
+        }
+        thing = ThingBuilder.create(THING_TYPE_FAN, thingUID).withConfiguration(configuration).withChannels(channels)
+                .build();
+
+        handler = new BigAssFanHandler(thing, IP_ADDRESS);
+        handler.setCallback(callback);
+        handler.initialize();
+        listener = handler.new FanListener(IP_ADDRESS);
+    }
+
+    @After
+    public void tearDown() {
+        handler.dispose();
+    }
+
+    @Test
+    public void updatesEveryChannelOfTheFanFromItsStatusMessages() throws IOException {
+        replay(MESSAGES);
+
+        verify(callback).stateUpdated(channel(CHANNEL_FAN_POWER), OnOffType.ON);
+        verify(callback).stateUpdated(channel(CHANNEL_FAN_SPEED), new PercentType(43));
+        verify(callback).stateUpdated(channel(CHANNEL_FAN_SPEED_MIN), new PercentType(14));
+        verify(callback).stateUpdated(channel(CHANNEL_FAN_SPEED_MAX), new PercentType(100));
+        verify(callback).stateUpdated(channel(CHANNEL_FAN_DIRECTION), new StringType("FWD"));
+        verify(callback).stateUpdated(channel(CHANNEL_FAN_AUTO), OnOffType.OFF);
+        verify(callback).stateUpdated(channel(CHANNEL_FAN_WHOOSH), OnOffType.OFF);
+        verify(callback).stateUpdated(channel(CHANNEL_FAN_WINTERMODE), OnOffType.OFF);
+        verify(callback).stateUpdated(channel(CHANNEL_FAN_SMARTMODE), new StringType("OFF"));
+        verify(callback).stateUpdated(channel(CHANNEL_FAN_LEARN_MINSPEED), new PercentType(14));
+        verify(callback).stateUpdated(channel(CHANNEL_FAN_LEARN_MAXSPEED), new PercentType(100));
+        verify(callback).stateUpdated(channel(CHANNEL_LIGHT_PRESENT), new StringType("PRESENT"));
+        verify(callback).stateUpdated(channel(CHANNEL_LIGHT_POWER), OnOffType.ON);
+        verify(callback).stateUpdated(channel(CHANNEL_LIGHT_LEVEL), new PercentType(50));
+        verify(callback).stateUpdated(channel(CHANNEL_LIGHT_LEVEL_MIN), new PercentType(0));
+        verify(callback).stateUpdated(channel(CHANNEL_LIGHT_LEVEL_MAX), new PercentType(100));
+        verify(callback).stateUpdated(channel(CHANNEL_LIGHT_AUTO), OnOffType.OFF);
+        verify(callback).stateUpdated(channel(CHANNEL_MOTION), OnOffType.OFF);
+    }
+
+    @Test
+    public void sendsOnlyTheChangedValuesOfRepeatedStatusMessages() throws IOException {
+        replay(MESSAGES);
+
+        // 19 channels from the first status messages, then the fan speed, the motion sensor and the time
+        verify(callback, times(22)).stateUpdated(any(ChannelUID.class), any(State.class));
+        verify(callback).stateUpdated(channel(CHANNEL_FAN_SPEED), new PercentType(57));
+        verify(callback).stateUpdated(channel(CHANNEL_MOTION), OnOffType.ON);
+        verify(callback, times(2)).stateUpdated(eq(channel(CHANNEL_TIME)), any(State.class));
+        // The speed of the other fan
+        verify(callback, never()).stateUpdated(channel(CHANNEL_FAN_SPEED), new PercentType(71));
+    }
+
+    @Test
+    public void sendsTheNextValueAgainAfterACommand() throws IOException {
+        replay(MESSAGES);
+        handler.handleCommand(channel(CHANNEL_FAN_POWER), RefreshType.REFRESH);
+        replay(MESSAGES);
+
+        verify(callback, times(2)).stateUpdated(channel(CHANNEL_FAN_POWER), OnOffType.ON);
+        verify(callback).stateUpdated(channel(CHANNEL_FAN_DIRECTION), new StringType("FWD"));
+    }
+
+    /**
+     * Splits the recorded stream into messages like the connection to the fan does and processes them.
+     */
+    private void replay(String resource) throws IOException {
+        try (InputStream inputStream = getClass().getResourceAsStream(resource);
+                Scanner scanner = new Scanner(inputStream, CHARSET)) {
+            scanner.useDelimiter("[)]");
+            while (scanner.hasNext()) {
+                listener.processMessage(scanner.next());
+            }
+        }
+    }
+
+    private ChannelUID channel(String channelId) {
+        return new ChannelUID(thing.getUID(), channelId);
+    }
+}
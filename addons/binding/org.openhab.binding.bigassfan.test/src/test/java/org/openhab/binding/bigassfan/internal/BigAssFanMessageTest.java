@@ -0,0 +1,67 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.bigassfan.internal;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * Tests cases for {@link BigAssFanMessage}.
+ *
+ * @author agent - Initial contribution
+ */
+public class BigAssFanMessageTest {
+
+    @Test
+    public void splitsTheMessageIntoIdPathAndValue() {
+        BigAssFanMessage message = BigAssFanMessage.parse("(Living Room Fan;FAN;SPD;ACTUAL;3");
+
+        assertNotNull(message);
+        assertEquals("Living Room Fan", message.getId());
+        assertEquals("FAN;SPD;ACTUAL", message.getPath());
+        assertArrayEquals(new String[] { "Living Room Fan", "FAN", "SPD", "ACTUAL", "3" }, message.getFields());
+    }
+
+    @Test
+    public void ignoresTheCharactersBeforeTheOpeningParenthesis() {
+        BigAssFanMessage message = BigAssFanMessage.parse("\n(20:F8:5E:D9:EE:07;FAN;PWR;ON");
+
+        assertNotNull(message);
+        assertEquals("20:F8:5E:D9:EE:07", message.getId());
+        assertEquals("FAN;PWR", message.getPath());
+    }
+
+    @Test
+    public void upperCasesThePathButNotTheValue() {
+        BigAssFanMessage message = BigAssFanMessage.parse("(Fan;smartmode;actual;Cooling");
+
+        assertEquals("SMARTMODE;ACTUAL", message.getPath());
+        assertEquals("Cooling", message.getFields()[3]);
+    }
+
+    @Test
+    public void dropsTrailingEmptyFields() {
+        BigAssFanMessage message = BigAssFanMessage.parse("(Fan;FAN;PWR;");
+
+        assertArrayEquals(new String[] { "Fan", "FAN", "PWR" }, message.getFields());
+        assertEquals("FAN", message.getPath());
+    }
+
+    @Test
+    public void hasNoPathWithoutValue() {
+        assertEquals("", BigAssFanMessage.parse("(Fan;GETALL").getPath());
+    }
+
+    @Test
+    public void rejectsMessagesWithoutOpeningParenthesis() {
+        assertNull(BigAssFanMessage.parse("Fan;FAN;PWR;ON"));
+        assertNull(BigAssFanMessage.parse(null));
+    }
+}
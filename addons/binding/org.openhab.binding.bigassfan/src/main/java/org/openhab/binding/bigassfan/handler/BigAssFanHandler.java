@@ -29,11 +29,11 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Scanner;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.function.Consumer;
 
 import org.apache.commons.lang.StringUtils;
 import org.eclipse.jdt.annotation.NonNull;
@@ -52,6 +52,7 @@ import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.RefreshType;
 import org.eclipse.smarthome.core.types.State;
 import org.openhab.binding.bigassfan.internal.BigAssFanConfig;
+import org.openhab.binding.bigassfan.internal.BigAssFanMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -73,6 +74,9 @@ public class BigAssFanHandler extends BaseThingHandler {
 
     protected Map<String, State> fanStateMap = Collections.synchronizedMap(new HashMap<String, State>());
 
+    // The states last sent to the channels, used to suppress the repeated values in the periodic fan messages
+    private final Map<String, State> publishedStateMap = new ConcurrentHashMap<>();
+
     private final StringType OFF = new StringType("OFF");
     private final StringType COOLING = new StringType("COOLING");
     private final StringType HEATING = new StringType("HEATING");
@@ -113,6 +117,8 @@ public class BigAssFanHandler extends BaseThingHandler {
 
     @Override
     public void handleCommand(ChannelUID channelUID, Command command) {
+        // The state of the channel may differ from the last state sent by the binding, so send the next one
+        publishedStateMap.remove(channelUID.getId());
         if (command instanceof RefreshType) {
             return;
         }
@@ -304,7 +310,7 @@ public class BigAssFanHandler extends BaseThingHandler {
             currentMax = ((PercentType) fanStateMap.get(channelId)).intValue();
         }
         if (newMin > currentMax) {
-            updateState(CHANNEL_FAN_SPEED_MAX, command);
+            updateChannel(CHANNEL_FAN_SPEED_MAX, command);
             sendCommand(macAddress, commandFragment.concat(convertPercentToSpeed(command)));
         }
     }
@@ -316,7 +322,7 @@ public class BigAssFanHandler extends BaseThingHandler {
             currentMin = ((PercentType) fanStateMap.get(channelId)).intValue();
         }
         if (newMax < currentMin) {
-            updateState(channelId, command);
+            updateChannel(channelId, command);
             sendCommand(macAddress, commandFragment.concat(convertPercentToSpeed(command)));
         }
     }
@@ -424,7 +430,7 @@ public class BigAssFanHandler extends BaseThingHandler {
             currentMax = ((PercentType) fanStateMap.get(CHANNEL_LIGHT_LEVEL_MAX)).intValue();
         }
         if (newMin > currentMax) {
-            updateState(CHANNEL_LIGHT_LEVEL_MAX, command);
+            updateChannel(CHANNEL_LIGHT_LEVEL_MAX, command);
             sendCommand(macAddress, ";LIGHT;LEVEL;MAX;".concat(convertPercentToLevel(command)));
         }
     }
@@ -436,7 +442,7 @@ public class BigAssFanHandler extends BaseThingHandler {
             currentMin = ((PercentType) fanStateMap.get(CHANNEL_LIGHT_LEVEL_MIN)).intValue();
         }
         if (newMax < currentMin) {
-            updateState(CHANNEL_LIGHT_LEVEL_MIN, command);
+            updateChannel(CHANNEL_LIGHT_LEVEL_MIN, command);
             sendCommand(macAddress, ";LIGHT;LEVEL;MIN;".concat(convertPercentToLevel(command)));
         }
     }
@@ -500,7 +506,7 @@ public class BigAssFanHandler extends BaseThingHandler {
 
     private void updateChannel(String channelName, State state) {
         Channel channel = thing.getChannel(channelName);
-        if (channel != null) {
+        if (channel != null && !state.equals(publishedStateMap.put(channelName, state))) {
             updateState(channel.getUID(), state);
         }
     }
@@ -511,6 +517,7 @@ public class BigAssFanHandler extends BaseThingHandler {
     private void markOnline() {
         if (!isOnline()) {
             logger.debug("Changing status of {} from {}({}) to ONLINE", thing.getUID(), getStatus(), getDetail());
+            publishedStateMap.clear();
             updateStatus(ThingStatus.ONLINE);
         }
     }
@@ -566,6 +573,9 @@ public class BigAssFanHandler extends BaseThingHandler {
 
         private ConnectionManager conn;
 
+        // Updaters of the channels by message path (the fields between the id and the value)
+        private final Map<String, Consumer<String[]>> messageUpdaters = new HashMap<>();
+
         private Runnable fanListenerRunnable = new Runnable() {
             @Override
             public void run() {
@@ -579,6 +589,26 @@ public class BigAssFanHandler extends BaseThingHandler {
 
         public FanListener(String ipv4Address) {
             conn = new ConnectionManager(ipv4Address);
+
+            messageUpdaters.put("FAN;PWR", this::updateFanPower);
+            messageUpdaters.put("FAN;SPD;ACTUAL", this::updateFanSpeed);
+            messageUpdaters.put("FAN;DIR", this::updateFanDirection);
+            messageUpdaters.put("FAN;AUTO", this::updateFanAuto);
+            messageUpdaters.put("FAN;WHOOSH;STATUS", this::updateFanWhoosh);
+            messageUpdaters.put("WINTERMODE;STATE", this::updateFanWintermode);
+            messageUpdaters.put("SMARTMODE;ACTUAL", this::updateFanSmartmode);
+            messageUpdaters.put("FAN;SPD;MIN", this::updateFanSpeedMin);
+            messageUpdaters.put("FAN;SPD;MAX", this::updateFanSpeedMax);
+            messageUpdaters.put("LEARN;MINSPEED", this::updateFanLearnMinSpeed);
+            messageUpdaters.put("LEARN;MAXSPEED", this::updateFanLearnMaxSpeed);
+            messageUpdaters.put("LIGHT;PWR", this::updateLightPower);
+            messageUpdaters.put("LIGHT;LEVEL;ACTUAL", this::updateLightLevel);
+            messageUpdaters.put("LIGHT;AUTO", this::updateLightAuto);
+            messageUpdaters.put("LIGHT;LEVEL;MIN", this::updateLightLevelMin);
+            messageUpdaters.put("LIGHT;LEVEL;MAX", this::updateLightLevelMax);
+            messageUpdaters.put("DEVICE;LIGHT", this::updateLightPresent);
+            messageUpdaters.put("SNSROCC;STATUS", this::updateMotion);
+            messageUpdaters.put("TIME;VALUE", this::updateTime);
         }
 
         public void startFanListener() {
@@ -670,91 +700,32 @@ public class BigAssFanHandler extends BaseThingHandler {
             return message;
         }
 
-        private void processMessage(String message) {
+        void processMessage(String message) {
             if (StringUtils.isEmpty(message)) {
                 return;
             }
 
-            // Match on (msg)
+            // Decode (id;path...;value)
             logger.debug("FanListener for {} processing received message from {}: {}", thing.getUID(), macAddress,
                     message);
-            Pattern pattern = Pattern.compile("[(](.*)");
-            Matcher matcher = pattern.matcher(message);
-            if (!matcher.find()) {
+            BigAssFanMessage fanMessage = BigAssFanMessage.parse(message);
+            if (fanMessage == null) {
                 logger.debug("Unable to process message from {}, not in expected format: {}", thing.getUID(), message);
                 return;
             }
 
-            message = matcher.group(1);
-            String[] messageParts = message.split(";");
-
             // Check to make sure it is my MAC address or my label
-            if (!isMe(messageParts[0])) {
-                logger.trace("Message not for me ({}): {}", messageParts[0], macAddress);
+            if (!isMe(fanMessage.getId())) {
+                logger.trace("Message not for me ({}): {}", fanMessage.getId(), macAddress);
                 return;
             }
 
-            logger.trace("Message is for me ({}): {}", messageParts[0], macAddress);
-            String messageUpperCase = message.toUpperCase();
-            if (messageUpperCase.contains(";FAN;PWR;")) {
-                updateFanPower(messageParts);
-
-            } else if (messageUpperCase.contains(";FAN;SPD;ACTUAL;")) {
-                updateFanSpeed(messageParts);
-
-            } else if (messageUpperCase.contains(";FAN;DIR;")) {
-                updateFanDirection(messageParts);
-
-            } else if (messageUpperCase.contains(";FAN;AUTO;")) {
-                updateFanAuto(messageParts);
-
-            } else if (messageUpperCase.contains(";FAN;WHOOSH;STATUS;")) {
-                updateFanWhoosh(messageParts);
-
-            } else if (messageUpperCase.contains(";WINTERMODE;STATE;")) {
-                updateFanWintermode(messageParts);
-
-            } else if (messageUpperCase.contains(";SMARTMODE;ACTUAL;")) {
-                updateFanSmartmode(messageParts);
-
-            } else if (messageUpperCase.contains(";FAN;SPD;MIN;")) {
-                updateFanSpeedMin(messageParts);
-
-            } else if (messageUpperCase.contains(";FAN;SPD;MAX;")) {
-                updateFanSpeedMax(messageParts);
-
-            } else if (messageUpperCase.contains(";LEARN;MINSPEED;")) {
-                updateFanLearnMinSpeed(messageParts);
-
-            } else if (messageUpperCase.contains(";LEARN;MAXSPEED;")) {
-                updateFanLearnMaxSpeed(messageParts);
-
-            } else if (messageUpperCase.contains(";LIGHT;PWR;")) {
-                updateLightPower(messageParts);
-
-            } else if (messageUpperCase.contains(";LIGHT;LEVEL;ACTUAL;")) {
-                updateLightLevel(messageParts);
-
-            } else if (messageUpperCase.contains(";LIGHT;AUTO;")) {
-                updateLightAuto(messageParts);
-
-            } else if (messageUpperCase.contains(";LIGHT;LEVEL;MIN;")) {
-                updateLightLevelMin(messageParts);
-
-            } else if (messageUpperCase.contains(";LIGHT;LEVEL;MAX;")) {
-                updateLightLevelMax(messageParts);
-
-            } else if (messageUpperCase.contains(";DEVICE;LIGHT;")) {
-                updateLightPresent(messageParts);
-
-            } else if (messageUpperCase.contains(";SNSROCC;STATUS;")) {
-                updateMotion(messageParts);
-
-            } else if (messageUpperCase.contains(";TIME;VALUE;")) {
-                updateTime(messageParts);
-
+            logger.trace("Message is for me ({}): {}", fanMessage.getId(), macAddress);
+            Consumer<String[]> updater = messageUpdaters.get(fanMessage.getPath());
+            if (updater != null) {
+                updater.accept(fanMessage.getFields());
             } else {
-                logger.trace("Received unsupported message from {}: {}", thing.getUID(), message);
+                logger.trace("Received unsupported message from {}: {}", thing.getUID(), fanMessage);
             }
         }
 
@@ -0,0 +1,96 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.bigassfan.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The {@link BigAssFanMessage} is a message received from a fan, such as (Living Room Fan;FAN;SPD;ACTUAL;3).
+ *
+ * The message is split into its fields once. The first field is the MAC address or name of the fan, the last
+ * field is the value. The fields in between form the path, which identifies the kind of message (e.g. FAN;SPD;ACTUAL).
+ *
+ * @author agent - Initial contribution
+ */
+public class BigAssFanMessage {
+    private static final char FIELD_SEPARATOR = ';';
+
+    private final String[] fields;
+    private final String path;
+
+    private BigAssFanMessage(String[] fields, String path) {
+        this.fields = fields;
+        this.path = path;
+    }
+
+    /**
+     * Decodes a message read from the fan. The closing parenthesis has already been removed by the reader.
+     *
+     * @param message message as read from the fan
+     * @return the decoded message, or null if the message is not in the expected format
+     */
+    public static BigAssFanMessage parse(String message) {
+        if (message == null) {
+            return null;
+        }
+        int start = message.indexOf('(');
+        if (start < 0) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>(6);
+        int fieldStart = start + 1;
+        for (int i = fieldStart; i < message.length(); i++) {
+            if (message.charAt(i) == FIELD_SEPARATOR) {
+                fields.add(message.substring(fieldStart, i));
+                fieldStart = i + 1;
+            }
+        }
+        fields.add(message.substring(fieldStart));
+
+        // Like String.split, trailing empty fields are dropped
+        while (fields.size() > 1 && fields.get(fields.size() - 1).isEmpty()) {
+            fields.remove(fields.size() - 1);
+        }
+
+        String path = fields.size() > 2
+                ? String.join(String.valueOf(FIELD_SEPARATOR), fields.subList(1, fields.size() - 1))
+                        .toUpperCase(Locale.ENGLISH)
+                : "";
+        return new BigAssFanMessage(fields.toArray(new String[fields.size()]), path);
+    }
+
+    /**
+     * Returns the MAC address or name of the fan which sent the message.
+     */
+    public String getId() {
+        return fields[0];
+    }
+
+    /**
+     * Returns the upper case fields between the id and the value, separated by semicolons (e.g. FAN;PWR).
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Returns all fields of the message, starting with the id.
+     */
+    public String[] getFields() {
+        return fields;
+    }
+
+    @Override
+    public String toString() {
+        return String.join(String.valueOf(FIELD_SEPARATOR), fields);
+    }
+}
@@ -28,6 +28,7 @@ import org.openhab.binding.chromecast.internal.ChromecastCommander;
 import org.openhab.binding.chromecast.internal.ChromecastEventReceiver;
 import org.openhab.binding.chromecast.internal.ChromecastScheduler;
 import org.openhab.binding.chromecast.internal.ChromecastStatusUpdater;
+import org.openhab.io.transport.image.ImageCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import su.litvak.chromecast.api.v2.ChromeCast;
@@ -65,6 +66,7 @@ public class ChromecastHandler extends BaseThingHandler implements AudioSink {
     private final Logger logger = LoggerFactory.getLogger(getClass());
     private final AudioHTTPServer audioHTTPServer;
     private final String callbackUrl;
+    private final ImageCache imageCache;
 
     /**
      * The actual implementation. A new one is created each time #initalize is called.
@@ -77,11 +79,14 @@ public class ChromecastHandler extends BaseThingHandler implements AudioSink {
      * @param thing           the thing the coordinator should be created for
      * @param audioHTTPServer server for hosting audio streams
      * @param callbackUrl     url to be used to tell the Chromecast which host to call for audio urls
+     * @param imageCache      cache for downloading the images of the media
      */
-    public ChromecastHandler(final Thing thing, AudioHTTPServer audioHTTPServer, String callbackUrl) {
+    public ChromecastHandler(final Thing thing, AudioHTTPServer audioHTTPServer, String callbackUrl,
+            ImageCache imageCache) {
         super(thing);
         this.audioHTTPServer = audioHTTPServer;
         this.callbackUrl = callbackUrl;
+        this.imageCache = imageCache;
     }
 
     @Override
@@ -236,7 +241,7 @@ public class ChromecastHandler extends BaseThingHandler implements AudioSink {
             this.chromeCast = chromeCast;
 
             this.scheduler = new ChromecastScheduler(handler.scheduler, CONNECT_DELAY, connectRunnable, refreshRate, refreshRunnable);
-            this.statusUpdater = new ChromecastStatusUpdater(thing, handler);
+            this.statusUpdater = new ChromecastStatusUpdater(thing, handler, handler.imageCache);
 
             this.commander = new ChromecastCommander(chromeCast, scheduler, statusUpdater);
             this.eventReceiver = new ChromecastEventReceiver(scheduler, statusUpdater);
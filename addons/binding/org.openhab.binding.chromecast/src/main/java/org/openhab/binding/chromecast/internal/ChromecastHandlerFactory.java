@@ -19,6 +19,7 @@ import org.eclipse.smarthome.core.thing.binding.ThingHandler;
 import org.eclipse.smarthome.core.thing.binding.ThingHandlerFactory;
 import org.openhab.binding.chromecast.ChromecastBindingConstants;
 import org.openhab.binding.chromecast.handler.ChromecastHandler;
+import org.openhab.io.transport.image.ImageCache;
 import org.osgi.framework.ServiceRegistration;
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Component;
@@ -45,6 +46,7 @@ public class ChromecastHandlerFactory extends BaseThingHandlerFactory {
     private Map<String, ServiceRegistration<AudioSink>> audioSinkRegistrations = new ConcurrentHashMap<>();
     private AudioHTTPServer audioHTTPServer;
     private NetworkAddressService networkAddressService;
+    private ImageCache imageCache;
 
     /** url (scheme+server+port) to use for playing notification sounds. */
     private String callbackUrl = null;
@@ -68,7 +70,7 @@ public class ChromecastHandlerFactory extends BaseThingHandlerFactory {
     @Override
     protected ThingHandler createHandler(Thing thing) {
         String callbackUrl = createCallbackUrl();
-        ChromecastHandler handler = new ChromecastHandler(thing, audioHTTPServer, callbackUrl);
+        ChromecastHandler handler = new ChromecastHandler(thing, audioHTTPServer, callbackUrl, imageCache);
 
         @SuppressWarnings("unchecked")
         ServiceRegistration<AudioSink> reg = (ServiceRegistration<AudioSink>) bundleContext
@@ -123,4 +125,13 @@ public class ChromecastHandlerFactory extends BaseThingHandlerFactory {
     protected void unsetNetworkAddressService(NetworkAddressService networkAddressService) {
         this.networkAddressService = null;
     }
+
+    @Reference
+    protected void setImageCache(ImageCache imageCache) {
+        this.imageCache = imageCache;
+    }
+
+    protected void unsetImageCache(ImageCache imageCache) {
+        this.imageCache = null;
+    }
 }
@@ -22,14 +22,15 @@ import org.eclipse.smarthome.core.library.types.OnOffType;
 import org.eclipse.smarthome.core.library.types.PercentType;
 import org.eclipse.smarthome.core.library.types.PlayPauseType;
 import org.eclipse.smarthome.core.library.types.PointType;
+import org.eclipse.smarthome.core.library.types.RawType;
 import org.eclipse.smarthome.core.library.types.StringType;
-import org.eclipse.smarthome.io.net.http.HttpUtil;
 import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.thing.ThingStatus;
 import org.eclipse.smarthome.core.thing.ThingStatusDetail;
 import org.eclipse.smarthome.core.types.State;
 import org.openhab.binding.chromecast.ChromecastBindingConstants;
 import org.openhab.binding.chromecast.handler.ChromecastHandler;
+import org.openhab.io.transport.image.ImageCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import su.litvak.chromecast.api.v2.Application;
@@ -71,14 +72,16 @@ public class ChromecastStatusUpdater {
     private final Logger logger = LoggerFactory.getLogger(getClass());
     private final Thing thing;
     private final ChromecastHandler callback;
+    private final ImageCache imageCache;
 
     private String appSessionId;
     private PercentType volume;
-    private String imageSrc;
+    private volatile String imageSrc;
 
-    public ChromecastStatusUpdater(Thing thing, ChromecastHandler callback) {
+    public ChromecastStatusUpdater(Thing thing, ChromecastHandler callback, ImageCache imageCache) {
         this.thing = thing;
         this.callback = callback;
+        this.imageCache = imageCache;
     }
 
     public PercentType getVolume() {
@@ -264,7 +267,18 @@ public class ChromecastStatusUpdater {
         }
 
         if (callback.isLinked(CHANNEL_IMAGE)) {
-            callback.updateState(CHANNEL_IMAGE, imageSrc == null ? UNDEF : HttpUtil.downloadImage(imageSrc));
+            if (imageSrc == null) {
+                callback.updateState(CHANNEL_IMAGE, UNDEF);
+            } else {
+                imageCache.getImage(imageSrc, this::updateImage);
+            }
+        }
+    }
+
+    private void updateImage(String url, RawType image) {
+        // Skip an image that arrived after the media changed again
+        if (url.equals(imageSrc)) {
+            callback.updateState(CHANNEL_IMAGE, image == null ? UNDEF : image);
         }
     }
 
@@ -12,10 +12,15 @@ import static org.openhab.binding.dscalarm.DSCAlarmBindingConstants.*;
 
 import java.math.BigDecimal;
 import java.text.SimpleDateFormat;
+import java.util.ArrayDeque;
 import java.util.Date;
+import java.util.Deque;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.smarthome.config.core.Configuration;
 import org.eclipse.smarthome.core.library.types.OnOffType;
@@ -25,6 +30,7 @@ import org.eclipse.smarthome.core.thing.ChannelUID;
 import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.thing.ThingStatus;
 import org.eclipse.smarthome.core.thing.binding.BaseBridgeHandler;
+import org.eclipse.smarthome.core.thing.binding.ThingHandler;
 import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.RefreshType;
 import org.openhab.binding.dscalarm.internal.DSCAlarmCode;
@@ -47,6 +53,21 @@ public abstract class DSCAlarmBaseBridgeHandler extends BaseBridgeHandler {
 
     private Logger logger = LoggerFactory.getLogger(DSCAlarmBaseBridgeHandler.class);
 
+    /** The thing handlers by (thing type, partition, zone) key. */
+    private final Map<Integer, DSCAlarmBaseThingHandler> thingHandlers = new ConcurrentHashMap<>();
+
+    /** The incoming messages waiting to be processed. */
+    private final Deque<IncomingMessage> incomingMessages = new ArrayDeque<>();
+
+    /** Determines if the incoming messages are being processed. */
+    private final AtomicBoolean processingMessages = new AtomicBoolean(false);
+
+    // Message latency metrics
+    private long messagesProcessed = 0;
+    private long messageLatencyTotal = 0;
+    private long messageLatencyCount = 0;
+    private long messageLatencyMax = 0;
+
     /** The DSC Alarm bridge type. */
     private DSCAlarmBridgeType dscAlarmBridgeType = null;
 
@@ -322,6 +343,8 @@ public abstract class DSCAlarmBaseBridgeHandler extends BaseBridgeHandler {
 
             checkThings();
 
+            logMessageLatency();
+
             if (thingsHaveChanged) {
                 if (allThingsInitialized) {
                     this.setBridgeStatus(isConnected());
@@ -359,6 +382,8 @@ public abstract class DSCAlarmBaseBridgeHandler extends BaseBridgeHandler {
                 logger.debug("***Checking '{}' - Status: {}, Initialized: {}", thing.getUID(), thing.getStatus(),
                         handler.isThingHandlerInitialized());
 
+                registerThingHandler(handler);
+
                 if (!handler.isThingHandlerInitialized() || !thing.getStatus().equals(ThingStatus.ONLINE)) {
 
                     if (getThing().getStatus().equals(ThingStatus.ONLINE)) {
@@ -381,6 +406,57 @@ public abstract class DSCAlarmBaseBridgeHandler extends BaseBridgeHandler {
 
     }
 
+    @Override
+    public void childHandlerInitialized(ThingHandler childHandler, Thing childThing) {
+        if (childHandler instanceof DSCAlarmBaseThingHandler) {
+            registerThingHandler((DSCAlarmBaseThingHandler) childHandler);
+        }
+    }
+
+    @Override
+    public void childHandlerDisposed(ThingHandler childHandler, Thing childThing) {
+        if (childHandler instanceof DSCAlarmBaseThingHandler) {
+            DSCAlarmBaseThingHandler handler = (DSCAlarmBaseThingHandler) childHandler;
+            if (handler.getDSCAlarmThingType() != null) {
+                thingHandlers.remove(getThingHandlerKey(handler.getDSCAlarmThingType(), handler.getPartitionNumber(),
+                        handler.getZoneNumber()), handler);
+            }
+        }
+    }
+
+    /**
+     * Adds a thing handler to the index used to find the thing of a message.
+     *
+     * @param handler
+     */
+    private void registerThingHandler(DSCAlarmBaseThingHandler handler) {
+        DSCAlarmThingType handlerDSCAlarmThingType = handler.getDSCAlarmThingType();
+        if (handlerDSCAlarmThingType != null) {
+            thingHandlers.put(getThingHandlerKey(handlerDSCAlarmThingType, handler.getPartitionNumber(),
+                    handler.getZoneNumber()), handler);
+        }
+    }
+
+    /**
+     * Returns the index key of a thing. Only the partition number identifies a partition and only the zone number
+     * identifies a zone (zone messages do not all carry a partition), panels and keypads are unique.
+     *
+     * @param dscAlarmThingType
+     * @param partitionId
+     * @param zoneId
+     * @return key
+     */
+    private static int getThingHandlerKey(DSCAlarmThingType dscAlarmThingType, int partitionId, int zoneId) {
+        switch (dscAlarmThingType) {
+            case PARTITION:
+                return (dscAlarmThingType.ordinal() << 24) | (partitionId & 0xFFFFFF);
+            case ZONE:
+                return (dscAlarmThingType.ordinal() << 24) | (zoneId & 0xFFFFFF);
+            default:
+                return dscAlarmThingType.ordinal() << 24;
+        }
+    }
+
     /**
      * Find a Thing.
      *
@@ -390,7 +466,13 @@ public abstract class DSCAlarmBaseBridgeHandler extends BaseBridgeHandler {
      * @return thing
      */
     public Thing findThing(DSCAlarmThingType dscAlarmThingType, int partitionId, int zoneId) {
+        DSCAlarmBaseThingHandler indexedHandler = thingHandlers
+                .get(getThingHandlerKey(dscAlarmThingType, partitionId, zoneId));
+        if (indexedHandler != null && indexedHandler.getThing().getHandler() == indexedHandler) {
+            return indexedHandler.getThing();
+        }
 
+        // Not indexed yet - search the things of the bridge
         List<Thing> things = getThing().getThings();
 
         Thing thing = null;
@@ -410,17 +492,12 @@ public abstract class DSCAlarmBaseBridgeHandler extends BaseBridgeHandler {
                                 case PANEL:
                                 case KEYPAD:
                                     thing = t;
-                                    logger.debug("findThing(): Thing Found - {}, {}, {}", t, handler,
-                                            handlerDSCAlarmThingType);
-                                    return thing;
+                                    break;
                                 case PARTITION:
                                     BigDecimal partitionNumber = (BigDecimal) config
                                             .get(DSCAlarmPartitionConfiguration.PARTITION_NUMBER);
                                     if (partitionId == partitionNumber.intValue()) {
                                         thing = t;
-                                        logger.debug("findThing(): Thing Found - {}, {}, {}", t, handler,
-                                                handlerDSCAlarmThingType);
-                                        return thing;
                                     }
                                     break;
                                 case ZONE:
@@ -428,14 +505,18 @@ public abstract class DSCAlarmBaseBridgeHandler extends BaseBridgeHandler {
                                             .get(DSCAlarmZoneConfiguration.ZONE_NUMBER);
                                     if (zoneId == zoneNumber.intValue()) {
                                         thing = t;
-                                        logger.debug("findThing(): Thing Found - {}, {}, {}", t, handler,
-                                                handlerDSCAlarmThingType);
-                                        return thing;
                                     }
                                     break;
                                 default:
                                     break;
                             }
+
+                            if (thing != null) {
+                                logger.debug("findThing(): Thing Found - {}, {}, {}", t, handler,
+                                        handlerDSCAlarmThingType);
+                                registerThingHandler(handler);
+                                return thing;
+                            }
                         }
                     }
                 }
@@ -448,94 +529,168 @@ public abstract class DSCAlarmBaseBridgeHandler extends BaseBridgeHandler {
     }
 
     /**
-     * Handles an incoming message from the DSC Alarm System.
+     * Handles an incoming message from the DSC Alarm System. The message is decoded on the calling (reading) thread
+     * and queued, the messages are then processed in order on the scheduler so the reading thread never waits.
      *
      * @param incomingMessage
      */
-    public synchronized void handleIncomingMessage(String incomingMessage) {
+    public void handleIncomingMessage(String incomingMessage) {
         if (incomingMessage != null && !incomingMessage.isEmpty()) {
-            DSCAlarmMessage dscAlarmMessage = new DSCAlarmMessage(incomingMessage);
-            DSCAlarmMessageType dscAlarmMessageType = dscAlarmMessage.getDSCAlarmMessageType();
+            IncomingMessage message = new IncomingMessage(new DSCAlarmMessage(incomingMessage));
 
-            logger.debug("handleIncomingMessage(): Message received: {} - {}", incomingMessage,
-                    dscAlarmMessage.toString());
+            synchronized (incomingMessages) {
+                incomingMessages.add(message);
+            }
 
-            DSCAlarmEvent event = new DSCAlarmEvent(this);
-            event.dscAlarmEventMessage(dscAlarmMessage);
-            DSCAlarmThingType dscAlarmThingType = null;
-            int partitionId = 0;
-            int zoneId = 0;
+            if (processingMessages.compareAndSet(false, true)) {
+                scheduler.execute(this::processIncomingMessages);
+            }
+        } else {
+            logger.debug("handleIncomingMessage(): No Message Received!");
+        }
+    }
 
-            DSCAlarmCode dscAlarmCode = DSCAlarmCode
-                    .getDSCAlarmCodeValue(dscAlarmMessage.getMessageInfo(DSCAlarmMessageInfoType.CODE));
+    /**
+     * Processes the queued incoming messages until none is left.
+     */
+    private void processIncomingMessages() {
+        while (true) {
+            IncomingMessage message;
+            synchronized (incomingMessages) {
+                message = incomingMessages.poll();
+                if (message == null) {
+                    processingMessages.set(false);
+                    return;
+                }
+            }
 
-            if (panelThingHandler != null) {
-                panelThingHandler.setPanelMessage(dscAlarmMessage);
+            try {
+                processIncomingMessage(message.dscAlarmMessage);
+            } catch (Exception e) {
+                logger.error("processIncomingMessages(): Message not handled by bridge: {}", e.getMessage(), e);
             }
 
-            if (dscAlarmCode == DSCAlarmCode.LoginResponse) {
-                String dscAlarmMessageData = dscAlarmMessage.getMessageInfo(DSCAlarmMessageInfoType.DATA);
-                if (dscAlarmMessageData.equals("3")) {
-                    sendCommand(DSCAlarmCode.NetworkLogin);
-                    // onConnected();
-                } else if (dscAlarmMessageData.equals("1")) {
-                    onConnected();
-                }
-                return;
-            } else if (dscAlarmCode == DSCAlarmCode.CommandAcknowledge) {
-                String dscAlarmMessageData = dscAlarmMessage.getMessageInfo(DSCAlarmMessageInfoType.DATA);
-                if (dscAlarmMessageData.equals("000")) {
-                    setBridgeStatus(true);
-                }
+            recordMessageLatency(System.nanoTime() - message.receivedTime);
+        }
+    }
+
+    /**
+     * Records the time between the reception of a message and the end of its processing.
+     *
+     * @param latency in nanoseconds
+     */
+    private synchronized void recordMessageLatency(long latency) {
+        messagesProcessed++;
+        messageLatencyTotal += latency;
+        messageLatencyCount++;
+        messageLatencyMax = Math.max(messageLatencyMax, latency);
+    }
+
+    /**
+     * Logs the message latencies recorded since the last call.
+     */
+    private synchronized void logMessageLatency() {
+        if (messageLatencyCount > 0) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("logMessageLatency(): {} messages processed - average latency {} ms, max latency {} ms",
+                        messagesProcessed,
+                        String.format("%.3f", messageLatencyTotal / (messageLatencyCount * 1000000.0)),
+                        String.format("%.3f", messageLatencyMax / 1000000.0));
             }
 
-            switch (dscAlarmMessageType) {
-                case PANEL_EVENT:
-                    dscAlarmThingType = DSCAlarmThingType.PANEL;
-                    break;
-                case PARTITION_EVENT:
-                    dscAlarmThingType = DSCAlarmThingType.PARTITION;
-                    partitionId = Integer
-                            .parseInt(event.getDSCAlarmMessage().getMessageInfo(DSCAlarmMessageInfoType.PARTITION));
-                    break;
-                case ZONE_EVENT:
-                    dscAlarmThingType = DSCAlarmThingType.ZONE;
-                    zoneId = Integer.parseInt(event.getDSCAlarmMessage().getMessageInfo(DSCAlarmMessageInfoType.ZONE));
-                    break;
-                case KEYPAD_EVENT:
-                    dscAlarmThingType = DSCAlarmThingType.KEYPAD;
-                    break;
-                default:
-                    break;
+            messageLatencyTotal = 0;
+            messageLatencyCount = 0;
+            messageLatencyMax = 0;
+        }
+    }
+
+    /**
+     * Processes a decoded message from the DSC Alarm System.
+     *
+     * @param dscAlarmMessage
+     */
+    private synchronized void processIncomingMessage(DSCAlarmMessage dscAlarmMessage) {
+        DSCAlarmMessageType dscAlarmMessageType = dscAlarmMessage.getDSCAlarmMessageType();
+
+        logger.debug("handleIncomingMessage(): Message received: {}", dscAlarmMessage);
+
+        DSCAlarmEvent event = new DSCAlarmEvent(this);
+        event.dscAlarmEventMessage(dscAlarmMessage);
+        DSCAlarmThingType dscAlarmThingType = null;
+        int partitionId = 0;
+        int zoneId = 0;
+
+        DSCAlarmCode dscAlarmCode = dscAlarmMessage.getDSCAlarmCode();
+
+        if (panelThingHandler != null) {
+            panelThingHandler.setPanelMessage(dscAlarmMessage);
+        }
+
+        if (dscAlarmCode == DSCAlarmCode.LoginResponse) {
+            String dscAlarmMessageData = dscAlarmMessage.getMessageInfo(DSCAlarmMessageInfoType.DATA);
+            if (dscAlarmMessageData.equals("3")) {
+                sendCommand(DSCAlarmCode.NetworkLogin);
+                // onConnected();
+            } else if (dscAlarmMessageData.equals("1")) {
+                onConnected();
+            }
+            return;
+        } else if (dscAlarmCode == DSCAlarmCode.CommandAcknowledge) {
+            String dscAlarmMessageData = dscAlarmMessage.getMessageInfo(DSCAlarmMessageInfoType.DATA);
+            if (dscAlarmMessageData.equals("000")) {
+                setBridgeStatus(true);
             }
+        }
 
-            if (dscAlarmThingType != null) {
+        switch (dscAlarmMessageType) {
+            case PANEL_EVENT:
+                dscAlarmThingType = DSCAlarmThingType.PANEL;
+                break;
+            case PARTITION_EVENT:
+                dscAlarmThingType = DSCAlarmThingType.PARTITION;
+                partitionId = dscAlarmMessage.getPartitionNumber();
+                break;
+            case ZONE_EVENT:
+                dscAlarmThingType = DSCAlarmThingType.ZONE;
+                zoneId = dscAlarmMessage.getZoneNumber();
+                break;
+            case KEYPAD_EVENT:
+                dscAlarmThingType = DSCAlarmThingType.KEYPAD;
+                break;
+            default:
+                break;
+        }
 
-                Thing thing = findThing(dscAlarmThingType, partitionId, zoneId);
+        if (partitionId < 0 || zoneId < 0) {
+            logger.debug("handleIncomingMessage(): Invalid partition or zone number in message: {}",
+                    dscAlarmMessage);
+            return;
+        }
 
-                logger.debug("handleIncomingMessage(): Thing Search - '{}'", thing);
+        if (dscAlarmThingType != null) {
 
-                if (thing != null) {
-                    DSCAlarmBaseThingHandler thingHandler = (DSCAlarmBaseThingHandler) thing.getHandler();
+            Thing thing = findThing(dscAlarmThingType, partitionId, zoneId);
 
-                    if (thingHandler != null) {
-                        if (thingHandler.isThingHandlerInitialized()) {
-                            thingHandler.dscAlarmEventReceived(event, thing);
+            logger.debug("handleIncomingMessage(): Thing Search - '{}'", thing);
 
-                        } else {
-                            logger.debug("handleIncomingMessage(): Thing '{}' Not Refreshed!", thing.getUID());
-                        }
-                    }
-                } else {
-                    logger.debug("handleIncomingMessage(): Thing Not Found! Send to Discovery Service!");
+            if (thing != null) {
+                DSCAlarmBaseThingHandler thingHandler = (DSCAlarmBaseThingHandler) thing.getHandler();
+
+                if (thingHandler != null) {
+                    if (thingHandler.isThingHandlerInitialized()) {
+                        thingHandler.dscAlarmEventReceived(event, thing);
 
-                    if (dscAlarmDiscoveryService != null) {
-                        dscAlarmDiscoveryService.addThing(getThing(), dscAlarmThingType, event);
+                    } else {
+                        logger.debug("handleIncomingMessage(): Thing '{}' Not Refreshed!", thing.getUID());
                     }
                 }
+            } else {
+                logger.debug("handleIncomingMessage(): Thing Not Found! Send to Discovery Service!");
+
+                if (dscAlarmDiscoveryService != null) {
+                    dscAlarmDiscoveryService.addThing(getThing(), dscAlarmThingType, event);
+                }
             }
-        } else {
-            logger.debug("handleIncomingMessage(): No Message Received!");
         }
     }
 
@@ -840,4 +995,16 @@ public abstract class DSCAlarmBaseBridgeHandler extends BaseBridgeHandler {
 
         return cmd + strChecksum.toUpperCase() + "\r\n";
     }
+
+    /**
+     * A decoded message waiting to be processed.
+     */
+    private static class IncomingMessage {
+        private final DSCAlarmMessage dscAlarmMessage;
+        private final long receivedTime = System.nanoTime();
+
+        IncomingMessage(DSCAlarmMessage dscAlarmMessage) {
+            this.dscAlarmMessage = dscAlarmMessage;
+        }
+    }
 }
@@ -371,8 +371,7 @@ public abstract class DSCAlarmBaseThingHandler extends BaseThingHandler {
     public void setPanelMessage(DSCAlarmMessage dscAlarmMessage) {
         ChannelUID channelUID = new ChannelUID(getThing().getUID(), PANEL_MESSAGE);
         String message = dscAlarmMessage.getMessageInfo(DSCAlarmMessageInfoType.DESCRIPTION);
-        DSCAlarmCode dscAlarmCode = DSCAlarmCode
-                .getDSCAlarmCodeValue(dscAlarmMessage.getMessageInfo(DSCAlarmMessageInfoType.CODE));
+        DSCAlarmCode dscAlarmCode = dscAlarmMessage.getDSCAlarmCode();
 
         if ((dscAlarmCode == DSCAlarmCode.CommandAcknowledge || dscAlarmCode == DSCAlarmCode.TimeDateBroadcast)
                 && getSuppressAcknowledgementMsgs()) {
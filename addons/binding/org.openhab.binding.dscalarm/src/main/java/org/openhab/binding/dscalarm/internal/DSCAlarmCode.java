@@ -192,6 +192,19 @@ public enum DSCAlarmCode {
      */
     private static Map<String, DSCAlarmCode> codeToDSCAlarmCodeValue;
 
+    /**
+     * Lookup table to get a DSCAlarmCode value from its numeric code (0 to 999).
+     */
+    private static final DSCAlarmCode[] NUMERIC_CODE_TO_DSCALARM_CODE_VALUE = new DSCAlarmCode[1000];
+
+    static {
+        for (DSCAlarmCode s : values()) {
+            if (s.code.length() == 3 && Character.isDigit(s.code.charAt(0))) {
+                NUMERIC_CODE_TO_DSCALARM_CODE_VALUE[Integer.parseInt(s.code)] = s;
+            }
+        }
+    }
+
     /**
      * Constructor
      *
@@ -256,4 +269,25 @@ public enum DSCAlarmCode {
 
         return dscAlarmCode;
     }
+
+    /**
+     * Lookup function to return the DSCAlarmCode value based on the numeric code (example 609 for '609'). Returns
+     * 'UnknownCode' if the code is not found.
+     *
+     * @param code
+     * @return enum value
+     */
+    public static DSCAlarmCode getDSCAlarmCodeValue(int code) {
+        DSCAlarmCode dscAlarmCode = null;
+
+        if (code >= 0 && code < NUMERIC_CODE_TO_DSCALARM_CODE_VALUE.length) {
+            dscAlarmCode = NUMERIC_CODE_TO_DSCALARM_CODE_VALUE[code];
+        }
+
+        if (dscAlarmCode == null) {
+            dscAlarmCode = UnknownCode;
+        }
+
+        return dscAlarmCode;
+    }
 }
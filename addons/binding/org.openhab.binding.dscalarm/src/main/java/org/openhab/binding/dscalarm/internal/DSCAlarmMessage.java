@@ -48,14 +48,27 @@ public class DSCAlarmMessage {
 
     private DSCAlarmMessageType messageType = DSCAlarmMessageType.PANEL_EVENT;
 
+    private DSCAlarmCode dscAlarmCode = DSCAlarmCode.UnknownCode;
+
+    /** The message as received, the other fields are extracted from it on demand. */
+    private final String received;
+
+    /** Bounds of the message (without time stamp and checksum) within the received message, -1 if invalid. */
+    private int messageStart = -1;
+    private int messageEnd = -1;
+
+    /** Offsets of the partition and zone within the received message, -1 if the message has none. */
+    private int partitionStart = -1;
+    private int zoneStart = -1;
+
     private String message = "";
     private String name = "";
     private String description = "";
     private String codeReceived = "";
     private String timeStamp = "";
-    private String partition = "0";
-    private String zone = "0";
-    private String data = "";
+    private String partition = null;
+    private String zone = null;
+    private String data = null;
     private String mode = "";
     private String user = "";
     private String error = "";
@@ -67,36 +80,37 @@ public class DSCAlarmMessage {
      *            - the message received
      */
     public DSCAlarmMessage(String message) {
+        this.received = message;
         this.message = message;
         processDSCAlarmMessage();
     }
 
     /**
-     * Processes the incoming DSC Alarm message and extracts the information.
+     * Processes the incoming DSC Alarm message and extracts the information. Only the code, partition and zone are
+     * decoded in place, the other parts of the message are only extracted when requested.
      */
     private void processDSCAlarmMessage() {
-        DSCAlarmCode dscAlarmCode;
-
-        if (message.length() > 3) {
-            try {
-                if (message.length() >= 8 && message.charAt(2) == ':' && message.charAt(5) == ':') {
-                    timeStamp = message.substring(0, 8);
-                    message = message.substring(9, message.length() - 2);
-                } else {
-                    message = message.substring(0, message.length() - 2);
-                }
-
-                codeReceived = message.substring(0, 3);
+        if (received.length() > 3) {
+            int start = 0;
+            if (received.length() >= 8 && received.charAt(2) == ':' && received.charAt(5) == ':') {
+                timeStamp = received.substring(0, 8);
+                start = 9;
+            }
+            int end = received.length() - 2;
 
-                if (message.length() >= 4) {
-                    data = message.substring(3);
-                }
-            } catch (Exception e) {
-                logger.error("processDSCAlarmMessage(): Error processing message ({}) - {}", message, e);
+            if (end - start < 3) {
+                logger.error("processDSCAlarmMessage(): Error processing message ({}) - message too short", received);
                 return;
             }
 
-            dscAlarmCode = DSCAlarmCode.getDSCAlarmCodeValue(codeReceived);
+            messageStart = start;
+            messageEnd = end;
+            message = null;
+
+            int code = parseNumber(messageStart, messageStart + 3);
+            dscAlarmCode = DSCAlarmCode.getDSCAlarmCodeValue(code);
+            codeReceived = dscAlarmCode != DSCAlarmCode.UnknownCode ? dscAlarmCode.getCode()
+                    : received.substring(messageStart, messageStart + 3);
 
             if (dscAlarmCode != null) {
 
@@ -110,15 +124,11 @@ public class DSCAlarmMessage {
                     boolean hasZone = messageParms.hasZone();
 
                     if (hasPartition) {
-                        partition = message.substring(3, 4);
+                        partitionStart = messageStart + 3;
                     }
 
                     if (hasZone) {
-                        if (hasPartition) {
-                            zone = message.substring(4);
-                        } else {
-                            zone = message.substring(3);
-                        }
+                        zoneStart = hasPartition ? messageStart + 4 : messageStart + 3;
                     }
 
                     messageType = messageParms.getType();
@@ -128,7 +138,7 @@ public class DSCAlarmMessage {
                 switch (dscAlarmCode) {
                     case SystemError: /* 502 */
                         int systemErrorCode = 0;
-                        systemErrorCode = Integer.parseInt(data);
+                        systemErrorCode = Integer.parseInt(getMessageInfo(DSCAlarmMessageInfoType.DATA));
                         switch (systemErrorCode) {
                             case 1:
                                 error = "Receive Buffer Overrun";
@@ -216,7 +226,7 @@ public class DSCAlarmMessage {
                         break;
 
                     case PartitionArmed: /* 652 */
-                        mode = message.substring(4);
+                        mode = received.substring(Math.min(messageStart + 4, messageEnd), messageEnd);
                         if (mode.equals("0")) {
                             name += " (Away)";
                         } else if (mode.equals("1")) {
@@ -229,16 +239,16 @@ public class DSCAlarmMessage {
                         messageType = DSCAlarmMessageType.PARTITION_EVENT;
                         break;
                     case UserClosing: /* 700 */
-                        user = message.substring(4);
+                        user = received.substring(Math.min(messageStart + 4, messageEnd), messageEnd);
                         name = name.concat(": " + user);
-                        description = codeReceived + ": Partition " + String.valueOf(partition)
+                        description = codeReceived + ": Partition " + getMessageInfo(DSCAlarmMessageInfoType.PARTITION)
                                 + " has been armed by user " + user + ".";
                         messageType = DSCAlarmMessageType.PARTITION_EVENT;
                         break;
                     case UserOpening: /* 750 */
-                        user = message.substring(4);
+                        user = received.substring(Math.min(messageStart + 4, messageEnd), messageEnd);
                         name = name.concat(": " + user);
-                        description = codeReceived + ": Partition " + String.valueOf(partition)
+                        description = codeReceived + ": Partition " + getMessageInfo(DSCAlarmMessageInfoType.PARTITION)
                                 + " has been disarmed by user " + user + ".";
                         messageType = DSCAlarmMessageType.PARTITION_EVENT;
                         break;
@@ -247,14 +257,18 @@ public class DSCAlarmMessage {
                         break;
                 }
 
-                logger.debug(
-                        "parseAPIMessage(): Message Received ({}) - Code: {}, Name: {}, Description: {}, Data: {}\r\n",
-                        message, codeReceived, name, description, data);
+                if (logger.isDebugEnabled()) {
+                    logger.debug(
+                            "parseAPIMessage(): Message Received ({}) - Code: {}, Name: {}, Description: {}, Data: {}\r\n",
+                            getMessageInfo(DSCAlarmMessageInfoType.MESSAGE), codeReceived, name, description,
+                            getMessageInfo(DSCAlarmMessageInfoType.DATA));
+                }
             }
         } else {
             codeReceived = "-1";
             data = "";
             dscAlarmCode = DSCAlarmCode.getDSCAlarmCodeValue(codeReceived);
+            messageStart = -1;
             name = dscAlarmCode.getName();
             description = dscAlarmCode.getDescription();
             logger.debug("parseAPIMessage(): Invalid Message Received");
@@ -270,6 +284,56 @@ public class DSCAlarmMessage {
         return messageType;
     }
 
+    /**
+     * Returns the DSC Alarm code of the message.
+     *
+     * @return the code, {@link DSCAlarmCode#UnknownCode} if unknown
+     */
+    public DSCAlarmCode getDSCAlarmCode() {
+        return dscAlarmCode;
+    }
+
+    /**
+     * Returns the partition number of the message.
+     *
+     * @return the partition number, 0 if the message has none or -1 if it is not a number
+     */
+    public int getPartitionNumber() {
+        return partitionStart < 0 ? 0 : parseNumber(partitionStart, Math.min(partitionStart + 1, messageEnd));
+    }
+
+    /**
+     * Returns the zone number of the message.
+     *
+     * @return the zone number, 0 if the message has none or -1 if it is not a number
+     */
+    public int getZoneNumber() {
+        return zoneStart < 0 ? 0 : parseNumber(zoneStart, messageEnd);
+    }
+
+    /**
+     * Parses the decimal number between the given offsets of the received message without creating a substring.
+     *
+     * @param start
+     * @param end
+     * @return the number or -1 if not a number
+     */
+    private int parseNumber(int start, int end) {
+        if (start >= end) {
+            return -1;
+        }
+
+        int number = 0;
+        for (int i = start; i < end; i++) {
+            int digit = Character.digit(received.charAt(i), 10);
+            if (digit < 0) {
+                return -1;
+            }
+            number = number * 10 + digit;
+        }
+        return number;
+    }
+
     /**
      * Returns Information from A DSC Alarm Message
      *
@@ -282,6 +346,9 @@ public class DSCAlarmMessage {
 
         switch (dscAlarmMessageInfoType) {
             case MESSAGE:
+                if (message == null) {
+                    message = received.substring(messageStart, messageEnd);
+                }
                 info = message;
                 break;
             case NAME:
@@ -297,12 +364,23 @@ public class DSCAlarmMessage {
                 info = timeStamp;
                 break;
             case PARTITION:
+                if (partition == null) {
+                    partition = partitionStart < 0 ? "0"
+                            : received.substring(partitionStart, Math.min(partitionStart + 1, messageEnd));
+                }
                 info = partition;
                 break;
             case ZONE:
+                if (zone == null) {
+                    zone = zoneStart < 0 ? "0" : received.substring(zoneStart, messageEnd);
+                }
                 info = zone;
                 break;
             case DATA:
+                if (data == null) {
+                    data = messageStart < 0 || messageEnd - messageStart < 4 ? ""
+                            : received.substring(messageStart + 3, messageEnd);
+                }
                 info = data;
                 break;
             case MODE:
@@ -347,16 +425,19 @@ public class DSCAlarmMessage {
             sb.append(timeStamp);
         }
 
+        String partition = getMessageInfo(DSCAlarmMessageInfoType.PARTITION);
         if (!partition.equals("0")) {
             sb.append(", Partition: ");
             sb.append(partition);
         }
 
+        String zone = getMessageInfo(DSCAlarmMessageInfoType.ZONE);
         if (!zone.equals("0")) {
             sb.append(", Zone: ");
             sb.append(zone);
         }
 
+        String data = getMessageInfo(DSCAlarmMessageInfoType.DATA);
         if (!data.equals("")) {
             sb.append(", Data: ");
             sb.append(data);
@@ -13,13 +13,19 @@ import static org.openhab.binding.freebox.FreeboxBindingConstants.*;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang.StringUtils;
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
 import org.eclipse.smarthome.core.library.types.DecimalType;
 import org.eclipse.smarthome.core.library.types.IncreaseDecreaseType;
 import org.eclipse.smarthome.core.library.types.OnOffType;
@@ -70,12 +76,28 @@ import org.slf4j.LoggerFactory;
  */
 public class FreeboxHandler extends BaseBridgeHandler {
 
+    /**
+     * The configuration of the services (LCD, Wi-Fi, FTP, AirMedia, UPnP AV, Samba) rarely changes, so it is fetched
+     * at most every CONFIG_REFRESH_INTERVAL seconds instead of every polling cycle. It is fetched again after a
+     * command changed it.
+     */
+    private static final long CONFIG_REFRESH_INTERVAL = 300;
+
+    /**
+     * The shared thread pool the server state requests of a polling cycle are executed on
+     */
+    private static final String FREEBOX_THREADPOOL_NAME = "freebox";
+
     private Logger logger = LoggerFactory.getLogger(FreeboxHandler.class);
 
     private ScheduledFuture<?> authorizeJob;
     private ScheduledFuture<?> globalJob;
+    private final ExecutorService fetchExecutor = ThreadPoolManager.getPool(FREEBOX_THREADPOOL_NAME);
     private FreeboxOsClient fbClient;
     private long uptime;
+    private long nextConfigFetch;
+    private LanConfig lanConfig;
+    private final Object lanConfigLock = new Object();
     private List<FreeboxDataListener> dataListeners = new CopyOnWriteArrayList<>();
 
     public FreeboxHandler(Bridge bridge) {
@@ -297,6 +319,7 @@ public class FreeboxHandler extends BaseBridgeHandler {
                 if (globalJob == null || globalJob.isCancelled()) {
                     long pollingInterval = getConfigAs(FreeboxServerConfiguration.class).refreshInterval;
                     logger.debug("Scheduling server state update every {} seconds...", pollingInterval);
+                    nextConfigFetch = 0;
                     globalJob = scheduler.scheduleWithFixedDelay(globalRunnable, 1, pollingInterval, TimeUnit.SECONDS);
                 }
             }
@@ -327,20 +350,39 @@ public class FreeboxHandler extends BaseBridgeHandler {
     private Runnable globalRunnable = new Runnable() {
         @Override
         public void run() {
-            logger.debug("Polling server state...");
+            long now = System.currentTimeMillis();
+            boolean fetchConfig = now >= nextConfigFetch;
+            logger.debug("Polling server state{}...", fetchConfig ? " and configuration" : "");
 
             try {
-                fetchSystemConfig();
-                fetchLCDConfig();
-                fetchWifiConfig();
-                fetchxDslStatus();
-                fetchConnectionStatus();
-                fetchFtpConfig();
-                fetchAirMediaConfig();
-                fetchUPnPAVConfig();
-                fetchSambaConfig();
-                LanHostsConfig lanHostsConfiguration = fetchLanHostsConfig();
-                List<AirMediaReceiver> airPlayDevices = fetchAirPlayDevices();
+                // The LAN configuration is shared by several fetches of the cycle
+                synchronized (lanConfigLock) {
+                    lanConfig = null;
+                }
+
+                List<Future<?>> fetches = new ArrayList<>();
+                Future<LanHostsConfig> lanHostsFetch = submitFetchWithResult(fetches, () -> fetchLanHostsConfig());
+                Future<List<AirMediaReceiver>> airPlayFetch = submitFetchWithResult(fetches,
+                        () -> fetchAirPlayDevices());
+                submitFetch(fetches, () -> fetchConnectionStatus());
+                submitFetch(fetches, () -> fetchxDslStatus());
+                submitFetch(fetches, () -> fetchSystemConfig());
+                if (fetchConfig) {
+                    submitFetch(fetches, () -> fetchLCDConfig());
+                    submitFetch(fetches, () -> fetchWifiConfig());
+                    submitFetch(fetches, () -> fetchFtpConfig());
+                    submitFetch(fetches, () -> fetchAirMediaConfig());
+                    submitFetch(fetches, () -> fetchUPnPAVConfig());
+                    submitFetch(fetches, () -> fetchSambaConfig());
+                }
+                waitForFetches(fetches);
+
+                if (fetchConfig) {
+                    nextConfigFetch = now + TimeUnit.SECONDS.toMillis(CONFIG_REFRESH_INTERVAL);
+                }
+
+                LanHostsConfig lanHostsConfiguration = lanHostsFetch.get();
+                List<AirMediaReceiver> airPlayDevices = airPlayFetch.get();
 
                 // Trigger a new discovery of things
                 for (FreeboxDataListener dataListener : dataListeners) {
@@ -351,6 +393,10 @@ public class FreeboxHandler extends BaseBridgeHandler {
                     updateStatus(ThingStatus.ONLINE);
                 }
 
+            } catch (InterruptedException e) {
+                // The handler has been disposed during the cycle
+                logger.debug("Server state job interrupted");
+                Thread.currentThread().interrupt();
             } catch (Throwable t) {
                 if (t instanceof FreeboxException) {
                     logger.error("Server state job - FreeboxException: {}", ((FreeboxException) t).getMessage());
@@ -390,6 +436,48 @@ public class FreeboxHandler extends BaseBridgeHandler {
         super.dispose();
     }
 
+    private interface Fetch {
+        void run() throws FreeboxException;
+    }
+
+    private void submitFetch(List<Future<?>> fetches, Fetch fetch) {
+        fetches.add(fetchExecutor.submit(() -> {
+            fetch.run();
+            return null;
+        }));
+    }
+
+    private <T> Future<T> submitFetchWithResult(List<Future<?>> fetches, Callable<T> fetch) {
+        Future<T> future = fetchExecutor.submit(fetch);
+        fetches.add(future);
+        return future;
+    }
+
+    /**
+     * Waits until all fetches are done and throws the error of the first failed fetch. The fetches are cancelled if
+     * the waiting thread is interrupted.
+     */
+    private void waitForFetches(List<Future<?>> fetches) throws Throwable {
+        Throwable error = null;
+        for (Future<?> fetch : fetches) {
+            try {
+                fetch.get();
+            } catch (InterruptedException e) {
+                for (Future<?> pendingFetch : fetches) {
+                    pendingFetch.cancel(true);
+                }
+                throw e;
+            } catch (ExecutionException e) {
+                if (error == null) {
+                    error = e.getCause();
+                }
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+
     public FreeboxOsClient getFbClient() {
         return fbClient;
     }
@@ -435,8 +523,20 @@ public class FreeboxHandler extends BaseBridgeHandler {
                 ftpConfiguration.getEnabled() ? OnOffType.ON : OnOffType.OFF);
     }
 
+    /**
+     * Returns the LAN configuration, fetched at most once per polling cycle.
+     */
+    private LanConfig getLanConfig() throws FreeboxException {
+        synchronized (lanConfigLock) {
+            if (lanConfig == null) {
+                lanConfig = fbClient.getLanManager().getLanConfig();
+            }
+            return lanConfig;
+        }
+    }
+
     private void fetchAirMediaConfig() throws FreeboxException {
-        LanConfig lc = fbClient.getLanManager().getLanConfig();
+        LanConfig lc = getLanConfig();
         String mode = lc.getMode();
         if ((mode != null) && !mode.equalsIgnoreCase("bridge")) {
             // Only when Freebox Revolution is not in bridge mode
@@ -447,7 +547,7 @@ public class FreeboxHandler extends BaseBridgeHandler {
     }
 
     private void fetchUPnPAVConfig() throws FreeboxException {
-        LanConfig lc = fbClient.getLanManager().getLanConfig();
+        LanConfig lc = getLanConfig();
         String mode = lc.getMode();
         if ((mode != null) && !mode.equalsIgnoreCase("bridge")) {
             // Only when Freebox Revolution is not in bridge mode
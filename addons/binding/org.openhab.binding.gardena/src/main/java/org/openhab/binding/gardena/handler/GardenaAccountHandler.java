@@ -8,7 +8,11 @@
  */
 package org.openhab.binding.gardena.handler;
 
+import static org.openhab.binding.gardena.GardenaBindingConstants.ABILITY_DEVICE_INFO;
+
+import java.util.HashSet;
 import java.util.Hashtable;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.smarthome.config.discovery.DiscoveryService;
@@ -28,6 +32,7 @@ import org.openhab.binding.gardena.internal.GardenaSmartImpl;
 import org.openhab.binding.gardena.internal.config.GardenaConfig;
 import org.openhab.binding.gardena.internal.discovery.GardenaDeviceDiscoveryService;
 import org.openhab.binding.gardena.internal.exception.GardenaException;
+import org.openhab.binding.gardena.internal.model.Ability;
 import org.openhab.binding.gardena.internal.model.Device;
 import org.openhab.binding.gardena.internal.util.UidUtils;
 import org.osgi.framework.ServiceRegistration;
@@ -158,16 +163,22 @@ public class GardenaAccountHandler extends BaseBridgeHandler implements GardenaS
     }
 
     @Override
-    public void onDeviceUpdated(Device device) {
+    public void onDeviceUpdated(Device device, Set<String> changedAbilities, boolean dataChanged) {
         for (ThingUID thingUID : UidUtils.getThingUIDs(device, getThing())) {
             Thing gardenaThing = getThingByUID(thingUID);
             try {
                 GardenaThingHandler gardenaThingHandler = (GardenaThingHandler) gardenaThing.getHandler();
-                gardenaThingHandler.updateProperties(device);
+                if (changedAbilities.contains(ABILITY_DEVICE_INFO)) {
+                    gardenaThingHandler.updateProperties(device);
+                }
                 for (Channel channel : gardenaThing.getChannels()) {
-                    gardenaThingHandler.updateChannel(channel.getUID());
+                    if (changedAbilities.contains(channel.getUID().getGroupId())) {
+                        gardenaThingHandler.updateChannel(channel.getUID());
+                    }
+                }
+                if (dataChanged) {
+                    gardenaThingHandler.updateSettings(device);
                 }
-                gardenaThingHandler.updateSettings(device);
                 gardenaThingHandler.updateStatus(device);
             } catch (GardenaException ex) {
                 logger.error("There is something wrong with your thing '{}', please check or recreate it: {}",
@@ -184,7 +195,11 @@ public class GardenaAccountHandler extends BaseBridgeHandler implements GardenaS
         if (discoveryService != null) {
             discoveryService.deviceDiscovered(device);
         }
-        onDeviceUpdated(device);
+        Set<String> abilities = new HashSet<>();
+        for (Ability ability : device.getAbilities()) {
+            abilities.add(ability.getName());
+        }
+        onDeviceUpdated(device, abilities, true);
     }
 
     @Override
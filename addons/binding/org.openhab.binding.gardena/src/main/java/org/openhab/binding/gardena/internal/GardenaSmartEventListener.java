@@ -8,6 +8,8 @@
  */
 package org.openhab.binding.gardena.internal;
 
+import java.util.Set;
+
 import org.openhab.binding.gardena.internal.model.Device;
 
 /**
@@ -19,8 +21,11 @@ public interface GardenaSmartEventListener {
 
     /**
      * Called when a device has been updated.
+     *
+     * @param changedAbilities the names of the abilities whose properties have changed
+     * @param dataChanged true, if the data of the device without the abilities (name, status or settings) has changed
      */
-    public void onDeviceUpdated(Device device);
+    public void onDeviceUpdated(Device device, Set<String> changedAbilities, boolean dataChanged);
 
     /**
      * Called when a new device has been detected.
@@ -8,10 +8,11 @@
  */
 package org.openhab.binding.gardena.internal;
 
-import java.util.Collection;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
@@ -19,7 +20,6 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
-import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang.ObjectUtils;
 import org.eclipse.jetty.client.HttpClient;
 import org.eclipse.jetty.client.HttpResponseException;
@@ -252,6 +252,8 @@ public class GardenaSmartImpl implements GardenaSmart {
 
                 mower.addProperty(new Property(GardenaSmartCommandName.DURATION_PROPERTY, mowerDuration));
             }
+
+            device.computeFingerprints();
         }
         return devices;
     }
@@ -470,23 +472,39 @@ public class GardenaSmartImpl implements GardenaSmart {
                 }
 
                 // determine deleted devices
-                @SuppressWarnings("unchecked")
-                Collection<Device> deletedDevices = CollectionUtils.subtract(allDevicesById.values(),
-                        newDevicesById.values());
-
-                // determine new devices
-                @SuppressWarnings("unchecked")
-                Collection<Device> newDevices = CollectionUtils.subtract(newDevicesById.values(),
-                        allDevicesById.values());
+                List<Device> deletedDevices = new ArrayList<>();
+                for (Device oldDevice : allDevicesById.values()) {
+                    if (!newDevicesById.containsKey(oldDevice.getId())) {
+                        deletedDevices.add(oldDevice);
+                    }
+                }
 
-                // determine updated devices
-                @SuppressWarnings("unchecked")
-                Collection<Device> updatedDevices = CollectionUtils.intersection(allDevicesById.values(),
-                        newDevicesById.values());
+                // determine new devices and the changed abilities of updated devices
+                List<Device> newDevices = new ArrayList<>();
+                Map<Device, Set<String>> updatedDevices = new HashMap<>();
+                Set<Device> dataChangedDevices = new HashSet<>();
+                for (Device newDevice : newDevicesById.values()) {
+                    Device oldDevice = allDevicesById.get(newDevice.getId());
+                    if (oldDevice == null) {
+                        newDevices.add(newDevice);
+                        continue;
+                    }
+                    Set<String> changedAbilities = getChangedAbilities(oldDevice, newDevice);
+                    boolean dataChanged = oldDevice.getFingerprint() != newDevice.getFingerprint();
+                    if (!changedAbilities.isEmpty() || dataChanged) {
+                        updatedDevices.put(newDevice, changedAbilities);
+                    }
+                    if (dataChanged) {
+                        dataChangedDevices.add(newDevice);
+                    }
+                }
 
                 allDevicesById = newDevicesById;
                 newDevicesById = null;
 
+                logger.debug("Gardena devices refreshed: {} new, {} updated, {} deleted", newDevices.size(),
+                        updatedDevices.size(), deletedDevices.size());
+
                 for (Device deletedDevice : deletedDevices) {
                     eventListener.onDeviceDeleted(deletedDevice);
                 }
@@ -495,8 +513,9 @@ public class GardenaSmartImpl implements GardenaSmart {
                     eventListener.onNewDevice(newDevice);
                 }
 
-                for (Device updatedDevice : updatedDevices) {
-                    eventListener.onDeviceUpdated(updatedDevice);
+                for (Map.Entry<Device, Set<String>> updatedDevice : updatedDevices.entrySet()) {
+                    eventListener.onDeviceUpdated(updatedDevice.getKey(), updatedDevice.getValue(),
+                            dataChangedDevices.contains(updatedDevice.getKey()));
                 }
 
             } catch (GardenaException ex) {
@@ -508,5 +527,24 @@ public class GardenaSmartImpl implements GardenaSmart {
                 }
             }
         }
+
+        /**
+         * Returns the names of the abilities that are new or whose properties have changed.
+         */
+        private Set<String> getChangedAbilities(Device oldDevice, Device newDevice) {
+            Map<String, Integer> oldFingerprints = new HashMap<>();
+            for (Ability ability : oldDevice.getAbilities()) {
+                oldFingerprints.put(ability.getName(), ability.getFingerprint());
+            }
+
+            Set<String> changedAbilities = new HashSet<>();
+            for (Ability ability : newDevice.getAbilities()) {
+                Integer oldFingerprint = oldFingerprints.get(ability.getName());
+                if (oldFingerprint == null || oldFingerprint != ability.getFingerprint()) {
+                    changedAbilities.add(ability.getName());
+                }
+            }
+            return changedAbilities;
+        }
     }
 }
@@ -11,6 +11,7 @@ package org.openhab.binding.gardena.internal.model;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.openhab.binding.gardena.internal.exception.GardenaException;
 
 /**
@@ -23,6 +24,7 @@ public class Ability {
     private String name;
     private String type;
     private transient Device device;
+    private transient int fingerprint;
 
     private List<Property> properties = new ArrayList<>();
 
@@ -80,4 +82,22 @@ public class Ability {
     public void setDevice(Device device) {
         this.device = device;
     }
+
+    /**
+     * Returns the fingerprint of the property values, computed with {@link #computeFingerprint()}.
+     */
+    public int getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Computes the fingerprint of the property values.
+     */
+    public void computeFingerprint() {
+        HashCodeBuilder builder = new HashCodeBuilder().append(name);
+        for (Property property : properties) {
+            builder.append(property.getName()).append(property.getValue());
+        }
+        fingerprint = builder.toHashCode();
+    }
 }
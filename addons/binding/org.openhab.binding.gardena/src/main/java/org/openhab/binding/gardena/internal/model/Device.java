@@ -35,6 +35,7 @@ public class Device {
     private List<ScheduledEvent> scheduledEvents = new ArrayList<>();
     private transient Location location;
     private List<Setting> settings = new ArrayList<>();
+    private transient int fingerprint;
 
     /**
      * Returns the id of the device.
@@ -127,6 +128,30 @@ public class Device {
         throw new GardenaException("Setting '" + name + "' not found in device '" + this.name + "'");
     }
 
+    /**
+     * Returns the fingerprint of the device data without the abilities (name, status and settings), computed with
+     * {@link #computeFingerprints()}.
+     */
+    public int getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Computes the fingerprints of the device data and of all abilities.
+     */
+    public void computeFingerprints() {
+        HashCodeBuilder builder = new HashCodeBuilder().append(name).append(description).append(category)
+                .append(configurationSynchronized);
+        for (Setting setting : settings) {
+            builder.append(setting.getName()).append(setting.getValue());
+        }
+        fingerprint = builder.toHashCode();
+
+        for (Ability ability : abilities) {
+            ability.computeFingerprint();
+        }
+    }
+
     @Override
     public int hashCode() {
         return new HashCodeBuilder().append(id).toHashCode();
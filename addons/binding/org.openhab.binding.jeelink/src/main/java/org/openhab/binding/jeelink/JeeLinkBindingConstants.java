@@ -40,6 +40,11 @@ public class JeeLinkBindingConstants {
     public static final String HUMIDITY_CHANNEL = "humidity";
     public static final String BATTERY_NEW_CHANNEL = "batteryNew";
     public static final String BATTERY_LOW_CHANNEL = "batteryLow";
+    public static final String TEMPERATURE_MIN_CHANNEL = "temperatureMin";
+    public static final String TEMPERATURE_MAX_CHANNEL = "temperatureMax";
+    public static final String TEMPERATURE_AVERAGE_CHANNEL = "temperatureAverage";
+    public static final String TEMPERATURE_MEDIAN_CHANNEL = "temperatureMedian";
+    public static final String TEMPERATURE_RATE_CHANNEL = "temperatureRate";
 
     public static final String PROPERTY_SENSOR_ID = "sensorId";
 
@@ -50,6 +55,11 @@ public class JeeLinkBindingConstants {
     public static final String APPLIANCE_TIME_CHANNEL = "applianceTime";
     public static final String SENSOR_TIME_CHANNEL = "sensorTime";
     public static final String RESETS_CHANNEL = "resets";
+    public static final String CURRENT_WATT_MIN_CHANNEL = "currentWattMin";
+    public static final String CURRENT_WATT_MAX_CHANNEL = "currentWattMax";
+    public static final String CURRENT_WATT_AVERAGE_CHANNEL = "currentWattAverage";
+    public static final String CURRENT_WATT_MEDIAN_CHANNEL = "currentWattMedian";
+    public static final String CURRENT_WATT_RATE_CHANNEL = "currentWattRate";
 
     static {
         for (SensorDefinition<?> def : SensorDefinition.getDefinitions()) {
@@ -40,7 +40,7 @@ public class JeeLinkHandler extends BaseBridgeHandler implements BridgeHandler,
 
     private JeeLinkConnection connection;
     private Map<String, JeeLinkReadingConverter> converters = new HashMap<>();
-    private Map<JeeLinkReadingConverter, List<ReadingHandler>> convSensorMap = new HashMap<>();
+    private Map<String, ReadingRoute> routes = new HashMap<>();
 
     private AtomicBoolean connectionInitialized = new AtomicBoolean(false);
     private ScheduledFuture<?> connectJob;
@@ -83,29 +83,27 @@ public class JeeLinkHandler extends BaseBridgeHandler implements BridgeHandler,
     }
 
     public void addReadingHandler(ReadingHandler h) {
-        synchronized (convSensorMap) {
+        synchronized (routes) {
             JeeLinkReadingConverter c = converters.get(h.getSketchName());
-            List<ReadingHandler> handlers = convSensorMap.get(c);
-            if (handlers == null) {
-                handlers = new ArrayList<>();
-                convSensorMap.put(c, handlers);
+            ReadingRoute route = routes.get(c.getLinePrefix());
+            if (route == null) {
+                route = new ReadingRoute(c);
+                routes.put(c.getLinePrefix(), route);
             }
 
-            if (!handlers.contains(h)) {
-                handlers.add(h);
-            }
+            route.add(h);
         }
     }
 
     public void removeReadingHandler(ReadingHandler h) {
-        synchronized (convSensorMap) {
+        synchronized (routes) {
             JeeLinkReadingConverter c = converters.get(h.getSketchName());
-            List<ReadingHandler> handlers = convSensorMap.get(c);
-            if (handlers != null) {
-                handlers.remove(h);
+            ReadingRoute route = routes.get(c.getLinePrefix());
+            if (route != null) {
+                route.remove(h);
 
-                if (handlers.isEmpty()) {
-                    convSensorMap.remove(c);
+                if (route.isEmpty()) {
+                    routes.remove(c.getLinePrefix());
                 }
             }
         }
@@ -117,9 +115,15 @@ public class JeeLinkHandler extends BaseBridgeHandler implements BridgeHandler,
 
     @Override
     public void handleInput(String input) {
-        synchronized (convSensorMap) {
-            for (JeeLinkReadingConverter c : convSensorMap.keySet()) {
-                Reading r = c.createReading(input);
+        String prefix = getLinePrefix(input);
+        if (prefix == null) {
+            return;
+        }
+
+        synchronized (routes) {
+            ReadingRoute route = routes.get(prefix);
+            if (route != null) {
+                Reading r = route.converter.createReading(input);
                 if (r != null) {
                     if (!connectionInitialized.getAndSet(true)) {
                         JeeLinkConfig cfg = getConfig().as(JeeLinkConfig.class);
@@ -131,9 +135,7 @@ public class JeeLinkHandler extends BaseBridgeHandler implements BridgeHandler,
                         }
                     }
 
-                    for (ReadingHandler h : convSensorMap.get(c)) {
-                        h.handleReading(r);
-                    }
+                    route.dispatch(r);
                 }
             }
         }
@@ -155,4 +157,84 @@ public class JeeLinkHandler extends BaseBridgeHandler implements BridgeHandler,
         SensorDefinition.disposeConverters(this);
         super.dispose();
     }
+
+    /**
+     * Returns the first two tokens of the line separated by a single space or null if the line has less tokens.
+     */
+    private static String getLinePrefix(String line) {
+        if (line == null) {
+            return null;
+        }
+
+        int start = skipWhitespace(line, 0);
+        int firstEnd = skipToken(line, start);
+        int secondStart = skipWhitespace(line, firstEnd);
+        int secondEnd = skipToken(line, secondStart);
+        if (start == firstEnd || secondStart == secondEnd) {
+            return null;
+        }
+
+        if (secondStart == firstEnd + 1 && line.charAt(firstEnd) == ' ') {
+            return line.substring(start, secondEnd);
+        }
+        return line.substring(start, firstEnd) + ' ' + line.substring(secondStart, secondEnd);
+    }
+
+    private static int skipWhitespace(String line, int index) {
+        while (index < line.length() && Character.isWhitespace(line.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    private static int skipToken(String line, int index) {
+        while (index < line.length() && !Character.isWhitespace(line.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * The converter for lines with a given prefix and the handlers of its readings, by sensor id.
+     */
+    private static class ReadingRoute {
+        private final JeeLinkReadingConverter converter;
+        private final Map<String, List<ReadingHandler>> sensorHandlers = new HashMap<>();
+        private final List<ReadingHandler> allSensorHandlers = new ArrayList<>();
+
+        private ReadingRoute(JeeLinkReadingConverter converter) {
+            this.converter = converter;
+        }
+
+        private void add(ReadingHandler h) {
+            List<ReadingHandler> handlers = h.getSensorId() == null ? allSensorHandlers
+                    : sensorHandlers.computeIfAbsent(h.getSensorId(), id -> new ArrayList<>());
+            if (!handlers.contains(h)) {
+                handlers.add(h);
+            }
+        }
+
+        private void remove(ReadingHandler h) {
+            // the sensor id may have changed since the handler was added
+            allSensorHandlers.remove(h);
+            sensorHandlers.values().removeIf(handlers -> handlers.remove(h) && handlers.isEmpty());
+        }
+
+        private boolean isEmpty() {
+            return allSensorHandlers.isEmpty() && sensorHandlers.isEmpty();
+        }
+
+        private void dispatch(Reading r) {
+            List<ReadingHandler> handlers = sensorHandlers.get(r.getSensorId());
+            if (handlers != null) {
+                for (ReadingHandler h : handlers) {
+                    h.handleReading(r);
+                }
+            }
+
+            for (ReadingHandler h : allSensorHandlers) {
+                h.handleReading(r);
+            }
+        }
+    }
 }
@@ -17,4 +17,10 @@ public interface JeeLinkReadingConverter<R extends Reading> {
     public R createReading(String inputLine);
 
     public String getSketchName();
+
+    /**
+     * Returns the first two tokens of the lines this converter can convert, separated by a single space (e.g. "OK 9"),
+     * so lines can be dispatched to the converter without trying to convert them.
+     */
+    public String getLinePrefix();
 }
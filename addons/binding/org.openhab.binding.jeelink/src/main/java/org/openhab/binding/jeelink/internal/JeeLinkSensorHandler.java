@@ -8,15 +8,19 @@
  */
 package org.openhab.binding.jeelink.internal;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
+import org.eclipse.smarthome.core.library.types.DecimalType;
 import org.eclipse.smarthome.core.thing.ChannelUID;
 import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.thing.ThingStatus;
 import org.eclipse.smarthome.core.thing.binding.BaseThingHandler;
 import org.eclipse.smarthome.core.types.Command;
+import org.openhab.binding.jeelink.internal.SampleWindow.Aggregation;
 import org.openhab.binding.jeelink.internal.config.JeeLinkSensorConfig;
 
 /**
@@ -47,15 +51,17 @@ public abstract class JeeLinkSensorHandler<R extends Reading> extends BaseThingH
         }
     }
 
+    @Override
+    public String getSensorId() {
+        return id;
+    }
+
     @Override
     public synchronized void handleCommand(ChannelUID channelUid, Command command) {
     }
 
     @Override
     public synchronized void initialize() {
-        JeeLinkHandler jlh = (JeeLinkHandler) getBridge().getHandler();
-        jlh.addReadingHandler(this);
-
         JeeLinkSensorConfig cfg = getConfigAs(JeeLinkSensorConfig.class);
         id = cfg.sensorId;
 
@@ -63,16 +69,19 @@ public abstract class JeeLinkSensorHandler<R extends Reading> extends BaseThingH
 
         publisher = createPublisher();
 
+        JeeLinkHandler jlh = (JeeLinkHandler) getBridge().getHandler();
+        jlh.addReadingHandler(this);
+
         updateStatus(ThingStatus.UNKNOWN);
     }
 
     @Override
     public synchronized void dispose() {
-        id = null;
-
         JeeLinkHandler jlh = (JeeLinkHandler) getBridge().getHandler();
         jlh.removeReadingHandler(this);
 
+        id = null;
+
         if (statusUpdateJob != null) {
             statusUpdateJob.cancel(true);
             statusUpdateJob = null;
@@ -81,6 +90,27 @@ public abstract class JeeLinkSensorHandler<R extends Reading> extends BaseThingH
         super.dispose();
     }
 
+    /**
+     * Updates the channels with the minimum, maximum, average, median and change per minute of the value with the
+     * given index over the readings in the window of a rolling average.
+     */
+    protected void updateAggregateStates(RollingReadingAverage<R> rollingAvg, int index, String minChannel,
+            String maxChannel, String averageChannel, String medianChannel, String rateChannel) {
+        if (getThing().getStatus() == ThingStatus.ONLINE) {
+            updateAggregateState(minChannel, rollingAvg.getAggregate(index, Aggregation.MIN), 1);
+            updateAggregateState(maxChannel, rollingAvg.getAggregate(index, Aggregation.MAX), 1);
+            updateAggregateState(averageChannel, rollingAvg.getAggregate(index, Aggregation.AVERAGE), 1);
+            updateAggregateState(medianChannel, rollingAvg.getAggregate(index, Aggregation.MEDIAN), 1);
+            updateAggregateState(rateChannel, rollingAvg.getRate(index) * 60, 2);
+        }
+    }
+
+    private void updateAggregateState(String channelId, double value, int scale) {
+        if (!Double.isNaN(value)) {
+            updateState(channelId, new DecimalType(new BigDecimal(value).setScale(scale, RoundingMode.HALF_UP)));
+        }
+    }
+
     private ScheduledFuture<?> createStatusUpdateJob(ScheduledExecutorService execService, final int sensorTimeout) {
         return execService.scheduleWithFixedDelay(() -> {
             if (secsSinceLastReading++ > sensorTimeout) {
@@ -17,4 +17,9 @@ public interface ReadingHandler<R extends Reading> {
     public void handleReading(R r);
 
     public String getSketchName();
+
+    /**
+     * Returns the id of the sensor whose readings should be handled or null to handle the readings of all sensors.
+     */
+    public String getSensorId();
 }
@@ -51,7 +51,18 @@ public abstract class RollingAveragePublisher<R extends Reading> implements Read
 
     private ScheduledFuture<?> createUpdateJob(ScheduledExecutorService execService, final int updateInterval) {
         return execService.scheduleWithFixedDelay(() -> {
-            publisher.publish(rollingAvg.getAverage());
+            R average = rollingAvg.getAverage();
+            if (average != null) {
+                publisher.publish(average);
+                publishAggregates(rollingAvg);
+            }
         }, updateInterval, updateInterval, TimeUnit.SECONDS);
     }
+
+    /**
+     * Called after the aggregated reading has been published, to publish further aggregates of the readings in the
+     * window. Does nothing by default.
+     */
+    protected void publishAggregates(RollingReadingAverage<R> rollingAvg) {
+    }
 }
\ No newline at end of file
@@ -8,51 +8,83 @@
  */
 package org.openhab.binding.jeelink.internal;
 
+import org.openhab.binding.jeelink.internal.SampleWindow.Aggregation;
+
 /**
- * Computes a rolling average of readings.
+ * Computes a rolling average (or another aggregate) of readings. The aggregated values of the readings are kept in one
+ * {@link SampleWindow} per value, the other values are taken from the latest reading.
  *
  * @author Volker Bier - Initial contribution
  */
 public abstract class RollingReadingAverage<R extends Reading> {
-    private int size = 0;
-    private int maxSize;
-    private R total = null;
-    private int index = 0;
-    private R[] samples;
-
-    public RollingReadingAverage(R[] array) {
-        maxSize = array.length;
-        samples = array;
-    }
+    private final SampleWindow[] windows;
+    private final double[] aggregates;
+    private final Aggregation aggregation;
+    private R latest;
 
-    public void add(R reading) {
-        if (size < maxSize) {
-            size++;
+    /**
+     * Creates a rolling average.
+     *
+     * @param valueCount the number of aggregated values of a reading
+     * @param bufferSize the maximum number of readings
+     * @param windowSize the maximum age of a reading in seconds or 0 to only limit the number of readings
+     * @param aggregation the aggregate that is computed
+     */
+    public RollingReadingAverage(int valueCount, int bufferSize, int windowSize, Aggregation aggregation) {
+        windows = new SampleWindow[valueCount];
+        for (int i = 0; i < valueCount; i++) {
+            windows[i] = new SampleWindow(bufferSize, windowSize * 1000L);
         }
+        aggregates = new double[valueCount];
+        this.aggregation = aggregation;
+    }
 
-        if (total == null) {
-            total = reading;
-        } else {
-            total = add(total, reading);
-            total = substract(total, samples[index]);
+    public synchronized void add(R reading) {
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < windows.length; i++) {
+            windows[i].add(now, getValue(reading, i));
         }
+        latest = reading;
+    }
 
-        samples[index] = reading;
-        if (++index == maxSize) {
-            index = 0;
+    /**
+     * Returns a reading with the aggregated values of the readings in the window or null if there are none.
+     */
+    public synchronized R getAverage() {
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < windows.length; i++) {
+            windows[i].evict(now);
+            if (windows[i].isEmpty()) {
+                return null;
+            }
+            aggregates[i] = windows[i].get(aggregation);
         }
+        return latest == null ? null : createReading(latest, aggregates);
     }
 
-    public R getAverage() {
-        if (total == null) {
-            return null;
-        }
-        return divide(total, size);
+    /**
+     * Returns the given aggregate of the value with the given index over the readings in the window or NaN if there
+     * are none.
+     */
+    public synchronized double getAggregate(int index, Aggregation aggregation) {
+        return windows[index].get(aggregation);
     }
 
-    protected abstract R add(R value1, R value2);
+    /**
+     * Returns the change per second of the value with the given index over the readings in the window or NaN if the
+     * window does not span any time.
+     */
+    public synchronized double getRate(int index) {
+        return windows[index].getRate();
+    }
 
-    protected abstract R substract(R from, R value);
+    /**
+     * Returns the value with the given index of a reading.
+     */
+    protected abstract double getValue(R reading, int index);
 
-    protected abstract R divide(R value, int count);
+    /**
+     * Creates a reading from the latest reading with the aggregated values replaced.
+     */
+    protected abstract R createReading(R latest, double[] values);
 }
@@ -0,0 +1,181 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.jeelink.internal;
+
+import java.util.Arrays;
+
+/**
+ * Ring buffer of timestamped samples of a single sensor value that computes aggregates over the buffered samples.
+ * The samples are kept in primitive arrays, so adding a sample does not allocate.
+ *
+ * The oldest sample is dropped when the buffer is full and, if a window duration is set, samples older than the
+ * duration are dropped as well.
+ *
+ * @author agent - Initial contribution
+ */
+public class SampleWindow {
+    /**
+     * The aggregates of a window that can be used in place of a sensor value.
+     */
+    public enum Aggregation {
+        AVERAGE,
+        MEDIAN,
+        MIN,
+        MAX;
+
+        /**
+         * Returns the aggregation with the given (case insensitive) name or AVERAGE if there is none.
+         */
+        public static Aggregation fromName(String name) {
+            if (name != null) {
+                for (Aggregation a : values()) {
+                    if (a.name().equalsIgnoreCase(name.trim())) {
+                        return a;
+                    }
+                }
+            }
+            return AVERAGE;
+        }
+    }
+
+    private final double[] values;
+    private final long[] times;
+    private final double[] sorted;
+    private final long duration;
+
+    private int first;
+    private int size;
+
+    /**
+     * Creates a window.
+     *
+     * @param capacity the maximum number of samples
+     * @param duration the maximum age of a sample in ms or 0 to keep samples until the buffer is full
+     */
+    public SampleWindow(int capacity, long duration) {
+        values = new double[capacity];
+        times = new long[capacity];
+        sorted = new double[capacity];
+        this.duration = duration;
+    }
+
+    public void add(long time, double value) {
+        evict(time);
+
+        if (size == values.length) {
+            first = next(first);
+            size--;
+        }
+
+        int index = (first + size) % values.length;
+        values[index] = value;
+        times[index] = time;
+        size++;
+    }
+
+    /**
+     * Drops the samples that are older than the window duration at the given time.
+     */
+    public void evict(long now) {
+        if (duration > 0) {
+            while (size > 0 && now - times[first] > duration) {
+                first = next(first);
+                size--;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public double get(Aggregation aggregation) {
+        switch (aggregation) {
+            case MEDIAN:
+                return getMedian();
+            case MIN:
+                return getMin();
+            case MAX:
+                return getMax();
+            default:
+                return getAverage();
+        }
+    }
+
+    public double getAverage() {
+        if (size == 0) {
+            return Double.NaN;
+        }
+
+        double sum = 0;
+        for (int i = 0, index = first; i < size; i++, index = next(index)) {
+            sum += values[index];
+        }
+        return sum / size;
+    }
+
+    public double getMin() {
+        double min = Double.NaN;
+        for (int i = 0, index = first; i < size; i++, index = next(index)) {
+            if (i == 0 || values[index] < min) {
+                min = values[index];
+            }
+        }
+        return min;
+    }
+
+    public double getMax() {
+        double max = Double.NaN;
+        for (int i = 0, index = first; i < size; i++, index = next(index)) {
+            if (i == 0 || values[index] > max) {
+                max = values[index];
+            }
+        }
+        return max;
+    }
+
+    public double getMedian() {
+        if (size == 0) {
+            return Double.NaN;
+        }
+
+        for (int i = 0, index = first; i < size; i++, index = next(index)) {
+            sorted[i] = values[index];
+        }
+        Arrays.sort(sorted, 0, size);
+
+        int middle = size / 2;
+        return size % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2;
+    }
+
+    /**
+     * Returns the change per second between the oldest and the latest sample or NaN if the window does not span any
+     * time.
+     */
+    public double getRate() {
+        if (size < 2) {
+            return Double.NaN;
+        }
+
+        int last = (first + size - 1) % values.length;
+        long millis = times[last] - times[first];
+        if (millis <= 0) {
+            return Double.NaN;
+        }
+        return (values[last] - values[first]) * 1000 / millis;
+    }
+
+    private int next(int index) {
+        return index + 1 == values.length ? 0 : index + 1;
+    }
+}
@@ -18,4 +18,6 @@ public class JeeLinkSensorConfig {
     public int updateInterval;
     public int sensorTimeout;
     public int bufferSize;
+    public int windowSize;
+    public String aggregation;
 }
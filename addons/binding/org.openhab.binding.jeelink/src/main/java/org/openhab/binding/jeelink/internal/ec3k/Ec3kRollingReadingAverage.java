@@ -9,6 +9,7 @@
 package org.openhab.binding.jeelink.internal.ec3k;
 
 import org.openhab.binding.jeelink.internal.RollingReadingAverage;
+import org.openhab.binding.jeelink.internal.SampleWindow.Aggregation;
 
 /**
  * Computes a rolling average of readings.
@@ -16,37 +17,20 @@ import org.openhab.binding.jeelink.internal.RollingReadingAverage;
  * @author Volker Bier - Initial contribution
  */
 public class Ec3kRollingReadingAverage extends RollingReadingAverage<Ec3kReading> {
-    public Ec3kRollingReadingAverage(int bufferSize) {
-        super(new Ec3kReading[bufferSize]);
-    }
-
-    @Override
-    protected Ec3kReading add(Ec3kReading value1, Ec3kReading value2) {
-        if (value2 != null) {
-            return new Ec3kReading(value2.getSensorId(), value1.getCurrentWatt() + value2.getCurrentWatt(),
-                    value2.getMaxWatt(), value2.getConsumptionTotal(), value2.getApplianceTime(),
-                    value2.getSensorTime(), value2.getResets());
-        }
+    public static final int CURRENT_WATT = 0;
 
-        return new Ec3kReading(value1.getSensorId(), value1.getCurrentWatt(), value1.getMaxWatt(),
-                value1.getConsumptionTotal(), value1.getApplianceTime(), value1.getSensorTime(), value1.getResets());
+    public Ec3kRollingReadingAverage(int bufferSize, int windowSize, Aggregation aggregation) {
+        super(1, bufferSize, windowSize, aggregation);
     }
 
     @Override
-    protected Ec3kReading substract(Ec3kReading from, Ec3kReading value) {
-        float newCurrWatt = from.getCurrentWatt();
-
-        if (value != null) {
-            newCurrWatt -= value.getCurrentWatt();
-        }
-
-        return new Ec3kReading(from.getSensorId(), newCurrWatt, from.getMaxWatt(), from.getConsumptionTotal(),
-                from.getApplianceTime(), from.getSensorTime(), from.getResets());
+    protected double getValue(Ec3kReading reading, int index) {
+        return reading.getCurrentWatt();
     }
 
     @Override
-    protected Ec3kReading divide(Ec3kReading value, int number) {
-        return new Ec3kReading(value.getSensorId(), value.getCurrentWatt() / number, value.getMaxWatt(),
-                value.getConsumptionTotal(), value.getApplianceTime(), value.getSensorTime(), value.getResets());
+    protected Ec3kReading createReading(Ec3kReading latest, double[] values) {
+        return new Ec3kReading(latest.getSensorId(), (float) values[CURRENT_WATT], latest.getMaxWatt(),
+                latest.getConsumptionTotal(), latest.getApplianceTime(), latest.getSensorTime(), latest.getResets());
     }
 }
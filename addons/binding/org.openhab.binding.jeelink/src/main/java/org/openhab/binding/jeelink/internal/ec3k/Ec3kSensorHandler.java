@@ -20,6 +20,7 @@ import org.openhab.binding.jeelink.internal.JeeLinkSensorHandler;
 import org.openhab.binding.jeelink.internal.ReadingPublisher;
 import org.openhab.binding.jeelink.internal.RollingAveragePublisher;
 import org.openhab.binding.jeelink.internal.RollingReadingAverage;
+import org.openhab.binding.jeelink.internal.SampleWindow.Aggregation;
 import org.openhab.binding.jeelink.internal.config.JeeLinkSensorConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -75,7 +76,15 @@ public class Ec3kSensorHandler extends JeeLinkSensorHandler<Ec3kReading> {
                     scheduler) {
                 @Override
                 public RollingReadingAverage<Ec3kReading> createRollingReadingAverage(int bufferSize) {
-                    return new Ec3kRollingReadingAverage(bufferSize);
+                    return new Ec3kRollingReadingAverage(bufferSize, cfg.windowSize,
+                            Aggregation.fromName(cfg.aggregation));
+                }
+
+                @Override
+                protected void publishAggregates(RollingReadingAverage<Ec3kReading> rollingAvg) {
+                    updateAggregateStates(rollingAvg, Ec3kRollingReadingAverage.CURRENT_WATT,
+                            CURRENT_WATT_MIN_CHANNEL, CURRENT_WATT_MAX_CHANNEL, CURRENT_WATT_AVERAGE_CHANNEL,
+                            CURRENT_WATT_MEDIAN_CHANNEL, CURRENT_WATT_RATE_CHANNEL);
                 }
             };
         }
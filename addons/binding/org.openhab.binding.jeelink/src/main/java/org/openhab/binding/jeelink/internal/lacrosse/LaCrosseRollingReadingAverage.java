@@ -9,6 +9,7 @@
 package org.openhab.binding.jeelink.internal.lacrosse;
 
 import org.openhab.binding.jeelink.internal.RollingReadingAverage;
+import org.openhab.binding.jeelink.internal.SampleWindow.Aggregation;
 
 /**
  * Computes a rolling average of readings.
@@ -16,40 +17,22 @@ import org.openhab.binding.jeelink.internal.RollingReadingAverage;
  * @author Volker Bier - Initial contribution
  */
 public class LaCrosseRollingReadingAverage extends RollingReadingAverage<LaCrosseTemperatureReading> {
-    public LaCrosseRollingReadingAverage(int bufferSize) {
-        super(new LaCrosseTemperatureReading[bufferSize]);
-    }
-
-    @Override
-    protected LaCrosseTemperatureReading add(LaCrosseTemperatureReading value1, LaCrosseTemperatureReading value2) {
-        if (value2 != null) {
-            return new LaCrosseTemperatureReading(value2.getSensorId(), value2.getSensorType(),
-                    value1.getTemperature() + value2.getTemperature(), value1.getHumidity() + value2.getHumidity(),
-                    value2.isBatteryNew(), value2.isBatteryLow());
-        }
+    public static final int TEMPERATURE = 0;
+    public static final int HUMIDITY = 1;
 
-        return new LaCrosseTemperatureReading(value1.getSensorId(), value1.getSensorType(), value1.getTemperature(),
-                value1.getHumidity(), value1.isBatteryNew(), value1.isBatteryLow());
+    public LaCrosseRollingReadingAverage(int bufferSize, int windowSize, Aggregation aggregation) {
+        super(2, bufferSize, windowSize, aggregation);
     }
 
     @Override
-    protected LaCrosseTemperatureReading substract(LaCrosseTemperatureReading from, LaCrosseTemperatureReading value) {
-        float newTemp = from.getTemperature();
-        int newHum = from.getHumidity();
-
-        if (value != null) {
-            newTemp -= value.getTemperature();
-            newHum -= value.getHumidity();
-        }
-
-        return new LaCrosseTemperatureReading(from.getSensorId(), from.getSensorType(), newTemp, newHum,
-                from.isBatteryNew(), from.isBatteryLow());
+    protected double getValue(LaCrosseTemperatureReading reading, int index) {
+        return index == TEMPERATURE ? reading.getTemperature() : reading.getHumidity();
     }
 
     @Override
-    protected LaCrosseTemperatureReading divide(LaCrosseTemperatureReading value, int number) {
-        return new LaCrosseTemperatureReading(value.getSensorId(), value.getSensorType(),
-                value.getTemperature() / number, value.getHumidity() / number, value.isBatteryNew(),
-                value.isBatteryLow());
+    protected LaCrosseTemperatureReading createReading(LaCrosseTemperatureReading latest, double[] values) {
+        return new LaCrosseTemperatureReading(latest.getSensorId(), latest.getSensorType(),
+                (float) values[TEMPERATURE], (int) Math.round(values[HUMIDITY]), latest.isBatteryNew(),
+                latest.isBatteryLow());
     }
 }
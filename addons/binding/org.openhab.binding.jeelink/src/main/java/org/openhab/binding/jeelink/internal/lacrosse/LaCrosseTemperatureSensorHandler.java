@@ -21,6 +21,7 @@ import org.openhab.binding.jeelink.internal.JeeLinkSensorHandler;
 import org.openhab.binding.jeelink.internal.ReadingPublisher;
 import org.openhab.binding.jeelink.internal.RollingAveragePublisher;
 import org.openhab.binding.jeelink.internal.RollingReadingAverage;
+import org.openhab.binding.jeelink.internal.SampleWindow.Aggregation;
 import org.openhab.binding.jeelink.internal.config.LaCrosseTemperatureSensorConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -72,7 +73,15 @@ public class LaCrosseTemperatureSensorHandler extends JeeLinkSensorHandler<LaCro
                     publisher, scheduler) {
                 @Override
                 public RollingReadingAverage<LaCrosseTemperatureReading> createRollingReadingAverage(int bufferSize) {
-                    return new LaCrosseRollingReadingAverage(bufferSize);
+                    return new LaCrosseRollingReadingAverage(bufferSize, cfg.windowSize,
+                            Aggregation.fromName(cfg.aggregation));
+                }
+
+                @Override
+                protected void publishAggregates(RollingReadingAverage<LaCrosseTemperatureReading> rollingAvg) {
+                    updateAggregateStates(rollingAvg, LaCrosseRollingReadingAverage.TEMPERATURE,
+                            TEMPERATURE_MIN_CHANNEL, TEMPERATURE_MAX_CHANNEL, TEMPERATURE_AVERAGE_CHANNEL,
+                            TEMPERATURE_MEDIAN_CHANNEL, TEMPERATURE_RATE_CHANNEL);
                 }
             };
         }
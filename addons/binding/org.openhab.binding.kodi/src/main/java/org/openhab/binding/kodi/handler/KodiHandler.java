@@ -38,6 +38,7 @@ import org.openhab.binding.kodi.internal.KodiEventListener;
 import org.openhab.binding.kodi.internal.config.KodiChannelConfig;
 import org.openhab.binding.kodi.internal.config.KodiConfig;
 import org.openhab.binding.kodi.internal.protocol.KodiConnection;
+import org.openhab.io.transport.image.ImageCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -60,9 +61,9 @@ public class KodiHandler extends BaseThingHandler implements KodiEventListener {
 
     private ScheduledFuture<?> statusUpdaterFuture;
 
-    public KodiHandler(@NonNull Thing thing) {
+    public KodiHandler(@NonNull Thing thing, ImageCache imageCache) {
         super(thing);
-        connection = new KodiConnection(this);
+        connection = new KodiConnection(this, imageCache);
     }
 
     @Override
@@ -25,6 +25,7 @@ import org.eclipse.smarthome.core.thing.binding.BaseThingHandlerFactory;
 import org.eclipse.smarthome.core.thing.binding.ThingHandler;
 import org.eclipse.smarthome.core.thing.binding.ThingHandlerFactory;
 import org.openhab.binding.kodi.handler.KodiHandler;
+import org.openhab.io.transport.image.ImageCache;
 import org.osgi.framework.ServiceRegistration;
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Component;
@@ -46,6 +47,7 @@ public class KodiHandlerFactory extends BaseThingHandlerFactory {
 
     private AudioHTTPServer audioHTTPServer;
     private NetworkAddressService networkAddressService;
+    private ImageCache imageCache;
 
     // url (scheme+server+port) to use for playing notification sounds
     private String callbackUrl = null;
@@ -69,7 +71,7 @@ public class KodiHandlerFactory extends BaseThingHandlerFactory {
         ThingTypeUID thingTypeUID = thing.getThingTypeUID();
 
         if (thingTypeUID.equals(THING_TYPE_KODI)) {
-            KodiHandler handler = new KodiHandler(thing);
+            KodiHandler handler = new KodiHandler(thing, imageCache);
 
             // register the Kodi as an audio sink
             KodiAudioSink audioSink = new KodiAudioSink(handler, audioHTTPServer, createCallbackUrl());
@@ -132,4 +134,13 @@ public class KodiHandlerFactory extends BaseThingHandlerFactory {
         this.networkAddressService = null;
     }
 
+    @Reference
+    protected void setImageCache(ImageCache imageCache) {
+        this.imageCache = imageCache;
+    }
+
+    protected void unsetImageCache(ImageCache imageCache) {
+        this.imageCache = null;
+    }
+
 }
@@ -9,9 +9,17 @@
 package org.openhab.binding.kodi.internal.protocol;
 
 import java.net.URI;
-import java.util.concurrent.CountDownLatch;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.jetty.websocket.api.Session;
 import org.eclipse.jetty.websocket.api.annotations.OnWebSocketClose;
@@ -24,6 +32,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
@@ -32,6 +41,10 @@ import com.google.gson.JsonParser;
  * KodiClientSocket implements the low level communication to Kodi through
  * websocket. Usually this communication is done through port 9090
  *
+ * Responses are correlated to their requests by the JSON-RPC id, so any number of
+ * calls may be outstanding at the same time. Several calls can be sent together
+ * as one JSON-RPC batch.
+ *
  * @author Paul Frank
  *
  */
@@ -42,9 +55,8 @@ public class KodiClientSocket {
     private final ScheduledExecutorService scheduler;
     private static final int REQUEST_TIMEOUT_MS = 60000;
 
-    private CountDownLatch commandLatch = null;
-    private JsonObject commandResponse = null;
-    private int nextMessageId = 1;
+    private final Map<Integer, CompletableFuture<JsonElement>> pendingRequests = new ConcurrentHashMap<>();
+    private final AtomicInteger nextMessageId = new AtomicInteger(1);
 
     private boolean connected = false;
 
@@ -132,14 +144,19 @@ public class KodiClientSocket {
         @OnWebSocketMessage
         public void onMessage(String message) {
             logger.debug("Message received from server: {}", message);
-            final JsonObject json = parser.parse(message).getAsJsonObject();
-            if (json.has("id")) {
-                logger.debug("Response received from server: {}", json);
-                int messageId = json.get("id").getAsInt();
-                if (messageId == nextMessageId - 1) {
-                    commandResponse = json;
-                    commandLatch.countDown();
+            final JsonElement element = parser.parse(message);
+            if (element.isJsonArray()) {
+                // response to a batch request
+                for (JsonElement response : element.getAsJsonArray()) {
+                    if (response.isJsonObject()) {
+                        handleResponse(response.getAsJsonObject());
+                    }
                 }
+                return;
+            }
+            final JsonObject json = element.getAsJsonObject();
+            if (json.has("id")) {
+                handleResponse(json);
             } else {
                 logger.debug("Event received from server: {}", json);
                 if (eventHandler != null) {
@@ -160,6 +177,7 @@ public class KodiClientSocket {
             logger.debug("Closing a WebSocket due to {}", reason);
             session = null;
             connected = false;
+            cancelPendingRequests();
             if (eventHandler != null) {
                 scheduler.submit(() -> {
                     try {
@@ -172,7 +190,36 @@ public class KodiClientSocket {
         }
     }
 
-    private void sendMessage(String str) throws Exception {
+    private void handleResponse(JsonObject json) {
+        logger.debug("Response received from server: {}", json);
+        JsonElement id = json.get("id");
+        if (id == null || id.isJsonNull()) {
+            logger.debug("Response without id received from server: {}", json);
+            return;
+        }
+        CompletableFuture<JsonElement> future = pendingRequests.remove(id.getAsInt());
+        if (future == null) {
+            logger.debug("Response for unknown or timed out request {} received", id);
+            return;
+        }
+        if (json.has("result")) {
+            future.complete(json.get("result"));
+        } else {
+            logger.debug("Error received from server: {}", json.get("error"));
+            future.complete(null);
+        }
+    }
+
+    private void cancelPendingRequests() {
+        for (Integer id : pendingRequests.keySet()) {
+            CompletableFuture<JsonElement> future = pendingRequests.remove(id);
+            if (future != null) {
+                future.complete(null);
+            }
+        }
+    }
+
+    private synchronized void sendMessage(String str) throws Exception {
         if (isConnected()) {
             logger.debug("send message: {}", str);
             session.getRemote().sendString(str);
@@ -181,42 +228,113 @@ public class KodiClientSocket {
         }
     }
 
+    private JsonObject createRequest(int id, String methodName, JsonObject params) {
+        JsonObject payloadObject = new JsonObject();
+        payloadObject.addProperty("jsonrpc", "2.0");
+        payloadObject.addProperty("id", id);
+        payloadObject.addProperty("method", methodName);
+
+        if (params != null) {
+            payloadObject.add("params", params);
+        }
+        return payloadObject;
+    }
+
+    private CompletableFuture<JsonElement> registerRequest(int id, String methodName) {
+        CompletableFuture<JsonElement> future = new CompletableFuture<>();
+        pendingRequests.put(id, future);
+        ScheduledFuture<?> timeout = scheduler.schedule(() -> {
+            if (pendingRequests.remove(id) != null) {
+                logger.debug("Timeout during callMethod({}) with id {}", methodName, id);
+                future.complete(null);
+            }
+        }, REQUEST_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        // Don't keep the timeout scheduled once the request has been answered
+        future.whenComplete((result, error) -> timeout.cancel(false));
+        return future;
+    }
+
     public JsonElement callMethod(String methodName) {
         return callMethod(methodName, null);
     }
 
-    public synchronized JsonElement callMethod(String methodName, JsonObject params) {
+    /**
+     * Calls a JSON-RPC method and waits for its result
+     *
+     * @return the result of the call or null in case of an error or timeout
+     */
+    public JsonElement callMethod(String methodName, JsonObject params) {
+        return getResult(callMethodAsync(methodName, params), methodName);
+    }
+
+    /**
+     * Calls a JSON-RPC method without waiting for its result. The returned future is completed
+     * with the result of the call or with null in case of an error or timeout.
+     */
+    public CompletableFuture<JsonElement> callMethodAsync(String methodName, JsonObject params) {
+        int id = nextMessageId.getAndIncrement();
+        CompletableFuture<JsonElement> future = registerRequest(id, methodName);
         try {
-            JsonObject payloadObject = new JsonObject();
-            payloadObject.addProperty("jsonrpc", "2.0");
-            payloadObject.addProperty("id", nextMessageId);
-            payloadObject.addProperty("method", methodName);
+            sendMessage(mapper.toJson(createRequest(id, methodName, params)));
+        } catch (Exception e) {
+            logger.debug("Error during callMethod({}): {}", methodName, e.getMessage(), e);
+            pendingRequests.remove(id);
+            future.complete(null);
+        }
+        return future;
+    }
 
-            if (params != null) {
-                payloadObject.add("params", params);
-            }
+    /**
+     * Sends several JSON-RPC calls as one batch request and waits for all results
+     *
+     * @param calls the calls to send
+     * @return the results in the order of the calls, a result is null in case of an error or timeout
+     */
+    public List<JsonElement> callMethods(List<KodiMethodCall> calls) {
+        List<CompletableFuture<JsonElement>> futures = callMethodsAsync(calls);
+        List<JsonElement> results = new ArrayList<>(futures.size());
+        for (int i = 0; i < futures.size(); i++) {
+            results.add(getResult(futures.get(i), calls.get(i).getMethod()));
+        }
+        return results;
+    }
 
-            String message = mapper.toJson(payloadObject);
-
-            commandLatch = new CountDownLatch(1);
-            commandResponse = null;
-            nextMessageId++;
-
-            sendMessage(message);
-            if (commandLatch.await(REQUEST_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
-                logger.debug("callMethod returns {}", commandResponse);
-                if (commandResponse.has("result")) {
-                    return commandResponse.get("result");
-                } else {
-                    JsonElement error = commandResponse.get("error");
-                    logger.debug("Error received from server: {}", error);
-                    return null;
-                }
-            } else {
-                logger.debug("Timeout during callMethod({}, {})", methodName, params);
-                return null;
-            }
+    /**
+     * Sends several JSON-RPC calls as one batch request without waiting for the results
+     *
+     * @return one future per call, completed with the result or with null in case of an error or timeout
+     */
+    public List<CompletableFuture<JsonElement>> callMethodsAsync(List<KodiMethodCall> calls) {
+        List<CompletableFuture<JsonElement>> futures = new ArrayList<>(calls.size());
+        List<Integer> ids = new ArrayList<>(calls.size());
+        JsonArray batch = new JsonArray();
+        for (KodiMethodCall call : calls) {
+            int id = nextMessageId.getAndIncrement();
+            ids.add(id);
+            futures.add(registerRequest(id, call.getMethod()));
+            batch.add(createRequest(id, call.getMethod(), call.getParams()));
+        }
+        try {
+            sendMessage(mapper.toJson(batch));
         } catch (Exception e) {
+            logger.debug("Error during batch call of {} methods: {}", calls.size(), e.getMessage(), e);
+            for (int i = 0; i < ids.size(); i++) {
+                pendingRequests.remove(ids.get(i));
+                futures.get(i).complete(null);
+            }
+        }
+        return futures;
+    }
+
+    private JsonElement getResult(CompletableFuture<JsonElement> future, String methodName) {
+        try {
+            JsonElement result = future.get(REQUEST_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            logger.debug("callMethod({}) returns {}", methodName, result);
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | TimeoutException e) {
             logger.debug("Error during callMethod({}): {}", methodName, e.getMessage(), e);
             return null;
         }
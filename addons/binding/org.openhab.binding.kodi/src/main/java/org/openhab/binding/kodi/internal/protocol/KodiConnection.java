@@ -12,15 +12,16 @@ import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URLEncoder;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang.StringUtils;
-import org.eclipse.smarthome.core.cache.ExpiringCacheMap;
-import org.eclipse.smarthome.core.library.types.RawType;
-import org.eclipse.smarthome.io.net.http.HttpUtil;
 import org.openhab.binding.kodi.internal.KodiEventListener;
 import org.openhab.binding.kodi.internal.KodiEventListener.KodiState;
+import org.openhab.io.transport.image.ImageCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,20 +43,29 @@ public class KodiConnection implements KodiClientSocketEventListener {
     private final Logger logger = LoggerFactory.getLogger(KodiConnection.class);
 
     private static final int VOLUMESTEP = 10;
-    private static final ExpiringCacheMap<String, RawType> IMAGE_CACHE = new ExpiringCacheMap<>(
-            TimeUnit.MINUTES.toMillis(15)); // 15min
+
+    private final ImageCache imageCache;
 
     private URI wsUri;
     private URI imageUri;
     private KodiClientSocket socket;
 
-    private int volume = 0;
-    private KodiState currentState = KodiState.Stop;
+    private volatile int volume = 0;
+    private volatile KodiState currentState = KodiState.Stop;
+
+    // URLs of the images of the current item, images of previous items arriving late are ignored
+    private volatile String thumbnailUrl;
+    private volatile String fanartUrl;
+
+    // PVR channel groups per channel type and channels per channel group, invalidated on PVR and library events
+    private final Map<String, JsonArray> channelGroupCache = new ConcurrentHashMap<>();
+    private final Map<Integer, JsonArray> channelCache = new ConcurrentHashMap<>();
 
     private final KodiEventListener listener;
 
-    public KodiConnection(KodiEventListener listener) {
+    public KodiConnection(KodiEventListener listener, ImageCache imageCache) {
         this.listener = listener;
+        this.imageCache = imageCache;
     }
 
     @Override
@@ -65,6 +75,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
 
     @Override
     public synchronized void onConnectionOpened() {
+        invalidatePVRCache();
         listener.updateConnectionState(true);
     }
 
@@ -95,7 +106,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
         return -1;
     }
 
-    public synchronized void playerPlayPause() {
+    public void playerPlayPause() {
         int activePlayer = getActivePlayer();
 
         JsonObject params = new JsonObject();
@@ -103,7 +114,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
         socket.callMethod("Player.PlayPause", params);
     }
 
-    public synchronized void playerStop() {
+    public void playerStop() {
         int activePlayer = getActivePlayer();
 
         JsonObject params = new JsonObject();
@@ -111,7 +122,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
         socket.callMethod("Player.Stop", params);
     }
 
-    public synchronized void playerNext() {
+    public void playerNext() {
         int activePlayer = getActivePlayer();
 
         JsonObject params = new JsonObject();
@@ -122,7 +133,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
         updatePlayerStatus();
     }
 
-    public synchronized void playerPrevious() {
+    public void playerPrevious() {
         int activePlayer = getActivePlayer();
 
         JsonObject params = new JsonObject();
@@ -133,7 +144,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
         updatePlayerStatus();
     }
 
-    public synchronized void playerRewind() {
+    public void playerRewind() {
         int activePlayer = getActivePlayer();
 
         JsonObject params = new JsonObject();
@@ -144,7 +155,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
         updatePlayerStatus();
     }
 
-    public synchronized void playerFastForward() {
+    public void playerFastForward() {
         int activePlayer = getActivePlayer();
 
         JsonObject params = new JsonObject();
@@ -180,20 +191,22 @@ public class KodiConnection implements KodiClientSocketEventListener {
         return volume;
     }
 
-    public synchronized void setMute(boolean mute) {
+    public void setMute(boolean mute) {
         JsonObject params = new JsonObject();
         params.addProperty("mute", mute);
         socket.callMethod("Application.SetMute", params);
     }
 
-    private int getSpeed(int activePlayer) {
+    private JsonObject getSpeedParams(int activePlayer) {
         final String[] properties = { "speed", "position" };
 
         JsonObject params = new JsonObject();
         params.addProperty("playerid", activePlayer);
         params.add("properties", getJsonArray(properties));
-        JsonElement response = socket.callMethod("Player.GetProperties", params);
+        return params;
+    }
 
+    private int getSpeed(JsonElement response) {
         if (response instanceof JsonObject) {
             JsonObject result = response.getAsJsonObject();
             if (result.has("speed")) {
@@ -203,11 +216,15 @@ public class KodiConnection implements KodiClientSocketEventListener {
         return 0;
     }
 
-    public synchronized void updatePlayerStatus() {
+    public void updatePlayerStatus() {
         if (socket.isConnected()) {
             int activePlayer = getActivePlayer();
             if (activePlayer >= 0) {
-                int speed = getSpeed(activePlayer);
+                // request speed and current item in one batch
+                List<JsonElement> responses = socket.callMethods(
+                        Arrays.asList(new KodiMethodCall("Player.GetProperties", getSpeedParams(activePlayer)),
+                                new KodiMethodCall("Player.GetItem", getPlayerItemParams(activePlayer))));
+                int speed = getSpeed(responses.get(0));
                 if (speed == 0) {
                     updateState(KodiState.Stop);
                 } else if (speed == 1) {
@@ -217,22 +234,28 @@ public class KodiConnection implements KodiClientSocketEventListener {
                 } else {
                     updateState(KodiState.FastForward);
                 }
-                requestPlayerUpdate(activePlayer);
+                processPlayerItem(responses.get(1));
             } else {
                 updateState(KodiState.Stop);
             }
         }
     }
 
-    private void requestPlayerUpdate(int activePlayer) {
+    private JsonObject getPlayerItemParams(int activePlayer) {
         final String[] properties = { "title", "album", "artist", "director", "thumbnail", "file", "fanart",
                 "showtitle", "streamdetails", "channel", "channeltype" };
 
         JsonObject params = new JsonObject();
         params.addProperty("playerid", activePlayer);
         params.add("properties", getJsonArray(properties));
-        JsonElement response = socket.callMethod("Player.GetItem", params);
+        return params;
+    }
 
+    private void requestPlayerUpdate(int activePlayer) {
+        processPlayerItem(socket.callMethod("Player.GetItem", getPlayerItemParams(activePlayer)));
+    }
+
+    private void processPlayerItem(JsonElement response) {
         if (response instanceof JsonObject) {
             JsonObject result = response.getAsJsonObject();
             if (result.has("item")) {
@@ -275,14 +298,14 @@ public class KodiConnection implements KodiClientSocketEventListener {
                     channel = item.get("channel").getAsString();
                 }
 
-                RawType thumbnail = null;
+                String thumbnailUrl = null;
                 if (item.has("thumbnail")) {
-                    thumbnail = downloadImage(convertToImageUrl(item.get("thumbnail")));
+                    thumbnailUrl = convertToImageUrl(item.get("thumbnail"));
                 }
 
-                RawType fanart = null;
+                String fanartUrl = null;
                 if (item.has("fanart")) {
-                    fanart = downloadImage(convertToImageUrl(item.get("fanart")));
+                    fanartUrl = convertToImageUrl(item.get("fanart"));
                 }
 
                 try {
@@ -292,8 +315,8 @@ public class KodiConnection implements KodiClientSocketEventListener {
                     listener.updateArtist(artist);
                     listener.updateMediaType(mediaType);
                     listener.updatePVRChannel(channel);
-                    listener.updateThumbnail(thumbnail);
-                    listener.updateFanart(fanart);
+                    updateThumbnail(thumbnailUrl);
+                    updateFanart(fanartUrl);
                 } catch (Exception e) {
                     logger.error("Event listener invoking error", e);
                 }
@@ -347,23 +370,36 @@ public class KodiConnection implements KodiClientSocketEventListener {
         return null;
     }
 
-    private RawType downloadImage(String url) {
-        if (StringUtils.isNotEmpty(url)) {
-            if (!IMAGE_CACHE.containsKey(url)) {
-                IMAGE_CACHE.put(url, () -> {
-                    logger.debug("Trying to download the content of URL {}", url);
-                    return HttpUtil.downloadImage(url);
-                });
-            }
-            RawType image = IMAGE_CACHE.get(url);
-            if (image == null) {
-                logger.debug("Failed to download the content of URL {}", url);
-                return null;
-            } else {
-                return image;
-            }
+    /**
+     * Publishes the thumbnail when it has been downloaded, unless the item changed in the meantime.
+     */
+    private void updateThumbnail(String url) {
+        thumbnailUrl = url;
+        if (StringUtils.isEmpty(url)) {
+            listener.updateThumbnail(null);
+        } else {
+            imageCache.getImage(url, (imageUrl, image) -> {
+                if (imageUrl.equals(thumbnailUrl)) {
+                    listener.updateThumbnail(image);
+                }
+            });
+        }
+    }
+
+    /**
+     * Publishes the fanart when it has been downloaded, unless the item changed in the meantime.
+     */
+    private void updateFanart(String url) {
+        fanartUrl = url;
+        if (StringUtils.isEmpty(url)) {
+            listener.updateFanart(null);
+        } else {
+            imageCache.getImage(url, (imageUrl, image) -> {
+                if (imageUrl.equals(fanartUrl)) {
+                    listener.updateFanart(image);
+                }
+            });
         }
-        return null;
     }
 
     public KodiState getState() {
@@ -385,8 +421,8 @@ public class KodiConnection implements KodiClientSocketEventListener {
                 listener.updateArtist("");
                 listener.updateMediaType("");
                 listener.updatePVRChannel("");
-                listener.updateThumbnail(null);
-                listener.updateFanart(null);
+                updateThumbnail(null);
+                updateFanart(null);
             }
         } catch (Exception e) {
             logger.error("Event listener invoking error", e);
@@ -411,6 +447,10 @@ public class KodiConnection implements KodiClientSocketEventListener {
                 processSystemStateChanged(method, params);
             } else if (method.startsWith("GUI.OnScreensaver")) {
                 processScreensaverStateChanged(method, params);
+            } else if (method.startsWith("PVR.") || method.startsWith("VideoLibrary.OnScanFinished")
+                    || method.startsWith("VideoLibrary.OnCleanFinished")) {
+                logger.debug("Invalidating PVR channel cache on {}", method);
+                invalidatePVRCache();
             } else {
                 logger.debug("Received unknown method: {}", method);
             }
@@ -509,6 +549,11 @@ public class KodiConnection implements KodiClientSocketEventListener {
         }
     }
 
+    private void invalidatePVRCache() {
+        channelGroupCache.clear();
+        channelCache.clear();
+    }
+
     public synchronized void close() {
         if (socket != null && socket.isConnected()) {
             socket.close();
@@ -540,7 +585,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
         }
     }
 
-    public synchronized void playURI(String uri) {
+    public void playURI(String uri) {
         JsonObject item = new JsonObject();
         item.addProperty("file", uri);
 
@@ -549,7 +594,18 @@ public class KodiConnection implements KodiClientSocketEventListener {
         socket.callMethod("Player.Open", params);
     }
 
-    private synchronized JsonArray getChannelGroups(final String channelType) {
+    private JsonArray getChannelGroups(final String channelType) {
+        JsonArray channelGroups = channelGroupCache.get(channelType);
+        if (channelGroups == null) {
+            channelGroups = requestChannelGroups(channelType);
+            if (channelGroups != null) {
+                channelGroupCache.put(channelType, channelGroups);
+            }
+        }
+        return channelGroups;
+    }
+
+    private JsonArray requestChannelGroups(final String channelType) {
         JsonObject params = new JsonObject();
         params.addProperty("channeltype", channelType);
         JsonElement response = socket.callMethod("PVR.GetChannelGroups", params);
@@ -564,7 +620,15 @@ public class KodiConnection implements KodiClientSocketEventListener {
     }
 
     public int getChannelGroupID(final String channelType, final String channelGroupName) {
-        JsonArray channelGroups = getChannelGroups(channelType);
+        int channelGroupID = findChannelGroupID(getChannelGroups(channelType), channelGroupName);
+        if (channelGroupID == 0 && channelGroupCache.remove(channelType) != null) {
+            // the cached list might be outdated, try once more with a fresh one
+            channelGroupID = findChannelGroupID(getChannelGroups(channelType), channelGroupName);
+        }
+        return channelGroupID;
+    }
+
+    private int findChannelGroupID(final JsonArray channelGroups, final String channelGroupName) {
         if (channelGroups instanceof JsonArray) {
             for (JsonElement element : channelGroups) {
                 JsonObject channelGroup = (JsonObject) element;
@@ -577,7 +641,18 @@ public class KodiConnection implements KodiClientSocketEventListener {
         return 0;
     }
 
-    private synchronized JsonArray getChannels(final int channelGroupID) {
+    private JsonArray getChannels(final int channelGroupID) {
+        JsonArray channels = channelCache.get(channelGroupID);
+        if (channels == null) {
+            channels = requestChannels(channelGroupID);
+            if (channels != null) {
+                channelCache.put(channelGroupID, channels);
+            }
+        }
+        return channels;
+    }
+
+    private JsonArray requestChannels(final int channelGroupID) {
         JsonObject params = new JsonObject();
         params.addProperty("channelgroupid", channelGroupID);
         JsonElement response = socket.callMethod("PVR.GetChannels", params);
@@ -592,7 +667,15 @@ public class KodiConnection implements KodiClientSocketEventListener {
     }
 
     public int getChannelID(final int channelGroupID, final String channelName) {
-        JsonArray channels = getChannels(channelGroupID);
+        int channelID = findChannelID(getChannels(channelGroupID), channelName);
+        if (channelID == 0 && channelCache.remove(channelGroupID) != null) {
+            // the cached list might be outdated, try once more with a fresh one
+            channelID = findChannelID(getChannels(channelGroupID), channelName);
+        }
+        return channelID;
+    }
+
+    private int findChannelID(final JsonArray channels, final String channelName) {
         if (channels instanceof JsonArray) {
             for (JsonElement element : channels) {
                 JsonObject channel = (JsonObject) element;
@@ -605,7 +688,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
         return 0;
     }
 
-    public synchronized void playPVRChannel(final int channelID) {
+    public void playPVRChannel(final int channelID) {
         JsonObject item = new JsonObject();
         item.addProperty("channelid", channelID);
 
@@ -614,7 +697,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
         socket.callMethod("Player.Open", params);
     }
 
-    public synchronized void showNotification(String message) {
+    public void showNotification(String message) {
         JsonObject params = new JsonObject();
         params.addProperty("title", "openHAB");
         params.addProperty("message", message);
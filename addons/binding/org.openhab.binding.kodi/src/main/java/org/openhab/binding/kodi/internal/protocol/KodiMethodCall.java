@@ -0,0 +1,36 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.kodi.internal.protocol;
+
+import com.google.gson.JsonObject;
+
+/**
+ * A single JSON-RPC method call which is part of a batch request to Kodi
+ *
+ * @author agent - Initial contribution
+ *
+ */
+public class KodiMethodCall {
+
+    private final String method;
+    private final JsonObject params;
+
+    public KodiMethodCall(String method, JsonObject params) {
+        this.method = method;
+        this.params = params;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public JsonObject getParams() {
+        return params;
+    }
+}
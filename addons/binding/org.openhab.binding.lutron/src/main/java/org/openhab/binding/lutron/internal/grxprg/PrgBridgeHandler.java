@@ -305,15 +305,16 @@ public class PrgBridgeHandler extends BaseBridgeHandler {
     }
 
     /**
-     * Retries the connection attempt - schedules a job in {@link PrgBridgeConfig#getRetryPolling()} seconds to
-     * call the {@link #connect()} method. If a retry attempt is pending, the request is ignored.
+     * Retries the connection attempt - schedules a job in {@link PrgBridgeConfig#getRetryPolling()} seconds (backed off
+     * by the session after consecutive failures) to call the {@link #connect()} method. If a retry attempt is pending, the request is ignored.
      */
     private void retryConnect() {
         if (_retryConnection == null) {
             final PrgBridgeConfig config = getPrgBridgeConfig();
             if (config != null) {
+                final int retryDelay = _session.getReconnectDelay(config.getRetryPolling());
 
-                logger.info("Will try to reconnect in {} seconds", config.getRetryPolling());
+                logger.info("Will try to reconnect in {} seconds", retryDelay);
                 _retryConnection = this.scheduler.schedule(new Runnable() {
                     @Override
                     public void run() {
@@ -321,7 +322,7 @@ public class PrgBridgeHandler extends BaseBridgeHandler {
                         connect();
                     }
 
-                }, config.getRetryPolling(), TimeUnit.SECONDS);
+                }, retryDelay, TimeUnit.SECONDS);
             }
         } else {
             logger.debug("RetryConnection called when a retry connection is pending - ignoring request");
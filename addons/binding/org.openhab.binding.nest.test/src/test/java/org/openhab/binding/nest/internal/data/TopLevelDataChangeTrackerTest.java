@@ -0,0 +1,86 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.nest.internal.data;
+
+import static org.junit.Assert.*;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UnsupportedEncodingException;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ * Tests cases for {@link TopLevelDataChangeTracker}.
+ *
+ * @author agent - Initial contribution
+ */
+public class TopLevelDataChangeTrackerTest {
+
+    private final Gson gson = new GsonBuilder().create();
+    private TopLevelDataChangeTracker tracker;
+
+    private TopLevelData fromJson(String fileName) throws UnsupportedEncodingException {
+        String packagePath = (getClass().getPackage().getName()).replaceAll("\\.", "/");
+        String filePath = "src/test/resources/" + packagePath + "/" + fileName;
+        InputStream inputStream = getClass().getClassLoader().getResourceAsStream(filePath);
+        Reader reader = new InputStreamReader(inputStream, "UTF-8");
+        return gson.fromJson(reader, TopLevelData.class);
+    }
+
+    @Before
+    public void setUp() {
+        tracker = new TopLevelDataChangeTracker(gson);
+    }
+
+    @Test
+    public void newObjectsAreChanged() throws UnsupportedEncodingException {
+        TopLevelData data = fromJson("top-level-data.json");
+
+        assertEquals(4, tracker.getChanged(data.getDevices().getSmokeDetectors().values()).size());
+        assertEquals(1, tracker.getChanged(data.getDevices().getThermostats().values()).size());
+    }
+
+    @Test
+    public void unchangedObjectsAreSkipped() throws UnsupportedEncodingException {
+        tracker.getChanged(fromJson("top-level-data.json").getDevices().getSmokeDetectors().values());
+
+        TopLevelData data = fromJson("top-level-data.json");
+        assertTrue(tracker.getChanged(data.getDevices().getSmokeDetectors().values()).isEmpty());
+    }
+
+    @Test
+    public void changedFieldIsDetected() throws UnsupportedEncodingException {
+        tracker.getChanged(fromJson("top-level-data.json").getDevices().getCameras().values());
+
+        Camera camera = fromJson("top-level-data.json").getDevices().getCameras().get("camera1");
+        camera.setName(camera.getName() + " renamed");
+
+        List<Camera> changed = tracker.getChanged(Collections.singletonList(camera));
+        assertEquals(1, changed.size());
+        assertSame(camera, changed.get(0));
+    }
+
+    @Test
+    public void clearMakesAllObjectsChanged() throws UnsupportedEncodingException {
+        tracker.getChanged(fromJson("top-level-data.json").getStructures().values());
+        tracker.clear();
+
+        TopLevelData data = fromJson("top-level-data.json");
+        assertEquals(data.getStructures().size(), tracker.getChanged(data.getStructures().values()).size());
+    }
+
+}
@@ -14,8 +14,11 @@ import static org.openhab.binding.nest.NestBindingConstants.JSON_CONTENT_TYPE;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ScheduledFuture;
@@ -33,10 +36,15 @@ import org.eclipse.smarthome.core.types.RefreshType;
 import org.eclipse.smarthome.io.net.http.HttpUtil;
 import org.openhab.binding.nest.NestBindingConstants;
 import org.openhab.binding.nest.internal.config.NestBridgeConfiguration;
+import org.openhab.binding.nest.internal.data.Camera;
 import org.openhab.binding.nest.internal.data.ErrorData;
 import org.openhab.binding.nest.internal.data.NestDevices;
+import org.openhab.binding.nest.internal.data.NestIdentifiable;
+import org.openhab.binding.nest.internal.data.SmokeDetector;
 import org.openhab.binding.nest.internal.data.Structure;
+import org.openhab.binding.nest.internal.data.Thermostat;
 import org.openhab.binding.nest.internal.data.TopLevelData;
+import org.openhab.binding.nest.internal.data.TopLevelDataChangeTracker;
 import org.openhab.binding.nest.internal.exceptions.FailedResolvingNestUrlException;
 import org.openhab.binding.nest.internal.exceptions.FailedSendingNestDataException;
 import org.openhab.binding.nest.internal.exceptions.InvalidAccessTokenException;
@@ -68,6 +76,7 @@ public class NestBridgeHandler extends BaseBridgeHandler implements NestStreamin
     private final List<NestDeviceDataListener> listeners = new CopyOnWriteArrayList<>();
     private final List<NestUpdateRequest> nestUpdateRequests = new CopyOnWriteArrayList<>();
     private final Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
+    private final TopLevelDataChangeTracker changeTracker = new TopLevelDataChangeTracker(gson);
 
     private NestAuthorizer authorizer;
     private NestBridgeConfiguration config;
@@ -150,6 +159,7 @@ public class NestBridgeHandler extends BaseBridgeHandler implements NestStreamin
 
     private void restartStreamingUpdates() {
         synchronized (this) {
+            changeTracker.clear();
             stopStreamingUpdates();
             startStreamingUpdates();
         }
@@ -224,6 +234,47 @@ public class NestBridgeHandler extends BaseBridgeHandler implements NestStreamin
         structures.forEach(structure -> listeners.forEach(l -> l.onNewNestStructureData(structure)));
     }
 
+    private void dispatchChangedData(TopLevelData data) {
+        NestDevices devices = data.getDevices();
+        if (devices != null) {
+            if (devices.getThermostats() != null) {
+                for (Thermostat thermostat : changeTracker.getChanged(devices.getThermostats().values())) {
+                    getListeners(thermostat).forEach(l -> l.onNewNestThermostatData(thermostat));
+                }
+            }
+            if (devices.getCameras() != null) {
+                for (Camera camera : changeTracker.getChanged(devices.getCameras().values())) {
+                    getListeners(camera).forEach(l -> l.onNewNestCameraData(camera));
+                }
+            }
+            if (devices.getSmokeDetectors() != null) {
+                for (SmokeDetector smokeDetector : changeTracker.getChanged(devices.getSmokeDetectors().values())) {
+                    getListeners(smokeDetector).forEach(l -> l.onNewNestSmokeDetectorData(smokeDetector));
+                }
+            }
+        }
+        if (data.getStructures() != null) {
+            for (Structure structure : changeTracker.getChanged(data.getStructures().values())) {
+                getListeners(structure).forEach(l -> l.onNewNestStructureData(structure));
+            }
+        }
+    }
+
+    /**
+     * Returns the listeners interested in the given object, i.e. the handler owning it and the listeners not bound to a
+     * single object such as the discovery service.
+     */
+    private List<NestDeviceDataListener> getListeners(NestIdentifiable nestIdentifiable) {
+        List<NestDeviceDataListener> result = new ArrayList<>();
+        for (NestDeviceDataListener listener : listeners) {
+            if (!(listener instanceof NestIdentifiable)
+                    || nestIdentifiable.getId().equals(((NestIdentifiable) listener).getId())) {
+                result.add(listener);
+            }
+        }
+        return result;
+    }
+
     private void broadcastStructures(NestDeviceDataListener listener, Collection<Structure> structures) {
         structures.forEach(listener::onNewNestStructureData);
     }
@@ -300,10 +351,12 @@ public class NestBridgeHandler extends BaseBridgeHandler implements NestStreamin
 
         try {
             while (nestUpdateRequests.size() > 0) {
-                // nestUpdateRequests is a CopyOnWriteArrayList so its iterator does not support remove operations
-                NestUpdateRequest request = nestUpdateRequests.get(0);
-                jsonToPutUrl(request);
-                nestUpdateRequests.remove(request);
+                // Requests for the same device are merged so each device gets a single PUT
+                for (List<NestUpdateRequest> requests : getRequestsPerUrl().values()) {
+                    jsonToPutUrl(NestUpdateRequest.merge(requests));
+                    // nestUpdateRequests is a CopyOnWriteArrayList so its iterator does not support remove operations
+                    nestUpdateRequests.removeAll(requests);
+                }
             }
         } catch (InvalidAccessTokenException e) {
             logger.debug("Invalid access token", e);
@@ -321,6 +374,14 @@ public class NestBridgeHandler extends BaseBridgeHandler implements NestStreamin
         }
     }
 
+    private Map<String, List<NestUpdateRequest>> getRequestsPerUrl() {
+        Map<String, List<NestUpdateRequest>> requestsPerUrl = new LinkedHashMap<>();
+        for (NestUpdateRequest request : nestUpdateRequests) {
+            requestsPerUrl.computeIfAbsent(request.getUpdateUrl(), url -> new ArrayList<>()).add(request);
+        }
+        return requestsPerUrl;
+    }
+
     private void jsonToPutUrl(NestUpdateRequest request)
             throws FailedSendingNestDataException, InvalidAccessTokenException, FailedResolvingNestUrlException {
         try {
@@ -384,12 +445,7 @@ public class NestBridgeHandler extends BaseBridgeHandler implements NestStreamin
 
     @Override
     public void onNewTopLevelData(TopLevelData data) {
-        if (data.getDevices() != null) {
-            broadcastDevices(data.getDevices());
-        }
-        if (data.getStructures() != null) {
-            broadcastStructures(data.getStructures().values());
-        }
+        dispatchChangedData(data);
         updateStatus(ThingStatus.ONLINE, ThingStatusDetail.NONE, "Receiving streaming data");
     }
 
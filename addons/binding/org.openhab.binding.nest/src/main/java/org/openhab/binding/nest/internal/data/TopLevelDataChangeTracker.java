@@ -0,0 +1,58 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.nest.internal.data;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+
+/**
+ * Keeps the last received state of each Nest object (device or structure) so only the objects of which
+ * at least one field changed since the previous {@link TopLevelData} need to be dispatched.
+ *
+ * @author agent - Initial contribution
+ */
+public class TopLevelDataChangeTracker {
+    private final Gson gson;
+    private final Map<String, JsonElement> lastReceived = new HashMap<>();
+
+    public TopLevelDataChangeTracker(Gson gson) {
+        this.gson = gson;
+    }
+
+    /**
+     * Returns the objects that are new or have changed compared to the previously received objects with the same id
+     * and remembers them for the next comparison.
+     */
+    public synchronized <T extends NestIdentifiable> List<T> getChanged(Collection<T> objects) {
+        List<T> changed = new ArrayList<>();
+        if (objects != null) {
+            for (T object : objects) {
+                JsonElement json = gson.toJsonTree(object);
+                JsonElement previous = lastReceived.put(object.getId(), json);
+                if (!json.equals(previous)) {
+                    changed.add(object);
+                }
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Forgets all previously received objects so all objects are considered as changed the next time.
+     */
+    public synchronized void clear() {
+        lastReceived.clear();
+    }
+}
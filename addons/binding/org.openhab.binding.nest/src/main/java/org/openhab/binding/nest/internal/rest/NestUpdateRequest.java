@@ -9,6 +9,8 @@
 package org.openhab.binding.nest.internal.rest;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -25,6 +27,26 @@ public class NestUpdateRequest {
         this.values = builder.values;
     }
 
+    private NestUpdateRequest(String updateUrl, Map<String, Object> values) {
+        this.updateUrl = updateUrl;
+        this.values = values;
+    }
+
+    /**
+     * Merges requests having the same update URL into a single request. When a field is updated more than once,
+     * the value of the last request is used.
+     */
+    public static NestUpdateRequest merge(List<NestUpdateRequest> requests) {
+        if (requests.size() == 1) {
+            return requests.get(0);
+        }
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (NestUpdateRequest request : requests) {
+            values.putAll(request.getValues());
+        }
+        return new NestUpdateRequest(requests.get(0).getUpdateUrl(), values);
+    }
+
     public String getUpdateUrl() {
         return updateUrl;
     }
@@ -14,10 +14,15 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.oltu.oauth2.client.request.OAuthClientRequest;
@@ -31,8 +36,12 @@ import org.eclipse.smarthome.core.thing.ThingStatus;
 import org.eclipse.smarthome.core.thing.ThingStatusDetail;
 import org.eclipse.smarthome.core.thing.binding.BaseBridgeHandler;
 import org.eclipse.smarthome.core.types.Command;
+import org.openhab.binding.netatmo.internal.AccountDataCache;
 import org.openhab.binding.netatmo.internal.WelcomeWebHookServlet;
 import org.openhab.binding.netatmo.internal.config.NetatmoBridgeConfiguration;
+import org.openhab.binding.netatmo.internal.homecoach.NAHealthyHomeCoachHandler;
+import org.openhab.binding.netatmo.internal.station.NAMainHandler;
+import org.openhab.binding.netatmo.internal.thermostat.NAPlugHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -44,7 +53,10 @@ import io.swagger.client.api.ThermostatApi;
 import io.swagger.client.api.WelcomeApi;
 import io.swagger.client.auth.OAuth;
 import io.swagger.client.auth.OAuthFlow;
+import io.swagger.client.model.NAHealthyHomeCoach;
 import io.swagger.client.model.NAHealthyHomeCoachDataBody;
+import io.swagger.client.model.NAMain;
+import io.swagger.client.model.NAPlug;
 import io.swagger.client.model.NAStationDataBody;
 import io.swagger.client.model.NAThermostatDataBody;
 import io.swagger.client.model.NAWebhookCameraEvent;
@@ -62,12 +74,28 @@ import retrofit.RetrofitError;
  *
  */
 public class NetatmoBridgeHandler extends BaseBridgeHandler {
+    // Upload cadences used when no device of the family tells its own
+    private static final long STATION_UPLOAD_CADENCE = 600000;
+    private static final long THERMOSTAT_UPLOAD_CADENCE = 3600000;
+    private static final long HOMECOACH_UPLOAD_CADENCE = 600000;
+
     private Logger logger = LoggerFactory.getLogger(NetatmoBridgeHandler.class);
 
     public NetatmoBridgeConfiguration configuration;
     private ScheduledFuture<?> refreshJob;
     private APIMap apiMap;
 
+    private final AccountDataCache<NAStationDataBody> stationData = new AccountDataCache<>(
+            () -> getStationApi().getstationsdata(null).getBody(),
+            body -> freshest(body.getDevices(), NAMain::getLastStatusStore));
+    private final AccountDataCache<NAThermostatDataBody> thermostatData = new AccountDataCache<>(
+            () -> getThermostatApi().getthermostatsdata(null).getBody(),
+            body -> freshest(body.getDevices(), NAPlug::getLastStatusStore));
+    private final AccountDataCache<NAHealthyHomeCoachDataBody> homecoachData = new AccountDataCache<>(
+            () -> getHomeCoachApi().gethomecoachsdata(null).getBody(),
+            body -> freshest(body.getDevices(), NAHealthyHomeCoach::getLastStatusStore));
+    private final Map<AccountDataCache<?>, ScheduledFuture<?>> dataRefreshJobs = new ConcurrentHashMap<>();
+
     @NonNullByDefault
     private class APIMap extends HashMap<Class<?>, Object> {
         private static final long serialVersionUID = -2024031764691952343L;
@@ -227,26 +255,89 @@ public class NetatmoBridgeHandler extends BaseBridgeHandler {
             refreshJob.cancel(true);
             refreshJob = null;
         }
+
+        dataRefreshJobs.values().forEach(job -> job.cancel(true));
+        dataRefreshJobs.clear();
     }
 
+    /**
+     * Data of all stations of the account is retrieved in a single call whatever the
+     * requested equipment, devices have to pick their own data in the body.
+     */
     public NAStationDataBody getStationsDataBody(String equipmentId) {
-        NAStationDataBody data = getStationApi().getstationsdata(equipmentId).getBody();
-        updateStatus(ThingStatus.ONLINE);
-        return data;
+        return getAccountData(stationData, NAMainHandler.class, STATION_UPLOAD_CADENCE);
     }
 
     public NAHealthyHomeCoachDataBody getHomecoachDataBody(String equipmentId) {
-        NAHealthyHomeCoachDataBody data = getHomeCoachApi().gethomecoachsdata(equipmentId).getBody();
-        updateStatus(ThingStatus.ONLINE);
-        return data;
+        return getAccountData(homecoachData, NAHealthyHomeCoachHandler.class, HOMECOACH_UPLOAD_CADENCE);
     }
 
     public NAThermostatDataBody getThermostatsDataBody(String equipmentId) {
-        NAThermostatDataBody data = getThermostatApi().getthermostatsdata(equipmentId).getBody();
+        return getAccountData(thermostatData, NAPlugHandler.class, THERMOSTAT_UPLOAD_CADENCE);
+    }
+
+    private <BODY> BODY getAccountData(AccountDataCache<BODY> cache, Class<?> handlerClass, long defaultCadence) {
+        BODY data = cache.get(getUploadCadence(handlerClass, defaultCadence));
         updateStatus(ThingStatus.ONLINE);
+        scheduleDataRefresh(cache, handlerClass, defaultCadence);
         return data;
     }
 
+    /*
+     * One job per API family fetches the account data when devices are expected to have
+     * uploaded new readings and dispatches it to all devices of the family
+     */
+    private void scheduleDataRefresh(AccountDataCache<?> cache, Class<?> handlerClass, long defaultCadence) {
+        dataRefreshJobs.computeIfAbsent(cache, key -> {
+            long delay = cache.getNextFetchDelayInMs();
+            logger.debug("Scheduling {} data refresh in {} s", handlerClass.getSimpleName(), delay / 1000);
+            return scheduler.schedule(() -> {
+                dataRefreshJobs.remove(cache);
+                refreshAccountData(cache, handlerClass, defaultCadence);
+            }, delay, TimeUnit.MILLISECONDS);
+        });
+    }
+
+    private void refreshAccountData(AccountDataCache<?> cache, Class<?> handlerClass, long defaultCadence) {
+        List<NetatmoDeviceHandler<?>> handlers = getDeviceHandlers(handlerClass);
+        if (handlers.isEmpty()) {
+            logger.debug("No more {} things, stopping data refresh", handlerClass.getSimpleName());
+            return;
+        }
+        try {
+            cache.fetch(getUploadCadence(handlerClass, defaultCadence));
+            updateStatus(ThingStatus.ONLINE);
+            handlers.forEach(NetatmoDeviceHandler::refreshFromBridge);
+        } catch (RetrofitError e) {
+            logger.warn("Unable to refresh {} data : {}", handlerClass.getSimpleName(), e.getMessage());
+        }
+        logger.debug("{} data refreshed, data age {} s, {} API calls in the last hour", handlerClass.getSimpleName(),
+                cache.getDataAge() / 1000, getApiCallsPerHour());
+        scheduleDataRefresh(cache, handlerClass, defaultCadence);
+    }
+
+    private List<NetatmoDeviceHandler<?>> getDeviceHandlers(Class<?> handlerClass) {
+        return getThing().getThings().stream().map(Thing::getHandler).filter(handlerClass::isInstance)
+                .map(handler -> (NetatmoDeviceHandler<?>) handler).collect(Collectors.toList());
+    }
+
+    private long getUploadCadence(Class<?> handlerClass, long defaultCadence) {
+        return getDeviceHandlers(handlerClass).stream().mapToLong(NetatmoDeviceHandler::getDataValidityPeriod)
+                .filter(period -> period > 0).min().orElse(defaultCadence);
+    }
+
+    private static <DEVICE> Integer freshest(List<DEVICE> devices, Function<DEVICE, Integer> lastStatusStore) {
+        if (devices == null) {
+            return null;
+        }
+        return devices.stream().map(lastStatusStore).filter(Objects::nonNull).max(Integer::compare).orElse(null);
+    }
+
+    private int getApiCallsPerHour() {
+        return stationData.getApiCallsPerHour() + thermostatData.getApiCallsPerHour()
+                + homecoachData.getApiCallsPerHour();
+    }
+
     public NAWelcomeHomeData getWelcomeDataBody(String homeId) {
         NAWelcomeHomeData data = getWelcomeApi().gethomedata(homeId, null).getBody();
         updateStatus(ThingStatus.ONLINE);
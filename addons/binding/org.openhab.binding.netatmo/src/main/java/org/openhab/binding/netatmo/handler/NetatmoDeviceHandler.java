@@ -82,10 +82,32 @@ public abstract class NetatmoDeviceHandler<DEVICE> extends AbstractNetatmoThingH
             updateChannels();
             refreshJob.cancel(false);
             refreshJob = null;
-            scheduleRefreshJob();
+            // Once the first readings are done, the bridge takes care of following refreshes
+            if (!isRefreshedByBridge()) {
+                scheduleRefreshJob();
+            }
         }, refreshStrategy.nextRunDelayInS(), TimeUnit.SECONDS);
     }
 
+    /**
+     * Devices whose data is fetched for the whole account by the bridge return true,
+     * they are then refreshed by the bridge when new data is expected.
+     */
+    protected boolean isRefreshedByBridge() {
+        return false;
+    }
+
+    void refreshFromBridge() {
+        if (refreshStrategy != null) {
+            refreshStrategy.expireData();
+            updateChannels();
+        }
+    }
+
+    long getDataValidityPeriod() {
+        return refreshStrategy != null ? refreshStrategy.getDataValidityPeriod() : 0;
+    }
+
     @Override
     public void dispose() {
         logger.debug("Running dispose()");
@@ -0,0 +1,114 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.netatmo.internal;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * {@link AccountDataCache} holds the data body of one Netatmo API family (stations,
+ * thermostats, home coaches) fetched for the whole account in a single call.
+ * The next fetch is aligned on the freshest upload timestamp of the devices plus
+ * their upload cadence, so that the API is only queried when new data is expected.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+@NonNullByDefault
+public class AccountDataCache<BODY> {
+    // Netatmo devices need some time after the upload before data is available through the API
+    private static final long UPLOAD_DELAY = 30000;
+    private static final long MIN_FETCH_INTERVAL = 60000;
+    private static final long ONE_HOUR = 3600000;
+
+    private final Supplier<BODY> fetcher;
+    private final Function<BODY, @Nullable Integer> freshestTimestamp;
+    private final Deque<Long> apiCalls = new ArrayDeque<>();
+    @Nullable
+    private BODY body;
+    private long dataTimeStamp;
+    private long nextFetchTime;
+
+    public AccountDataCache(Supplier<BODY> fetcher, Function<BODY, @Nullable Integer> freshestTimestamp) {
+        this.fetcher = fetcher;
+        this.freshestTimestamp = freshestTimestamp;
+    }
+
+    /**
+     * Returns the cached account data, fetching it again when new uploads are expected
+     *
+     * @param uploadCadence period in ms at which the devices of this family upload their data
+     */
+    public synchronized BODY get(long uploadCadence) {
+        BODY current = body;
+        if (current == null || System.currentTimeMillis() >= nextFetchTime) {
+            return fetch(uploadCadence);
+        }
+        return current;
+    }
+
+    /**
+     * Fetches the account data regardless of the cached one
+     *
+     * @param uploadCadence period in ms at which the devices of this family upload their data
+     */
+    public synchronized BODY fetch(long uploadCadence) {
+        long now = System.currentTimeMillis();
+        apiCalls.addLast(now);
+        // Retry no sooner than the minimum interval if the call fails
+        nextFetchTime = now + MIN_FETCH_INTERVAL;
+
+        BODY result = fetcher.get();
+        body = result;
+        Integer timestamp = freshestTimestamp.apply(result);
+        if (timestamp != null) {
+            dataTimeStamp = ChannelTypeUtils.toCalendar(timestamp).getTimeInMillis();
+            nextFetchTime = nextExpectedUpload(now, uploadCadence);
+        } else {
+            nextFetchTime = now + Math.max(uploadCadence, MIN_FETCH_INTERVAL);
+        }
+        return result;
+    }
+
+    // Skips the uploads missed by offline devices, so that we still follow their cadence
+    private long nextExpectedUpload(long now, long uploadCadence) {
+        long cadence = Math.max(uploadCadence, MIN_FETCH_INTERVAL);
+        long next = dataTimeStamp + cadence + UPLOAD_DELAY;
+        long earliest = now + MIN_FETCH_INTERVAL;
+        if (next < earliest) {
+            next += ((earliest - next) / cadence + 1) * cadence;
+        }
+        return next;
+    }
+
+    public synchronized long getNextFetchDelayInMs() {
+        return Math.max(0, nextFetchTime - System.currentTimeMillis());
+    }
+
+    public synchronized int getApiCallsPerHour() {
+        long oneHourAgo = System.currentTimeMillis() - ONE_HOUR;
+        while (!apiCalls.isEmpty() && apiCalls.peekFirst() < oneHourAgo) {
+            apiCalls.removeFirst();
+        }
+        return apiCalls.size();
+    }
+
+    /**
+     * @return age in ms of the freshest data uploaded by the devices, -1 if unknown
+     */
+    public synchronized long getDataAge() {
+        return dataTimeStamp == 0 ? -1 : System.currentTimeMillis() - dataTimeStamp;
+    }
+
+}
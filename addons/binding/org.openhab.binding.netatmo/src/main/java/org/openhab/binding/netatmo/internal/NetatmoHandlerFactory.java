@@ -33,8 +33,10 @@ import org.openhab.binding.netatmo.internal.thermostat.NATherm1Handler;
 import org.openhab.binding.netatmo.internal.welcome.NAWelcomeCameraHandler;
 import org.openhab.binding.netatmo.internal.welcome.NAWelcomeHomeHandler;
 import org.openhab.binding.netatmo.internal.welcome.NAWelcomePersonHandler;
+import org.openhab.io.transport.image.ImageCache;
 import org.osgi.framework.ServiceRegistration;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -53,6 +55,7 @@ public class NetatmoHandlerFactory extends BaseThingHandlerFactory {
     private Logger logger = LoggerFactory.getLogger(NetatmoHandlerFactory.class);
     private ServiceRegistration<?> discoveryServiceReg;
     private NetatmoBridgeHandler bridgeHandler;
+    private ImageCache imageCache;
 
     @Override
     public boolean supportsThingType(ThingTypeUID thingTypeUID) {
@@ -83,11 +86,11 @@ public class NetatmoHandlerFactory extends BaseThingHandlerFactory {
         } else if (thingTypeUID.equals(THERM1_THING_TYPE)) {
             return new NATherm1Handler(thing);
         } else if (thingTypeUID.equals(WELCOME_HOME_THING_TYPE)) {
-            return new NAWelcomeHomeHandler(thing);
+            return new NAWelcomeHomeHandler(thing, imageCache);
         } else if (thingTypeUID.equals(WELCOME_CAMERA_THING_TYPE)) {
-            return new NAWelcomeCameraHandler(thing);
+            return new NAWelcomeCameraHandler(thing, imageCache);
         } else if (thingTypeUID.equals(WELCOME_PERSON_THING_TYPE)) {
-            return new NAWelcomePersonHandler(thing);
+            return new NAWelcomePersonHandler(thing, imageCache);
         } else {
             logger.warn("ThingHandler not found for {}", thing.getThingTypeUID());
             return null;
@@ -118,4 +121,13 @@ public class NetatmoHandlerFactory extends BaseThingHandlerFactory {
         }
     }
 
+    @Reference
+    protected void setImageCache(ImageCache imageCache) {
+        this.imageCache = imageCache;
+    }
+
+    protected void unsetImageCache(ImageCache imageCache) {
+        this.imageCache = null;
+    }
+
 }
@@ -46,6 +46,14 @@ public class RefreshStrategy {
         return dataAge() >= dataValidityPeriod;
     }
 
+    public void expireData() {
+        dataTimeStamp = Calendar.getInstance().getTimeInMillis() - dataValidityPeriod;
+    }
+
+    public int getDataValidityPeriod() {
+        return dataValidityPeriod;
+    }
+
     public long nextRunDelayInS() {
         return Math.max(0, (dataValidityPeriod - dataAge())) / 1000 + DEFAULT_DELAY;
     }
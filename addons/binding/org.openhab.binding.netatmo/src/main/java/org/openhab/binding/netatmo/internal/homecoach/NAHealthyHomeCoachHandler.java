@@ -34,13 +34,19 @@ public class NAHealthyHomeCoachHandler extends NetatmoDeviceHandler<NAHealthyHom
         super(thing);
     }
 
+    @Override
+    protected boolean isRefreshedByBridge() {
+        return true;
+    }
+
     @Override
     protected NAHealthyHomeCoach updateReadings() {
         NAHealthyHomeCoach result = null;
         NAHealthyHomeCoachDataBody homecoachDataBody = getBridgeHandler().getHomecoachDataBody(getId());
         if (homecoachDataBody != null) {
             userAdministrative = homecoachDataBody.getUser().getAdministrative();
-            result = homecoachDataBody.getDevices().get(0);
+            result = homecoachDataBody.getDevices().stream().filter(device -> device.getId().equalsIgnoreCase(getId()))
+                    .findFirst().orElse(null);
         }
         return result;
     }
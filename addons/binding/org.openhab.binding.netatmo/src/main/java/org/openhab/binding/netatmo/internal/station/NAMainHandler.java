@@ -36,6 +36,11 @@ public class NAMainHandler extends NetatmoDeviceHandler<NAMain> {
         super(thing);
     }
 
+    @Override
+    protected boolean isRefreshedByBridge() {
+        return true;
+    }
+
     @Override
     protected NAMain updateReadings() {
         NAMain result = null;
@@ -44,7 +49,7 @@ public class NAMainHandler extends NetatmoDeviceHandler<NAMain> {
             userAdministrative = stationDataBody.getUser().getAdministrative();
 
             result = stationDataBody.getDevices().stream().filter(device -> device.getId().equalsIgnoreCase(getId()))
-                    .findFirst().get();
+                    .findFirst().orElse(null);
             if (result != null) {
                 result.getModules().forEach(child -> childs.put(child.getId(), child));
             }
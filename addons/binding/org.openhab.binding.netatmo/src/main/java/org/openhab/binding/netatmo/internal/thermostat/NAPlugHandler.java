@@ -37,6 +37,11 @@ public class NAPlugHandler extends NetatmoDeviceHandler<NAPlug> {
         super(thing);
     }
 
+    @Override
+    protected boolean isRefreshedByBridge() {
+        return true;
+    }
+
     @Override
     protected NAPlug updateReadings() {
         NAPlug result = null;
@@ -45,7 +50,7 @@ public class NAPlugHandler extends NetatmoDeviceHandler<NAPlug> {
             userAdministrative = thermostatDataBody.getUser().getAdministrative();
 
             result = thermostatDataBody.getDevices().stream().filter(device -> device.getId().equalsIgnoreCase(getId()))
-                    .findFirst().get();
+                    .findFirst().orElse(null);
             if (result != null) {
                 result.getModules().forEach(child -> childs.put(child.getId(), child));
             }
@@ -17,8 +17,8 @@ import org.eclipse.smarthome.core.library.types.StringType;
 import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.types.State;
 import org.eclipse.smarthome.core.types.UnDefType;
-import org.eclipse.smarthome.io.net.http.HttpUtil;
 import org.openhab.binding.netatmo.handler.NetatmoModuleHandler;
+import org.openhab.io.transport.image.ImageCache;
 
 import io.swagger.client.model.NAWelcomeCamera;
 
@@ -34,9 +34,11 @@ public class NAWelcomeCameraHandler extends NetatmoModuleHandler<NAWelcomeCamera
     private String vpnUrl;
     private boolean isLocal = false;
     private String liveStreamURL;
+    private final NAWelcomeImageUpdater imageUpdater;
 
-    public NAWelcomeCameraHandler(@NonNull Thing thing) {
+    public NAWelcomeCameraHandler(@NonNull Thing thing, ImageCache imageCache) {
         super(thing);
+        imageUpdater = new NAWelcomeImageUpdater(imageCache, this::updateState);
     }
 
     @Override
@@ -54,7 +56,8 @@ public class NAWelcomeCameraHandler extends NetatmoModuleHandler<NAWelcomeCamera
             case CHANNEL_WELCOME_CAMERA_LIVEPICTURE_URL:
                 return getLivePictureURL() == null ? UnDefType.UNDEF : toStringType(getLivePictureURL());
             case CHANNEL_WELCOME_CAMERA_LIVEPICTURE:
-                return getLivePictureURL() == null ? UnDefType.UNDEF : HttpUtil.downloadImage(getLivePictureURL());
+                // The live picture changes behind the same URL
+                return imageUpdater.refreshImage(chanelId, getLivePictureURL());
             case CHANNEL_WELCOME_CAMERA_LIVESTREAM_URL:
                 return getLiveStreamURL() == null ? UnDefType.UNDEF : new StringType(getLiveStreamURL());
         }
@@ -22,9 +22,9 @@ import org.eclipse.smarthome.core.library.types.StringType;
 import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.types.State;
 import org.eclipse.smarthome.core.types.UnDefType;
-import org.eclipse.smarthome.io.net.http.HttpUtil;
 import org.openhab.binding.netatmo.handler.AbstractNetatmoThingHandler;
 import org.openhab.binding.netatmo.handler.NetatmoDeviceHandler;
+import org.openhab.io.transport.image.ImageCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,9 +47,11 @@ public class NAWelcomeHomeHandler extends NetatmoDeviceHandler<NAWelcomeHome> {
     private int iUnknowns = -1;
     private NAWelcomeEvent lastEvent;
     private Integer dataTimeStamp;
+    private final NAWelcomeImageUpdater imageUpdater;
 
-    public NAWelcomeHomeHandler(@NonNull Thing thing) {
+    public NAWelcomeHomeHandler(@NonNull Thing thing, ImageCache imageCache) {
         super(thing);
+        imageUpdater = new NAWelcomeImageUpdater(imageCache, this::updateState);
     }
 
     @Override
@@ -124,8 +126,7 @@ public class NAWelcomeHomeHandler extends NetatmoDeviceHandler<NAWelcomeHome> {
                 }
             case CHANNEL_WELCOME_EVENT_SNAPSHOT:
                 if (lastEvent != null) {
-                    String url = getSnapshotURL(lastEvent.getSnapshot());
-                    return url != null ? HttpUtil.downloadImage(url) : UnDefType.UNDEF;
+                    return imageUpdater.getImage(channelId, getSnapshotURL(lastEvent.getSnapshot()));
                 } else {
                     return UnDefType.UNDEF;
                 }
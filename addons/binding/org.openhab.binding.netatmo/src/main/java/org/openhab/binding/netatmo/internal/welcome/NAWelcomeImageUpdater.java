@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.netatmo.internal.welcome;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+import org.eclipse.smarthome.core.types.State;
+import org.eclipse.smarthome.core.types.UnDefType;
+import org.openhab.io.transport.image.ImageCache;
+import org.openhab.io.transport.image.ImageListener;
+
+/**
+ * {@link NAWelcomeImageUpdater} publishes the images (snapshots, avatars and live pictures) of a Welcome thing. The
+ * images are requested from the shared {@link ImageCache} and published on their channel when they have arrived, so
+ * the update of the other channels doesn't wait for the downloads.
+ *
+ * @author agent - Initial contribution
+ */
+class NAWelcomeImageUpdater {
+    private final ImageCache imageCache;
+    private final BiConsumer<String, State> publisher;
+
+    // The URL last requested for each channel, images of older URLs arriving late are ignored
+    private final Map<String, String> requestedUrls = new ConcurrentHashMap<>();
+
+    NAWelcomeImageUpdater(ImageCache imageCache, BiConsumer<String, State> publisher) {
+        this.imageCache = imageCache;
+        this.publisher = publisher;
+    }
+
+    /**
+     * Requests the image at the given URL for the channel.
+     *
+     * @return {@link UnDefType#UNDEF} if there is no URL, otherwise null as the image is published when it arrives
+     */
+    State getImage(String channelId, String url) {
+        return requestImage(channelId, url, false);
+    }
+
+    /**
+     * Requests the image at the given URL for the channel, downloading it again even if it is cached.
+     *
+     * @return {@link UnDefType#UNDEF} if there is no URL, otherwise null as the image is published when it arrives
+     */
+    State refreshImage(String channelId, String url) {
+        return requestImage(channelId, url, true);
+    }
+
+    private State requestImage(String channelId, String url, boolean refresh) {
+        if (url == null) {
+            requestedUrls.remove(channelId);
+            return UnDefType.UNDEF;
+        }
+
+        requestedUrls.put(channelId, url);
+        ImageListener listener = (imageUrl, image) -> {
+            if (imageUrl.equals(requestedUrls.get(channelId))) {
+                publisher.accept(channelId, image != null ? image : UnDefType.UNDEF);
+            }
+        };
+        if (refresh) {
+            imageCache.refreshImage(url, listener);
+        } else {
+            imageCache.getImage(url, listener);
+        }
+        return null;
+    }
+}
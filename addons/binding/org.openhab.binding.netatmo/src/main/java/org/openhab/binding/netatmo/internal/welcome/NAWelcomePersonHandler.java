@@ -20,8 +20,8 @@ import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.State;
 import org.eclipse.smarthome.core.types.UnDefType;
-import org.eclipse.smarthome.io.net.http.HttpUtil;
 import org.openhab.binding.netatmo.handler.NetatmoModuleHandler;
+import org.openhab.io.transport.image.ImageCache;
 
 import io.swagger.client.api.WelcomeApi;
 import io.swagger.client.model.NAWelcomeEvent;
@@ -38,9 +38,11 @@ import io.swagger.client.model.NAWelcomePerson;
 public class NAWelcomePersonHandler extends NetatmoModuleHandler<NAWelcomePerson> {
     private String avatarURL;
     private NAWelcomeEvent lastEvent;
+    private final NAWelcomeImageUpdater imageUpdater;
 
-    public NAWelcomePersonHandler(@NonNull Thing thing) {
+    public NAWelcomePersonHandler(@NonNull Thing thing, ImageCache imageCache) {
         super(thing);
+        imageUpdater = new NAWelcomeImageUpdater(imageCache, this::updateState);
     }
 
     @Override
@@ -70,7 +72,7 @@ public class NAWelcomePersonHandler extends NetatmoModuleHandler<NAWelcomePerson
             case CHANNEL_WELCOME_PERSON_AVATAR_URL:
                 return toStringType(getAvatarURL());
             case CHANNEL_WELCOME_PERSON_AVATAR:
-                return getAvatarURL() != null ? HttpUtil.downloadImage(getAvatarURL()) : UnDefType.UNDEF;
+                return imageUpdater.getImage(channelId, getAvatarURL());
             case CHANNEL_WELCOME_PERSON_LASTMESSAGE:
                 return (lastEvent != null && lastEvent.getMessage() != null)
                         ? toStringType(lastEvent.getMessage().replace("<b>", "").replace("</b>", ""))
@@ -78,7 +80,7 @@ public class NAWelcomePersonHandler extends NetatmoModuleHandler<NAWelcomePerson
             case CHANNEL_WELCOME_PERSON_LASTTIME:
                 return lastEvent != null ? toDateTimeType(lastEvent.getTime()) : UnDefType.UNDEF;
             case CHANNEL_WELCOME_PERSON_LASTEVENT:
-                return getLastEventURL() != null ? HttpUtil.downloadImage(getLastEventURL()) : UnDefType.UNDEF;
+                return imageUpdater.getImage(channelId, getLastEventURL());
             case CHANNEL_WELCOME_PERSON_LASTEVENT_URL:
                 return getLastEventURL() != null ? toStringType(getLastEventURL()) : UnDefType.UNDEF;
         }
@@ -42,6 +42,8 @@ import org.openhab.binding.onkyo.internal.ServiceType;
 import org.openhab.binding.onkyo.internal.config.OnkyoDeviceConfiguration;
 import org.openhab.binding.onkyo.internal.eiscp.EiscpCommand;
 import org.openhab.binding.onkyo.internal.eiscp.EiscpMessage;
+import org.openhab.io.transport.image.ImageCache;
+import org.openhab.io.transport.image.ImageLoader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -68,11 +70,17 @@ public class OnkyoHandler extends UpnpAudioSinkHandler implements OnkyoEventList
     private State volumeLevelZone3 = UnDefType.UNDEF;
 
     private OnkyoAlbumArt onkyoAlbumArt = new OnkyoAlbumArt();
+    private final ImageCache imageCache;
+    // A single loader instance, as the image cache only shares a download between requests with the same loader
+    private final ImageLoader albumArtLoader = this::loadAlbumArt;
+    private volatile String albumArtUrl;
 
     private final int NET_USB_ID = 43;
 
-    public OnkyoHandler(Thing thing, UpnpIOService upnpIOService, AudioHTTPServer audioHTTPServer, String callbackUrl) {
+    public OnkyoHandler(Thing thing, UpnpIOService upnpIOService, AudioHTTPServer audioHTTPServer, String callbackUrl,
+            ImageCache imageCache) {
         super(thing, upnpIOService, audioHTTPServer, callbackUrl);
+        this.imageCache = imageCache;
     }
 
     /**
@@ -529,15 +537,21 @@ public class OnkyoHandler extends UpnpAudioSinkHandler implements OnkyoEventList
         onkyoAlbumArt.addFrame(data);
 
         if (onkyoAlbumArt.isAlbumCoverReady()) {
-            try {
-                byte[] imgData = onkyoAlbumArt.getAlbumArt();
-                if (imgData != null && imgData.length > 0) {
-                    updateState(CHANNEL_ALBUM_ART, new RawType(imgData));
-                } else {
+            albumArtUrl = onkyoAlbumArt.getAlbumArtUrl();
+            if (albumArtUrl != null) {
+                // Download the album art in the background, so the receiver messages are not held up
+                imageCache.getImage(albumArtUrl, albumArtLoader, this::updateAlbumArtImage);
+            } else {
+                try {
+                    byte[] imgData = onkyoAlbumArt.getAlbumArt();
+                    if (imgData != null && imgData.length > 0) {
+                        updateState(CHANNEL_ALBUM_ART, new RawType(imgData));
+                    } else {
+                        updateState(CHANNEL_ALBUM_ART, UnDefType.UNDEF);
+                    }
+                } catch (IllegalArgumentException e) {
                     updateState(CHANNEL_ALBUM_ART, UnDefType.UNDEF);
                 }
-            } catch (IllegalArgumentException e) {
-                updateState(CHANNEL_ALBUM_ART, UnDefType.UNDEF);
             }
             onkyoAlbumArt.clearAlbumArt();
         }
@@ -553,6 +567,17 @@ public class OnkyoHandler extends UpnpAudioSinkHandler implements OnkyoEventList
 
     }
 
+    private RawType loadAlbumArt(String url) {
+        byte[] imgData = onkyoAlbumArt.downloadAlbumArt(url);
+        return imgData != null && imgData.length > 0 ? new RawType(imgData) : null;
+    }
+
+    private void updateAlbumArtImage(String url, RawType image) {
+        if (url.equals(albumArtUrl)) {
+            updateState(CHANNEL_ALBUM_ART, image != null ? image : UnDefType.UNDEF);
+        }
+    }
+
     private void updateNetTitle(String data) {
         // first 2 characters is service type
         int type = Integer.parseInt(data.substring(0, 2), 16);
@@ -149,21 +149,6 @@ public class OnkyoAlbumArt {
                     break;
                 case URL:
                     data = downloadAlbumArt(coverArtUrl);
-                    //Workaround firmware bug providing incorrect headers causing them to be seen as body instead.
-                    if (data != null) {
-                        int bodyLength = data.length;
-                        int i = new String(data).indexOf("image/");
-                        if (i > 0) {
-                            while (i < bodyLength && data[i] != '\r') {
-                                i++;
-                            }
-                            while (i < bodyLength && (data[i] == '\r' || data[i] == '\n')) {
-                                i++;
-                            }
-                            data = Arrays.copyOfRange(data, i, bodyLength);
-                            logger.trace("Onkyo fixed picture data @ {}: {} ", i, new String(data));
-                        }
-                    }
                     break;
                 case NONE:
                 default:
@@ -174,16 +159,44 @@ public class OnkyoAlbumArt {
         throw new IllegalArgumentException("Illegal Album Art");
     }
 
-    private byte[] downloadAlbumArt(String albumArtUrl) {
+    /**
+     * Returns the URL of the album art if it is ready and provided as URL, otherwise null.
+     */
+    public String getAlbumArtUrl() {
+        return state == State.READY && imageType == ImageType.URL ? coverArtUrl : null;
+    }
+
+    /**
+     * Downloads the album art from the given URL.
+     *
+     * @return the image data or null if the download failed
+     */
+    public byte[] downloadAlbumArt(String albumArtUrl) {
         try {
             URL url = new URL(albumArtUrl);
             URLConnection connection = url.openConnection();
             InputStream inputStream = connection.getInputStream();
+            byte[] data;
             try {
-                return IOUtils.toByteArray(inputStream);
+                data = IOUtils.toByteArray(inputStream);
             } finally {
                 IOUtils.closeQuietly(inputStream);
             }
+
+            //Workaround firmware bug providing incorrect headers causing them to be seen as body instead.
+            int bodyLength = data.length;
+            int i = new String(data).indexOf("image/");
+            if (i > 0) {
+                while (i < bodyLength && data[i] != '\r') {
+                    i++;
+                }
+                while (i < bodyLength && (data[i] == '\r' || data[i] == '\n')) {
+                    i++;
+                }
+                data = Arrays.copyOfRange(data, i, bodyLength);
+                logger.trace("Onkyo fixed picture data @ {}: {} ", i, new String(data));
+            }
+            return data;
         } catch (MalformedURLException e) {
             logger.warn("Album Art download failed from url '{}', reason {}", albumArtUrl, e.getMessage());
         } catch (IOException e) {
@@ -26,6 +26,7 @@ import org.eclipse.smarthome.core.thing.binding.ThingHandler;
 import org.eclipse.smarthome.core.thing.binding.ThingHandlerFactory;
 import org.eclipse.smarthome.io.transport.upnp.UpnpIOService;
 import org.openhab.binding.onkyo.handler.OnkyoHandler;
+import org.openhab.io.transport.image.ImageCache;
 import org.osgi.framework.ServiceRegistration;
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Component;
@@ -50,6 +51,7 @@ public class OnkyoHandlerFactory extends BaseThingHandlerFactory {
     private UpnpIOService upnpIOService;
     private AudioHTTPServer audioHTTPServer;
     private NetworkAddressService networkAddressService;
+    private ImageCache imageCache;
 
     // url (scheme+server+port) to use for playing notification sounds
     private String callbackUrl = null;
@@ -73,7 +75,8 @@ public class OnkyoHandlerFactory extends BaseThingHandlerFactory {
 
         if (SUPPORTED_THING_TYPES_UIDS.contains(thingTypeUID)) {
             String callbackUrl = createCallbackUrl();
-            OnkyoHandler handler = new OnkyoHandler(thing, upnpIOService, audioHTTPServer, callbackUrl);
+            OnkyoHandler handler = new OnkyoHandler(thing, upnpIOService, audioHTTPServer, callbackUrl,
+                    imageCache);
             if (callbackUrl != null) {
                 @SuppressWarnings("unchecked")
                 ServiceRegistration<AudioSink> reg = (ServiceRegistration<AudioSink>) bundleContext
@@ -142,4 +145,13 @@ public class OnkyoHandlerFactory extends BaseThingHandlerFactory {
     protected void unsetNetworkAddressService(NetworkAddressService networkAddressService) {
         this.networkAddressService = null;
     }
+
+    @Reference
+    protected void setImageCache(ImageCache imageCache) {
+        this.imageCache = imageCache;
+    }
+
+    protected void unsetImageCache(ImageCache imageCache) {
+        this.imageCache = null;
+    }
 }
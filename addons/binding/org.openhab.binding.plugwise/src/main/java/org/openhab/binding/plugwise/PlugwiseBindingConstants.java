@@ -45,6 +45,7 @@ public class PlugwiseBindingConstants {
     public static final String CONFIG_PROPERTY_UPDATE_INTERVAL = "updateInterval";
 
     // List of all property IDs
+    public static final String PROPERTY_ENERGY_LOG_CHECKPOINT = "energyLogCheckpoint";
     public static final String PROPERTY_HERTZ = "hertz";
     public static final String PROPERTY_MAC_ADDRESS = "macAddress";
 
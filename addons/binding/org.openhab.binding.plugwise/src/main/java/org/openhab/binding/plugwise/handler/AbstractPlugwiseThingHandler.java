@@ -165,6 +165,12 @@ public abstract class AbstractPlugwiseThingHandler extends BaseThingHandler impl
 
     protected abstract boolean shouldOnlineTaskBeScheduled();
 
+    protected void sendBackgroundMessage(Message message) {
+        if (stickHandler != null) {
+            stickHandler.sendMessage(message, PlugwiseMessagePriority.BACKGROUND);
+        }
+    }
+
     protected void sendCommandMessage(Message message) {
         if (stickHandler != null) {
             stickHandler.sendMessage(message, PlugwiseMessagePriority.COMMAND);
@@ -14,6 +14,7 @@ import static org.openhab.binding.plugwise.PlugwiseBindingConstants.*;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.smarthome.config.core.Configuration;
@@ -26,6 +27,7 @@ import org.eclipse.smarthome.core.thing.ThingStatus;
 import org.eclipse.smarthome.core.thing.ThingStatusDetail;
 import org.eclipse.smarthome.core.types.Command;
 import org.openhab.binding.plugwise.internal.PlugwiseDeviceTask;
+import org.openhab.binding.plugwise.internal.PlugwiseEnergyLogBackfill;
 import org.openhab.binding.plugwise.internal.PlugwiseUtils;
 import org.openhab.binding.plugwise.internal.config.PlugwiseRelayConfig;
 import org.openhab.binding.plugwise.internal.config.PlugwiseRelayConfig.PowerStateChanging;
@@ -69,6 +71,11 @@ import com.google.common.collect.Lists;
  * class with {@link PowerCalibration} data.
  * </p>
  * <p>
+ * When intervals have been missed, e.g. because the Circle or openHAB was offline, the
+ * {@link PlugwiseEnergyLogBackfill} retrieves the energy of these intervals from the buffer in the background and
+ * updates the energy channels with them in chronological order before the regular energy updates continue.
+ * </p>
+ * <p>
  * A Circle+ is a special Circle. There is one Circle+ in a Plugwise network. The Circle+ serves as a master controller
  * in a Plugwise network. It also provides clock data to the other devices and sends messages from and to the Stick.
  * </p>
@@ -139,7 +146,15 @@ public class PlugwiseRelayDeviceHandler extends AbstractPlugwiseThingHandler {
 
         @Override
         public void runTask() {
-            if (isRecentLogAddressKnown()) {
+            if (!isRecentLogAddressKnown()) {
+                return;
+            }
+
+            if (energyLogBackfill.isActive()) {
+                energyLogBackfill.checkProgress();
+            } else if (isCalibrated() && energyLogBackfill.isBehind(configuration.getMeasurementInterval())) {
+                energyLogBackfill.start(recentLogAddress);
+            } else {
                 updateEnergy();
             }
         }
@@ -215,6 +230,26 @@ public class PlugwiseRelayDeviceHandler extends AbstractPlugwiseThingHandler {
         }
     };
 
+    private final PlugwiseEnergyLogBackfill energyLogBackfill = new PlugwiseEnergyLogBackfill() {
+        @Override
+        protected void sendRequest(int logAddress) {
+            sendBackgroundMessage(new PowerBufferRequestMessage(macAddress, logAddress));
+        }
+
+        @Override
+        protected void publish(Energy backfilledEnergy) {
+            logger.trace("Updating {} ({}) energy with backfilled: {}", deviceType, macAddress, backfilledEnergy);
+            updateEnergyState(backfilledEnergy);
+        }
+
+        @Override
+        protected void storeCheckpoint(String checkpoint) {
+            Map<String, String> properties = editProperties();
+            properties.put(PROPERTY_ENERGY_LOG_CHECKPOINT, checkpoint);
+            updateProperties(properties);
+        }
+    };
+
     private final List<PlugwiseDeviceTask> recurringTasks = Lists.newArrayList(clockUpdateTask, currentPowerUpdateTask,
             energyUpdateTask, informationUpdateTask, realTimeClockUpdateTask, setClockTask);
 
@@ -271,6 +306,8 @@ public class PlugwiseRelayDeviceHandler extends AbstractPlugwiseThingHandler {
     @Override
     public void dispose() {
         stopTasks(recurringTasks);
+        energyLogBackfill.stop();
+        energyLogBackfill.saveCheckpoint();
         super.dispose();
     }
 
@@ -412,6 +449,16 @@ public class PlugwiseRelayDeviceHandler extends AbstractPlugwiseThingHandler {
             return;
         }
 
+        if (energyLogBackfill.handleResponse(message, configuration.getMeasurementInterval())) {
+            return;
+        }
+
+        if (energyLogBackfill.isActive()) {
+            // Publishing the most recent energy now would break the chronological order of the backfilled energy
+            logger.trace("Ignoring {} ({}) energy while backfilling the energy log", deviceType, macAddress);
+            return;
+        }
+
         Energy mostRecentEnergy = message.getMostRecentDatapoint();
 
         if (mostRecentEnergy != null) {
@@ -421,11 +468,10 @@ public class PlugwiseRelayDeviceHandler extends AbstractPlugwiseThingHandler {
 
             boolean isLastInterval = mostRecentEnergy.getEnd().isAfter(oneIntervalAgo);
             if (isLastInterval) {
-                energy = mostRecentEnergy;
-                energy.setInterval(configuration.getMeasurementInterval());
+                mostRecentEnergy.setInterval(configuration.getMeasurementInterval());
                 logger.trace("Updating {} ({}) energy with: {}", deviceType, macAddress, mostRecentEnergy);
-                updateState(CHANNEL_ENERGY, new DecimalType(correctSign(energy.tokWh(calibration))));
-                updateState(CHANNEL_ENERGY_STAMP, PlugwiseUtils.newDateTimeType(energy.getStart()));
+                updateEnergyState(mostRecentEnergy);
+                energyLogBackfill.updateCheckpoint(message.getLogAddress(), mostRecentEnergy);
             } else {
                 logger.trace("Most recent energy in buffer of {} ({}) is older than one interval ago: {}", deviceType,
                         macAddress, mostRecentEnergy);
@@ -493,6 +539,7 @@ public class PlugwiseRelayDeviceHandler extends AbstractPlugwiseThingHandler {
     public void initialize() {
         configuration = getConfigAs(PlugwiseRelayConfig.class);
         macAddress = configuration.getMACAddress();
+        energyLogBackfill.restoreCheckpoint(thing.getProperties().get(PROPERTY_ENERGY_LOG_CHECKPOINT));
         if (!isInitialized()) {
             setUpdateCommandFlags(null, configuration);
         }
@@ -572,6 +619,12 @@ public class PlugwiseRelayDeviceHandler extends AbstractPlugwiseThingHandler {
         }
     };
 
+    private void updateEnergyState(Energy newEnergy) {
+        energy = newEnergy;
+        updateState(CHANNEL_ENERGY, new DecimalType(correctSign(newEnergy.tokWh(calibration))));
+        updateState(CHANNEL_ENERGY_STAMP, PlugwiseUtils.newDateTimeType(newEnergy.getStart()));
+    }
+
     @Override
     protected void updateStatus(ThingStatus status, ThingStatusDetail statusDetail, String description) {
         super.updateStatus(status, statusDetail, description);
@@ -583,6 +636,9 @@ public class PlugwiseRelayDeviceHandler extends AbstractPlugwiseThingHandler {
             if (editProperties().isEmpty()) {
                 updateInformation();
             }
+        } else {
+            energyLogBackfill.stop();
+            energyLogBackfill.saveCheckpoint();
         }
 
         updateTasks(recurringTasks);
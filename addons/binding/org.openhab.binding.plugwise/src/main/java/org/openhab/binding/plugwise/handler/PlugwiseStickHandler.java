@@ -26,6 +26,7 @@ import org.eclipse.smarthome.core.types.Command;
 import org.openhab.binding.plugwise.internal.PlugwiseCommunicationHandler;
 import org.openhab.binding.plugwise.internal.PlugwiseDeviceTask;
 import org.openhab.binding.plugwise.internal.PlugwiseInitializationException;
+import org.openhab.binding.plugwise.internal.PlugwiseLatencyStatistics.DeviceLatency;
 import org.openhab.binding.plugwise.internal.PlugwiseMessagePriority;
 import org.openhab.binding.plugwise.internal.PlugwiseUtils;
 import org.openhab.binding.plugwise.internal.config.PlugwiseStickConfig;
@@ -189,6 +190,14 @@ public class PlugwiseStickHandler extends BaseBridgeHandler implements PlugwiseM
         communicationHandler.addMessageListener(listener, macAddress);
     }
 
+    /**
+     * Returns the message latency statistics of the device with the given MAC address or null if no messages have been
+     * sent to it.
+     */
+    public DeviceLatency getDeviceLatency(MACAddress macAddress) {
+        return communicationHandler.getDeviceLatency(macAddress);
+    }
+
     public void removeStickStatusListener(PlugwiseStickStatusListener listener) {
         statusListeners.remove(listener);
     }
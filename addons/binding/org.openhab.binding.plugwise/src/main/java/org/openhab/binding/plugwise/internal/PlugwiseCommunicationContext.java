@@ -14,7 +14,6 @@ import java.util.Enumeration;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.PriorityBlockingQueue;
-import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.commons.io.IOUtils;
 import org.openhab.binding.plugwise.internal.config.PlugwiseStickConfig;
@@ -68,8 +67,8 @@ public class PlugwiseCommunicationContext {
     private final BlockingQueue<Message> receivedQueue = new ArrayBlockingQueue<>(MAX_BUFFER_SIZE, true);
     private final PriorityBlockingQueue<PlugwiseQueuedMessage> sendQueue = new PriorityBlockingQueue<>(MAX_BUFFER_SIZE,
             QUEUED_MESSAGE_COMPERATOR);
-    private final BlockingQueue<PlugwiseQueuedMessage> sentQueue = new ArrayBlockingQueue<>(MAX_BUFFER_SIZE, true);
-    private final ReentrantLock sentQueueLock = new ReentrantLock();
+    private final PlugwiseLatencyStatistics latencyStatistics = new PlugwiseLatencyStatistics();
+    private final PlugwiseSendWindow sendWindow = new PlugwiseSendWindow(latencyStatistics);
     private final PlugwiseFilteredMessageListenerList filteredListeners = new PlugwiseFilteredMessageListenerList();
 
     private PlugwiseStickConfig configuration;
@@ -79,7 +78,7 @@ public class PlugwiseCommunicationContext {
         acknowledgedQueue.clear();
         receivedQueue.clear();
         sendQueue.clear();
-        sentQueue.clear();
+        sendWindow.clear();
     }
 
     public void closeSerialPort() {
@@ -128,6 +127,10 @@ public class PlugwiseCommunicationContext {
         return configuration;
     }
 
+    public PlugwiseLatencyStatistics getLatencyStatistics() {
+        return latencyStatistics;
+    }
+
     public PlugwiseFilteredMessageListenerList getFilteredListeners() {
         return filteredListeners;
     }
@@ -140,12 +143,8 @@ public class PlugwiseCommunicationContext {
         return sendQueue;
     }
 
-    public BlockingQueue<PlugwiseQueuedMessage> getSentQueue() {
-        return sentQueue;
-    }
-
-    public ReentrantLock getSentQueueLock() {
-        return sentQueueLock;
+    public PlugwiseSendWindow getSendWindow() {
+        return sendWindow;
     }
 
     public SerialPort getSerialPort() {
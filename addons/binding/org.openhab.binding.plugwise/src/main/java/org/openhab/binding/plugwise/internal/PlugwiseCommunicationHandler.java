@@ -10,6 +10,7 @@ package org.openhab.binding.plugwise.internal;
 
 import java.io.IOException;
 
+import org.openhab.binding.plugwise.internal.PlugwiseLatencyStatistics.DeviceLatency;
 import org.openhab.binding.plugwise.internal.config.PlugwiseStickConfig;
 import org.openhab.binding.plugwise.internal.listener.PlugwiseMessageListener;
 import org.openhab.binding.plugwise.internal.protocol.Message;
@@ -41,6 +42,10 @@ public class PlugwiseCommunicationHandler {
         return context.getConfiguration();
     }
 
+    public DeviceLatency getDeviceLatency(MACAddress macAddress) {
+        return context.getLatencyStatistics().getDeviceLatency(macAddress);
+    }
+
     public void removeMessageListener(PlugwiseMessageListener listener) {
         context.getFilteredListeners().removeListener(listener);
     }
@@ -58,6 +63,7 @@ public class PlugwiseCommunicationHandler {
     public void start() throws PlugwiseInitializationException {
         try {
             context.clearQueues();
+            context.getLatencyStatistics().clear();
             context.initializeSerialPort();
             messageSender.start();
             messageProcessor.start();
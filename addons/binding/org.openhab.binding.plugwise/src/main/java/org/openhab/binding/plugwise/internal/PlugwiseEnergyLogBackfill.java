@@ -0,0 +1,237 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.plugwise.internal;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+
+import org.openhab.binding.plugwise.internal.protocol.PowerBufferResponseMessage;
+import org.openhab.binding.plugwise.internal.protocol.field.Energy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>
+ * The {@link PlugwiseEnergyLogBackfill} retrieves the energy a relay device logged in the measurement intervals that
+ * have not been published, e.g. because the device or openHAB was offline. Each log address of the power buffer of a
+ * device contains the energy of 4 intervals.
+ * </p>
+ * <p>
+ * The log addresses are requested one at a time with the background priority, so the backfill does not hold up the
+ * regular updates. The energy of the intervals is published in chronological order and the progress is kept as a
+ * checkpoint (the log address and end of the last published interval), so it can be stored and continued after a
+ * restart. The checkpoint is kept in memory and only stored every few hours or when {@link #saveCheckpoint()} is
+ * called, e.g. when the device goes offline.
+ * </p>
+ *
+ * @author agent - Initial contribution
+ */
+public abstract class PlugwiseEnergyLogBackfill {
+
+    /**
+     * The maximum number of log addresses that are backfilled, i.e. one week of hourly intervals
+     */
+    public static final int MAX_LOG_ADDRESSES = 42;
+
+    /**
+     * The number of log addresses of the power buffer. After the last address the device continues logging at
+     * address 0.
+     */
+    public static final int LOG_ADDRESS_COUNT = 6016;
+
+    private static final Duration CHECKPOINT_SAVE_INTERVAL = Duration.ofHours(6);
+    private static final Duration RESPONSE_TIMEOUT = Duration.ofMinutes(1);
+    private static final String CHECKPOINT_SEPARATOR = ";";
+
+    private final Logger logger = LoggerFactory.getLogger(PlugwiseEnergyLogBackfill.class);
+
+    private int checkpointLogAddress = -1;
+    private ZonedDateTime checkpointEnd;
+    private boolean checkpointChanged;
+    private LocalDateTime checkpointSaveTime;
+
+    private int nextLogAddress = -1;
+    private int lastLogAddress = -1;
+    private LocalDateTime requestTime;
+
+    /**
+     * Sends a power buffer request for the given log address.
+     */
+    protected abstract void sendRequest(int logAddress);
+
+    /**
+     * Publishes the energy of an interval. The interval of the energy has been set.
+     */
+    protected abstract void publish(Energy energy);
+
+    /**
+     * Stores the checkpoint so the backfill can continue from it after a restart.
+     */
+    protected abstract void storeCheckpoint(String checkpoint);
+
+    /**
+     * Restores a checkpoint that was stored with {@link #storeCheckpoint(String)}. Invalid checkpoints are ignored.
+     */
+    public synchronized void restoreCheckpoint(String checkpoint) {
+        stop();
+        checkpointLogAddress = -1;
+        checkpointEnd = null;
+        checkpointChanged = false;
+        checkpointSaveTime = LocalDateTime.now();
+
+        if (checkpoint == null) {
+            return;
+        }
+
+        String[] parts = checkpoint.split(CHECKPOINT_SEPARATOR);
+        if (parts.length != 2) {
+            logger.debug("Ignoring invalid energy log checkpoint: {}", checkpoint);
+            return;
+        }
+
+        try {
+            checkpointLogAddress = Integer.parseInt(parts[0]);
+            checkpointEnd = ZonedDateTime.parse(parts[1]);
+        } catch (NumberFormatException | DateTimeParseException e) {
+            logger.debug("Ignoring invalid energy log checkpoint: {}", checkpoint);
+            checkpointLogAddress = -1;
+            checkpointEnd = null;
+        }
+    }
+
+    /**
+     * Moves the checkpoint to an interval that was published by the regular energy updates.
+     */
+    public synchronized void updateCheckpoint(int logAddress, Energy energy) {
+        if (checkpointEnd == null || energy.getUtcEnd().isAfter(checkpointEnd)) {
+            checkpointLogAddress = logAddress;
+            checkpointEnd = energy.getUtcEnd();
+            checkpointMoved();
+        }
+    }
+
+    /**
+     * Stores the checkpoint if it moved since it was last stored.
+     */
+    public synchronized void saveCheckpoint() {
+        if (checkpointChanged) {
+            storeCheckpoint(getCheckpoint());
+            checkpointChanged = false;
+            checkpointSaveTime = LocalDateTime.now();
+        }
+    }
+
+    public synchronized boolean isActive() {
+        return nextLogAddress >= 0;
+    }
+
+    /**
+     * Returns true when at least one interval ended after the checkpoint and before the most recent interval. Without
+     * checkpoint there is nothing to backfill.
+     */
+    public synchronized boolean isBehind(Duration interval) {
+        return checkpointEnd != null
+                && checkpointEnd.isBefore(ZonedDateTime.now(ZoneOffset.UTC).minus(interval.multipliedBy(2)));
+    }
+
+    /**
+     * Starts retrieving the log addresses from the checkpoint up to the given most recent log address.
+     */
+    public synchronized void start(int recentLogAddress) {
+        if (checkpointEnd == null || recentLogAddress < 0) {
+            return;
+        }
+
+        // The log address wraps around to 0 when the end of the power buffer has been reached, in which case the
+        // checkpoint address is greater than the recent one and the backfill continues from the end of the buffer
+        int behind = Math.floorMod(recentLogAddress - checkpointLogAddress, LOG_ADDRESS_COUNT);
+        nextLogAddress = Math.floorMod(recentLogAddress - Math.min(behind, MAX_LOG_ADDRESSES - 1), LOG_ADDRESS_COUNT);
+        lastLogAddress = recentLogAddress;
+        logger.debug("Backfilling energy log addresses {} to {}", nextLogAddress, lastLogAddress);
+        request();
+    }
+
+    public synchronized void stop() {
+        nextLogAddress = -1;
+        lastLogAddress = -1;
+        requestTime = null;
+    }
+
+    /**
+     * Requests the pending log address again when its response did not arrive in time, e.g. because the message
+     * failed after all attempts.
+     */
+    public synchronized void checkProgress() {
+        if (isActive() && requestTime != null && requestTime.plus(RESPONSE_TIMEOUT).isBefore(LocalDateTime.now())) {
+            logger.debug("Requesting energy log address {} again", nextLogAddress);
+            request();
+        }
+    }
+
+    /**
+     * Handles a power buffer response while the backfill is active. The intervals that ended after the checkpoint are
+     * published in order, after which the next log address is requested.
+     *
+     * @return true when the response was the one the backfill is waiting for
+     */
+    public synchronized boolean handleResponse(PowerBufferResponseMessage message, Duration interval) {
+        if (!isActive() || message.getLogAddress() != nextLogAddress) {
+            return false;
+        }
+
+        ZonedDateTime now = ZonedDateTime.now(ZoneOffset.UTC);
+        boolean published = false;
+        for (Energy datapoint : message.getDatapoints()) {
+            if (datapoint != null && datapoint.getUtcEnd().isAfter(checkpointEnd)
+                    && !datapoint.getUtcEnd().isAfter(now)) {
+                datapoint.setInterval(interval);
+                publish(datapoint);
+                checkpointLogAddress = nextLogAddress;
+                checkpointEnd = datapoint.getUtcEnd();
+                published = true;
+            }
+        }
+
+        if (published) {
+            checkpointMoved();
+        }
+
+        if (nextLogAddress != lastLogAddress) {
+            nextLogAddress = (nextLogAddress + 1) % LOG_ADDRESS_COUNT;
+            request();
+        } else {
+            logger.debug("Backfilled energy log up to address {}", lastLogAddress);
+            stop();
+            saveCheckpoint();
+        }
+
+        return true;
+    }
+
+    private void checkpointMoved() {
+        checkpointChanged = true;
+        if (checkpointSaveTime == null
+                || checkpointSaveTime.plus(CHECKPOINT_SAVE_INTERVAL).isBefore(LocalDateTime.now())) {
+            saveCheckpoint();
+        }
+    }
+
+    private String getCheckpoint() {
+        return checkpointLogAddress + CHECKPOINT_SEPARATOR + checkpointEnd;
+    }
+
+    private void request() {
+        requestTime = LocalDateTime.now();
+        sendRequest(nextLogAddress);
+    }
+
+}
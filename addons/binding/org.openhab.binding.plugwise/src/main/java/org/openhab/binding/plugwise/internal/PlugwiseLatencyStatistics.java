@@ -0,0 +1,151 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.plugwise.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openhab.binding.plugwise.internal.protocol.field.MACAddress;
+
+/**
+ * The {@link PlugwiseLatencyStatistics} keeps track of the time messages for a device spend in the send queue and the
+ * round-trip time of the messages sent to the device, per MAC address.
+ *
+ * @author agent - Initial contribution
+ */
+public class PlugwiseLatencyStatistics {
+
+    /**
+     * The latency statistics of a single device. The averages are exponentially weighted moving averages.
+     */
+    public static class DeviceLatency {
+
+        private static final double WEIGHT = 0.125;
+
+        private long sentMessages;
+        private long responses;
+        private long retries;
+        private long timeouts;
+        private double averageQueueMillis;
+        private double averageRoundTripMillis;
+        private long lastRoundTripMillis;
+
+        private static double average(double average, long value, long count) {
+            return count == 1 ? value : average + WEIGHT * (value - average);
+        }
+
+        private synchronized void messageSent(long queueMillis) {
+            sentMessages++;
+            averageQueueMillis = average(averageQueueMillis, queueMillis, sentMessages);
+        }
+
+        private synchronized void responseReceived(long roundTripMillis) {
+            responses++;
+            lastRoundTripMillis = roundTripMillis;
+            averageRoundTripMillis = average(averageRoundTripMillis, roundTripMillis, responses);
+        }
+
+        private synchronized void messageRetried() {
+            retries++;
+        }
+
+        private synchronized void messageTimedOut() {
+            timeouts++;
+        }
+
+        public synchronized long getSentMessages() {
+            return sentMessages;
+        }
+
+        public synchronized long getResponses() {
+            return responses;
+        }
+
+        public synchronized long getRetries() {
+            return retries;
+        }
+
+        public synchronized long getTimeouts() {
+            return timeouts;
+        }
+
+        public synchronized double getAverageQueueMillis() {
+            return averageQueueMillis;
+        }
+
+        public synchronized double getAverageRoundTripMillis() {
+            return averageRoundTripMillis;
+        }
+
+        public synchronized long getLastRoundTripMillis() {
+            return lastRoundTripMillis;
+        }
+
+        @Override
+        public synchronized String toString() {
+            return "DeviceLatency [sentMessages=" + sentMessages + ", responses=" + responses + ", retries=" + retries
+                    + ", timeouts=" + timeouts + ", averageQueueMillis=" + Math.round(averageQueueMillis)
+                    + ", averageRoundTripMillis=" + Math.round(averageRoundTripMillis) + ", lastRoundTripMillis="
+                    + lastRoundTripMillis + "]";
+        }
+    }
+
+    private final Map<MACAddress, DeviceLatency> devices = new ConcurrentHashMap<>();
+
+    public void clear() {
+        devices.clear();
+    }
+
+    /**
+     * Returns the latency statistics of the device with the given MAC address or null if no messages have been sent to
+     * it.
+     */
+    public DeviceLatency getDeviceLatency(MACAddress macAddress) {
+        return devices.get(macAddress);
+    }
+
+    public void messageSent(PlugwiseQueuedMessage queuedMessage) {
+        DeviceLatency latency = getOrCreate(queuedMessage);
+        if (latency != null && queuedMessage.getAttempts() == 1) {
+            latency.messageSent(toMillis(queuedMessage.getSentNanos() - queuedMessage.getQueuedNanos()));
+        }
+    }
+
+    public void responseReceived(PlugwiseQueuedMessage queuedMessage, long receivedNanos) {
+        DeviceLatency latency = getOrCreate(queuedMessage);
+        if (latency != null) {
+            latency.responseReceived(toMillis(receivedNanos - queuedMessage.getSentNanos()));
+        }
+    }
+
+    public void messageRetried(PlugwiseQueuedMessage queuedMessage) {
+        DeviceLatency latency = getOrCreate(queuedMessage);
+        if (latency != null) {
+            latency.messageRetried();
+        }
+    }
+
+    public void messageTimedOut(PlugwiseQueuedMessage queuedMessage) {
+        DeviceLatency latency = getOrCreate(queuedMessage);
+        if (latency != null) {
+            latency.messageTimedOut();
+        }
+    }
+
+    private DeviceLatency getOrCreate(PlugwiseQueuedMessage queuedMessage) {
+        MACAddress macAddress = queuedMessage.getMessage().getMACAddress();
+        return macAddress == null ? null : devices.computeIfAbsent(macAddress, mac -> new DeviceLatency());
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+}
@@ -29,6 +29,12 @@ public enum PlugwiseMessagePriority {
      * Messages for normal state updates and Thing discovery. E.g. scheduled tasks that update the state of a
      * channel.
      */
-    UPDATE_AND_DISCOVERY;
+    UPDATE_AND_DISCOVERY,
+
+    /**
+     * Messages that retrieve data in the background, e.g. the energy logged by a Circle while it was offline. These
+     * messages are only sent when there are no other messages to send.
+     */
+    BACKGROUND;
 
 }
@@ -9,21 +9,30 @@
 package org.openhab.binding.plugwise.internal;
 
 import static org.openhab.binding.plugwise.internal.PlugwiseCommunicationContext.*;
+import static org.openhab.binding.plugwise.internal.protocol.field.MessageType.*;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.Channels;
 import java.nio.channels.WritableByteChannel;
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import org.openhab.binding.plugwise.internal.protocol.AcknowledgementMessage;
 import org.openhab.binding.plugwise.internal.protocol.Message;
+import org.openhab.binding.plugwise.internal.protocol.field.MessageType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Sends messages to the Plugwise Stick using a serial connection.
  *
+ * Messages are written one at a time, because the acknowledgement of the Stick can only be correlated with a message by
+ * the order in which they are sent. After the acknowledgement the next message is sent without waiting for the response
+ * of the device, as long as the {@link PlugwiseSendWindow} has room for it. Messages for which the Stick or the device
+ * did not respond are retried when they can be sent again safely.
+ *
  * @author Karel Goderis
  * @author Wouter Born - Initial contribution
  */
@@ -38,15 +47,32 @@ public class PlugwiseMessageSender {
 
         @Override
         public void run() {
+            PlugwiseSendWindow window = context.getSendWindow();
             while (!interrupted()) {
                 try {
-                    PlugwiseQueuedMessage queuedMessage = context.getSendQueue().take();
-                    logger.debug("Took message from sendQueue (length={})", context.getSendQueue().size());
+                    for (PlugwiseQueuedMessage failedMessage : window.removeFailed()) {
+                        retryMessage(failedMessage, "No response received");
+                    }
+
+                    PlugwiseQueuedMessage queuedMessage = context.getSendQueue().poll(POLL_INTERVAL_MILLIS,
+                            TimeUnit.MILLISECONDS);
                     if (queuedMessage == null) {
                         continue;
                     }
+                    logger.debug("Took message from sendQueue (length={})", context.getSendQueue().size());
+
+                    if (!window.hasCapacity(queuedMessage.getPriority())) {
+                        // Put it back, so a message with a higher priority is sent first when there is room
+                        context.getSendQueue().put(queuedMessage);
+                        window.awaitChange(POLL_INTERVAL_MILLIS);
+                        continue;
+                    }
+
                     sendMessage(queuedMessage);
-                    sleep(context.getConfiguration().getMessageWaitTime());
+                    if (window.getSize() == PlugwiseSendWindow.MIN_SIZE) {
+                        // The network is congested, fall back to sending messages at a fixed rate
+                        sleep(context.getConfiguration().getMessageWaitTime());
+                    }
                 } catch (InterruptedException e) {
                     // That's our signal to stop
                     break;
@@ -58,17 +84,34 @@ public class PlugwiseMessageSender {
 
     }
 
-    /** Default maximum number of attempts to send a message */
-    private static final int MAX_RETRIES = 1;
+    /** Maximum number of attempts to send a message */
+    private static final int MAX_ATTEMPTS = 3;
 
     /** After exceeding this threshold the Stick is set offline */
     private static final int MAX_SEQUENTIAL_WRITE_ERRORS = 15;
 
+    /** Interval in which the sender checks for messages without response */
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    /** Bounds of the time to wait for the acknowledgement of the Stick, normally it is received within 75ms */
+    private static final long MIN_ACK_TIMEOUT_MILLIS = 250;
+    private static final long MAX_ACK_TIMEOUT_MILLIS = 1000;
+
+    /**
+     * Messages that can be sent again when the Stick or the device did not respond, because they only request
+     * information or set a state that does not change when it is set twice.
+     */
+    private static final Set<MessageType> IDEMPOTENT_MESSAGE_TYPES = EnumSet.of(CLOCK_GET_REQUEST,
+            DEVICE_INFORMATION_REQUEST, DEVICE_ROLE_CALL_REQUEST, NETWORK_STATUS_REQUEST, PING_REQUEST,
+            POWER_BUFFER_REQUEST, POWER_CALIBRATION_REQUEST, POWER_CHANGE_REQUEST, POWER_INFORMATION_REQUEST,
+            REAL_TIME_CLOCK_GET_REQUEST);
+
     private final Logger logger = LoggerFactory.getLogger(PlugwiseMessageSender.class);
     private final PlugwiseCommunicationContext context;
 
     private WritableByteChannel outputChannel;
     private int sequentialWriteErrors;
+    private double smoothedAckMillis = -1;
     private MessageSenderThread thread;
 
     public PlugwiseMessageSender(PlugwiseCommunicationContext context) {
@@ -88,66 +131,97 @@ public class PlugwiseMessageSender {
     }
 
     private void sendMessage(PlugwiseQueuedMessage queuedMessage) throws InterruptedException {
-        if (queuedMessage.getAttempts() < MAX_RETRIES) {
-            queuedMessage.increaseAttempts();
+        queuedMessage.increaseAttempts();
 
-            Message message = queuedMessage.getMessage();
+        Message message = queuedMessage.getMessage();
 
-            String messageHexString = message.toHexString();
-            String packetString = PROTOCOL_HEADER + messageHexString + PROTOCOL_TRAILER;
-            ByteBuffer bytebuffer = ByteBuffer.allocate(packetString.length());
-            bytebuffer.put(packetString.getBytes());
-            bytebuffer.rewind();
+        String messageHexString = message.toHexString();
+        String packetString = PROTOCOL_HEADER + messageHexString + PROTOCOL_TRAILER;
+        ByteBuffer bytebuffer = ByteBuffer.allocate(packetString.length());
+        bytebuffer.put(packetString.getBytes());
+        bytebuffer.rewind();
 
-            try {
-                logger.debug("Sending: {} as {}", message, messageHexString);
-                outputChannel.write(bytebuffer);
-                sequentialWriteErrors = 0;
-            } catch (IOException e) {
-                logger.warn("Error writing '{}' to serial port {}: {}", packetString,
-                        context.getConfiguration().getSerialPort(), e.getMessage());
-                sequentialWriteErrors++;
-                return;
+        // Acknowledgements received after their timeout would be taken for the acknowledgement of this message
+        context.getAcknowledgedQueue().clear();
+
+        try {
+            logger.debug("Sending: {} as {}", message, messageHexString);
+            queuedMessage.setSentNanos(System.nanoTime());
+            outputChannel.write(bytebuffer);
+            sequentialWriteErrors = 0;
+        } catch (IOException e) {
+            logger.warn("Error writing '{}' to serial port {}: {}", packetString,
+                    context.getConfiguration().getSerialPort(), e.getMessage());
+            sequentialWriteErrors++;
+            return;
+        }
+        context.getLatencyStatistics().messageSent(queuedMessage);
+
+        long ackTimeout = getAckTimeoutMillis();
+        AcknowledgementMessage ack = context.getAcknowledgedQueue().poll(ackTimeout, TimeUnit.MILLISECONDS);
+        logger.debug("Removing from acknowledgedQueue: {}", ack);
+
+        if (ack == null) {
+            logger.warn("Error sending: No ACK received after {}ms: {}", ackTimeout, packetString);
+            retryMessage(queuedMessage, "No ACK received");
+        } else if (!ack.isSuccess()) {
+            if (ack.isError()) {
+                logger.warn("Error sending: Negative ACK: {}", packetString);
+                // The Stick did not send the message, so it can always be sent again
+                retryMessage(queuedMessage, "Negative ACK", true);
             }
+        } else {
+            updateAckTime(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - queuedMessage.getSentNanos()));
 
-            // Poll the acknowledgement message for at most 1 second, normally it is received within 75ms
-            AcknowledgementMessage ack = context.getAcknowledgedQueue().poll(1, TimeUnit.SECONDS);
-            logger.debug("Removing from acknowledgedQueue: {}", ack);
+            // Update the sent message with the new sequence number
+            message.setSequenceNumber(ack.getSequenceNumber());
 
-            if (ack == null) {
-                logger.warn("Error sending: No ACK received after 1 second: {}", packetString);
-            } else if (!ack.isSuccess()) {
-                if (ack.isError()) {
-                    logger.warn("Error sending: Negative ACK: {}", packetString);
-                }
-            } else {
-                // Update the sent message with the new sequence number
-                message.setSequenceNumber(ack.getSequenceNumber());
+            // The message is in flight until its response is received
+            logger.debug("Adding to sendWindow: {}", message);
+            context.getSendWindow().add(queuedMessage);
+        }
+    }
 
-                // Place the sent message in the sent queue
-                logger.debug("Adding to sentQueue: {}", message);
-                context.getSentQueueLock().lock();
-                try {
-                    if (context.getSentQueue().size() == PlugwiseCommunicationContext.MAX_BUFFER_SIZE) {
-                        // For some reason Plugwise devices, or the Stick, does not send responses to Requests.
-                        // They clog the sent queue. Let's flush some part of the queue
-                        PlugwiseQueuedMessage someMessage = context.getSentQueue().poll();
-                        logger.debug("Flushing from sentQueue: {}", someMessage);
-                    }
-                    context.getSentQueue().put(queuedMessage);
-                } finally {
-                    context.getSentQueueLock().unlock();
-                }
-            }
-        } else {
-            // Max attempts reached. We give up, and to a network reset
-            logger.warn("Giving up on Plugwise message after {} attempts: {}", queuedMessage.getAttempts(),
+    private void retryMessage(PlugwiseQueuedMessage queuedMessage, String reason) throws InterruptedException {
+        context.getLatencyStatistics().messageTimedOut(queuedMessage);
+        retryMessage(queuedMessage, reason,
+                IDEMPOTENT_MESSAGE_TYPES.contains(queuedMessage.getMessage().getType()));
+    }
+
+    private void retryMessage(PlugwiseQueuedMessage queuedMessage, String reason, boolean retriable)
+            throws InterruptedException {
+        if (retriable && queuedMessage.getAttempts() < MAX_ATTEMPTS) {
+            logger.debug("{}, retrying (attempt {}): {}", reason, queuedMessage.getAttempts() + 1,
                     queuedMessage.getMessage());
+            context.getLatencyStatistics().messageRetried(queuedMessage);
+
+            // The Stick assigns a new sequence number
+            queuedMessage.getMessage().setSequenceNumber(null);
+            context.getSendQueue().put(queuedMessage);
+        } else {
+            logger.warn("Giving up on Plugwise message after {} attempts ({}): {}", queuedMessage.getAttempts(),
+                    reason, queuedMessage.getMessage());
+        }
+    }
+
+    private long getAckTimeoutMillis() {
+        if (smoothedAckMillis < 0) {
+            return MAX_ACK_TIMEOUT_MILLIS;
+        }
+        return Math.max(MIN_ACK_TIMEOUT_MILLIS, Math.min(MAX_ACK_TIMEOUT_MILLIS, Math.round(4 * smoothedAckMillis)));
+    }
+
+    private void updateAckTime(long ackMillis) {
+        if (smoothedAckMillis < 0) {
+            smoothedAckMillis = ackMillis;
+        } else {
+            smoothedAckMillis += 0.125 * (ackMillis - smoothedAckMillis);
         }
     }
 
     public void start() throws PlugwiseInitializationException {
         sequentialWriteErrors = 0;
+        smoothedAckMillis = -1;
         try {
             outputChannel = Channels.newChannel(context.getSerialPort().getOutputStream());
         } catch (IOException e) {
@@ -21,8 +21,10 @@ public class PlugwiseQueuedMessage {
 
     private final PlugwiseMessagePriority priority;
     private final LocalDateTime dateTime = LocalDateTime.now();
+    private final long queuedNanos = System.nanoTime();
     private final Message message;
     private int attempts;
+    private long sentNanos;
 
     public PlugwiseQueuedMessage(Message message, PlugwiseMessagePriority priority) {
         this.message = message;
@@ -37,6 +39,20 @@ public class PlugwiseQueuedMessage {
         return dateTime;
     }
 
+    /**
+     * Returns the {@link System#nanoTime()} at which the message was queued the first time.
+     */
+    public long getQueuedNanos() {
+        return queuedNanos;
+    }
+
+    /**
+     * Returns the {@link System#nanoTime()} at which the message was sent the last time.
+     */
+    public long getSentNanos() {
+        return sentNanos;
+    }
+
     public Message getMessage() {
         return message;
     }
@@ -48,4 +64,8 @@ public class PlugwiseQueuedMessage {
     public void increaseAttempts() {
         attempts++;
     }
+
+    public void setSentNanos(long sentNanos) {
+        this.sentNanos = sentNanos;
+    }
 }
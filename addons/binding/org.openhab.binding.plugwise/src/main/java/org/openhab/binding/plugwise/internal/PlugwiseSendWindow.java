@@ -0,0 +1,200 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.plugwise.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openhab.binding.plugwise.internal.protocol.AcknowledgementMessage;
+import org.openhab.binding.plugwise.internal.protocol.Message;
+
+/**
+ * <p>
+ * The {@link PlugwiseSendWindow} keeps track of the messages that have been acknowledged by the Stick but for which no
+ * response has been received yet. Messages are correlated with their responses by the sequence number the Stick
+ * assigned to them in the acknowledgement.
+ * </p>
+ * <p>
+ * The number of messages in flight is limited by a window that adapts to the observed round-trip times. It grows by
+ * one for each timely response until it first had to shrink and by one for each window of timely responses after that.
+ * It shrinks by one when a round-trip time is well above the smoothed round-trip
+ * time (the Stick or network queues messages) and is halved when responses time out. Commands may use one slot more
+ * than the window, so they are not held up by polling messages. Background messages may use one slot less, so they
+ * do not hold up polling messages.
+ * </p>
+ *
+ * @author agent - Initial contribution
+ */
+public class PlugwiseSendWindow {
+
+    public static final int MIN_SIZE = 1;
+    public static final int MAX_SIZE = 8;
+
+    private static final int COMMAND_SLOTS = 1;
+    private static final long MIN_RESPONSE_TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+    private static final long MAX_RESPONSE_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private final PlugwiseLatencyStatistics statistics;
+    private final Map<Integer, PlugwiseQueuedMessage> inFlight = new LinkedHashMap<>();
+    private final List<PlugwiseQueuedMessage> failed = new ArrayList<>();
+
+    private int size = 2;
+    private int growthThreshold = MAX_SIZE;
+    private int timelyResponses;
+    private double smoothedRoundTripNanos = -1;
+    private double roundTripVariationNanos;
+
+    public PlugwiseSendWindow(PlugwiseLatencyStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    public synchronized void clear() {
+        inFlight.clear();
+        failed.clear();
+        notifyAll();
+    }
+
+    public synchronized int getSize() {
+        return size;
+    }
+
+    public synchronized int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * Returns the time after which a message without response is considered lost: the smoothed round-trip time plus
+     * four times its variation.
+     */
+    public synchronized long getResponseTimeoutNanos() {
+        if (smoothedRoundTripNanos < 0) {
+            return MAX_RESPONSE_TIMEOUT_NANOS;
+        }
+        long timeout = (long) (smoothedRoundTripNanos + 4 * roundTripVariationNanos);
+        return Math.max(MIN_RESPONSE_TIMEOUT_NANOS, Math.min(MAX_RESPONSE_TIMEOUT_NANOS, timeout));
+    }
+
+    public synchronized boolean hasCapacity(PlugwiseMessagePriority priority) {
+        int slots = size;
+        if (priority == PlugwiseMessagePriority.COMMAND) {
+            slots += COMMAND_SLOTS;
+        } else if (priority == PlugwiseMessagePriority.BACKGROUND) {
+            // Keep a slot free for regular updates
+            slots = Math.max(MIN_SIZE, size - 1);
+        }
+        return inFlight.size() < slots;
+    }
+
+    /**
+     * Waits until a message in flight has been completed or failed, or until the timeout elapsed.
+     */
+    public synchronized void awaitChange(long timeoutMillis) throws InterruptedException {
+        wait(timeoutMillis);
+    }
+
+    /**
+     * Adds an acknowledged message that waits for its response.
+     */
+    public synchronized void add(PlugwiseQueuedMessage queuedMessage) {
+        inFlight.put(queuedMessage.getMessage().getSequenceNumber(), queuedMessage);
+    }
+
+    /**
+     * Completes the message in flight with the sequence number of the received message.
+     *
+     * @return the completed message or null if no message with that sequence number is in flight
+     */
+    public synchronized PlugwiseQueuedMessage complete(Message message) {
+        PlugwiseQueuedMessage queuedMessage = inFlight.remove(message.getSequenceNumber());
+        if (queuedMessage == null) {
+            return null;
+        }
+
+        if (message instanceof AcknowledgementMessage && ((AcknowledgementMessage) message).isTimeOut()) {
+            // The Stick reports the device did not respond
+            failed.add(queuedMessage);
+            shrink();
+        } else {
+            long receivedNanos = System.nanoTime();
+            statistics.responseReceived(queuedMessage, receivedNanos);
+            updateRoundTrip(receivedNanos - queuedMessage.getSentNanos());
+        }
+
+        notifyAll();
+        return queuedMessage;
+    }
+
+    /**
+     * Removes the messages without response within the response timeout and the messages for which the Stick reported
+     * a timeout.
+     *
+     * @return the failed messages in the order they were sent
+     */
+    public synchronized List<PlugwiseQueuedMessage> removeFailed() {
+        long now = System.nanoTime();
+        long timeout = getResponseTimeoutNanos();
+        boolean timedOut = false;
+
+        Iterator<PlugwiseQueuedMessage> iterator = inFlight.values().iterator();
+        while (iterator.hasNext()) {
+            PlugwiseQueuedMessage queuedMessage = iterator.next();
+            if (now - queuedMessage.getSentNanos() > timeout) {
+                iterator.remove();
+                failed.add(queuedMessage);
+                timedOut = true;
+            }
+        }
+
+        if (timedOut) {
+            shrink();
+            notifyAll();
+        }
+
+        if (failed.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<PlugwiseQueuedMessage> result = new ArrayList<>(failed);
+        failed.clear();
+        return result;
+    }
+
+    private void updateRoundTrip(long roundTripNanos) {
+        boolean delayed = false;
+        if (smoothedRoundTripNanos < 0) {
+            smoothedRoundTripNanos = roundTripNanos;
+            roundTripVariationNanos = roundTripNanos / 2.0;
+        } else {
+            delayed = roundTripNanos > smoothedRoundTripNanos + 4 * roundTripVariationNanos;
+            roundTripVariationNanos += 0.25 * (Math.abs(smoothedRoundTripNanos - roundTripNanos)
+                    - roundTripVariationNanos);
+            smoothedRoundTripNanos += 0.125 * (roundTripNanos - smoothedRoundTripNanos);
+        }
+
+        if (delayed) {
+            timelyResponses = 0;
+            size = Math.max(MIN_SIZE, size - 1);
+        } else if (size < growthThreshold || ++timelyResponses >= size) {
+            timelyResponses = 0;
+            size = Math.min(MAX_SIZE, size + 1);
+        }
+    }
+
+    private void shrink() {
+        timelyResponses = 0;
+        size = Math.max(MIN_SIZE, size / 2);
+        growthThreshold = size;
+    }
+
+}
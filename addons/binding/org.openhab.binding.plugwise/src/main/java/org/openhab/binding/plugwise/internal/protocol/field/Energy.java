@@ -61,6 +61,10 @@ public class Energy {
         return utcEnd.withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
     }
 
+    public ZonedDateTime getUtcEnd() {
+        return utcEnd;
+    }
+
     public Duration getInterval() {
         return interval;
     }
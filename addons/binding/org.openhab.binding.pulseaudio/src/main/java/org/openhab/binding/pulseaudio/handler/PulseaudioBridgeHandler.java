@@ -12,10 +12,13 @@ import static org.openhab.binding.pulseaudio.PulseaudioBindingConstants.*;
 
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -60,33 +63,17 @@ public class PulseaudioBridgeHandler extends BaseBridgeHandler {
     private Runnable pollingRunnable = new Runnable() {
         @Override
         public void run() {
-            client.update();
-            for (AbstractAudioDeviceConfig device : client.getItems()) {
-                if (lastActiveDevices != null && lastActiveDevices.contains(device.getPaName())) {
-                    for (DeviceStatusListener deviceStatusListener : deviceStatusListeners) {
-                        try {
-                            deviceStatusListener.onDeviceStateChanged(getThing().getUID(), device);
-                        } catch (Exception e) {
-                            logger.error("An exception occurred while calling the DeviceStatusListener", e);
-                        }
-                    }
-                } else {
-                    for (DeviceStatusListener deviceStatusListener : deviceStatusListeners) {
-                        try {
-                            deviceStatusListener.onDeviceAdded(getThing(), device);
-                            deviceStatusListener.onDeviceStateChanged(getThing().getUID(), device);
-                        } catch (Exception e) {
-                            logger.error("An exception occurred while calling the DeviceStatusListener", e);
-                        }
-                        lastActiveDevices.add(device.getPaName());
-                    }
-                }
-            }
+            refreshDevices();
         }
     };
 
     private List<DeviceStatusListener> deviceStatusListeners = new CopyOnWriteArrayList<>();
 
+    /**
+     * listeners which are only interested in a single device, by the name of the device
+     */
+    private Map<String, CopyOnWriteArrayList<DeviceStatusListener>> deviceListenersByName = new ConcurrentHashMap<>();
+
     public PulseaudioBridgeHandler(Bridge bridge) {
         super(bridge);
     }
@@ -94,12 +81,63 @@ public class PulseaudioBridgeHandler extends BaseBridgeHandler {
     @Override
     public void handleCommand(ChannelUID channelUID, Command command) {
         if (command instanceof RefreshType) {
-            client.update();
+            refreshDevices();
         } else {
             logger.warn("received invalid command for pulseaudio bridge '{}'.", host);
         }
     }
 
+    /**
+     * updates the devices from the server and notifies the listeners of the devices which are new, have changed or
+     * are gone
+     */
+    public synchronized void refreshDevices() {
+        if (client == null) {
+            return;
+        }
+        client.update();
+        for (AbstractAudioDeviceConfig device : client.takeChangedItems()) {
+            if (lastActiveDevices.add(device.getPaName())) {
+                for (DeviceStatusListener deviceStatusListener : deviceStatusListeners) {
+                    try {
+                        deviceStatusListener.onDeviceAdded(getThing(), device);
+                    } catch (Exception e) {
+                        logger.error("An exception occurred while calling the DeviceStatusListener", e);
+                    }
+                }
+            }
+            for (DeviceStatusListener deviceStatusListener : getListeners(device)) {
+                try {
+                    deviceStatusListener.onDeviceStateChanged(getThing().getUID(), device);
+                } catch (Exception e) {
+                    logger.error("An exception occurred while calling the DeviceStatusListener", e);
+                }
+            }
+        }
+        for (AbstractAudioDeviceConfig device : client.takeRemovedItems()) {
+            // a device which is replaced by another device with the same name is not gone
+            if (client.getGenericAudioItem(device.getPaName()) == null
+                    && lastActiveDevices.remove(device.getPaName())) {
+                for (DeviceStatusListener deviceStatusListener : getListeners(device)) {
+                    try {
+                        deviceStatusListener.onDeviceRemoved(this, device);
+                    } catch (Exception e) {
+                        logger.error("An exception occurred while calling the DeviceStatusListener", e);
+                    }
+                }
+            }
+        }
+    }
+
+    private List<DeviceStatusListener> getListeners(AbstractAudioDeviceConfig device) {
+        List<DeviceStatusListener> listeners = new ArrayList<>(deviceStatusListeners);
+        List<DeviceStatusListener> deviceListeners = deviceListenersByName.get(device.getPaName());
+        if (deviceListeners != null) {
+            listeners.addAll(deviceListeners);
+        }
+        return listeners;
+    }
+
     private synchronized void startAutomaticRefresh() {
         if (pollingJob == null || pollingJob.isCancelled()) {
             pollingJob = scheduler.scheduleWithFixedDelay(pollingRunnable, 0, refreshInterval, TimeUnit.MILLISECONDS);
@@ -170,7 +208,28 @@ public class PulseaudioBridgeHandler extends BaseBridgeHandler {
         return deviceStatusListeners.add(deviceStatusListener);
     }
 
+    /**
+     * registers a listener which is only notified about the device with the given name. The listener is notified
+     * about the current state of the device right away.
+     */
+    public boolean registerDeviceStatusListener(String deviceName, DeviceStatusListener deviceStatusListener) {
+        if (deviceStatusListener == null) {
+            throw new IllegalArgumentException("It's not allowed to pass a null deviceStatusListener.");
+        }
+        boolean added = deviceListenersByName.computeIfAbsent(deviceName, name -> new CopyOnWriteArrayList<>())
+                .addIfAbsent(deviceStatusListener);
+        AbstractAudioDeviceConfig device = client != null ? client.getGenericAudioItem(deviceName) : null;
+        if (device != null) {
+            deviceStatusListener.onDeviceStateChanged(getThing().getUID(), device);
+        }
+        return added;
+    }
+
     public boolean unregisterDeviceStatusListener(DeviceStatusListener deviceStatusListener) {
-        return deviceStatusListeners.remove(deviceStatusListener);
+        boolean removed = deviceStatusListeners.remove(deviceStatusListener);
+        for (List<DeviceStatusListener> deviceListeners : deviceListenersByName.values()) {
+            removed |= deviceListeners.remove(deviceStatusListener);
+        }
+        return removed;
     }
 }
@@ -131,7 +131,7 @@ public class PulseaudioHandler extends BaseThingHandler implements DeviceStatusL
             ThingHandler handler = bridge.getHandler();
             if (handler instanceof PulseaudioBridgeHandler) {
                 this.bridgeHandler = (PulseaudioBridgeHandler) handler;
-                this.bridgeHandler.registerDeviceStatusListener(this);
+                this.bridgeHandler.registerDeviceStatusListener(name, this);
             } else {
                 logger.debug("No available bridge handler found for device {} bridge {} .", name, bridge.getUID());
                 return null;
@@ -148,7 +148,12 @@ public class PulseaudioHandler extends BaseThingHandler implements DeviceStatusL
             return;
         }
         if (command instanceof RefreshType) {
-            bridge.handleCommand(channelUID, command);
+            // only changed devices are reported by the bridge, so report this device even if it has not changed
+            bridge.refreshDevices();
+            AbstractAudioDeviceConfig device = bridge.getDevice(name);
+            if (device != null) {
+                onDeviceStateChanged(bridge.getThing().getUID(), device);
+            }
             return;
         }
 
@@ -163,7 +168,7 @@ public class PulseaudioHandler extends BaseThingHandler implements DeviceStatusL
             if (channelUID.getId().equals(PulseaudioBindingConstants.VOLUME_CHANNEL)) {
                 if (command instanceof IncreaseDecreaseType) {
                     // refresh to get the current volume level
-                    bridge.getClient().update();
+                    bridge.refreshDevices();
                     device = bridge.getDevice(name);
                     int volume = device.getVolume();
                     if (command.equals(IncreaseDecreaseType.INCREASE)) {
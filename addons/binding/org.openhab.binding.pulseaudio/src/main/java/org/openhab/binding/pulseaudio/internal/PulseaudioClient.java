@@ -9,16 +9,15 @@
 package org.openhab.binding.pulseaudio.internal;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.PrintStream;
-import java.net.Socket;
-import java.net.SocketException;
-import java.net.SocketTimeoutException;
-import java.net.UnknownHostException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.apache.commons.lang.StringUtils;
+import org.openhab.binding.pulseaudio.internal.cli.CliSession;
 import org.openhab.binding.pulseaudio.internal.cli.Parser;
 import org.openhab.binding.pulseaudio.internal.items.AbstractAudioDeviceConfig;
 import org.openhab.binding.pulseaudio.internal.items.AbstractAudioDeviceConfig.State;
@@ -37,6 +36,13 @@ import org.slf4j.LoggerFactory;
  *
  * On the pulseaudio server the module-cli-protocol-tcp has to be loaded.
  *
+ * A single connection is kept open for all requests and commands (see {@link CliSession}). An update sends the five
+ * list commands at once and parses the responses after they have all been received.
+ *
+ * The devices are kept in an index per type (see {@link PulseaudioDeviceIndex}), which is updated in place. The devices
+ * which are new or changed and the devices which are gone are collected until they are taken by
+ * {@link #takeChangedItems()} and {@link #takeRemovedItems()}.
+ *
  * @author Tobias Bräutigam
  * @since 1.2.0
  */
@@ -44,12 +50,24 @@ public class PulseaudioClient {
 
     private final Logger logger = LoggerFactory.getLogger(PulseaudioClient.class);
 
+    /**
+     * time in ms a response may take before the connection is considered broken
+     */
+    private static final int RESPONSE_TIMEOUT = 5000;
+
     private String host;
     private int port;
-    private Socket client;
+    private CliSession session;
 
-    private List<AbstractAudioDeviceConfig> items;
-    private List<Module> modules;
+    private final PulseaudioDeviceIndex<Sink> sinks = new PulseaudioDeviceIndex<Sink>();
+    private final PulseaudioDeviceIndex<Source> sources = new PulseaudioDeviceIndex<Source>();
+    private final PulseaudioDeviceIndex<SinkInput> sinkInputs = new PulseaudioDeviceIndex<SinkInput>();
+    private final PulseaudioDeviceIndex<SourceOutput> sourceOutputs = new PulseaudioDeviceIndex<SourceOutput>();
+    private final Map<Integer, Module> modules = new HashMap<Integer, Module>();
+
+    private List<AbstractAudioDeviceConfig> items = new ArrayList<AbstractAudioDeviceConfig>();
+    private final Set<AbstractAudioDeviceConfig> changedItems = new LinkedHashSet<AbstractAudioDeviceConfig>();
+    private final Set<AbstractAudioDeviceConfig> removedItems = new LinkedHashSet<AbstractAudioDeviceConfig>();
 
     /**
      * corresponding name to execute actions on sink items
@@ -119,51 +137,95 @@ public class PulseaudioClient {
         this.host = host;
         this.port = port;
 
-        items = new ArrayList<AbstractAudioDeviceConfig>();
-        modules = new ArrayList<Module>();
+        session = new CliSession(host, port, RESPONSE_TIMEOUT);
 
         connect();
         update();
     }
 
     public boolean isConnected() {
-        return client.isConnected();
+        return session.isConnected();
     }
 
     /**
      * updates the item states and their relationships
      */
-    public void update() {
-        modules.clear();
-        modules.addAll(Parser.parseModules(listModules()));
-
-        items.clear();
-        items.addAll(Parser.parseSinks(listSinks(), this));
-        items.addAll(Parser.parseSources(listSources(), this));
-        items.addAll(Parser.parseSinkInputs(listSinkInputs(), this));
-        items.addAll(Parser.parseSourceOutputs(listSourceOutputs(), this));
-
-        logger.debug("Pulseaudio server {}: {} modules and {} items updated", host, modules.size(), items.size());
-    }
-
-    private String listModules() {
-        return this._sendRawRequest(CMD_LIST_MODULES);
-    }
-
-    private String listSinks() {
-        return this._sendRawRequest(CMD_LIST_SINKS);
-    }
+    public synchronized void update() {
+        long start = System.currentTimeMillis();
+        List<String> responses;
+        try {
+            responses = session.request(CMD_LIST_MODULES, CMD_LIST_SINKS, CMD_LIST_SOURCES, CMD_LIST_SINK_INPUTS,
+                    CMD_LIST_SOURCE_OUTPUTS);
+        } catch (IOException e) {
+            logger.warn("Failed to update from pulseaudio server {}: {}", host, e.getMessage());
+            return;
+        }
 
-    private String listSources() {
-        return this._sendRawRequest(CMD_LIST_SOURCES);
+        modules.clear();
+        for (Module module : Parser.parseModules(responses.get(0))) {
+            modules.put(module.getId(), module);
+        }
+
+        // the devices are parsed in this order, as they refer to the devices of the preceding types
+        List<AbstractAudioDeviceConfig> changed = new ArrayList<AbstractAudioDeviceConfig>();
+        List<AbstractAudioDeviceConfig> removed = new ArrayList<AbstractAudioDeviceConfig>();
+        sinks.update(Parser.parseSinks(responses.get(1), this), changed, removed);
+        updateCombinedSinks();
+        sources.update(Parser.parseSources(responses.get(2), this), changed, removed);
+        sinkInputs.update(Parser.parseSinkInputs(responses.get(3), this), changed, removed);
+        sourceOutputs.update(Parser.parseSourceOutputs(responses.get(4), this), changed, removed);
+
+        changedItems.removeAll(removed);
+        changedItems.addAll(changed);
+        removedItems.addAll(removed);
+
+        List<AbstractAudioDeviceConfig> newItems = new ArrayList<AbstractAudioDeviceConfig>(
+                sinks.size() + sources.size() + sinkInputs.size() + sourceOutputs.size());
+        newItems.addAll(sinks.values());
+        newItems.addAll(sources.values());
+        newItems.addAll(sinkInputs.values());
+        newItems.addAll(sourceOutputs.values());
+        items = newItems;
+
+        logger.debug("Pulseaudio server {}: {} modules and {} items updated ({} changed, {} removed) in {} ms", host,
+                modules.size(), items.size(), changed.size(), removed.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * resolves the slaves of the combined sinks to the indexed sinks, as the parser resolved them to the sinks it
+     * parsed
+     */
+    private void updateCombinedSinks() {
+        for (Sink sink : sinks.values()) {
+            if (sink.isCombinedSink()) {
+                List<Sink> combinedSinks = new ArrayList<Sink>();
+                for (String sinkName : sink.getCombinedSinkNames()) {
+                    Sink combinedSink = sinks.get(sinkName);
+                    if (combinedSink != null) {
+                        combinedSinks.add(combinedSink);
+                    }
+                }
+                sink.setCombinedSinks(combinedSinks);
+            }
+        }
     }
 
-    private String listSinkInputs() {
-        return this._sendRawRequest(CMD_LIST_SINK_INPUTS);
+    /**
+     * returns the items which are new or whose state has changed since the previous call
+     */
+    public synchronized List<AbstractAudioDeviceConfig> takeChangedItems() {
+        List<AbstractAudioDeviceConfig> result = new ArrayList<AbstractAudioDeviceConfig>(changedItems);
+        changedItems.clear();
+        return result;
     }
 
-    private String listSourceOutputs() {
-        return this._sendRawRequest(CMD_LIST_SOURCE_OUTPUTS);
+    /**
+     * returns the items which are gone since the previous call
+     */
+    public synchronized List<AbstractAudioDeviceConfig> takeRemovedItems() {
+        List<AbstractAudioDeviceConfig> result = new ArrayList<AbstractAudioDeviceConfig>(removedItems);
+        removedItems.clear();
+        return result;
     }
 
     /**
@@ -172,13 +234,8 @@ public class PulseaudioClient {
      * @param id
      * @return the corresponding {@link Module} to the given <code>id</code>
      */
-    public Module getModule(int id) {
-        for (Module module : modules) {
-            if (module.getId() == id) {
-                return module;
-            }
-        }
-        return null;
+    public synchronized Module getModule(int id) {
+        return modules.get(id);
     }
 
     /**
@@ -197,13 +254,8 @@ public class PulseaudioClient {
      *
      * @return the corresponding {@link Sink} to the given <code>name</code>
      */
-    public Sink getSink(String name) {
-        for (AbstractAudioDeviceConfig item : items) {
-            if (item.getPaName().equalsIgnoreCase(name) && item instanceof Sink) {
-                return (Sink) item;
-            }
-        }
-        return null;
+    public synchronized Sink getSink(String name) {
+        return sinks.get(name);
     }
 
     /**
@@ -211,13 +263,8 @@ public class PulseaudioClient {
      *
      * @return the corresponding {@link Sink} to the given <code>id</code>
      */
-    public Sink getSink(int id) {
-        for (AbstractAudioDeviceConfig item : items) {
-            if (item.getId() == id && item instanceof Sink) {
-                return (Sink) item;
-            }
-        }
-        return null;
+    public synchronized Sink getSink(int id) {
+        return sinks.get(id);
     }
 
     /**
@@ -225,13 +272,8 @@ public class PulseaudioClient {
      *
      * @return the corresponding {@link SinkInput} to the given <code>name</code>
      */
-    public SinkInput getSinkInput(String name) {
-        for (AbstractAudioDeviceConfig item : items) {
-            if (item.getPaName().equalsIgnoreCase(name) && item instanceof SinkInput) {
-                return (SinkInput) item;
-            }
-        }
-        return null;
+    public synchronized SinkInput getSinkInput(String name) {
+        return sinkInputs.get(name);
     }
 
     /**
@@ -239,13 +281,8 @@ public class PulseaudioClient {
      *
      * @return the corresponding {@link SinkInput} to the given <code>id</code>
      */
-    public SinkInput getSinkInput(int id) {
-        for (AbstractAudioDeviceConfig item : items) {
-            if (item.getId() == id && item instanceof SinkInput) {
-                return (SinkInput) item;
-            }
-        }
-        return null;
+    public synchronized SinkInput getSinkInput(int id) {
+        return sinkInputs.get(id);
     }
 
     /**
@@ -253,13 +290,8 @@ public class PulseaudioClient {
      *
      * @return the corresponding {@link Source} to the given <code>name</code>
      */
-    public Source getSource(String name) {
-        for (AbstractAudioDeviceConfig item : items) {
-            if (item.getPaName().equalsIgnoreCase(name) && item instanceof Source) {
-                return (Source) item;
-            }
-        }
-        return null;
+    public synchronized Source getSource(String name) {
+        return sources.get(name);
     }
 
     /**
@@ -267,13 +299,8 @@ public class PulseaudioClient {
      *
      * @return the corresponding {@link Source} to the given <code>id</code>
      */
-    public Source getSource(int id) {
-        for (AbstractAudioDeviceConfig item : items) {
-            if (item.getId() == id && item instanceof Source) {
-                return (Source) item;
-            }
-        }
-        return null;
+    public synchronized Source getSource(int id) {
+        return sources.get(id);
     }
 
     /**
@@ -281,13 +308,8 @@ public class PulseaudioClient {
      *
      * @return the corresponding {@link SourceOutput} to the given <code>name</code>
      */
-    public SourceOutput getSourceOutput(String name) {
-        for (AbstractAudioDeviceConfig item : items) {
-            if (item.getPaName().equalsIgnoreCase(name) && item instanceof SourceOutput) {
-                return (SourceOutput) item;
-            }
-        }
-        return null;
+    public synchronized SourceOutput getSourceOutput(String name) {
+        return sourceOutputs.get(name);
     }
 
     /**
@@ -295,13 +317,8 @@ public class PulseaudioClient {
      *
      * @return the corresponding {@link SourceOutput} to the given <code>id</code>
      */
-    public SourceOutput getSourceOutput(int id) {
-        for (AbstractAudioDeviceConfig item : items) {
-            if (item.getId() == id && item instanceof SourceOutput) {
-                return (SourceOutput) item;
-            }
-        }
-        return null;
+    public synchronized SourceOutput getSourceOutput(int id) {
+        return sourceOutputs.get(id);
     }
 
     /**
@@ -309,16 +326,24 @@ public class PulseaudioClient {
      *
      * @return the corresponding {@link AbstractAudioDeviceConfig} to the given <code>name</code>
      */
-    public AbstractAudioDeviceConfig getGenericAudioItem(String name) {
-        for (AbstractAudioDeviceConfig item : items) {
-            if (item.getPaName().equalsIgnoreCase(name)) {
-                return item;
-            }
+    public synchronized AbstractAudioDeviceConfig getGenericAudioItem(String name) {
+        AbstractAudioDeviceConfig item = sinks.get(name);
+        if (item == null) {
+            item = sources.get(name);
         }
-        return null;
+        if (item == null) {
+            item = sinkInputs.get(name);
+        }
+        if (item == null) {
+            item = sourceOutputs.get(name);
+        }
+        return item;
     }
 
-    public List<AbstractAudioDeviceConfig> getItems() {
+    /**
+     * returns all items, the returned list is not changed by later updates
+     */
+    public synchronized List<AbstractAudioDeviceConfig> getItems() {
         return items;
     }
 
@@ -522,96 +547,25 @@ public class PulseaudioClient {
     }
 
     private void _sendRawCommand(String command) {
-        checkConnection();
-        try {
-            PrintStream out = new PrintStream(client.getOutputStream(), true);
-            logger.trace("sending command {} to pa-server {}", command, host);
-            out.print(command + "\r\n");
-            out.close();
-            client.close();
-        } catch (IOException e) {
-            logger.error("{}", e.getLocalizedMessage(), e);
-        }
-    }
-
-    private String _sendRawRequest(String command) {
-        logger.trace("_sendRawRequest({})", command);
-        checkConnection();
-        String result = "";
         try {
-            PrintStream out = new PrintStream(client.getOutputStream(), true);
-            out.print(command + "\r\n");
-
-            InputStream instr = client.getInputStream();
-
-            try {
-                byte[] buff = new byte[1024];
-                int ret_read = 0;
-                int lc = 0;
-                do {
-                    ret_read = instr.read(buff);
-                    lc++;
-                    if (ret_read > 0) {
-                        String line = new String(buff, 0, ret_read);
-                        // System.out.println("'"+line+"'");
-                        if (line.endsWith(">>> ") && lc > 1) {
-                            result += line.substring(0, line.length() - 4);
-                            break;
-                        }
-                        result += line.trim();
-                    }
-                } while (ret_read > 0);
-            } catch (SocketTimeoutException e) {
-                // Timeout -> as newer PA versions (>=5.0) do not send the >>> we have no chance
-                // to detect the end of the answer, except by this timeout
-            } catch (IOException e) {
-                System.err.println("Exception while reading socket:" + e.getMessage());
-            }
-            instr.close();
-            out.close();
-            client.close();
-            return result;
+            session.command(command);
         } catch (IOException e) {
-            logger.error("{}", e.getLocalizedMessage(), e);
-        }
-        return result;
-    }
-
-    private void checkConnection() {
-        if (client == null || client.isClosed() || !client.isConnected()) {
-            try {
-                connect();
-            } catch (IOException e) {
-                logger.error("{}", e.getLocalizedMessage(), e);
-            }
+            logger.error("Failed to send command {} to pulseaudio server {}: {}", command, host, e.getMessage());
         }
     }
 
     /**
-     * Connects to the pulseaudio server (timeout 500ms)
+     * Connects to the pulseaudio server
      */
     private void connect() throws IOException {
-        try {
-            client = new Socket(host, port);
-            client.setSoTimeout(500);
-        } catch (UnknownHostException e) {
-            logger.error("unknown socket host {}", host);
-        } catch (SocketException e) {
-            logger.error("{}", e.getLocalizedMessage(), e);
-        }
+        session.connect();
     }
 
     /**
      * Disconnects from the pulseaudio server
      */
     public void disconnect() {
-        if (client != null) {
-            try {
-                client.close();
-            } catch (IOException e) {
-                logger.error("{}", e.getLocalizedMessage(), e);
-            }
-        }
+        session.close();
     }
 
 }
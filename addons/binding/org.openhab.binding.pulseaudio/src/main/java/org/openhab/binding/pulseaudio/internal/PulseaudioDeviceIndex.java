@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.pulseaudio.internal;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.openhab.binding.pulseaudio.internal.items.AbstractAudioDeviceConfig;
+
+/**
+ * The devices of one type (e.g. the sinks) of a pulseaudio server, indexed by id and by (case insensitive) name.
+ *
+ * The index is updated with the devices parsed from a newer response of the server. A device with the same id and
+ * name as a known device is merged into the known one, so references to it stay valid and only real state changes are
+ * reported.
+ *
+ * @author agent - Initial contribution
+ */
+public class PulseaudioDeviceIndex<T extends AbstractAudioDeviceConfig> {
+
+    private Map<Integer, T> byId = new LinkedHashMap<Integer, T>();
+    private final Map<String, T> byName = new HashMap<String, T>();
+
+    public T get(int id) {
+        return byId.get(id);
+    }
+
+    /**
+     * retrieves a device by its name, ignoring case. If several devices have that name the first one is returned.
+     */
+    public T get(String name) {
+        return name == null ? null : byName.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    public Collection<T> values() {
+        return byId.values();
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    /**
+     * replaces the devices by the given parsed ones
+     *
+     * @param parsed the devices of the newer response
+     * @param changed receives the devices which are new or whose state has changed
+     * @param removed receives the devices which are gone
+     */
+    public void update(Collection<? extends T> parsed, Collection<? super T> changed, Collection<? super T> removed) {
+        Map<Integer, T> newById = new LinkedHashMap<Integer, T>();
+        for (T device : parsed) {
+            T known = byId.get(device.getId());
+            if (known != null && known.getPaName().equals(device.getPaName())) {
+                if (known.update(device)) {
+                    changed.add(known);
+                }
+                newById.put(known.getId(), known);
+            } else {
+                newById.put(device.getId(), device);
+                changed.add(device);
+            }
+        }
+
+        for (T known : byId.values()) {
+            if (newById.get(known.getId()) != known) {
+                removed.add(known);
+            }
+        }
+
+        byId = newById;
+        byName.clear();
+        for (T device : byId.values()) {
+            String key = device.getPaName().toLowerCase(Locale.ROOT);
+            if (!byName.containsKey(key)) {
+                byName.put(key, device);
+            }
+        }
+    }
+}
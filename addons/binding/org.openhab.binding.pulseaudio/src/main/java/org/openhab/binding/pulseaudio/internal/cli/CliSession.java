@@ -0,0 +1,159 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.pulseaudio.internal.cli;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A long-lived connection to the command line interface of a pulseaudio server (module-cli-protocol-tcp).
+ *
+ * The CLI does not mark the end of a response (newer pulseaudio versions do not even send the <code>&gt;&gt;&gt;</code>
+ * prompt). Therefore every command is followed by a sentinel: an unknown command to which the server always answers
+ * with <code>Unknown command: &lt;sentinel&gt;</code>. Everything received before that line is the response to the
+ * command. This allows sending several commands at once and reading their responses in order, without waiting for a
+ * read timeout.
+ *
+ * @author agent - Initial contribution
+ */
+public class CliSession {
+    private final Logger logger = LoggerFactory.getLogger(CliSession.class);
+
+    private static final String SENTINEL = "openhab-end-of-response";
+    private static final String SENTINEL_RESPONSE = "Unknown command: " + SENTINEL;
+    private static final String PROMPT = ">>> ";
+    private static final String LINE_END = "\r\n";
+
+    private final String host;
+    private final int port;
+    private final int timeout;
+
+    private Socket socket;
+    private BufferedReader reader;
+    private OutputStream writer;
+
+    /**
+     * @param host the host of the pulseaudio server
+     * @param port the port the module-cli-protocol-tcp listens on
+     * @param timeout the time in ms a response may take before the connection is considered broken
+     */
+    public CliSession(String host, int port, int timeout) {
+        this.host = host;
+        this.port = port;
+        this.timeout = timeout;
+    }
+
+    public synchronized boolean isConnected() {
+        return socket != null && socket.isConnected() && !socket.isClosed();
+    }
+
+    /**
+     * Connects to the server and skips its welcome message.
+     */
+    public synchronized void connect() throws IOException {
+        close();
+        socket = new Socket(host, port);
+        try {
+            socket.setSoTimeout(timeout);
+            socket.setTcpNoDelay(true);
+            reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            writer = socket.getOutputStream();
+            writer.write((SENTINEL + LINE_END).getBytes(StandardCharsets.UTF_8));
+            writer.flush();
+            readResponse();
+        } catch (IOException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * Sends the commands in a single write and returns their responses in the same order. A broken connection is
+     * reestablished first.
+     */
+    public synchronized List<String> request(String... commands) throws IOException {
+        if (!isConnected()) {
+            connect();
+        }
+        try {
+            write(commands);
+            List<String> responses = new ArrayList<String>(commands.length);
+            for (int i = 0; i < commands.length; i++) {
+                responses.add(readResponse());
+            }
+            return responses;
+        } catch (IOException e) {
+            // the responses of the remaining commands would be taken for the responses of the next request
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * Sends a command and waits for it to be executed.
+     *
+     * @return the response of the command, usually empty
+     */
+    public String command(String command) throws IOException {
+        String response = request(command).get(0);
+        if (!response.isEmpty()) {
+            logger.debug("pa-server {} answered '{}' to command {}", host, response.trim(), command);
+        }
+        return response;
+    }
+
+    public synchronized void close() {
+        if (socket != null) {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                logger.debug("Failed to close connection to pa-server {}: {}", host, e.getMessage());
+            }
+        }
+        socket = null;
+        reader = null;
+        writer = null;
+    }
+
+    private void write(String[] commands) throws IOException {
+        StringBuilder out = new StringBuilder();
+        for (String command : commands) {
+            logger.trace("sending command {} to pa-server {}", command, host);
+            out.append(command).append(LINE_END);
+            out.append(SENTINEL).append(LINE_END);
+        }
+        writer.write(out.toString().getBytes(StandardCharsets.UTF_8));
+        writer.flush();
+    }
+
+    private String readResponse() throws IOException {
+        StringBuilder response = new StringBuilder();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            while (line.startsWith(PROMPT)) {
+                line = line.substring(PROMPT.length());
+            }
+            if (line.endsWith(SENTINEL_RESPONSE)) {
+                response.append(line, 0, line.length() - SENTINEL_RESPONSE.length());
+                return response.toString();
+            }
+            response.append(line).append('\n');
+        }
+        throw new IOException("Connection closed by pa-server " + host);
+    }
+}
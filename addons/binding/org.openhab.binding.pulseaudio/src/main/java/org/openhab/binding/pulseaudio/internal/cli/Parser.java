@@ -10,8 +10,10 @@ package org.openhab.binding.pulseaudio.internal.cli;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -40,6 +42,60 @@ public class Parser {
             .compile("^([0-9]+)([a-z\\s._]+)[:=]\\s*<?\"?([^>\"]+)\"?>?$");
     private static final Pattern numberValuePattern = Pattern.compile("^([0-9]+).*$");
 
+    private static final String INDEX_PREFIX = "index: ";
+
+    /**
+     * The index and properties of one item in a list response
+     */
+    private static class Block {
+        private int id;
+        private final Map<String, String> properties = new HashMap<String, String>();
+    }
+
+    /**
+     * splits a list response into its items in a single pass over the lines of the response. Every line that
+     * contains <code>index: </code> starts a new item, the following lines are its properties.
+     *
+     * @param raw the given string from the pulseaudio server
+     * @return the items in the order of the response
+     */
+    private static List<Block> parseBlocks(String raw) {
+        List<Block> blocks = new ArrayList<Block>();
+        Block block = null;
+        int start = 0;
+        while (start < raw.length()) {
+            int end = raw.indexOf('\n', start);
+            if (end < 0) {
+                end = raw.length();
+            }
+            String line = raw.substring(start, end);
+            start = end + 1;
+
+            int index = line.indexOf(INDEX_PREFIX);
+            if (index >= 0) {
+                block = new Block();
+                blocks.add(block);
+                String idValue = line.substring(index + INDEX_PREFIX.length()).trim();
+                try {
+                    block.id = Integer.valueOf(idValue);
+                } catch (NumberFormatException e) {
+                    // sometime the line feed is missing here
+                    Matcher matcher = fallBackPattern.matcher(idValue);
+                    if (matcher.find()) {
+                        block.id = Integer.valueOf(matcher.group(1));
+                        block.properties.put(matcher.group(2).trim(), matcher.group(3).trim());
+                    }
+                }
+            } else if (block != null) {
+                Matcher matcher = pattern.matcher(line);
+                if (matcher.find()) {
+                    block.properties.put(matcher.group(1).trim(), matcher.group(2).trim());
+                }
+            }
+        }
+        return blocks;
+    }
+
     /**
      * parses the pulseaudio servers answer to the list-modules command and returns a list of
      * {@link Module} objects
@@ -49,31 +105,9 @@ public class Parser {
      */
     public static List<Module> parseModules(String raw) {
         List<Module> modules = new ArrayList<Module>();
-        String[] parts = raw.split("index: ");
-        if (parts.length <= 1) {
-            return modules;
-        }
-        // skip first part
-        for (int i = 1; i < parts.length; i++) {
-            String[] lines = parts[i].split("\n");
-            Hashtable<String, String> properties = new Hashtable<String, String>();
-            int id = 0;
-            try {
-                id = Integer.valueOf(lines[0].trim());
-            } catch (NumberFormatException e) {
-                // sometime the line feed is missing here
-                Matcher matcher = fallBackPattern.matcher(lines[0].trim());
-                if (matcher.find()) {
-                    id = Integer.valueOf(matcher.group(1));
-                    properties.put(matcher.group(2).trim(), matcher.group(3).trim());
-                }
-            }
-            for (int j = 1; j < lines.length; j++) {
-                Matcher matcher = pattern.matcher(lines[j]);
-                if (matcher.find()) {
-                    properties.put(matcher.group(1).trim(), matcher.group(2).trim());
-                }
-            }
+        for (Block block : parseBlocks(raw)) {
+            int id = block.id;
+            Map<String, String> properties = block.properties;
             if (properties.containsKey("name")) {
                 Module module = new Module(id, properties.get("name"));
                 if (properties.containsKey("argument")) {
@@ -94,32 +128,10 @@ public class Parser {
      */
     public static Collection<Sink> parseSinks(String raw, PulseaudioClient client) {
         Hashtable<String, Sink> sinks = new Hashtable<String, Sink>();
-        String[] parts = raw.split("index: ");
-        if (parts.length <= 1) {
-            return sinks.values();
-        }
-        // skip first part
         List<Sink> combinedSinks = new ArrayList<Sink>();
-        for (int i = 1; i < parts.length; i++) {
-            String[] lines = parts[i].split("\n");
-            Hashtable<String, String> properties = new Hashtable<String, String>();
-            int id = 0;
-            try {
-                id = Integer.valueOf(lines[0].trim());
-            } catch (NumberFormatException e) {
-                // sometime the line feed is missing here
-                Matcher matcher = fallBackPattern.matcher(lines[0].trim());
-                if (matcher.find()) {
-                    id = Integer.valueOf(matcher.group(1));
-                    properties.put(matcher.group(2).trim(), matcher.group(3).trim());
-                }
-            }
-            for (int j = 1; j < lines.length; j++) {
-                Matcher matcher = pattern.matcher(lines[j]);
-                if (matcher.find()) {
-                    properties.put(matcher.group(1).trim(), matcher.group(2).trim());
-                }
-            }
+        for (Block block : parseBlocks(raw)) {
+            int id = block.id;
+            Map<String, String> properties = block.properties;
             if (properties.containsKey("name")) {
                 Sink sink = new Sink(id, properties.get("name"),
                         client.getModule(getNumberValue(properties.get("module"))));
@@ -163,30 +175,9 @@ public class Parser {
      */
     public static List<SinkInput> parseSinkInputs(String raw, PulseaudioClient client) {
         List<SinkInput> items = new ArrayList<SinkInput>();
-        String[] parts = raw.split("index: ");
-        if (parts.length <= 1) {
-            return items;
-        }
-        for (int i = 1; i < parts.length; i++) {
-            String[] lines = parts[i].split("\n");
-            Hashtable<String, String> properties = new Hashtable<String, String>();
-            int id = 0;
-            try {
-                id = Integer.valueOf(lines[0].trim());
-            } catch (NumberFormatException e) {
-                // sometime the line feed is missing here
-                Matcher matcher = fallBackPattern.matcher(lines[0].trim());
-                if (matcher.find()) {
-                    id = Integer.valueOf(matcher.group(1));
-                    properties.put(matcher.group(2).trim(), matcher.group(3).trim());
-                }
-            }
-            for (int j = 1; j < lines.length; j++) {
-                Matcher matcher = pattern.matcher(lines[j]);
-                if (matcher.find()) {
-                    properties.put(matcher.group(1).trim(), matcher.group(2).trim());
-                }
-            }
+        for (Block block : parseBlocks(raw)) {
+            int id = block.id;
+            Map<String, String> properties = block.properties;
             if (properties.containsKey("sink")) {
                 String name = properties.containsKey("media.name") ? properties.get("media.name")
                         : properties.get("sink");
@@ -222,31 +213,9 @@ public class Parser {
      */
     public static List<Source> parseSources(String raw, PulseaudioClient client) {
         List<Source> sources = new ArrayList<Source>();
-        String[] parts = raw.split("index: ");
-        if (parts.length <= 1) {
-            return sources;
-        }
-        // skip first part
-        for (int i = 1; i < parts.length; i++) {
-            String[] lines = parts[i].split("\n");
-            Hashtable<String, String> properties = new Hashtable<String, String>();
-            int id = 0;
-            try {
-                id = Integer.valueOf(lines[0].trim());
-            } catch (NumberFormatException e) {
-                // sometime the line feed is missing here
-                Matcher matcher = fallBackPattern.matcher(lines[0].trim());
-                if (matcher.find()) {
-                    id = Integer.valueOf(matcher.group(1));
-                    properties.put(matcher.group(2).trim(), matcher.group(3).trim());
-                }
-            }
-            for (int j = 1; j < lines.length; j++) {
-                Matcher matcher = pattern.matcher(lines[j]);
-                if (matcher.find()) {
-                    properties.put(matcher.group(1).trim(), matcher.group(2).trim());
-                }
-            }
+        for (Block block : parseBlocks(raw)) {
+            int id = block.id;
+            Map<String, String> properties = block.properties;
             if (properties.containsKey("name")) {
                 Source source = new Source(id, properties.get("name"),
                         client.getModule(getNumberValue(properties.get("module"))));
@@ -281,31 +250,9 @@ public class Parser {
      */
     public static List<SourceOutput> parseSourceOutputs(String raw, PulseaudioClient client) {
         List<SourceOutput> items = new ArrayList<SourceOutput>();
-        String[] parts = raw.split("index: ");
-        if (parts.length <= 1) {
-            return items;
-        }
-        // skip first part
-        for (int i = 1; i < parts.length; i++) {
-            String[] lines = parts[i].split("\n");
-            Hashtable<String, String> properties = new Hashtable<String, String>();
-            int id = 0;
-            try {
-                id = Integer.valueOf(lines[0].trim());
-            } catch (NumberFormatException e) {
-                // sometime the line feed is missing here
-                Matcher matcher = fallBackPattern.matcher(lines[0].trim());
-                if (matcher.find()) {
-                    id = Integer.valueOf(matcher.group(1));
-                    properties.put(matcher.group(2).trim(), matcher.group(3).trim());
-                }
-            }
-            for (int j = 1; j < lines.length; j++) {
-                Matcher matcher = pattern.matcher(lines[j]);
-                if (matcher.find()) {
-                    properties.put(matcher.group(1).trim(), matcher.group(2).trim());
-                }
-            }
+        for (Block block : parseBlocks(raw)) {
+            int id = block.id;
+            Map<String, String> properties = block.properties;
             if (properties.containsKey("source")) {
                 SourceOutput item = new SourceOutput(id, properties.get("source"),
                         client.getModule(getNumberValue(properties.get("module"))));
@@ -67,6 +67,29 @@ public abstract class AbstractAudioDeviceConfig extends AbstractDeviceConfig {
         this.volume = volume;
     }
 
+    /**
+     * takes over the state of the given device, which has been parsed from a newer response of the pulseaudio server
+     *
+     * @param other the newer parsed device with the same id and name
+     * @return true if the state of this device has changed
+     */
+    public boolean update(AbstractAudioDeviceConfig other) {
+        boolean changed = state != other.state || muted != other.muted || volume != other.volume
+                || getId(module) != getId(other.module);
+        state = other.state;
+        muted = other.muted;
+        volume = other.volume;
+        module = other.module;
+        return changed;
+    }
+
+    /**
+     * returns the id of the given device or -1 if there is none
+     */
+    protected static int getId(AbstractDeviceConfig device) {
+        return device == null ? -1 : device.getId();
+    }
+
     @Override
     public String toString() {
         return this.getClass().getSimpleName() + " #" + id + " (Module: " + module + ") " + name + ", muted: " + muted
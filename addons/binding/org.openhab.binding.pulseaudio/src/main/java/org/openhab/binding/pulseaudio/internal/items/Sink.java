@@ -56,4 +56,16 @@ public class Sink extends AbstractAudioDeviceConfig {
         }
     }
 
+    @Override
+    public boolean update(AbstractAudioDeviceConfig other) {
+        boolean changed = super.update(other);
+        if (other instanceof Sink) {
+            Sink otherSink = (Sink) other;
+            changed |= !combinedSinkNames.equals(otherSink.combinedSinkNames);
+            combinedSinkNames = otherSink.combinedSinkNames;
+            combinedSinks = otherSink.combinedSinks;
+        }
+        return changed;
+    }
+
 }
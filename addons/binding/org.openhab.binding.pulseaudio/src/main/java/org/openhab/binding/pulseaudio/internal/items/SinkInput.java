@@ -30,4 +30,15 @@ public class SinkInput extends AbstractAudioDeviceConfig {
         this.sink = sink;
     }
 
+    @Override
+    public boolean update(AbstractAudioDeviceConfig other) {
+        boolean changed = super.update(other);
+        if (other instanceof SinkInput) {
+            Sink otherSink = ((SinkInput) other).sink;
+            changed |= getId(sink) != getId(otherSink);
+            sink = otherSink;
+        }
+        return changed;
+    }
+
 }
@@ -31,4 +31,15 @@ public class Source extends AbstractAudioDeviceConfig {
         this.monitorOf = sink;
     }
 
+    @Override
+    public boolean update(AbstractAudioDeviceConfig other) {
+        boolean changed = super.update(other);
+        if (other instanceof Source) {
+            Sink otherMonitorOf = ((Source) other).monitorOf;
+            changed |= getId(monitorOf) != getId(otherMonitorOf);
+            monitorOf = otherMonitorOf;
+        }
+        return changed;
+    }
+
 }
@@ -30,4 +30,15 @@ public class SourceOutput extends AbstractAudioDeviceConfig {
         this.source = source;
     }
 
+    @Override
+    public boolean update(AbstractAudioDeviceConfig other) {
+        boolean changed = super.update(other);
+        if (other instanceof SourceOutput) {
+            Source otherSource = ((SourceOutput) other).source;
+            changed |= getId(source) != getId(otherSource);
+            source = otherSource;
+        }
+        return changed;
+    }
+
 }
@@ -10,6 +10,8 @@ package org.openhab.binding.russound.internal.net;
 
 import java.io.IOException;
 
+import org.openhab.binding.russound.internal.rio.RioResponseRouter;
+
 /**
  * This is a socket session interface that defines the contract for a socket session. A socket session will initiate
  * communications with the underlying device and provide message back via the {@link SocketSessionListener}
@@ -31,6 +33,14 @@ public interface SocketSession {
      */
     void clearListeners();
 
+    /**
+     * Returns the router that dispatches the responses of this session to the protocol handlers owning them. The
+     * router is created on first use and lives as long as the session.
+     *
+     * @return a non-null {@link RioResponseRouter}
+     */
+    RioResponseRouter getResponseRouter();
+
     /**
      * Removes a {@link SocketSessionListener} from this session
      *
@@ -82,4 +92,13 @@ public interface SocketSession {
      */
     void sendCommand(String command) throws IOException;
 
+    /**
+     * Returns the delay to wait before trying to reconnect, backing off the given delay when the previous connection
+     * attempts failed (or the connections dropped shortly after being established)
+     *
+     * @param retryDelay the configured retry delay (in seconds)
+     * @return the delay (in seconds) to wait before reconnecting
+     */
+    int getReconnectDelay(int retryDelay);
+
 }
\ No newline at end of file
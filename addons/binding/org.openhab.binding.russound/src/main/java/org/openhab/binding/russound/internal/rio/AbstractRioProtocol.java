@@ -30,6 +30,11 @@ public abstract class AbstractRioProtocol implements SocketSessionListener {
      */
     private final SocketSession session;
 
+    /**
+     * The {@link RioResponseRouter} of the {@link #session} that will dispatch responses to this protocol handler
+     */
+    private final RioResponseRouter router;
+
     /**
      * The {@link RioSystemHandler} to call back to update status and state
      */
@@ -37,8 +42,8 @@ public abstract class AbstractRioProtocol implements SocketSessionListener {
 
     /**
      * Constructs the protocol handler from given parameters and will add this handler as a
-     * {@link SocketSessionListener} to the specified {@link SocketSession} via
-     * {@link SocketSession#addListener(SocketSessionListener)}
+     * {@link SocketSessionListener} to the {@link RioResponseRouter} of the specified {@link SocketSession}. Until
+     * routes are added via {@link #addRoute(String)}, the handler will only receive the responses without a key path.
      *
      * @param session a non-null {@link SocketSession} (may be connected or disconnected)
      * @param callback a non-null {@link RioHandlerCallback} to update state and status
@@ -54,10 +59,21 @@ public abstract class AbstractRioProtocol implements SocketSessionListener {
         }
 
         this.session = session;
-        this.session.addListener(this);
+        this.router = session.getResponseRouter();
+        this.router.addListener(this);
         this.callback = callback;
     }
 
+    /**
+     * Routes the responses whose key path matches the route to this handler (see {@link RioResponseRouter} for the
+     * route syntax)
+     *
+     * @param route a non-null, non-empty route
+     */
+    protected void addRoute(String route) {
+        router.addRoute(route, this);
+    }
+
     /**
      * Sends the command and puts the thing into {@link ThingStatus#OFFLINE} if an IOException occurs
      *
@@ -107,11 +123,10 @@ public abstract class AbstractRioProtocol implements SocketSessionListener {
     }
 
     /**
-     * Disposes of the protocol by removing ourselves from listening to the socket via
-     * {@link SocketSession#removeListener(SocketSessionListener)}
+     * Disposes of the protocol by removing ourselves (and our routes) from the {@link RioResponseRouter}
      */
     public void dispose() {
-        session.removeListener(this);
+        router.removeListener(this);
     }
 
     /**
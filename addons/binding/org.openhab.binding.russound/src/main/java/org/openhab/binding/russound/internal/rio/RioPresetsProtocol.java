@@ -107,6 +107,8 @@ public class RioPresetsProtocol extends AbstractRioProtocol {
      */
     public RioPresetsProtocol(SocketSession session, RioHandlerCallback callback) {
         super(session, callback);
+        addRoute("S[*].B[*].P[*].*");
+        addRoute("S[*].type");
 
         gson = GsonUtilities.createGson();
         for (int s = 1; s <= 8; s++) {
@@ -0,0 +1,268 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.russound.internal.rio;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.commons.lang.StringUtils;
+import org.openhab.binding.russound.internal.net.SocketSession;
+import org.openhab.binding.russound.internal.net.SocketSessionListener;
+
+/**
+ * A {@link SocketSessionListener} that routes the responses of a {@link SocketSession} to the protocol handlers owning
+ * them. The key path of a response (ie "C[1].Z[2].volume" in 'N C[1].Z[2].volume="10"') is parsed once and looked up in
+ * a prefix trie of routes, so a response only reaches the listener(s) that registered a route for it rather than every
+ * protocol handler on the session.
+ * <p>
+ * Routes use the same syntax as the key path, where a "*" segment or index matches any single segment or index and a
+ * trailing "#" matches any remaining segments (ie "C[1].*", "C[1].Z[2].#" or "S[*].B[*].P[*].*"). Responses that have
+ * no key path (errors, media management JSON, ...) are sent to every listener of the router.
+ * <p>
+ * The router of a session is kept by the session itself (see {@link SocketSession#getResponseRouter()}), so it lives
+ * exactly as long as the session.
+ *
+ * @author agent - Initial contribution
+ */
+public class RioResponseRouter implements SocketSessionListener {
+    private static final String ANY = "*";
+    private static final String ANY_REMAINING = "#";
+
+    /**
+     * The session the router listens to
+     */
+    private final SocketSession session;
+
+    /**
+     * All listeners registered to the router (whether they have routes or not)
+     */
+    private final List<SocketSessionListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * The root of the route trie
+     */
+    private final Node root = new Node();
+
+    /**
+     * Constructs the router for the session. The router adds itself as a listener to the session while it has
+     * listeners itself.
+     *
+     * @param session a non-null {@link SocketSession}
+     */
+    public RioResponseRouter(SocketSession session) {
+        if (session == null) {
+            throw new IllegalArgumentException("session cannot be null");
+        }
+        this.session = session;
+    }
+
+    /**
+     * Adds a listener to the router. The listener will only receive responses without a key path until routes are
+     * added for it via {@link #addRoute(String, SocketSessionListener)}
+     *
+     * @param listener a non-null {@link SocketSessionListener}
+     */
+    public void addListener(SocketSessionListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("listener cannot be null");
+        }
+        synchronized (listeners) {
+            if (listeners.isEmpty()) {
+                session.addListener(this);
+            }
+            listeners.add(listener);
+        }
+    }
+
+    /**
+     * Adds a route to the listener
+     *
+     * @param route a non-null, non-empty route
+     * @param listener a non-null {@link SocketSessionListener}
+     */
+    public void addRoute(String route, SocketSessionListener listener) {
+        if (StringUtils.isEmpty(route)) {
+            throw new IllegalArgumentException("route cannot be null or empty");
+        }
+        if (listener == null) {
+            throw new IllegalArgumentException("listener cannot be null");
+        }
+
+        final List<String> segments = parseSegments(route);
+        synchronized (root) {
+            Node node = root;
+            for (int i = 0; i < segments.size(); i++) {
+                final String segment = segments.get(i);
+                if (ANY_REMAINING.equals(segment) && i == segments.size() - 1) {
+                    node.remainingListeners.add(listener);
+                    return;
+                }
+                node = node.children.computeIfAbsent(segment, s -> new Node());
+            }
+            node.listeners.add(listener);
+        }
+    }
+
+    /**
+     * Removes the listener and all of its routes from the router. The router removes itself from the session once it
+     * has no more listeners.
+     *
+     * @param listener a non-null {@link SocketSessionListener}
+     */
+    public void removeListener(SocketSessionListener listener) {
+        synchronized (root) {
+            root.remove(listener);
+        }
+
+        synchronized (listeners) {
+            if (listeners.remove(listener) && listeners.isEmpty()) {
+                session.removeListener(this);
+            }
+        }
+    }
+
+    /**
+     * Dispatches the response to the listener(s) routed for its key path or to all listeners if the response has no
+     * key path
+     *
+     * @param response a non-null, possibly empty response
+     */
+    @Override
+    public void responseReceived(String response) throws InterruptedException {
+        final String key = getKeyPath(response);
+        if (key == null) {
+            for (SocketSessionListener listener : listeners) {
+                listener.responseReceived(response);
+            }
+            return;
+        }
+
+        final Set<SocketSessionListener> routed = new LinkedHashSet<>();
+        final List<String> segments = parseSegments(key);
+        synchronized (root) {
+            root.match(segments, 0, routed);
+        }
+
+        for (SocketSessionListener listener : routed) {
+            listener.responseReceived(response);
+        }
+    }
+
+    /**
+     * Exceptions concern the whole session and are sent to all listeners
+     *
+     * @param e a non-null io exception
+     */
+    @Override
+    public void responseException(IOException e) throws InterruptedException {
+        for (SocketSessionListener listener : listeners) {
+            listener.responseException(e);
+        }
+    }
+
+    /**
+     * Returns the key path of a response in the form of 'S key="value"' or 'N key="value"'
+     *
+     * @param response a possibly null, possibly empty response
+     * @return the key path or null if the response has none
+     */
+    static String getKeyPath(String response) {
+        if (response == null || response.length() < 3 || response.charAt(1) != ' ') {
+            return null;
+        }
+
+        final char type = Character.toUpperCase(response.charAt(0));
+        if (type != 'S' && type != 'N') {
+            return null;
+        }
+
+        final int idx = response.indexOf('=', 2);
+        return idx > 2 ? response.substring(2, idx) : null;
+    }
+
+    /**
+     * Splits a key path (or route) into its lower cased segments and indexes: "C[1].Z[2].volume" becomes [c, 1, z, 2,
+     * volume]
+     *
+     * @param key a non-null key path
+     * @return a non-null, possibly empty list of segments
+     */
+    static List<String> parseSegments(String key) {
+        final List<String> segments = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i <= key.length(); i++) {
+            final char ch = i < key.length() ? key.charAt(i) : '.';
+            if (ch == '.' || ch == '[' || ch == ']') {
+                if (i > start) {
+                    segments.add(key.substring(start, i).toLowerCase());
+                }
+                start = i + 1;
+            }
+        }
+        return segments;
+    }
+
+    /**
+     * A node of the route trie
+     */
+    private static class Node {
+        /**
+         * The children by segment (including the {@link RioResponseRouter#ANY} segment)
+         */
+        private final Map<String, Node> children = new HashMap<>();
+
+        /**
+         * The listeners whose route ends at this node
+         */
+        private final List<SocketSessionListener> listeners = new ArrayList<>();
+
+        /**
+         * The listeners whose route ends at this node with {@link RioResponseRouter#ANY_REMAINING}
+         */
+        private final List<SocketSessionListener> remainingListeners = new ArrayList<>();
+
+        /**
+         * Collects the listeners matching the segments starting at the given position
+         */
+        private void match(List<String> segments, int pos, Set<SocketSessionListener> result) {
+            if (pos == segments.size()) {
+                result.addAll(listeners);
+                return;
+            }
+
+            result.addAll(remainingListeners);
+
+            final Node exact = children.get(segments.get(pos));
+            if (exact != null) {
+                exact.match(segments, pos + 1, result);
+            }
+
+            final Node any = children.get(ANY);
+            if (any != null) {
+                any.match(segments, pos + 1, result);
+            }
+        }
+
+        /**
+         * Removes the listener from this node and its children, pruning children left empty
+         */
+        private boolean remove(SocketSessionListener listener) {
+            listeners.remove(listener);
+            remainingListeners.remove(listener);
+            children.values().removeIf(child -> child.remove(listener));
+            return listeners.isEmpty() && remainingListeners.isEmpty() && children.isEmpty();
+        }
+    }
+}
@@ -89,6 +89,7 @@ public class RioSystemFavoritesProtocol extends AbstractRioProtocol {
      */
     public RioSystemFavoritesProtocol(SocketSession session, RioHandlerCallback callback) {
         super(session, callback);
+        addRoute("System.favorite[*].*");
 
         gson = GsonUtilities.createGson();
 
@@ -55,6 +55,7 @@ class RioControllerProtocol extends AbstractRioProtocol {
     RioControllerProtocol(int controller, SocketSession session, RioHandlerCallback callback) {
         super(session, callback);
         this.controller = controller;
+        addRoute("C[" + controller + "].*");
     }
 
     /**
@@ -158,6 +158,7 @@ class RioSourceProtocol extends AbstractRioProtocol {
             throw new IllegalArgumentException("Source must be between 1-12: " + source);
         }
         this.source = source;
+        addRoute("S[" + source + "].#");
         httpClient = new HttpClient();
         httpClient.setFollowRedirects(true);
         httpClient.start();
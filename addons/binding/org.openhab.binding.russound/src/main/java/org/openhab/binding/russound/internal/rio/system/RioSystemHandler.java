@@ -357,8 +357,9 @@ public class RioSystemHandler extends AbstractBridgeHandler<RioSystemProtocol> {
     }
 
     /**
-     * Retries the connection attempt - schedules a job in {@link RioSystemConfig#getRetryPolling()} seconds to
-     * call the {@link #connect()} method. If a retry attempt is pending, the request is ignored.
+     * Retries the connection attempt - schedules a job in {@link RioSystemConfig#getRetryPolling()} seconds (backed
+     * off by the session after consecutive failures) to call the {@link #connect()} method. If a retry attempt is
+     * pending, the request is ignored.
      */
     @Override
     protected void reconnect() {
@@ -367,8 +368,11 @@ public class RioSystemHandler extends AbstractBridgeHandler<RioSystemProtocol> {
             if (retryConnection == null) {
                 final RioSystemConfig rioConfig = getRioConfig();
                 if (rioConfig != null) {
+                    final SocketSession currentSession = session;
+                    final int retryDelay = currentSession == null ? rioConfig.getRetryPolling()
+                            : currentSession.getReconnectDelay(rioConfig.getRetryPolling());
 
-                    logger.info("Will try to reconnect in {} seconds", rioConfig.getRetryPolling());
+                    logger.info("Will try to reconnect in {} seconds", retryDelay);
                     retryConnection = this.scheduler.schedule(new Runnable() {
                         @Override
                         public void run() {
@@ -382,7 +386,7 @@ public class RioSystemHandler extends AbstractBridgeHandler<RioSystemProtocol> {
                             }
                         }
 
-                    }, rioConfig.getRetryPolling(), TimeUnit.SECONDS);
+                    }, retryDelay, TimeUnit.SECONDS);
                 }
             } else {
                 logger.debug("RetryConnection called when a retry connection is pending - ignoring request");
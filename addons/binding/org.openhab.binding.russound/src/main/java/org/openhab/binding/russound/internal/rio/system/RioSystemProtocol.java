@@ -63,6 +63,8 @@ class RioSystemProtocol extends AbstractRioProtocol {
      */
     RioSystemProtocol(SocketSession session, RioHandlerCallback callback) {
         super(session, callback);
+        addRoute("System.*");
+        addRoute("VERSION");
     }
 
     /**
@@ -128,6 +128,7 @@ class RioZoneProtocol extends AbstractRioProtocol
 
         this.controller = controller;
         this.zone = zone;
+        addRoute("C[" + controller + "].Z[" + zone + "].#");
 
         this.favoritesProtocol = favoritesProtocol;
         this.favoritesProtocol.addListener(this);
@@ -310,7 +310,7 @@ public class SamsungTvHandler extends BaseThingHandler implements DiscoveryListe
                 SamsungTvService existingService = findServiceInstance(type);
 
                 if (existingService == null || !existingService.isUpnp()) {
-                    SamsungTvService newService = ServiceFactory.createService(type, upnpIOService, udn,
+                    SamsungTvService newService = ServiceFactory.createService(type, upnpIOService, udn, scheduler,
                             configuration.refreshInterval, configuration.hostName, configuration.port);
 
                     if (newService != null) {
@@ -16,10 +16,11 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.smarthome.core.library.types.DecimalType;
 import org.eclipse.smarthome.core.library.types.StringType;
@@ -40,6 +41,11 @@ import org.w3c.dom.NodeList;
  * The {@link MainTVServerService} is responsible for handling MainTVServer
  * commands.
  *
+ * The MainTVAgent2 events don't carry the state, so each LastChange event
+ * triggers a single refresh. While the events are received, the state is
+ * polled only every {@link #EVENT_POLLING_INTERVAL} milliseconds as a
+ * fallback, otherwise every configured polling interval.
+ *
  * @author Pauli Anttila - Initial contribution
  */
 public class MainTVServerService implements UpnpIOParticipant, SamsungTvService {
@@ -47,6 +53,14 @@ public class MainTVServerService implements UpnpIOParticipant, SamsungTvService
     public static final String SERVICE_NAME = "MainTVServer2";
     private static final List<String> supportedCommands = Arrays.asList(SOURCE_NAME, BROWSER_URL, STOP_BROWSER);
 
+    private static final String MAIN_TV_AGENT = "MainTVAgent2";
+
+    /* Duration of the event subscription in seconds */
+    private static final int SUBSCRIPTION_DURATION = 600;
+
+    /* Polling interval in milliseconds while events are received */
+    private static final int EVENT_POLLING_INTERVAL = 60000;
+
     private Logger logger = LoggerFactory.getLogger(MainTVServerService.class);
 
     private UpnpIOService service;
@@ -56,12 +70,19 @@ public class MainTVServerService implements UpnpIOParticipant, SamsungTvService
 
     private String udn;
     private int pollingInterval;
+    private volatile boolean subscribed = false;
+    private final AtomicBoolean refreshPending = new AtomicBoolean();
+
+    /* Number of invoked actions and received events, for diagnostics */
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicInteger eventCount = new AtomicInteger();
 
     private Map<String, String> stateMap = Collections.synchronizedMap(new HashMap<String, String>());
 
     private List<EventListener> listeners = new CopyOnWriteArrayList<>();
 
-    public MainTVServerService(UpnpIOService upnpIOService, String udn, int pollingInterval) {
+    public MainTVServerService(UpnpIOService upnpIOService, String udn, ScheduledExecutorService scheduler,
+            int pollingInterval) {
         logger.debug("Create a Samsung TV MainTVServer service");
 
         if (upnpIOService != null) {
@@ -71,9 +92,8 @@ public class MainTVServerService implements UpnpIOParticipant, SamsungTvService
         }
 
         this.udn = udn;
+        this.scheduler = scheduler;
         this.pollingInterval = pollingInterval;
-
-        scheduler = Executors.newScheduledThreadPool(1);
     }
 
     @Override
@@ -92,21 +112,46 @@ public class MainTVServerService implements UpnpIOParticipant, SamsungTvService
     }
 
     @Override
-    public void start() {
+    public synchronized void start() {
         if (pollingJob == null || pollingJob.isCancelled()) {
-            logger.debug("Start refresh task, interval={}", pollingInterval);
-            pollingJob = scheduler.scheduleWithFixedDelay(pollingRunnable, 0, pollingInterval, TimeUnit.MILLISECONDS);
+            service.addSubscription(this, MAIN_TV_AGENT, SUBSCRIPTION_DURATION);
+            schedulePolling(0);
         }
     }
 
     @Override
-    public void stop() {
+    public synchronized void stop() {
+        cancelPolling();
+        service.removeSubscription(this, MAIN_TV_AGENT);
+        subscribed = false;
+    }
+
+    private void schedulePolling(int initialDelay) {
+        cancelPolling();
+        int interval = subscribed ? Math.max(pollingInterval, EVENT_POLLING_INTERVAL) : pollingInterval;
+        logger.debug("Start refresh task, interval={}, subscribed={}", interval, subscribed);
+        pollingJob = scheduler.scheduleWithFixedDelay(pollingRunnable, initialDelay, interval, TimeUnit.MILLISECONDS);
+    }
+
+    private void cancelPolling() {
         if (pollingJob != null && !pollingJob.isCancelled()) {
             pollingJob.cancel(true);
             pollingJob = null;
         }
     }
 
+    /**
+     * Schedule a single refresh, unless one is already pending.
+     */
+    private void scheduleRefresh() {
+        if (refreshPending.compareAndSet(false, true)) {
+            scheduler.execute(() -> {
+                refreshPending.set(false);
+                pollingRunnable.run();
+            });
+        }
+    }
+
     @Override
     public void clearCache() {
         stateMap.clear();
@@ -122,6 +167,9 @@ public class MainTVServerService implements UpnpIOParticipant, SamsungTvService
         @Override
         public void run() {
             if (isRegistered()) {
+                logger.trace("Refresh {} state, subscribed={}, requests={}, events={}", MAIN_TV_AGENT, subscribed,
+                        requestCount, eventCount);
+
                 try {
                     updateResourceState("MainTVAgent2", "GetCurrentMainTVChannel", null);
 
@@ -146,11 +194,13 @@ public class MainTVServerService implements UpnpIOParticipant, SamsungTvService
                 setSourceName(command);
                 // Clear value on cache to force update
                 stateMap.put("CurrentExternalSource", "");
+                refreshIfSubscribed();
                 break;
             case BROWSER_URL:
                 setBrowserUrl(command);
                 // Clear value on cache to force update
                 stateMap.put("BrowserURL", "");
+                refreshIfSubscribed();
                 break;
             case STOP_BROWSER:
                 stopBrowser(command);
@@ -160,6 +210,13 @@ public class MainTVServerService implements UpnpIOParticipant, SamsungTvService
         }
     }
 
+    private void refreshIfSubscribed() {
+        // The fallback polling may be far away, so refresh the changed state now
+        if (subscribed) {
+            scheduleRefresh();
+        }
+    }
+
     private boolean isRegistered() {
         return service.isRegistered(this);
     }
@@ -170,12 +227,24 @@ public class MainTVServerService implements UpnpIOParticipant, SamsungTvService
     }
 
     @Override
-    public void onServiceSubscribed(String service, boolean succeeded) {
+    public synchronized void onServiceSubscribed(String service, boolean succeeded) {
+        logger.debug("Subscription to {} {}", service, succeeded ? "succeeded" : "failed");
+
+        if (MAIN_TV_AGENT.equals(service) && succeeded != subscribed && pollingJob != null) {
+            subscribed = succeeded;
+            schedulePolling(succeeded ? EVENT_POLLING_INTERVAL : 0);
+        }
     }
 
     @Override
     public void onValueReceived(String variable, String value, String service) {
 
+        if ("LastChange".equals(variable)) {
+            eventCount.incrementAndGet();
+            scheduleRefresh();
+            return;
+        }
+
         String oldValue = stateMap.get(variable);
         if ((value == null && oldValue == null) || (value != null && value.equals(oldValue))) {
             logger.trace("Value '{}' for {} hasn't changed, ignoring update", value, variable);
@@ -218,6 +287,7 @@ public class MainTVServerService implements UpnpIOParticipant, SamsungTvService
 
     protected Map<String, String> updateResourceState(String serviceId, String actionId, Map<String, String> inputs) {
 
+        requestCount.incrementAndGet();
         Map<String, String> result = service.invokeAction(this, serviceId, actionId, inputs);
 
         for (String variable : result.keySet()) {
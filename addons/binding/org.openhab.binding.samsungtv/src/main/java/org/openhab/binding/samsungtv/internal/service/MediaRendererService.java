@@ -16,10 +16,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.smarthome.core.library.types.DecimalType;
 import org.eclipse.smarthome.core.library.types.OnOffType;
@@ -34,11 +34,20 @@ import org.openhab.binding.samsungtv.internal.service.api.EventListener;
 import org.openhab.binding.samsungtv.internal.service.api.SamsungTvService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
 
 /**
  * The {@link MediaRendererService} is responsible for handling MediaRenderer
  * commands.
  *
+ * The state is tracked by the LastChange events of the RenderingControl
+ * service. While the events are received, the state is polled only every
+ * {@link #EVENT_POLLING_INTERVAL} milliseconds as a fallback, otherwise every
+ * configured polling interval.
+ *
  * @author Pauli Anttila - Initial contribution
  */
 public class MediaRendererService implements UpnpIOParticipant, SamsungTvService {
@@ -47,6 +56,28 @@ public class MediaRendererService implements UpnpIOParticipant, SamsungTvService
     private final List<String> supportedCommands = Arrays.asList(VOLUME, MUTE, BRIGHTNESS, CONTRAST, SHARPNESS,
             COLOR_TEMPERATURE);
 
+    private static final String RENDERING_CONTROL = "RenderingControl";
+
+    /* Duration of the event subscription in seconds */
+    private static final int SUBSCRIPTION_DURATION = 600;
+
+    /* Polling interval in milliseconds while events are received */
+    private static final int EVENT_POLLING_INTERVAL = 60000;
+
+    /* State variables of the LastChange event elements */
+    @SuppressWarnings("serial")
+    private static final Map<String, String> lastChangeVariables = Collections
+            .unmodifiableMap(new HashMap<String, String>() {
+                {
+                    put("Volume", "CurrentVolume");
+                    put("Mute", "CurrentMute");
+                    put("Brightness", "CurrentBrightness");
+                    put("Contrast", "CurrentContrast");
+                    put("Sharpness", "CurrentSharpness");
+                    put("ColorTemperature", "CurrentColorTemperature");
+                }
+            });
+
     private Logger logger = LoggerFactory.getLogger(MediaRendererService.class);
 
     private UpnpIOService service;
@@ -56,12 +87,18 @@ public class MediaRendererService implements UpnpIOParticipant, SamsungTvService
 
     private String udn;
     private int pollingInterval;
+    private volatile boolean subscribed = false;
+
+    /* Number of invoked actions and received events, for diagnostics */
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicInteger eventCount = new AtomicInteger();
 
     private Map<String, String> stateMap = Collections.synchronizedMap(new HashMap<String, String>());
 
     private List<EventListener> listeners = new CopyOnWriteArrayList<>();
 
-    public MediaRendererService(UpnpIOService upnpIOService, String udn, int pollingInterval) {
+    public MediaRendererService(UpnpIOService upnpIOService, String udn, ScheduledExecutorService scheduler,
+            int pollingInterval) {
         logger.debug("Create a Samsung TV MediaRenderer service");
 
         if (upnpIOService != null) {
@@ -71,9 +108,8 @@ public class MediaRendererService implements UpnpIOParticipant, SamsungTvService
         }
 
         this.udn = udn;
+        this.scheduler = scheduler;
         this.pollingInterval = pollingInterval;
-
-        scheduler = Executors.newScheduledThreadPool(1);
     }
 
     @Override
@@ -92,15 +128,28 @@ public class MediaRendererService implements UpnpIOParticipant, SamsungTvService
     }
 
     @Override
-    public void start() {
+    public synchronized void start() {
         if (pollingJob == null || pollingJob.isCancelled()) {
-            logger.debug("Start refresh task, interval={}", pollingInterval);
-            pollingJob = scheduler.scheduleWithFixedDelay(pollingRunnable, 0, pollingInterval, TimeUnit.MILLISECONDS);
+            service.addSubscription(this, RENDERING_CONTROL, SUBSCRIPTION_DURATION);
+            schedulePolling(0);
         }
     }
 
     @Override
-    public void stop() {
+    public synchronized void stop() {
+        cancelPolling();
+        service.removeSubscription(this, RENDERING_CONTROL);
+        subscribed = false;
+    }
+
+    private void schedulePolling(int initialDelay) {
+        cancelPolling();
+        int interval = subscribed ? Math.max(pollingInterval, EVENT_POLLING_INTERVAL) : pollingInterval;
+        logger.debug("Start refresh task, interval={}, subscribed={}", interval, subscribed);
+        pollingJob = scheduler.scheduleWithFixedDelay(pollingRunnable, initialDelay, interval, TimeUnit.MILLISECONDS);
+    }
+
+    private void cancelPolling() {
         if (pollingJob != null && !pollingJob.isCancelled()) {
             pollingJob.cancel(true);
             pollingJob = null;
@@ -122,6 +171,8 @@ public class MediaRendererService implements UpnpIOParticipant, SamsungTvService
         @Override
         public void run() {
             if (isRegistered()) {
+                logger.trace("Refresh {} state, subscribed={}, requests={}, events={}", RENDERING_CONTROL, subscribed,
+                        requestCount, eventCount);
 
                 try {
                     updateResourceState("RenderingControl", "GetVolume",
@@ -182,12 +233,27 @@ public class MediaRendererService implements UpnpIOParticipant, SamsungTvService
     }
 
     @Override
-    public void onServiceSubscribed(String service, boolean succeeded) {
+    public synchronized void onServiceSubscribed(String service, boolean succeeded) {
+        logger.debug("Subscription to {} {}", service, succeeded ? "succeeded" : "failed");
+
+        if (RENDERING_CONTROL.equals(service) && succeeded != subscribed && pollingJob != null) {
+            subscribed = succeeded;
+            // The initial event contains the complete state, so the fallback polling can wait
+            schedulePolling(succeeded ? EVENT_POLLING_INTERVAL : 0);
+        }
     }
 
     @Override
     public void onValueReceived(String variable, String value, String service) {
 
+        if ("LastChange".equals(variable)) {
+            eventCount.incrementAndGet();
+            for (Map.Entry<String, String> entry : parseLastChange(value).entrySet()) {
+                onValueReceived(entry.getKey(), entry.getValue(), service);
+            }
+            return;
+        }
+
         String oldValue = stateMap.get(variable);
         if ((value == null && oldValue == null) || (value != null && value.equals(oldValue))) {
             logger.trace("Value '{}' for {} hasn't changed, ignoring update", value, variable);
@@ -205,7 +271,7 @@ public class MediaRendererService implements UpnpIOParticipant, SamsungTvService
                 case "CurrentMute":
                     State newState = UnDefType.UNDEF;
                     if (value != null) {
-                        newState = value.equals("true") ? OnOffType.ON : OnOffType.OFF;
+                        newState = value.equals("true") || value.equals("1") ? OnOffType.ON : OnOffType.OFF;
                     }
                     listener.valueReceived(MUTE, newState);
                     break;
@@ -230,8 +296,50 @@ public class MediaRendererService implements UpnpIOParticipant, SamsungTvService
         }
     }
 
+    /**
+     * Parse the state variables of the Master channel of instance 0 from a
+     * RenderingControl LastChange event, e.g. &lt;Event&gt;&lt;InstanceID
+     * val="0"&gt;&lt;Volume channel="Master" val="12"/&gt;&lt;/InstanceID&gt;&lt;/Event&gt;
+     *
+     * @param xml LastChange event
+     * @return state variables by the names used by the Get actions
+     */
+    private Map<String, String> parseLastChange(String xml) {
+        Map<String, String> values = new HashMap<>();
+
+        Document dom = xml != null ? SamsungTvUtils.loadXMLFromString(xml) : null;
+        if (dom == null) {
+            logger.debug("Ignoring invalid LastChange event '{}'", xml);
+            return values;
+        }
+
+        NodeList instances = dom.getElementsByTagName("InstanceID");
+        for (int i = 0; i < instances.getLength(); i++) {
+            Element instance = (Element) instances.item(i);
+            if (!"0".equals(instance.getAttribute("val"))) {
+                continue;
+            }
+
+            NodeList nodes = instance.getChildNodes();
+            for (int j = 0; j < nodes.getLength(); j++) {
+                if (nodes.item(j).getNodeType() != Node.ELEMENT_NODE) {
+                    continue;
+                }
+                Element element = (Element) nodes.item(j);
+                String variable = lastChangeVariables.get(element.getNodeName());
+                String channel = element.getAttribute("channel");
+                if (variable != null && (channel.isEmpty() || "Master".equals(channel))) {
+                    values.put(variable, element.getAttribute("val"));
+                }
+            }
+        }
+
+        return values;
+    }
+
     protected Map<String, String> updateResourceState(String serviceId, String actionId, Map<String, String> inputs) {
 
+        requestCount.incrementAndGet();
         Map<String, String> result = service.invokeAction(this, serviceId, actionId, inputs);
 
         for (String variable : result.keySet()) {
@@ -254,8 +362,10 @@ public class MediaRendererService implements UpnpIOParticipant, SamsungTvService
         updateResourceState("RenderingControl", "SetVolume", SamsungTvUtils.buildHashMap("InstanceID", "0", "Channel",
                 "Master", "DesiredVolume", Integer.toString(newValue)));
 
-        updateResourceState("RenderingControl", "GetVolume",
-                SamsungTvUtils.buildHashMap("InstanceID", "0", "Channel", "Master"));
+        if (!subscribed) {
+            updateResourceState("RenderingControl", "GetVolume",
+                    SamsungTvUtils.buildHashMap("InstanceID", "0", "Channel", "Master"));
+        }
     }
 
     private void setMute(Command command) {
@@ -270,9 +380,10 @@ public class MediaRendererService implements UpnpIOParticipant, SamsungTvService
         updateResourceState("RenderingControl", "SetMute", SamsungTvUtils.buildHashMap("InstanceID", "0", "Channel",
                 "Master", "DesiredMute", Boolean.toString(newValue)));
 
-        updateResourceState("RenderingControl", "GetMute",
-                SamsungTvUtils.buildHashMap("InstanceID", "0", "Channel", "Master"));
-
+        if (!subscribed) {
+            updateResourceState("RenderingControl", "GetMute",
+                    SamsungTvUtils.buildHashMap("InstanceID", "0", "Channel", "Master"));
+        }
     }
 
     private void setBrightness(Command command) {
@@ -288,7 +399,9 @@ public class MediaRendererService implements UpnpIOParticipant, SamsungTvService
         updateResourceState("RenderingControl", "SetBrightness",
                 SamsungTvUtils.buildHashMap("InstanceID", "0", "DesiredBrightness", Integer.toString(newValue)));
 
-        updateResourceState("RenderingControl", "GetBrightness", SamsungTvUtils.buildHashMap("InstanceID", "0"));
+        if (!subscribed) {
+            updateResourceState("RenderingControl", "GetBrightness", SamsungTvUtils.buildHashMap("InstanceID", "0"));
+        }
     }
 
     private void setContrast(Command command) {
@@ -304,7 +417,9 @@ public class MediaRendererService implements UpnpIOParticipant, SamsungTvService
         updateResourceState("RenderingControl", "SetContrast",
                 SamsungTvUtils.buildHashMap("InstanceID", "0", "DesiredContrast", Integer.toString(newValue)));
 
-        updateResourceState("RenderingControl", "GetContrast", SamsungTvUtils.buildHashMap("InstanceID", "0"));
+        if (!subscribed) {
+            updateResourceState("RenderingControl", "GetContrast", SamsungTvUtils.buildHashMap("InstanceID", "0"));
+        }
     }
 
     private void setSharpness(Command command) {
@@ -320,7 +435,9 @@ public class MediaRendererService implements UpnpIOParticipant, SamsungTvService
         updateResourceState("RenderingControl", "SetSharpness",
                 SamsungTvUtils.buildHashMap("InstanceID", "0", "DesiredSharpness", Integer.toString(newValue)));
 
-        updateResourceState("RenderingControl", "GetSharpness", SamsungTvUtils.buildHashMap("InstanceID", "0"));
+        if (!subscribed) {
+            updateResourceState("RenderingControl", "GetSharpness", SamsungTvUtils.buildHashMap("InstanceID", "0"));
+        }
     }
 
     private void setColorTemperature(Command command) {
@@ -336,7 +453,10 @@ public class MediaRendererService implements UpnpIOParticipant, SamsungTvService
         updateResourceState("RenderingControl", "SetColorTemperature",
                 SamsungTvUtils.buildHashMap("InstanceID", "0", "DesiredColorTemperature", Integer.toString(newValue)));
 
-        updateResourceState("RenderingControl", "GetColorTemperature", SamsungTvUtils.buildHashMap("InstanceID", "0"));
+        if (!subscribed) {
+            updateResourceState("RenderingControl", "GetColorTemperature",
+                    SamsungTvUtils.buildHashMap("InstanceID", "0"));
+        }
     }
 
     @Override
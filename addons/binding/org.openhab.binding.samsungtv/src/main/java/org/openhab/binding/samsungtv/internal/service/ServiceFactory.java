@@ -11,6 +11,7 @@ package org.openhab.binding.samsungtv.internal.service;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
 
 import org.eclipse.smarthome.io.transport.upnp.UpnpIOService;
 import org.openhab.binding.samsungtv.internal.service.api.SamsungTvService;
@@ -39,22 +40,23 @@ public class ServiceFactory {
      * @param type
      * @param upnpIOService
      * @param udn
+     * @param scheduler
      * @param pollingInterval
      * @param host
      * @param port
      * @return
      */
     public static SamsungTvService createService(String type, UpnpIOService upnpIOService, String udn,
-            int pollingInterval, String host, int port) {
+            ScheduledExecutorService scheduler, int pollingInterval, String host, int port) {
 
         SamsungTvService service = null;
 
         switch (type) {
             case MainTVServerService.SERVICE_NAME:
-                service = new MainTVServerService(upnpIOService, udn, pollingInterval);
+                service = new MainTVServerService(upnpIOService, udn, scheduler, pollingInterval);
                 break;
             case MediaRendererService.SERVICE_NAME:
-                service = new MediaRendererService(upnpIOService, udn, pollingInterval);
+                service = new MediaRendererService(upnpIOService, udn, scheduler, pollingInterval);
                 break;
             case RemoteControllerService.SERVICE_NAME:
                 service = RemoteControllerService.createUpnpService(host, port);
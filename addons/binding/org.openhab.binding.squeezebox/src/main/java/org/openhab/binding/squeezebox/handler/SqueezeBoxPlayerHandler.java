@@ -25,7 +25,6 @@ import org.eclipse.smarthome.core.library.types.NextPreviousType;
 import org.eclipse.smarthome.core.library.types.OnOffType;
 import org.eclipse.smarthome.core.library.types.PercentType;
 import org.eclipse.smarthome.core.library.types.PlayPauseType;
-import org.eclipse.smarthome.core.library.types.RawType;
 import org.eclipse.smarthome.core.library.types.RewindFastforwardType;
 import org.eclipse.smarthome.core.library.types.StringType;
 import org.eclipse.smarthome.core.thing.ChannelUID;
@@ -40,7 +39,7 @@ import org.eclipse.smarthome.core.types.RefreshType;
 import org.eclipse.smarthome.core.types.State;
 import org.openhab.binding.squeezebox.SqueezeBoxBindingConstants;
 import org.openhab.binding.squeezebox.internal.config.SqueezeBoxPlayerConfig;
-import org.openhab.binding.squeezebox.internal.utils.HttpUtils;
+import org.openhab.io.transport.image.ImageCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -105,14 +104,25 @@ public class SqueezeBoxPlayerHandler extends BaseThingHandler implements Squeeze
 
     private String callbackUrl;
 
+    /**
+     * Shared cache for downloading the cover art
+     */
+    private final ImageCache imageCache;
+
+    /**
+     * The URL of the current cover art, images of previous URLs arriving late are ignored
+     */
+    private volatile String coverArtUrl;
+
     /**
      * Creates SqueezeBox Player Handler
      *
      * @param thing
      */
-    public SqueezeBoxPlayerHandler(@NonNull Thing thing, String callbackUrl) {
+    public SqueezeBoxPlayerHandler(@NonNull Thing thing, String callbackUrl, ImageCache imageCache) {
         super(thing);
         this.callbackUrl = callbackUrl;
+        this.imageCache = imageCache;
     }
 
     @Override
@@ -366,12 +376,18 @@ public class SqueezeBoxPlayerHandler extends BaseThingHandler implements Squeeze
 
     @Override
     public void coverArtChangeEvent(String mac, String coverArtUrl) {
-        try {
-            byte[] data = HttpUtils.getData(coverArtUrl);
-            updateChannel(mac, CHANNEL_COVERART_DATA, new RawType(data));
-        } catch (Exception e) {
-            logger.debug("Could not get album art data", e);
+        // The server sends the events of all players to all player handlers
+        if (!isMe(mac)) {
+            return;
         }
+        this.coverArtUrl = coverArtUrl;
+        imageCache.getImage(coverArtUrl, (url, image) -> {
+            if (image == null) {
+                logger.debug("Could not get album art data from {}", url);
+            } else if (url.equals(this.coverArtUrl)) {
+                updateChannel(mac, CHANNEL_COVERART_DATA, image);
+            }
+        });
     }
 
     @Override
@@ -22,6 +22,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
@@ -136,6 +137,7 @@ public class TeslaHandler extends BaseThingHandler {
     protected Gson gson = new Gson();
     protected TeslaChannelSelectorProxy teslaChannelSelectorProxy = new TeslaChannelSelectorProxy();
     private TokenResponse logonToken;
+    private final Map<String, State> lastChannelStates = new ConcurrentHashMap<>();
 
     public TeslaHandler(Thing thing, StorageService storageService) {
         super(thing);
@@ -149,6 +151,7 @@ public class TeslaHandler extends BaseThingHandler {
 
         updateStatus(ThingStatus.UNKNOWN);
 
+        lastChannelStates.clear();
         lock = new ReentrantLock();
 
         lock.lock();
@@ -223,6 +226,8 @@ public class TeslaHandler extends BaseThingHandler {
         TeslaChannelSelector selector = TeslaChannelSelector.getValueSelectorFromChannelID(channelID);
 
         if (command instanceof RefreshType) {
+            // make sure the requested states get published, even if unchanged
+            lastChannelStates.clear();
             if (isAwake()) {
                 // Request the state of all known variables. This is sub-optimal, but the requests get scheduled and
                 // throttled so we are safe not to break the Tesla SLA
@@ -405,7 +410,7 @@ public class TeslaHandler extends BaseThingHandler {
         sendCommand(parameter, null, target);
     }
 
-    protected String invokeAndParse(String command, String payLoad, WebTarget target) {
+    protected JsonElement invokeAndParse(String command, String payLoad, WebTarget target) {
 
         logger.debug("Invoking: {}", command);
 
@@ -438,9 +443,12 @@ public class TeslaHandler extends BaseThingHandler {
             if (response != null && response.getStatus() == 200) {
                 try {
                     JsonObject jsonObject = parser.parse(response.readEntity(String.class)).getAsJsonObject();
-                    logger.trace("Request : {}:{}:{} yields {}", new Object[] { command, payLoad, target.toString(),
-                            jsonObject.get("response").toString() });
-                    return jsonObject.get("response").toString();
+                    JsonElement result = jsonObject.get("response");
+                    if (logger.isTraceEnabled()) {
+                        logger.trace("Request : {}:{}:{} yields {}",
+                                new Object[] { command, payLoad, target.toString(), result });
+                    }
+                    return result;
                 } catch (Exception e) {
                     logger.error("An exception occurred while invoking a REST request : '{}'", e.getMessage());
                 }
@@ -474,59 +482,69 @@ public class TeslaHandler extends BaseThingHandler {
     }
 
     public void parseAndUpdate(String request, String payLoad, String result) {
+        if (result != null) {
+            try {
+                parseAndUpdate(request, payLoad, new JsonParser().parse(result));
+            } catch (Exception p) {
+                logger.error("An exception occurred while parsing data received from the vehicle: '{}'",
+                        p.getMessage());
+            }
+        }
+    }
+
+    public void parseAndUpdate(String request, String payLoad, JsonElement result) {
 
-        JsonParser parser = new JsonParser();
         JsonObject jsonObject = null;
 
         try {
-            if (request != null && result != null && !"null".equals(result)) {
-                // first, update state objects
+            if (request != null && result != null && !result.isJsonNull()) {
+                // reformat the response to a JSON compliant object for some
+                // specific non-JSON compatible requests
+                switch (request) {
+                    case TESLA_MOBILE_ENABLED_STATE: {
+                        jsonObject = new JsonObject();
+                        jsonObject.addProperty(TESLA_MOBILE_ENABLED_STATE, result.getAsString());
+                        break;
+                    }
+                    default: {
+                        jsonObject = result.getAsJsonObject();
+                        break;
+                    }
+                }
+
+                // update state objects from the already parsed tree
                 switch (request) {
                     case TESLA_DRIVE_STATE: {
-                        driveState = gson.fromJson(result, DriveState.class);
+                        driveState = gson.fromJson(jsonObject, DriveState.class);
                         break;
                     }
                     case TESLA_GUI_STATE: {
-                        guiState = gson.fromJson(result, GUIState.class);
+                        guiState = gson.fromJson(jsonObject, GUIState.class);
                         break;
                     }
                     case TESLA_VEHICLE_STATE: {
-                        vehicleState = gson.fromJson(result, VehicleState.class);
+                        vehicleState = gson.fromJson(jsonObject, VehicleState.class);
                         break;
                     }
                     case TESLA_CHARGE_STATE: {
-                        chargeState = gson.fromJson(result, ChargeState.class);
+                        chargeState = gson.fromJson(jsonObject, ChargeState.class);
                         if (chargeState.charging_state != null && "Charging".equals(chargeState.charging_state)) {
-                            updateState(CHANNEL_CHARGE, OnOffType.ON);
+                            updateChannelState(CHANNEL_CHARGE, OnOffType.ON);
                         } else {
-                            updateState(CHANNEL_CHARGE, OnOffType.OFF);
+                            updateChannelState(CHANNEL_CHARGE, OnOffType.OFF);
                         }
 
                         break;
                     }
                     case TESLA_CLIMATE_STATE: {
-                        climateState = gson.fromJson(result, ClimateState.class);
-                        break;
-                    }
-                }
-
-                // secondly, reformat the response string to a JSON compliant
-                // object for some specific non-JSON compatible requests
-                switch (request) {
-                    case TESLA_MOBILE_ENABLED_STATE: {
-                        jsonObject = new JsonObject();
-                        jsonObject.addProperty(TESLA_MOBILE_ENABLED_STATE, result);
-                        break;
-                    }
-                    default: {
-                        jsonObject = parser.parse(result).getAsJsonObject();
+                        climateState = gson.fromJson(jsonObject, ClimateState.class);
                         break;
                     }
                 }
             }
 
             // process the result
-            if (jsonObject != null && result != null && !"null".equals(result)) {
+            if (jsonObject != null) {
                 // deal with responses for "set" commands, which get confirmed
                 // positively, or negatively, in which case a reason for failure
                 // is provided
@@ -538,15 +556,13 @@ public class TeslaHandler extends BaseThingHandler {
                     Set<Map.Entry<String, JsonElement>> entrySet = jsonObject.entrySet();
 
                     long resultTimeStamp = 0;
-                    for (Map.Entry<String, JsonElement> entry : entrySet) {
-                        if ("timestamp".equals(entry.getKey())) {
-                            resultTimeStamp = Long.valueOf(entry.getValue().getAsString());
-                            if (logger.isTraceEnabled()) {
-                                Date date = new Date(resultTimeStamp);
-                                SimpleDateFormat dateFormatter = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS");
-                                logger.trace("The request result timestamp is {}", dateFormatter.format(date));
-                            }
-                            break;
+                    JsonElement timestamp = jsonObject.get("timestamp");
+                    if (timestamp != null) {
+                        resultTimeStamp = Long.valueOf(timestamp.getAsString());
+                        if (logger.isTraceEnabled()) {
+                            Date date = new Date(resultTimeStamp);
+                            SimpleDateFormat dateFormatter = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS");
+                            logger.trace("The request result timestamp is {}", dateFormatter.format(date));
                         }
                     }
 
@@ -554,27 +570,32 @@ public class TeslaHandler extends BaseThingHandler {
                         lock.lock();
 
                         boolean proceed = true;
-                        if (resultTimeStamp < lastTimeStamp && request == TESLA_DRIVE_STATE) {
+                        if (resultTimeStamp < lastTimeStamp && TESLA_DRIVE_STATE.equals(request)) {
                             proceed = false;
                         }
 
                         if (proceed) {
+                            // properties are collected and only written back once if any of them changed
+                            Map<String, String> properties = editProperties();
+                            boolean propertiesChanged = false;
+
                             for (Map.Entry<String, JsonElement> entry : entrySet) {
                                 try {
                                     TeslaChannelSelector selector = TeslaChannelSelector
                                             .getValueSelectorFromRESTID(entry.getKey());
                                     if (!selector.isProperty()) {
                                         if (!entry.getValue().isJsonNull()) {
-                                            updateState(selector.getChannelID(), teslaChannelSelectorProxy.getState(
-                                                    entry.getValue().getAsString(), selector, editProperties()));
+                                            updateChannelState(selector.getChannelID(), teslaChannelSelectorProxy
+                                                    .getState(entry.getValue().getAsString(), selector, properties));
                                         } else {
-                                            updateState(selector.getChannelID(), UnDefType.UNDEF);
+                                            updateChannelState(selector.getChannelID(), UnDefType.UNDEF);
                                         }
                                     } else {
                                         if (!entry.getValue().isJsonNull()) {
-                                            Map<String, String> properties = editProperties();
-                                            properties.put(selector.getChannelID(), entry.getValue().getAsString());
-                                            updateProperties(properties);
+                                            String value = entry.getValue().getAsString();
+                                            if (!value.equals(properties.put(selector.getChannelID(), value))) {
+                                                propertiesChanged = true;
+                                            }
                                         }
                                     }
                                 } catch (IllegalArgumentException e) {
@@ -585,6 +606,10 @@ public class TeslaHandler extends BaseThingHandler {
                                             e.getMessage(), e);
                                 }
                             }
+
+                            if (propertiesChanged) {
+                                updateProperties(properties);
+                            }
                         } else {
                             logger.warn("The result for request '{}' is discarded due to an out of sync timestamp",
                                     request);
@@ -599,6 +624,17 @@ public class TeslaHandler extends BaseThingHandler {
         }
     }
 
+    /**
+     * Updates the state of a channel, unless it already has this state, as the same
+     * values are reported over and over by the periodic requests and the event stream.
+     */
+    protected void updateChannelState(String channelID, State state) {
+        State newState = state != null ? state : UnDefType.UNDEF;
+        if (!newState.equals(lastChannelStates.put(channelID, newState))) {
+            updateState(channelID, newState);
+        }
+    }
+
     protected boolean isAwake() {
         return (vehicle != null) ? (!"asleep".equals(vehicle.state) && vehicle.vehicle_id != null) : false;
     }
@@ -708,8 +744,9 @@ public class TeslaHandler extends BaseThingHandler {
         for (int i = 0; i < vehicleArray.length; i++) {
             logger.debug("Querying the vehicle : VIN : {}", vehicleArray[i].vin);
             if (vehicleArray[i].vin.equals(getConfig().get(VIN))) {
-                vehicleJSON = gson.toJson(vehicleArray[i]);
-                parseAndUpdate("queryVehicle", null, vehicleJSON);
+                JsonElement vehicleTree = gson.toJsonTree(vehicleArray[i]);
+                vehicleJSON = vehicleTree.toString();
+                parseAndUpdate("queryVehicle", null, vehicleTree);
                 return vehicleArray[i];
             }
         }
@@ -1008,24 +1045,29 @@ public class TeslaHandler extends BaseThingHandler {
                                                 logger.debug("Event Stream : Event stamp is {}",
                                                         dateFormatter.format(new Date(lastTimeStamp)));
                                             }
+                                            Map<String, String> properties = editProperties();
+                                            boolean propertiesChanged = false;
                                             for (int i = 0; i < EventKeys.values().length; i++) {
                                                 TeslaChannelSelector selector = TeslaChannelSelector
                                                         .getValueSelectorFromRESTID((EventKeys.values()[i]).toString());
                                                 if (!selector.isProperty()) {
                                                     State newState = teslaChannelSelectorProxy.getState(vals[i],
-                                                            selector, editProperties());
+                                                            selector, properties);
                                                     if (newState != null && !"".equals(vals[i])) {
-                                                        updateState(selector.getChannelID(), newState);
+                                                        updateChannelState(selector.getChannelID(), newState);
                                                     } else {
-                                                        updateState(selector.getChannelID(), UnDefType.UNDEF);
+                                                        updateChannelState(selector.getChannelID(), UnDefType.UNDEF);
                                                     }
                                                 } else {
-                                                    Map<String, String> properties = editProperties();
-                                                    properties.put(selector.getChannelID(),
-                                                            (selector.getState(vals[i])).toString());
-                                                    updateProperties(properties);
+                                                    String value = (selector.getState(vals[i])).toString();
+                                                    if (!value.equals(properties.put(selector.getChannelID(), value))) {
+                                                        propertiesChanged = true;
+                                                    }
                                                 }
                                             }
+                                            if (propertiesChanged) {
+                                                updateProperties(properties);
+                                            }
                                         } else {
                                             if (logger.isDebugEnabled()) {
                                                 SimpleDateFormat dateFormatter = new SimpleDateFormat(
@@ -1112,13 +1154,13 @@ public class TeslaHandler extends BaseThingHandler {
         public void run() {
             try {
 
-                String result = "";
+                JsonElement result = null;
 
                 if (isAwake() && getThing().getStatus() == ThingStatus.ONLINE) {
                     result = invokeAndParse(request, payLoad, target);
                 }
 
-                if (result != null && !"".equals(result)) {
+                if (result != null) {
                     parseAndUpdate(request, payLoad, result);
                 }
             } catch (Exception e) {
@@ -12,6 +12,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Map;
 
 import org.eclipse.smarthome.core.library.types.DateTimeType;
@@ -938,6 +939,20 @@ public class TeslaChannelSelectorProxy {
         private Class<? extends Type> typeClass;
         private final boolean isProperty;
 
+        // Lookup tables, as selectors are resolved for every field of every response. The first constant wins for
+        // duplicate ids, as with a linear scan over values().
+        private static final Map<String, TeslaChannelSelector> CHANNEL_ID_INDEX = new HashMap<>();
+        private static final Map<String, TeslaChannelSelector> REST_ID_INDEX = new HashMap<>();
+
+        static {
+            for (TeslaChannelSelector c : TeslaChannelSelector.values()) {
+                CHANNEL_ID_INDEX.putIfAbsent(c.channelID, c);
+                if (c.RESTID != null) {
+                    REST_ID_INDEX.putIfAbsent(c.RESTID, c);
+                }
+            }
+        }
+
         private TeslaChannelSelector(String RESTID, String channelID, Class<? extends Type> typeClass,
                 boolean isProperty) {
             this.RESTID = RESTID;
@@ -986,10 +1001,9 @@ public class TeslaChannelSelectorProxy {
         public static TeslaChannelSelector getValueSelectorFromChannelID(String valueSelectorText)
                 throws IllegalArgumentException {
 
-            for (TeslaChannelSelector c : TeslaChannelSelector.values()) {
-                if (c.channelID.equals(valueSelectorText)) {
-                    return c;
-                }
+            TeslaChannelSelector c = CHANNEL_ID_INDEX.get(valueSelectorText);
+            if (c != null) {
+                return c;
             }
 
             throw new IllegalArgumentException("Not valid value selector");
@@ -998,10 +1012,9 @@ public class TeslaChannelSelectorProxy {
         public static TeslaChannelSelector getValueSelectorFromRESTID(String valueSelectorText)
                 throws IllegalArgumentException {
 
-            for (TeslaChannelSelector c : TeslaChannelSelector.values()) {
-                if (c.RESTID != null && c.RESTID.equals(valueSelectorText)) {
-                    return c;
-                }
+            TeslaChannelSelector c = REST_ID_INDEX.get(valueSelectorText);
+            if (c != null) {
+                return c;
             }
 
             throw new IllegalArgumentException("Not valid value selector");
@@ -0,0 +1,188 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.yamahareceiver.internal.protocol;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.openhab.binding.yamahareceiver.internal.state.ZoneControlState;
+
+/**
+ * Tests cases for {@link ZoneControlCoalescer}, against a simulated slow AVR which takes one request at a time and
+ * only answers when the test lets it.
+ *
+ * @author agent - Initial contribution
+ */
+public class ZoneControlCoalescerTest {
+
+    private static final int TIMEOUT = 5000;
+
+    /**
+     * A zone of an AVR which blocks every request until it is released by the test.
+     */
+    private class SlowAvr implements ZoneControl {
+        private final BlockingQueue<Float> volumeRequests = new LinkedBlockingQueue<>();
+        private final Semaphore responses = new Semaphore(0);
+        private final List<Float> sentVolumes = Collections.synchronizedList(new ArrayList<>());
+        private volatile float volume;
+
+        @Override
+        public void update() {
+            ZoneControlState state = new ZoneControlState();
+            state.power = true;
+            state.volume = volume;
+            coalescer.zoneStateChanged(state);
+        }
+
+        @Override
+        public void setPower(boolean on) {
+        }
+
+        @Override
+        public void setVolumeDB(float volume) {
+        }
+
+        @Override
+        public void setVolume(float volume) throws IOException {
+            sentVolumes.add(volume);
+            volumeRequests.add(volume);
+            try {
+                responses.acquire();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            this.volume = volume;
+            // a status the AVR sends while other commands are still pending
+            update();
+        }
+
+        @Override
+        public void setVolumeRelative(ZoneControlState state, float percent) {
+        }
+
+        @Override
+        public void setMute(boolean mute) {
+        }
+
+        @Override
+        public void setInput(String name) {
+        }
+
+        @Override
+        public void setSurroundProgram(String name) {
+        }
+
+        float awaitVolumeRequest() throws InterruptedException {
+            Float volume = volumeRequests.poll(TIMEOUT, TimeUnit.MILLISECONDS);
+            assertNotNull("No volume request has been sent", volume);
+            return volume;
+        }
+    }
+
+    private final List<ZoneControlState> published = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger refreshes = new AtomicInteger();
+    private final CountDownLatch refreshed = new CountDownLatch(1);
+
+    private ScheduledExecutorService scheduler;
+    private SlowAvr avr;
+    private ZoneControlCoalescer coalescer;
+
+    @Before
+    public void setUp() {
+        scheduler = Executors.newScheduledThreadPool(2);
+        avr = new SlowAvr();
+        coalescer = new ZoneControlCoalescer(published::add, scheduler, zoneControl -> {
+            refreshes.incrementAndGet();
+            try {
+                zoneControl.update();
+            } catch (IOException | ReceivedMessageParseException e) {
+                fail(e.getMessage());
+            }
+            refreshed.countDown();
+        });
+        coalescer.setDelegate(avr);
+    }
+
+    @After
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void coalescesAVolumeDragAndRefreshesOnce() throws Exception {
+        coalescer.setVolume(1);
+        assertEquals(1, avr.awaitVolumeRequest(), 0);
+
+        // The AVR answers once every 10 steps of the drag
+        for (int step = 2; step <= 50; step++) {
+            coalescer.setVolume(step);
+            if (step % 10 == 0) {
+                avr.responses.release();
+                assertEquals(step, avr.awaitVolumeRequest(), 0);
+            }
+        }
+        avr.responses.release();
+
+        assertTrue(refreshed.await(TIMEOUT, TimeUnit.MILLISECONDS));
+        Thread.sleep(ZoneControlCoalescer.REFRESH_DELAY_MS * 2);
+
+        assertEquals(Arrays.asList(1f, 10f, 20f, 30f, 40f, 50f), avr.sentVolumes);
+        assertEquals(1, refreshes.get());
+    }
+
+    @Test
+    public void publishesVolumeOptimisticallyAndConfirmsItAfterTheRefresh() throws Exception {
+        for (int step = 1; step <= 5; step++) {
+            coalescer.setVolume(step * 10);
+        }
+        assertEquals(5, published.size());
+        assertEquals(50, published.get(4).volume, 0);
+
+        avr.responses.release(2);
+        assertTrue(refreshed.await(TIMEOUT, TimeUnit.MILLISECONDS));
+
+        // The states the AVR reported while commands were being sent have not been published, the refresh has
+        assertEquals(6, published.size());
+        assertEquals(50, published.get(5).volume, 0);
+        assertTrue(published.get(5).power);
+    }
+
+    @Test
+    public void stepsRelativeToTheOptimisticVolume() throws Exception {
+        coalescer.setVolume(20);
+        assertEquals(20, avr.awaitVolumeRequest(), 0);
+
+        coalescer.setVolumeRelative(new ZoneControlState(), 5);
+        coalescer.setVolumeRelative(new ZoneControlState(), 5);
+        assertEquals(30, published.get(published.size() - 1).volume, 0);
+
+        avr.responses.release();
+        assertEquals(30, avr.awaitVolumeRequest(), 0);
+        avr.responses.release();
+
+        assertTrue(refreshed.await(TIMEOUT, TimeUnit.MILLISECONDS));
+        assertEquals(Arrays.asList(20f, 30f), avr.sentVolumes);
+    }
+}
@@ -172,7 +172,8 @@ public class YamahaZoneThingHandler extends BaseThingHandler implements ZoneCont
         if (bridgeStatusInfo.getStatus() == ThingStatus.ONLINE) {
             if (zoneControl == null) {
                 YamahaBridgeHandler brHandler = getBridgeHandler();
-                zoneControl = ProtocolFactory.ZoneControl(brHandler.getCommunication(), zone, this);
+                zoneControl = ProtocolFactory.ZoneControl(brHandler.getCommunication(), zone, this, scheduler,
+                        this::updateAsyncMakeOfflineIfFail);
                 zoneAvailableInputs = ProtocolFactory.ZoneAvailableInputs(brHandler.getCommunication(), zone, this);
 
                 updateZoneInformation();
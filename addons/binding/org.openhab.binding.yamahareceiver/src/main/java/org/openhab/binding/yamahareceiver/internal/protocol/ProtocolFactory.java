@@ -8,6 +8,9 @@
  */
 package org.openhab.binding.yamahareceiver.internal.protocol;
 
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
+
 import org.openhab.binding.yamahareceiver.YamahaReceiverBindingConstants.Zone;
 import org.openhab.binding.yamahareceiver.handler.YamahaZoneThingHandler;
 import org.openhab.binding.yamahareceiver.internal.protocol.xml.*;
@@ -76,9 +79,21 @@ public class ProtocolFactory {
         return null;
     }
 
-    public static ZoneControl ZoneControl(AbstractConnection connection, Zone zone, ZoneControlStateListener listener) {
+    /**
+     * Returns the zone control for the connection, wrapped in a {@link ZoneControlCoalescer}.
+     *
+     * @param connection The connection to the AVR
+     * @param zone The zone to control
+     * @param listener The listener for the (optimistic) zone state
+     * @param scheduler The scheduler the commands are sent on
+     * @param refresher Performs the status refresh after a burst of commands
+     */
+    public static ZoneControl ZoneControl(AbstractConnection connection, Zone zone, ZoneControlStateListener listener,
+            ScheduledExecutorService scheduler, Consumer<IStateUpdatable> refresher) {
         if (connection instanceof XMLConnection) {
-            return new ZoneControlXML(connection, zone, listener);
+            ZoneControlCoalescer coalescer = new ZoneControlCoalescer(listener, scheduler, refresher);
+            coalescer.setDelegate(new ZoneControlXML(connection, zone, coalescer));
+            return coalescer;
         }
         return null;
     }
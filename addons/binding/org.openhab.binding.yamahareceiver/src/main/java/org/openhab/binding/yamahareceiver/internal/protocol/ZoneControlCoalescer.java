@@ -0,0 +1,225 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.yamahareceiver.internal.protocol;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.openhab.binding.yamahareceiver.YamahaReceiverBindingConstants;
+import org.openhab.binding.yamahareceiver.internal.state.ZoneControlState;
+import org.openhab.binding.yamahareceiver.internal.state.ZoneControlStateListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Coalesces the commands sent to a zone. Commands are queued per control (power, volume, mute, input, surround
+ * program) and sent in the background, where a newer command for a control replaces a pending one. A volume slider
+ * drag therefore results in as many requests as the AVR can take and not one (plus a status request) per step.
+ *
+ * Power, volume and mute are published to the observer right away (optimistically). Once all pending commands have
+ * been sent, a single status refresh is scheduled, which confirms or corrects the published state. Status updates
+ * received while commands are still being sent are not published, as they would reset the optimistic state.
+ *
+ * @author agent - Initial contribution
+ */
+public class ZoneControlCoalescer implements ZoneControl, ZoneControlStateListener {
+    private final Logger logger = LoggerFactory.getLogger(ZoneControlCoalescer.class);
+
+    /**
+     * Delay after the last command before the status of the zone is refreshed
+     */
+    public static final long REFRESH_DELAY_MS = 500;
+
+    private static final String CONTROL_POWER = "power";
+    private static final String CONTROL_VOLUME = "volume";
+    private static final String CONTROL_MUTE = "mute";
+    private static final String CONTROL_INPUT = "input";
+    private static final String CONTROL_SURROUND = "surround";
+
+    /**
+     * A command waiting to be sent through the protocol implementation
+     */
+    private interface ZoneCommand {
+        void send(ZoneControl zoneControl) throws IOException, ReceivedMessageParseException;
+    }
+
+    private final ZoneControlStateListener observer;
+    private final ScheduledExecutorService scheduler;
+    private final Consumer<IStateUpdatable> refresher;
+    private ZoneControl delegate;
+
+    private final Map<String, ZoneCommand> pendingCommands = new LinkedHashMap<>();
+    private boolean sending;
+    private ZoneControlState state = new ZoneControlState();
+    private ScheduledFuture<?> refreshJob;
+
+    /**
+     * Creates a coalescer. The protocol implementation has to be set via {@link #setDelegate(ZoneControl)} and has to
+     * report its state to this coalescer.
+     *
+     * @param observer The observer the (optimistic) zone state is published to
+     * @param scheduler The scheduler the commands are sent and the status refresh is scheduled on
+     * @param refresher Performs the status refresh after a burst of commands, usually asynchronously
+     */
+    public ZoneControlCoalescer(ZoneControlStateListener observer, ScheduledExecutorService scheduler,
+            Consumer<IStateUpdatable> refresher) {
+        this.observer = observer;
+        this.scheduler = scheduler;
+        this.refresher = refresher;
+    }
+
+    public void setDelegate(ZoneControl delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void setPower(boolean on) {
+        publish(newState -> newState.power = on);
+        enqueue(CONTROL_POWER, zoneControl -> zoneControl.setPower(on));
+    }
+
+    @Override
+    public void setVolumeDB(float volume) {
+        float percent = (volume - YamahaReceiverBindingConstants.VOLUME_MIN) * 100.0f
+                / YamahaReceiverBindingConstants.VOLUME_RANGE;
+        publish(newState -> newState.volume = clampPercent(percent));
+        enqueue(CONTROL_VOLUME, zoneControl -> zoneControl.setVolumeDB(volume));
+    }
+
+    @Override
+    public void setVolume(float volume) {
+        float percent = clampPercent(volume);
+        publish(newState -> newState.volume = percent);
+        enqueue(CONTROL_VOLUME, zoneControl -> zoneControl.setVolume(percent));
+    }
+
+    /**
+     * Increase or decrease the volume by the given percentage, relative to the optimistic state of this coalescer
+     * (so that consecutive steps add up even if the AVR has not confirmed the previous ones yet).
+     */
+    @Override
+    public void setVolumeRelative(ZoneControlState zoneState, float percent) {
+        float volume;
+        synchronized (this) {
+            volume = state.volume + percent;
+        }
+        setVolume(volume);
+    }
+
+    @Override
+    public void setMute(boolean mute) {
+        publish(newState -> newState.mute = mute);
+        enqueue(CONTROL_MUTE, zoneControl -> zoneControl.setMute(mute));
+    }
+
+    /**
+     * The input is not published optimistically: the AVR reports another ID than the one used for selecting it and a
+     * changed input makes the handler set up the input specific controls.
+     */
+    @Override
+    public void setInput(String name) {
+        enqueue(CONTROL_INPUT, zoneControl -> zoneControl.setInput(name));
+    }
+
+    @Override
+    public void setSurroundProgram(String name) {
+        enqueue(CONTROL_SURROUND, zoneControl -> zoneControl.setSurroundProgram(name));
+    }
+
+    @Override
+    public void update() throws IOException, ReceivedMessageParseException {
+        delegate.update();
+    }
+
+    @Override
+    public void zoneStateChanged(ZoneControlState msg) {
+        synchronized (this) {
+            state = copy(msg);
+            if (sending) {
+                // the refresh after the pending commands will publish the state
+                return;
+            }
+        }
+        observer.zoneStateChanged(msg);
+    }
+
+    /**
+     * Applies the change to a copy of the current state and publishes it.
+     */
+    private void publish(Consumer<ZoneControlState> change) {
+        ZoneControlState newState;
+        synchronized (this) {
+            newState = copy(state);
+            change.accept(newState);
+            state = newState;
+        }
+        observer.zoneStateChanged(copy(newState));
+    }
+
+    private void enqueue(String control, ZoneCommand command) {
+        synchronized (this) {
+            pendingCommands.put(control, command);
+            if (sending) {
+                return;
+            }
+            sending = true;
+        }
+        scheduler.execute(this::sendPendingCommands);
+    }
+
+    private void sendPendingCommands() {
+        while (true) {
+            ZoneCommand command;
+            synchronized (this) {
+                Iterator<ZoneCommand> iterator = pendingCommands.values().iterator();
+                if (!iterator.hasNext()) {
+                    sending = false;
+                    scheduleRefresh();
+                    return;
+                }
+                command = iterator.next();
+                iterator.remove();
+            }
+            try {
+                command.send(delegate);
+            } catch (IOException | ReceivedMessageParseException | RuntimeException e) {
+                // the refresh will report a device that is gone
+                logger.warn("Sending a command to the zone failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    private synchronized void scheduleRefresh() {
+        if (refreshJob != null) {
+            refreshJob.cancel(false);
+        }
+        refreshJob = scheduler.schedule(() -> refresher.accept(delegate), REFRESH_DELAY_MS, TimeUnit.MILLISECONDS);
+    }
+
+    private static float clampPercent(float volume) {
+        return Math.max(0, Math.min(100, volume));
+    }
+
+    private static ZoneControlState copy(ZoneControlState source) {
+        ZoneControlState copy = new ZoneControlState();
+        copy.power = source.power;
+        copy.inputName = source.inputName;
+        copy.inputID = source.inputID;
+        copy.surroundProgram = source.surroundProgram;
+        copy.volume = source.volume;
+        copy.mute = source.mute;
+        return copy;
+    }
+}
@@ -11,6 +11,7 @@ package org.openhab.binding.yamahareceiver.internal.protocol.xml;
 import java.io.BufferedReader;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
@@ -22,7 +23,9 @@ import org.slf4j.LoggerFactory;
 
 /**
  * All other protocol classes in this directory use this class for communication. An object
- * of HttpXMLSendReceive is always bound to a specific host.
+ * of HttpXMLSendReceive is always bound to a specific host. Responses are always read completely
+ * and connections are not disconnected on success, so the underlying socket is kept alive and
+ * reused for the next request.
  *
  * @author David Graeff - Initial contribution
  * @author Tomasz Maruszak - Minor refactor
@@ -75,16 +78,19 @@ public class XMLConnection extends AbstractConnection {
                 wr.close();
             }
 
-            if (connection.getResponseCode() != 200) {
+            int responseCode = connection.getResponseCode();
+            // Consume the response so that the connection is kept alive for the next request
+            drain(responseCode == 200 ? connection.getInputStream() : connection.getErrorStream());
+            if (responseCode != 200) {
                 throw new IOException("Changing a value on the Yamaha AVR failed: " + message);
             }
 
         } catch (IOException e) {
-            throw e;
-        } finally {
             if (connection != null) {
+                // The connection is in an unknown state, do not reuse it
                 connection.disconnect();
             }
+            throw e;
         }
     }
 
@@ -143,11 +149,31 @@ public class XMLConnection extends AbstractConnection {
             }
         } catch (Exception e) {
             logger.warn("post failed on: {}", message);
-            throw e;
-        } finally {
             if (connection != null) {
+                // The connection is in an unknown state, do not reuse it
                 connection.disconnect();
             }
+            throw e;
+        }
+    }
+
+    /**
+     * Reads the given stream to its end and closes it. The JDK only returns a connection to its keep-alive cache
+     * once the response has been read completely.
+     *
+     * @param stream The response stream, might be null
+     */
+    private void drain(InputStream stream) throws IOException {
+        if (stream == null) {
+            return;
+        }
+        try {
+            byte[] buffer = new byte[1024];
+            while (stream.read(buffer) != -1) {
+                // discard
+            }
+        } finally {
+            stream.close();
         }
     }
 
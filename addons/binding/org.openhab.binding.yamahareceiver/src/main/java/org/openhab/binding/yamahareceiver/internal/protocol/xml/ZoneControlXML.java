@@ -16,6 +16,7 @@ import org.openhab.binding.yamahareceiver.YamahaReceiverBindingConstants;
 import org.openhab.binding.yamahareceiver.internal.protocol.AbstractConnection;
 import org.openhab.binding.yamahareceiver.internal.protocol.ReceivedMessageParseException;
 import org.openhab.binding.yamahareceiver.internal.protocol.ZoneControl;
+import org.openhab.binding.yamahareceiver.internal.protocol.ZoneControlCoalescer;
 import org.openhab.binding.yamahareceiver.internal.state.ZoneControlState;
 import org.openhab.binding.yamahareceiver.internal.state.ZoneControlStateListener;
 import org.slf4j.Logger;
@@ -26,6 +27,8 @@ import org.w3c.dom.Node;
 /**
  * The zone protocol class is used to control one zone of a Yamaha receiver with HTTP/xml.
  * No state will be saved in here, but in {@link ZoneControlState} instead.
+ * The setters only send the command, the state is refreshed by the {@link ZoneControlCoalescer} after a burst of
+ * commands.
  *
  * @author David Gräff - Refactored
  * @author Eric Thill
@@ -66,7 +69,6 @@ public class ZoneControlXML implements ZoneControl {
         } else {
             comReference.get().send(XMLUtils.wrZone(zone, "<Power_Control><Power>Standby</Power></Power_Control>"));
         }
-        update();
     }
 
     /**
@@ -86,8 +88,6 @@ public class ZoneControlXML implements ZoneControl {
         int vol = (int) volume * 10;
         comReference.get().send(XMLUtils.wrZone(zone,
                 "<Volume><Lvl><Val>" + String.valueOf(vol) + "</Val><Exp>1</Exp><Unit>dB</Unit></Lvl></Volume>"));
-
-        update();
     }
 
     /**
@@ -127,14 +127,12 @@ public class ZoneControlXML implements ZoneControl {
         } else {
             comReference.get().send(XMLUtils.wrZone(zone, "<Volume><Mute>Off</Mute></Volume>"));
         }
-        update();
     }
 
     @Override
     public void setInput(String name) throws IOException, ReceivedMessageParseException {
         // ToDo: See the fixme in the class description
         comReference.get().send(XMLUtils.wrZone(zone, "<Input><Input_Sel>" + name + "</Input_Sel></Input>"));
-        update();
     }
 
     @Override
@@ -146,8 +144,6 @@ public class ZoneControlXML implements ZoneControl {
             comReference.get().send(XMLUtils.wrZone(zone, "<Surround><Program_Sel><Current><Sound_Program>" + name
                     + "</Sound_Program></Current></Program_Sel></Surround>"));
         }
-
-        update();
     }
 
     @Override
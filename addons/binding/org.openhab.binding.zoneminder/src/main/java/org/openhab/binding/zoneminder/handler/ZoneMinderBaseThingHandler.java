@@ -12,6 +12,8 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.security.GeneralSecurityException;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -71,6 +73,9 @@ public abstract class ZoneMinderBaseThingHandler extends BaseThingHandler implem
 
     private DataRefreshPriorityEnum _refreshPriority = DataRefreshPriorityEnum.SCHEDULED;
 
+    /** Last state published per channel, used to suppress updates of unchanged channels */
+    private final Map<String, State> lastChannelStates = new ConcurrentHashMap<>();
+
     protected boolean isOnline() {
 
         if (zoneMinderSession == null) {
@@ -260,9 +265,30 @@ public abstract class ZoneMinderBaseThingHandler extends BaseThingHandler implem
     public void handleCommand(ChannelUID channelUID, Command command) {
     }
 
+    /**
+     * Updates the state of a channel, unless the channel already has this state.
+     *
+     * @param channel Identifier of Channel
+     * @param state New state of the channel
+     */
+    protected void updateChannelState(ChannelUID channel, State state) {
+        State previous = lastChannelStates.put(channel.getId(), state);
+        if (!state.equals(previous)) {
+            updateState(channel, state);
+        }
+    }
+
+    /**
+     * Makes sure the next update of the channel is published, even if the state didn't change.
+     */
+    protected void invalidateChannelState(ChannelUID channel) {
+        lastChannelStates.remove(channel.getId());
+    }
+
     @Override
     public void onBridgeConnected(ZoneMinderServerBridgeHandler bridge, IZoneMinderConnectionInfo connection)
             throws IllegalArgumentException, GeneralSecurityException, IOException, ZoneMinderUrlNotFoundException {
+        lastChannelStates.clear();
         lockSession.lock();
         try {
             zoneMinderSession = ZoneMinderFactory.CreateSession(connection);
@@ -279,6 +305,7 @@ public abstract class ZoneMinderBaseThingHandler extends BaseThingHandler implem
 
             this.setThingRefreshed(false);
         }
+        lastChannelStates.clear();
 
         lockSession.lock();
         try {
@@ -12,10 +12,13 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.security.GeneralSecurityException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -42,6 +45,8 @@ import org.eclipse.smarthome.core.types.UnDefType;
 import org.openhab.binding.zoneminder.ZoneMinderConstants;
 import org.openhab.binding.zoneminder.ZoneMinderProperties;
 import org.openhab.binding.zoneminder.internal.DataRefreshPriorityEnum;
+import org.openhab.binding.zoneminder.internal.ZoneMinderApiCallCounter;
+import org.openhab.binding.zoneminder.internal.ZoneMinderMonitorSnapshot;
 import org.openhab.binding.zoneminder.internal.config.ZoneMinderBridgeServerConfig;
 import org.openhab.binding.zoneminder.internal.discovery.ZoneMinderDiscoveryService;
 import org.osgi.framework.ServiceRegistration;
@@ -55,6 +60,7 @@ import name.eskildsen.zoneminder.IZoneMinderDaemonStatus;
 import name.eskildsen.zoneminder.IZoneMinderDiskUsage;
 import name.eskildsen.zoneminder.IZoneMinderHostLoad;
 import name.eskildsen.zoneminder.IZoneMinderHostVersion;
+import name.eskildsen.zoneminder.IZoneMinderMonitor;
 import name.eskildsen.zoneminder.IZoneMinderMonitorData;
 import name.eskildsen.zoneminder.IZoneMinderServer;
 import name.eskildsen.zoneminder.IZoneMinderSession;
@@ -131,6 +137,17 @@ public class ZoneMinderServerBridgeHandler extends BaseBridgeHandler implements
     private ScheduledFuture<?> taskRefreshData = null;
     private ScheduledFuture<?> taskPriorityRefreshData = null;
 
+    /**
+     * Monitor data of all monitors, fetched once per refresh cycle and shared by all monitor things
+     */
+    private final Map<String, ZoneMinderMonitorSnapshot> monitorSnapshots = new ConcurrentHashMap<>();
+
+    /**
+     * Counts the calls to the ZoneMinder API made by the bridge and its things
+     */
+    private final ZoneMinderApiCallCounter apiCallCounter = new ZoneMinderApiCallCounter();
+    private long loggedApiCallsPerMinute = -1;
+
     private Runnable refreshDataRunnable = new Runnable() {
         @Override
         public void run() {
@@ -191,6 +208,22 @@ public class ZoneMinderServerBridgeHandler extends BaseBridgeHandler implements
         @Override
         public void run() {
             try {
+                List<ZoneMinderBaseThingHandler> priorityHandlers = new ArrayList<>();
+                for (Thing thing : getThing().getThings()) {
+                    if (thing.getThingTypeUID().equals(ZoneMinderConstants.THING_TYPE_THING_ZONEMINDER_MONITOR)
+                            && thing.getHandler() instanceof ZoneMinderBaseThingHandler) {
+                        ZoneMinderBaseThingHandler thingHandler = (ZoneMinderBaseThingHandler) thing.getHandler();
+                        if (thingHandler.getRefreshPriority() == DataRefreshPriorityEnum.HIGH_PRIORITY) {
+                            priorityHandlers.add(thingHandler);
+                        }
+                    }
+                }
+                if (priorityHandlers.isEmpty()) {
+                    return;
+                }
+
+                // One bulk fetch of all monitors for all priority refreshes of this cycle
+                fetchMonitorSnapshots(zoneMinderSession, false);
 
                 // Make sure priority updates is done
                 for (Thing thing : getThing().getThings()) {
@@ -434,6 +467,7 @@ public class ZoneMinderServerBridgeHandler extends BaseBridgeHandler implements
             IZoneMinderHostLoad hostLoad = null;
             try {
                 hostLoad = zoneMinderServerProxy.getHostCpuLoad();
+                countApiCalls(1);
                 logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
                         zoneMinderServerProxy.getHttpUrl(), zoneMinderServerProxy.getHttpResponseCode(),
                         zoneMinderServerProxy.getHttpResponseMessage());
@@ -458,6 +492,7 @@ public class ZoneMinderServerBridgeHandler extends BaseBridgeHandler implements
                 IZoneMinderDiskUsage diskUsage = null;
                 try {
                     diskUsage = zoneMinderServerProxy.getHostDiskUsage();
+                    countApiCalls(1);
                     logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
                             zoneMinderServerProxy.getHttpUrl(), zoneMinderServerProxy.getHttpResponseCode(),
                             zoneMinderServerProxy.getHttpResponseMessage());
@@ -492,6 +527,16 @@ public class ZoneMinderServerBridgeHandler extends BaseBridgeHandler implements
             updateChannel(channel.getUID());
         }
 
+        /*
+         * Fetch data of all monitors at once, the monitor things read from this snapshot
+         */
+        if (isConnected()) {
+            fetchMonitorSnapshots(session, true);
+        } else {
+            monitorSnapshots.clear();
+        }
+        logApiCalls();
+
         /*
          * Request Things attached to Bridge to refresh
          */
@@ -1127,6 +1172,90 @@ public class ZoneMinderServerBridgeHandler extends BaseBridgeHandler implements
 
     }
 
+    /**
+     * Fetches the data of all monitors in one request and the daemon states of all monitors which
+     * have a thing attached to this bridge. Daemon states are kept from the previous cycle if
+     * fetchDaemonStatus is false.
+     */
+    protected void fetchMonitorSnapshots(IZoneMinderSession session, boolean fetchDaemonStatus) {
+        if (session == null) {
+            monitorSnapshots.clear();
+            return;
+        }
+        IZoneMinderServer serverProxy = ZoneMinderFactory.getServerProxy(session);
+        if (serverProxy == null) {
+            monitorSnapshots.clear();
+            return;
+        }
+        ArrayList<IZoneMinderMonitorData> monitors = serverProxy.getMonitors();
+        countApiCalls(1);
+        logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
+                serverProxy.getHttpUrl(), serverProxy.getHttpResponseCode(), serverProxy.getHttpResponseMessage());
+        if (monitors == null || serverProxy.getHttpResponseCode() != 200) {
+            // Things fall back to fetching their data on their own
+            monitorSnapshots.clear();
+            return;
+        }
+
+        Set<String> thingMonitorIds = new HashSet<>();
+        for (Thing thing : getThing().getThings()) {
+            if (thing.getHandler() instanceof ZoneMinderThingMonitorHandler) {
+                thingMonitorIds.add(((ZoneMinderThingMonitorHandler) thing.getHandler()).getZoneMinderId());
+            }
+        }
+
+        Map<String, ZoneMinderMonitorSnapshot> snapshots = new HashMap<>();
+        for (IZoneMinderMonitorData data : monitors) {
+            String id = data.getId();
+            if (!thingMonitorIds.contains(id)) {
+                continue;
+            }
+            ZoneMinderMonitorSnapshot previous = monitorSnapshots.get(id);
+            if (fetchDaemonStatus || previous == null || !previous.hasDaemonStatus()) {
+                IZoneMinderMonitor monitorProxy = ZoneMinderFactory.getMonitorProxy(session, id);
+                IZoneMinderDaemonStatus captureDaemon = monitorProxy.getCaptureDaemonStatus();
+                IZoneMinderDaemonStatus analysisDaemon = monitorProxy.getAnalysisDaemonStatus();
+                IZoneMinderDaemonStatus frameDaemon = monitorProxy.getFrameDaemonStatus();
+                countApiCalls(3);
+                snapshots.put(id, new ZoneMinderMonitorSnapshot(data, captureDaemon, analysisDaemon, frameDaemon));
+            } else {
+                snapshots.put(id, new ZoneMinderMonitorSnapshot(data, previous.getCaptureDaemon(),
+                        previous.getAnalysisDaemon(), previous.getFrameDaemon()));
+            }
+        }
+        monitorSnapshots.keySet().retainAll(snapshots.keySet());
+        monitorSnapshots.putAll(snapshots);
+    }
+
+    /**
+     * Returns the data of a monitor fetched in the current refresh cycle, or null if there is none.
+     */
+    public ZoneMinderMonitorSnapshot getMonitorSnapshot(String zoneMinderId) {
+        return monitorSnapshots.get(zoneMinderId);
+    }
+
+    /**
+     * Accounts calls made to the ZoneMinder API.
+     */
+    public void countApiCalls(int calls) {
+        apiCallCounter.add(calls);
+    }
+
+    /**
+     * Returns the number of ZoneMinder API calls made during the last minute.
+     */
+    public long getApiCallsPerMinute() {
+        return apiCallCounter.getCallsPerMinute();
+    }
+
+    private void logApiCalls() {
+        long callsPerMinute = apiCallCounter.getCallsPerMinute();
+        if (callsPerMinute != loggedApiCallsPerMinute) {
+            logger.debug("{}: ZoneMinder API calls per minute: {}", getLogIdentifier(), callsPerMinute);
+            loggedApiCallsPerMinute = callsPerMinute;
+        }
+    }
+
     public ArrayList<IZoneMinderMonitorData> getMonitors() {
         if (isOnline()) {
 
@@ -33,6 +33,7 @@ import org.eclipse.smarthome.core.types.UnDefType;
 import org.openhab.binding.zoneminder.ZoneMinderConstants;
 import org.openhab.binding.zoneminder.ZoneMinderProperties;
 import org.openhab.binding.zoneminder.internal.DataRefreshPriorityEnum;
+import org.openhab.binding.zoneminder.internal.ZoneMinderMonitorSnapshot;
 import org.openhab.binding.zoneminder.internal.config.ZoneMinderThingMonitorConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -179,6 +180,7 @@ public class ZoneMinderThingMonitorHandler extends ZoneMinderBaseThingHandler im
 
             // Allow refresh of channels
             if (command == RefreshType.REFRESH) {
+                invalidateChannelState(channelUID);
                 updateChannel(channelUID);
                 return;
             }
@@ -606,9 +608,9 @@ public class ZoneMinderThingMonitorHandler extends ZoneMinderBaseThingHandler im
 
             if (state != null) {
 
-                logger.debug("{}: Setting channel '{}' to '{}'", getLogIdentifier(), channel.toString(),
+                logger.trace("{}: Setting channel '{}' to '{}'", getLogIdentifier(), channel.toString(),
                         state.toString());
-                updateState(channel.getId(), state);
+                updateChannelState(channel, state);
             }
         } catch (Exception ex) {
             logger.error("{}: Error when 'updateChannel' was called (channelId='{}'state='{}', exception'{}')",
@@ -723,7 +725,74 @@ public class ZoneMinderThingMonitorHandler extends ZoneMinderBaseThingHandler im
 
     @Override
     protected void onFetchData() {
+        ZoneMinderServerBridgeHandler bridge = getZoneMinderBridgeHandler();
+        ZoneMinderMonitorSnapshot snapshot = (bridge != null) ? bridge.getMonitorSnapshot(getZoneMinderId()) : null;
 
+        if (snapshot != null) {
+            fetchDataFromSnapshot(bridge, snapshot);
+        } else {
+            fetchMonitorData(bridge);
+        }
+
+        RecalculateChannelStates();
+
+        if ((channelForceAlarm == false) && (channelAlarmedState == false)
+                && (DataRefreshPriorityEnum.HIGH_PRIORITY == getRefreshPriority())) {
+            stopPriorityRefresh();
+        }
+    }
+
+    /*
+     * Use the monitor data and daemon states the bridge fetched for all monitors in this cycle.
+     * Only the detailed status and, if the monitor is not idle, the last event are fetched per monitor.
+     */
+    private void fetchDataFromSnapshot(ZoneMinderServerBridgeHandler bridge, ZoneMinderMonitorSnapshot snapshot) {
+        IZoneMinderSession session = aquireSession();
+        try {
+            if (!isConnected()) {
+                channelMonitorStatus = ZoneMinderMonitorStatusEnum.UNKNOWN;
+                channelFunction = ZoneMinderMonitorFunctionEnum.NONE;
+                channelEnabled = false;
+                channelEventCause = "";
+                channelDaemonCapture = false;
+                channelDaemonAnalysis = false;
+                channelDaemonFrame = false;
+                return;
+            }
+            IZoneMinderMonitorData data = snapshot.getMonitorData();
+            channelFunction = data.getFunction();
+            channelEnabled = data.getEnabled();
+
+            if (snapshot.hasDaemonStatus()) {
+                channelDaemonCapture = snapshot.getCaptureDaemon().getStatus();
+                channelDaemonAnalysis = snapshot.getAnalysisDaemon().getStatus();
+                channelDaemonFrame = snapshot.getFrameDaemon().getStatus();
+            }
+
+            IZoneMinderMonitor monitorProxy = ZoneMinderFactory.getMonitorProxy(session, getZoneMinderId());
+            channelMonitorStatus = monitorProxy.getMonitorDetailedStatus();
+            bridge.countApiCalls(1);
+            logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
+                    monitorProxy.getHttpUrl(), monitorProxy.getHttpResponseCode(),
+                    monitorProxy.getHttpResponseMessage());
+
+            if (channelMonitorStatus == ZoneMinderMonitorStatusEnum.IDLE) {
+                // The event cause is cleared for an idle monitor anyway
+                channelEventCause = "";
+            } else {
+                IZoneMinderEventData event = monitorProxy.getLastEvent();
+                bridge.countApiCalls(1);
+                channelEventCause = (event != null) ? event.getCause() : "";
+            }
+        } finally {
+            releaseSession();
+        }
+    }
+
+    /*
+     * Fetch all data of this monitor on its own, used if the bridge has no snapshot of the monitor.
+     */
+    private void fetchMonitorData(ZoneMinderServerBridgeHandler bridge) {
         IZoneMinderSession session = null;
 
         session = aquireSession();
@@ -804,6 +873,9 @@ public class ZoneMinderThingMonitorHandler extends ZoneMinderBaseThingHandler im
                     channelDaemonCapture = captureDaemon.getStatus();
                     channelDaemonAnalysis = analysisDaemon.getStatus();
                     channelDaemonFrame = frameDaemon.getStatus();
+                    if (bridge != null) {
+                        bridge.countApiCalls(2);
+                    }
                 } else {
                     channelMonitorStatus = ZoneMinderMonitorStatusEnum.UNKNOWN;
                     channelFunction = ZoneMinderMonitorFunctionEnum.NONE;
@@ -814,17 +886,12 @@ public class ZoneMinderThingMonitorHandler extends ZoneMinderBaseThingHandler im
                     channelDaemonFrame = false;
                 }
             }
+            if (bridge != null) {
+                bridge.countApiCalls(4);
+            }
         } finally {
             releaseSession();
         }
-
-        RecalculateChannelStates();
-
-        if ((channelForceAlarm == false) && (channelAlarmedState == false)
-                && (DataRefreshPriorityEnum.HIGH_PRIORITY == getRefreshPriority())) {
-            stopPriorityRefresh();
-        }
-
     }
 
     protected State getDetailedStatus() {
@@ -0,0 +1,61 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.zoneminder.internal;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts the calls made to the ZoneMinder API and calculates the number of calls per minute.
+ *
+ * @author agent - Initial contribution
+ */
+public class ZoneMinderApiCallCounter {
+
+    private static final long PERIOD = TimeUnit.MINUTES.toMillis(1);
+
+    private long periodStart = System.currentTimeMillis();
+    private long periodCalls = 0;
+    private long callsPerMinute = 0;
+    private long totalCalls = 0;
+
+    /**
+     * Adds a number of API calls.
+     */
+    public synchronized void add(int calls) {
+        roll();
+        periodCalls += calls;
+        totalCalls += calls;
+    }
+
+    /**
+     * Returns the number of API calls made during the last completed minute.
+     */
+    public synchronized long getCallsPerMinute() {
+        roll();
+        return callsPerMinute;
+    }
+
+    /**
+     * Returns the number of API calls since the counter was created.
+     */
+    public synchronized long getTotalCalls() {
+        return totalCalls;
+    }
+
+    private void roll() {
+        long now = System.currentTimeMillis();
+        long elapsed = now - periodStart;
+        if (elapsed >= PERIOD) {
+            // normalize in case no calls have been made for more than one period
+            callsPerMinute = periodCalls * PERIOD / elapsed;
+            periodCalls = 0;
+            periodStart = now;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.zoneminder.internal;
+
+import name.eskildsen.zoneminder.IZoneMinderDaemonStatus;
+import name.eskildsen.zoneminder.IZoneMinderMonitorData;
+
+/**
+ * Data of a single monitor, fetched by the bridge in one bulk request for all monitors
+ * per refresh cycle. The daemon states are only fetched in scheduled refresh cycles and are
+ * carried over during high priority refreshes.
+ *
+ * @author agent - Initial contribution
+ */
+public class ZoneMinderMonitorSnapshot {
+
+    private final IZoneMinderMonitorData monitorData;
+    private final IZoneMinderDaemonStatus captureDaemon;
+    private final IZoneMinderDaemonStatus analysisDaemon;
+    private final IZoneMinderDaemonStatus frameDaemon;
+
+    public ZoneMinderMonitorSnapshot(IZoneMinderMonitorData monitorData, IZoneMinderDaemonStatus captureDaemon,
+            IZoneMinderDaemonStatus analysisDaemon, IZoneMinderDaemonStatus frameDaemon) {
+        this.monitorData = monitorData;
+        this.captureDaemon = captureDaemon;
+        this.analysisDaemon = analysisDaemon;
+        this.frameDaemon = frameDaemon;
+    }
+
+    public IZoneMinderMonitorData getMonitorData() {
+        return monitorData;
+    }
+
+    public IZoneMinderDaemonStatus getCaptureDaemon() {
+        return captureDaemon;
+    }
+
+    public IZoneMinderDaemonStatus getAnalysisDaemon() {
+        return analysisDaemon;
+    }
+
+    public IZoneMinderDaemonStatus getFrameDaemon() {
+        return frameDaemon;
+    }
+
+    public boolean hasDaemonStatus() {
+        return captureDaemon != null && analysisDaemon != null && frameDaemon != null;
+    }
+}
@@ -26,6 +26,7 @@ import org.eclipse.smarthome.core.thing.ThingTypeUID;
 import org.eclipse.smarthome.core.thing.binding.BaseBridgeHandler;
 import org.eclipse.smarthome.core.thing.binding.ThingHandler;
 import org.eclipse.smarthome.core.types.Command;
+import org.openhab.binding.zway.internal.ZWayDeviceSnapshot;
 import org.openhab.binding.zway.internal.config.ZWayBridgeConfiguration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -64,6 +65,9 @@ import de.fh_zwickau.informatik.sensor.model.zwaveapi.devices.ZWaveDevice;
  * - after update, perform refresh listener command to openHAB Connector
  * - initialize all containing device things
  *
+ * The bridge holds a snapshot of the devices that is shared by all device handlers and refreshed once per polling
+ * cycle, see {@link ZWayDeviceSnapshot}.
+ *
  * During the removal process the following tasks are performed:
  * - clean up openHAB Connector configuration
  * - important: the configured devices not changed in openHAB Connector!
@@ -84,6 +88,7 @@ public class ZWayBridgeHandler extends BaseBridgeHandler implements IZWayApiCall
 
     private ZWayBridgeConfiguration mConfig = null;
     private IZWayApi mZWayApi = null;
+    private ZWayDeviceSnapshot mDeviceSnapshot = null;
 
     /**
      * Initializer authenticate the Z-Way API instance with bridge configuration.
@@ -280,8 +285,11 @@ public class ZWayBridgeHandler extends BaseBridgeHandler implements IZWayApiCall
             if (mConfig.getOpenHabAlias() != null) {
                 logger.debug("Configuration complete: {}", mConfig);
 
-                mZWayApi = new ZWayApiHttp(mConfig.getZWayIpAddress(), mConfig.getZWayPort(), mConfig.getZWayProtocol(),
-                        mConfig.getZWayUsername(), mConfig.getZWayPassword(), -1, false, this);
+                ZWayApiHttp zwayApi = new ZWayApiHttp(mConfig.getZWayIpAddress(), mConfig.getZWayPort(),
+                        mConfig.getZWayProtocol(), mConfig.getZWayUsername(), mConfig.getZWayPassword(), -1, false,
+                        this);
+                mZWayApi = zwayApi;
+                mDeviceSnapshot = new ZWayDeviceSnapshot(zwayApi);
 
                 // Start an extra thread, because it takes sometimes more
                 // than 5000 milliseconds and the handler will suspend (ThingStatus.UNINITIALIZED).
@@ -304,6 +312,10 @@ public class ZWayBridgeHandler extends BaseBridgeHandler implements IZWayApiCall
             resetInclusionExclusionJob = null;
         }
 
+        if (mDeviceSnapshot != null) {
+            mDeviceSnapshot.clear();
+        }
+
         super.dispose();
     }
 
@@ -340,6 +352,13 @@ public class ZWayBridgeHandler extends BaseBridgeHandler implements IZWayApiCall
             logger.debug("Starting polling for bridge: {}", getThing().getLabel());
             if (getThing().getStatus().equals(ThingStatus.ONLINE)) {
                 updateControllerData();
+
+                if (mDeviceSnapshot.refreshNow()) {
+                    logger.debug("Devices refreshed with {} device list requests",
+                            mDeviceSnapshot.getDeviceListRequests());
+                } else {
+                    logger.debug("Refreshing devices failed");
+                }
             } else {
                 logger.debug("Polling not possible, bridge isn't ONLINE");
             }
@@ -570,6 +589,13 @@ public class ZWayBridgeHandler extends BaseBridgeHandler implements IZWayApiCall
         return mZWayApi;
     }
 
+    /**
+     * @return snapshot of the Z-Way devices, shared by all device handlers
+     */
+    public ZWayDeviceSnapshot getDeviceSnapshot() {
+        return mDeviceSnapshot;
+    }
+
     /********************************
      ****** Z-Way API callback ******
      *******************************/
@@ -585,6 +611,12 @@ public class ZWayBridgeHandler extends BaseBridgeHandler implements IZWayApiCall
     @Override
     public void getLoginResponse(String sessionId) {
         logger.debug("New session id: {}", sessionId);
+
+        // Devices may have changed while the session was lost, start over with the complete device list
+        if (mDeviceSnapshot != null) {
+            mDeviceSnapshot.clear();
+        }
+
         updateStatus(ThingStatus.ONLINE);
     }
 
@@ -314,8 +314,8 @@ public abstract class ZWayDeviceHandler extends BaseThingHandler {
         // Check device id associated with channel
         String deviceId = channel.getProperties().get("deviceId");
         if (deviceId != null) {
-            // Load and check device from Z-Way server
-            DeviceList deviceList = zwayBridgeHandler.getZWayApi().getDevices();
+            // Load and check device from the device snapshot of the bridge
+            DeviceList deviceList = zwayBridgeHandler.getDeviceSnapshot().getDevices();
             if (deviceList != null) {
                 // 1.) Load only the current value from Z-Way server
                 Device device = deviceList.getDeviceById(deviceId);
@@ -353,7 +353,7 @@ public abstract class ZWayDeviceHandler extends BaseThingHandler {
             if (channel.getUID().equals(new ChannelUID(getThing().getUID(), THERMOSTAT_MODE_CC_CHANNEL))) {
                 // Load physical device
                 Integer nodeId = Integer.parseInt(channel.getProperties().get("nodeId"));
-                ZWaveDevice physicalDevice = zwayBridgeHandler.getZWayApi().getZWaveDevice(nodeId);
+                ZWaveDevice physicalDevice = zwayBridgeHandler.getDeviceSnapshot().getZWaveDevice(nodeId);
 
                 if (physicalDevice != null) {
                     updateState(channel.getUID(), new DecimalType(physicalDevice.getInstances().get0()
@@ -488,7 +488,7 @@ public abstract class ZWayDeviceHandler extends BaseThingHandler {
         final String deviceId = channel.getProperties().get("deviceId");
 
         if (deviceId != null) {
-            DeviceList deviceList = zwayBridgeHandler.getZWayApi().getDevices();
+            DeviceList deviceList = zwayBridgeHandler.getDeviceSnapshot().getDevices();
             if (deviceList != null) {
                 Device device = deviceList.getDeviceById(deviceId);
                 if (device == null) {
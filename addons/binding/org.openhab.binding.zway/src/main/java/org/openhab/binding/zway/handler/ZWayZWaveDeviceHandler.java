@@ -57,7 +57,7 @@ public class ZWayZWaveDeviceHandler extends ZWayDeviceHandler {
 
                 // Add all available channels
                 logger.debug("Add all available channels");
-                DeviceList deviceList = getZWayBridgeHandler().getZWayApi().getDevices();
+                DeviceList deviceList = getZWayBridgeHandler().getDeviceSnapshot().getDevices();
                 if (deviceList != null) {
                     logger.debug("Z-Way devices loaded ({} physical devices)",
                             deviceList.getDevicesGroupByNodeId().size());
@@ -95,7 +95,7 @@ public class ZWayZWaveDeviceHandler extends ZWayDeviceHandler {
                         }
 
                         // Check command classes (only for ThermostatMode)
-                        ZWaveDevice zwaveDevice = getZWayBridgeHandler().getZWayApi()
+                        ZWaveDevice zwaveDevice = getZWayBridgeHandler().getDeviceSnapshot()
                                 .getZWaveDevice(mConfig.getNodeId());
                         if (!zwaveDevice.getInstances().get0().getCommandClasses().get64().getName().equals("")) {
                             // Load available thermostat modes
@@ -200,7 +200,7 @@ public class ZWayZWaveDeviceHandler extends ZWayDeviceHandler {
         }
 
         // Load and check Z-Wave device from Z-Way server (Z-Wave API)
-        ZWaveDevice zwaveDevice = zwayBridgeHandler.getZWayApi().getZWaveDevice(mConfig.getNodeId());
+        ZWaveDevice zwaveDevice = zwayBridgeHandler.getDeviceSnapshot().getZWaveDevice(mConfig.getNodeId());
         if (zwaveDevice == null) {
             logger.debug("Z-Wave device not found.");
             return;
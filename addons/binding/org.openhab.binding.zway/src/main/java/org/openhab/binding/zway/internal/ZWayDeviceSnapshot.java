@@ -0,0 +1,257 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.zway.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Scanner;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+import de.fh_zwickau.informatik.sensor.ZWayApiHttp;
+import de.fh_zwickau.informatik.sensor.model.devices.Device;
+import de.fh_zwickau.informatik.sensor.model.devices.DeviceList;
+import de.fh_zwickau.informatik.sensor.model.devices.DeviceListDeserializer;
+import de.fh_zwickau.informatik.sensor.model.zwaveapi.devices.ZWaveDevice;
+
+/**
+ * The {@link ZWayDeviceSnapshot} holds the virtual devices of a Z-Way server for all device handlers of a bridge.
+ *
+ * The snapshot is refreshed at most once per cycle: all requests within {@link #CYCLE_DURATION} milliseconds are
+ * served from the same data. A refresh uses the incremental ZAutomation request (devices?since=updateTime), so only
+ * the devices that changed since the last refresh are transferred and merged into the snapshot. If the structure
+ * changed (devices added or removed) the server sends the complete list, which replaces the snapshot.
+ *
+ * The Z-Wave devices (Z-Wave API) are loaded on demand and cached for the rest of the cycle.
+ *
+ * The number of HTTP requests of the current cycle is counted, see {@link #getDeviceListRequests()} and
+ * {@link #getZWaveDeviceRequests()}.
+ *
+ * The bridge discards the snapshot via {@link #clear()} when it logs in (again) or is disposed.
+ *
+ * @author agent - Initial contribution
+ */
+public class ZWayDeviceSnapshot {
+
+    /**
+     * Duration of a cycle in milliseconds
+     */
+    public static final long CYCLE_DURATION = 5000;
+
+    private static final int HTTP_TIMEOUT = 5000;
+    private static final String DEVICES_PATH = "/ZAutomation/api/v1/devices?since=";
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final ZWayApiHttp mZWayApi;
+    private final DeviceListDeserializer mDeserializer = new DeviceListDeserializer();
+
+    private final Map<String, Device> mDevices = new LinkedHashMap<String, Device>();
+    private final Map<Integer, ZWaveDevice> mZWaveDevices = new HashMap<Integer, ZWaveDevice>();
+    private DeviceList mDeviceList = null;
+    private long mUpdateTime = 0;
+
+    private long mCycleStart = 0;
+    private boolean mRefreshed = false;
+    private int mDeviceListRequests = 0;
+    private int mZWaveDeviceRequests = 0;
+
+    /**
+     * @param zwayApi the Z-Way API of the bridge, also used as the device commands of the loaded devices
+     */
+    public ZWayDeviceSnapshot(ZWayApiHttp zwayApi) {
+        mZWayApi = zwayApi;
+    }
+
+    /**
+     * Returns the virtual devices, refreshed at most once per cycle.
+     *
+     * @return device list or null if the devices couldn't be loaded
+     */
+    public synchronized DeviceList getDevices() {
+        startCycleIfExpired();
+        if (!mRefreshed) {
+            refresh();
+        }
+        return mDeviceList;
+    }
+
+    /**
+     * Returns the Z-Wave device (Z-Wave API), loaded at most once per cycle.
+     *
+     * @return Z-Wave device or null if the device couldn't be loaded
+     */
+    public synchronized ZWaveDevice getZWaveDevice(int nodeId) {
+        startCycleIfExpired();
+        ZWaveDevice zwaveDevice = mZWaveDevices.get(nodeId);
+        if (zwaveDevice == null) {
+            mZWaveDeviceRequests++;
+            zwaveDevice = mZWayApi.getZWaveDevice(nodeId);
+            if (zwaveDevice != null) {
+                mZWaveDevices.put(nodeId, zwaveDevice);
+            }
+        }
+        return zwaveDevice;
+    }
+
+    /**
+     * Starts a new cycle and refreshes the devices, e.g. from the bridge polling.
+     *
+     * @return true if the devices have been loaded
+     */
+    public synchronized boolean refreshNow() {
+        startCycle();
+        return refresh() && mDeviceList != null;
+    }
+
+    /**
+     * Discards the snapshot, the next refresh loads the complete device list.
+     */
+    public synchronized void clear() {
+        mDevices.clear();
+        mZWaveDevices.clear();
+        mDeviceList = null;
+        mUpdateTime = 0;
+        mRefreshed = false;
+    }
+
+    /**
+     * @return number of device list requests (ZAutomation API) in the current cycle
+     */
+    public synchronized int getDeviceListRequests() {
+        return mDeviceListRequests;
+    }
+
+    /**
+     * @return number of Z-Wave device requests (Z-Wave API) in the current cycle
+     */
+    public synchronized int getZWaveDeviceRequests() {
+        return mZWaveDeviceRequests;
+    }
+
+    private void startCycleIfExpired() {
+        if (System.currentTimeMillis() - mCycleStart >= CYCLE_DURATION) {
+            startCycle();
+        }
+    }
+
+    private void startCycle() {
+        if (mCycleStart > 0) {
+            logger.debug("Z-Way device snapshot cycle finished with {} device list and {} Z-Wave device requests",
+                    mDeviceListRequests, mZWaveDeviceRequests);
+        }
+        mCycleStart = System.currentTimeMillis();
+        mRefreshed = false;
+        mDeviceListRequests = 0;
+        mZWaveDeviceRequests = 0;
+        mZWaveDevices.clear();
+    }
+
+    private boolean refresh() {
+        JsonObject data = requestDevices();
+        // Set after the request, as a login within the request clears the snapshot
+        mRefreshed = true;
+        if (data == null || !data.has("devices") || !data.get("devices").isJsonArray()) {
+            return false;
+        }
+
+        boolean structureChanged = mUpdateTime == 0 || getAsBoolean(data, "structureChanged");
+        DeviceList changedDevices = mDeserializer.deserializeDeviceList(data.getAsJsonArray("devices"), mZWayApi);
+
+        if (structureChanged) {
+            mDevices.clear();
+        }
+        for (Device device : changedDevices.getAllDevices()) {
+            mDevices.put(device.getDeviceId(), device);
+        }
+
+        JsonElement updateTime = data.get("updateTime");
+        if (updateTime != null && !updateTime.isJsonNull()) {
+            mUpdateTime = updateTime.getAsLong();
+        }
+
+        if (structureChanged || !changedDevices.getAllDevices().isEmpty() || mDeviceList == null) {
+            DeviceList deviceList = new DeviceList();
+            for (Device device : mDevices.values()) {
+                deviceList.addDevice(device);
+            }
+            mDeviceList = deviceList;
+        }
+
+        logger.debug("Z-Way device snapshot refreshed ({} changed devices, {} devices, structure changed: {})",
+                changedDevices.getAllDevices().size(), mDevices.size(), structureChanged);
+        return true;
+    }
+
+    /**
+     * Requests the devices changed since the last update time. A new session is requested once if the session
+     * expired.
+     *
+     * @return data object of the response or null if the request failed
+     */
+    private JsonObject requestDevices() {
+        try {
+            for (int attempt = 0; attempt < 2; attempt++) {
+                mDeviceListRequests++;
+                HttpURLConnection connection = (HttpURLConnection) new URL(
+                        mZWayApi.getTopLevelUrl() + DEVICES_PATH + mUpdateTime).openConnection();
+                try {
+                    connection.setConnectTimeout(HTTP_TIMEOUT);
+                    connection.setReadTimeout(HTTP_TIMEOUT);
+                    connection.setRequestProperty("Accept", "application/json");
+                    connection.setRequestProperty("Cookie", "ZWAYSession=" + mZWayApi.getZWaySessionId());
+
+                    int status = connection.getResponseCode();
+                    if (status == HttpURLConnection.HTTP_UNAUTHORIZED && attempt == 0) {
+                        logger.debug("Z-Way session expired, requesting a new session");
+                        if (mZWayApi.getLogin() == null) {
+                            return null;
+                        }
+                    } else if (status != HttpURLConnection.HTTP_OK) {
+                        logger.debug("Loading Z-Way devices failed with HTTP status {}", status);
+                        return null;
+                    } else {
+                        JsonObject response = new JsonParser().parse(readContent(connection)).getAsJsonObject();
+                        return response.getAsJsonObject("data");
+                    }
+                } finally {
+                    connection.disconnect();
+                }
+            }
+        } catch (IOException | JsonParseException | IllegalStateException | ClassCastException e) {
+            logger.debug("Loading Z-Way devices failed: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    private String readContent(HttpURLConnection connection) throws IOException {
+        try (InputStream in = connection.getInputStream();
+                Scanner scanner = new Scanner(in, StandardCharsets.UTF_8.name())) {
+            scanner.useDelimiter("\\A");
+            return scanner.hasNext() ? scanner.next() : "";
+        }
+    }
+
+    private boolean getAsBoolean(JsonObject object, String member) {
+        JsonElement element = object.get(member);
+        return element != null && !element.isJsonNull() && element.getAsBoolean();
+    }
+}
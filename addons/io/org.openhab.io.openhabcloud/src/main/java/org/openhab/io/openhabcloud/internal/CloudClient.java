@@ -21,13 +21,12 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jetty.client.HttpClient;
 import org.eclipse.jetty.client.api.Request;
 import org.eclipse.jetty.client.api.Request.FailureListener;
 import org.eclipse.jetty.client.api.Response;
-import org.eclipse.jetty.client.api.Response.ContentListener;
+import org.eclipse.jetty.client.api.Response.AsyncContentListener;
 import org.eclipse.jetty.client.api.Response.HeadersListener;
 import org.eclipse.jetty.client.api.Result;
 import org.eclipse.jetty.client.util.BytesContentProvider;
@@ -35,9 +34,8 @@ import org.eclipse.jetty.http.HttpField;
 import org.eclipse.jetty.http.HttpFields;
 import org.eclipse.jetty.http.HttpMethod;
 import org.eclipse.jetty.http.HttpStatus;
-import org.eclipse.jetty.util.BufferUtil;
+import org.eclipse.jetty.util.Callback;
 import org.eclipse.jetty.util.URIUtil;
-import org.eclipse.smarthome.core.common.ThreadPoolManager;
 import org.json.JSONException;
 import org.json.JSONObject;
 import org.openhab.core.OpenHAB;
@@ -79,6 +77,24 @@ public class CloudClient {
      */
     private static final int HTTP_CLIENT_TIMEOUT = 30000;
 
+    /*
+     * This constant defines the target size of a binary content frame sent to the openHAB Cloud.
+     * Response content chunks of a request are coalesced up to this size.
+     */
+    private static final int PROXY_FRAME_SIZE = 64 * 1024;
+
+    /*
+     * This constant defines how many bytes of a single response may be queued for sending before
+     * reading from the local openHAB instance is paused
+     */
+    private static final int PROXY_MAX_BYTES_IN_FLIGHT_PER_REQUEST = 256 * 1024;
+
+    /*
+     * This constant defines how many bytes of all responses may be queued for sending before
+     * reading from the local openHAB instance is paused
+     */
+    private static final long PROXY_MAX_BYTES_IN_FLIGHT = 4 * 1024 * 1024;
+
     /*
      * This variable holds base URL for the openHAB Cloud connections
      */
@@ -109,6 +125,21 @@ public class CloudClient {
      */
     private HashMap<Integer, Request> runningRequests;
 
+    /*
+     * This variable holds the queue through which all messages are sent to the openHAB Cloud
+     */
+    private final CloudMessageQueue messageQueue = new CloudMessageQueue(PROXY_MAX_BYTES_IN_FLIGHT);
+
+    /*
+     * This variable holds latency and volume figures of proxied requests
+     */
+    private final ProxyStatistics proxyStatistics = new ProxyStatistics();
+
+    /*
+     * This variable holds the batcher which coalesces item updates sent to the openHAB Cloud
+     */
+    private final ItemUpdateBatcher itemUpdateBatcher;
+
     /*
      * This variable indicates if connection to the openHAB Cloud is currently in an established state
      */
@@ -145,16 +176,18 @@ public class CloudClient {
      * @param secret openHAB's Secret to connect to the openHAB Cloud
      * @param remoteAccessEnabled Allow the openHAB Cloud to be used as a remote proxy
      * @param exposedItems Items that are made available to apps connected to the openHAB Cloud
+     * @param itemUpdateWindow Time in milliseconds during which item updates are coalesced, 0 to disable
      *
      */
     public CloudClient(String uuid, String secret, String baseURL, String localBaseUrl, boolean remoteAccessEnabled,
-            Set<String> exposedItems) {
+            Set<String> exposedItems, long itemUpdateWindow) {
         this.uuid = uuid;
         this.secret = secret;
         this.baseURL = baseURL;
         this.localBaseUrl = localBaseUrl;
         this.remoteAccessEnabled = remoteAccessEnabled;
         this.exposedItems = exposedItems;
+        this.itemUpdateBatcher = new ItemUpdateBatcher(this::sendItemUpdates, itemUpdateWindow);
         runningRequests = new HashMap<Integer, Request>();
         jettyClient = new HttpClient();
         jettyClient.setMaxConnectionsPerDestination(HTTP_CLIENT_MAX_CONNECTIONS_PER_DEST);
@@ -231,6 +264,7 @@ public class CloudClient {
                 onEvent("command", (JSONObject) args[0]);
             }
         });
+        messageQueue.start(socket);
         socket.connect();
     }
 
@@ -249,6 +283,8 @@ public class CloudClient {
                 logger.error("Could not start Jetty client: {}", e.getMessage());
             }
         }
+        // Send the latest state of all items which have been updated while we were disconnected
+        itemUpdateBatcher.setConnected(true);
     }
 
     /**
@@ -259,6 +295,7 @@ public class CloudClient {
         logger.info("Disconnected from the openHAB Cloud service (UUID = {}, base URL = {})", this.uuid,
                 this.localBaseUrl);
         isConnected = false;
+        itemUpdateBatcher.setConnected(false);
         // On disconnect stop jetty client to shutdown all ongoing requests if there were any
         if (jettyClient != null) {
             try {
@@ -271,6 +308,10 @@ public class CloudClient {
         if (runningRequests != null) {
             runningRequests.clear();
         }
+        // Queued messages cannot be delivered anymore, item updates among them are kept by the batcher
+        messageQueue.clear();
+        logger.debug("Proxy statistics: {}", proxyStatistics);
+        logger.debug("Item update statistics: {}", itemUpdateBatcher);
     }
 
     /**
@@ -361,7 +402,8 @@ public class CloudClient {
                 return;
             }
             ResponseListener listener = new ResponseListener(requestId);
-            request.onResponseHeaders(listener).onResponseContent(listener).onRequestFailure(listener).send(listener);
+            request.onResponseHeaders(listener).onResponseContentAsync(listener).onRequestFailure(listener)
+                    .send(listener);
             // If successfully submitted request to http client, add it to the list of currently
             // running requests to be able to cancel it if needed
             runningRequests.put(requestId, request);
@@ -441,7 +483,7 @@ public class CloudClient {
                 notificationMessage.put("message", message);
                 notificationMessage.put("icon", icon);
                 notificationMessage.put("severity", severity);
-                socket.emit("notification", notificationMessage);
+                messageQueue.sendPriority("notification", notificationMessage);
             } catch (JSONException e) {
                 logger.error("{}", e.getMessage());
             }
@@ -465,7 +507,7 @@ public class CloudClient {
                 notificationMessage.put("message", message);
                 notificationMessage.put("icon", icon);
                 notificationMessage.put("severity", severity);
-                socket.emit("lognotification", notificationMessage);
+                messageQueue.sendPriority("lognotification", notificationMessage);
             } catch (JSONException e) {
                 logger.error("{}", e.getMessage());
             }
@@ -489,7 +531,7 @@ public class CloudClient {
                 notificationMessage.put("message", message);
                 notificationMessage.put("icon", icon);
                 notificationMessage.put("severity", severity);
-                socket.emit("broadcastnotification", notificationMessage);
+                messageQueue.sendPriority("broadcastnotification", notificationMessage);
             } catch (JSONException e) {
                 logger.error("{}", e.getMessage());
             }
@@ -499,26 +541,44 @@ public class CloudClient {
     }
 
     /**
-     * Send item update to openHAB Cloud
+     * Send item update to openHAB Cloud. Updates are coalesced by the {@link ItemUpdateBatcher}, so that
+     * only the latest state of an item within the batching window is sent. Updates made while there is
+     * no connection are sent as soon as the connection is established.
      *
      * @param itemName the name of the item
      * @param itemState updated item state
      *
      */
     public void sendItemUpdate(String itemName, String itemState) {
-        if (isConnected()) {
-            logger.debug("Sending update '{}' for item '{}'", itemState, itemName);
+        logger.trace("Queueing update '{}' for item '{}'", itemState, itemName);
+        itemUpdateBatcher.update(itemName, itemState);
+    }
+
+    private int sendItemUpdates(Map<String, String> updates) {
+        if (!isConnected()) {
+            logger.debug("No connection, {} item updates are sent after reconnecting", updates.size());
+            for (Map.Entry<String, String> update : updates.entrySet()) {
+                itemUpdateBatcher.requeue(update.getKey(), update.getValue());
+            }
+            return 0;
+        }
+        int failed = 0;
+        logger.debug("Sending {} item updates", updates.size());
+        for (Map.Entry<String, String> update : updates.entrySet()) {
+            logger.debug("Sending update '{}' for item '{}'", update.getValue(), update.getKey());
             JSONObject itemUpdateMessage = new JSONObject();
             try {
-                itemUpdateMessage.put("itemName", itemName);
-                itemUpdateMessage.put("itemStatus", itemState);
-                socket.emit("itemupdate", itemUpdateMessage);
+                itemUpdateMessage.put("itemName", update.getKey());
+                itemUpdateMessage.put("itemStatus", update.getValue());
+                // An update discarded with the queue on disconnect is sent again after reconnecting
+                messageQueue.sendPriority("itemupdate", itemUpdateMessage,
+                        () -> itemUpdateBatcher.requeue(update.getKey(), update.getValue()));
             } catch (JSONException e) {
                 logger.error("{}", e.getMessage());
+                failed++;
             }
-        } else {
-            logger.debug("No connection, Item update is not sent");
         }
+        return failed;
     }
 
     /**
@@ -533,11 +593,15 @@ public class CloudClient {
      */
     public void shutdown() {
         logger.info("Shutting down openHAB Cloud service connection");
+        itemUpdateBatcher.shutdown();
+        logger.debug("Item update statistics: {}", itemUpdateBatcher);
+        logger.debug("Proxy statistics: {}", proxyStatistics);
         try {
             jettyClient.stop();
         } catch (Exception e) {
             logger.error("{}", e.getMessage());
         }
+        messageQueue.stop();
         socket.disconnect();
     }
 
@@ -554,14 +618,21 @@ public class CloudClient {
     }
 
     /*
-     * An internal class which forwards response headers and data back to the openHAB Cloud
+     * An internal class which forwards response headers and data back to the openHAB Cloud.
+     * Content is coalesced into frames and reading from the local openHAB instance is paused
+     * while too much content of this or all requests is waiting to be sent.
      */
-    private class ResponseListener
-            implements Response.CompleteListener, HeadersListener, ContentListener, FailureListener {
+    private class ResponseListener implements Response.CompleteListener, HeadersListener, AsyncContentListener,
+            FailureListener, CloudMessageQueue.FlowControlled {
 
-        private static final String THREADPOOL_OPENHABCLOUD = "openhabcloud";
         private int mRequestId;
         private boolean mHeadersSent = false;
+        private final long mStartTime = System.currentTimeMillis();
+        private ProxyContentFrame mFrame;
+        private Callback mPendingCallback;
+        private long mBytesInFlight;
+        private long mBytes;
+        private int mFrames;
 
         public ResponseListener(int requestId) {
             mRequestId = requestId;
@@ -583,31 +654,28 @@ public class CloudClient {
         public void onComplete(Result result) {
             // Remove this request from list of running requests
             runningRequests.remove(mRequestId);
+            messageQueue.unregister(this);
             if (result.isFailed() && result.getResponse().getStatus() != HttpStatus.OK_200) {
                 logger.warn("Jetty request {} failed: {}", mRequestId, result.getFailure().getMessage());
                 logger.warn("{}", result.getRequestFailure().getMessage());
                 logger.warn("{}", result.getResponseFailure().getMessage());
             }
 
-            /**
-             * What is this? In some cases where latency is very low the myopenhab service
-             * can receive responseFinished before the headers or content are received and I
-             * cannot find another workaround to prevent it.
-             */
-            ThreadPoolManager.getScheduledPool(THREADPOOL_OPENHABCLOUD).schedule(new Runnable() {
-
-                @Override
-                public void run() {
-                    JSONObject responseJson = new JSONObject();
-                    try {
-                        responseJson.put("id", mRequestId);
-                        socket.emit("responseFinished", responseJson);
-                        logger.debug("Finished responding to request {}", mRequestId);
-                    } catch (JSONException e) {
-                        logger.error("{}", e.getMessage());
-                    }
-                }
-            }, 1, TimeUnit.MILLISECONDS);
+            // Headers, content and completion are sent in order by the message queue, so
+            // responseFinished cannot overtake the data of this request anymore
+            JSONObject responseJson = new JSONObject();
+            try {
+                responseJson.put("id", mRequestId);
+                messageQueue.sendBulk("responseFinished", responseJson);
+            } catch (JSONException e) {
+                logger.error("{}", e.getMessage());
+            }
+            long latency = System.currentTimeMillis() - mStartTime;
+            synchronized (this) {
+                proxyStatistics.requestCompleted(latency, mBytes, mFrames, result.isFailed());
+                logger.debug("Finished responding to request {} in {} ms ({} bytes in {} frames)", mRequestId,
+                        latency, mBytes, mFrames);
+            }
         }
 
         @Override
@@ -617,23 +685,90 @@ public class CloudClient {
             try {
                 responseJson.put("id", mRequestId);
                 responseJson.put("responseStatusText", "openHAB connection error: " + failure.getMessage());
-                socket.emit("responseError", responseJson);
+                messageQueue.sendBulk("responseError", responseJson);
             } catch (JSONException e) {
                 logger.error("{}", e.getMessage());
             }
         }
 
         @Override
-        public void onContent(Response response, ByteBuffer content) {
+        public void onContent(Response response, ByteBuffer content, Callback callback) {
             logger.debug("Jetty received response content of size {}", String.valueOf(content.remaining()));
-            JSONObject responseJson = new JSONObject();
-            try {
-                responseJson.put("id", mRequestId);
-                responseJson.put("body", BufferUtil.toArray(content));
-                socket.emit("responseContentBinary", responseJson);
-                logger.debug("Sent content to request {}", mRequestId);
-            } catch (JSONException e) {
-                logger.error("{}", e.getMessage());
+            boolean proceed;
+            synchronized (this) {
+                int size = content.remaining();
+                while (content.hasRemaining()) {
+                    if (mFrame == null || mFrame.isFull() || mFrame.append(content) <= 0) {
+                        mFrame = new ProxyContentFrame(PROXY_FRAME_SIZE);
+                        mFrame.append(content);
+                        mFrames++;
+                        JSONObject responseJson = new JSONObject();
+                        try {
+                            responseJson.put("id", mRequestId);
+                        } catch (JSONException e) {
+                            logger.error("{}", e.getMessage());
+                        }
+                        messageQueue.sendContent("responseContentBinary", responseJson, mFrame, this);
+                    }
+                }
+                mBytes += size;
+                mBytesInFlight += size;
+                proceed = messageQueue.addBytesInFlight(size)
+                        && mBytesInFlight <= PROXY_MAX_BYTES_IN_FLIGHT_PER_REQUEST;
+                if (!proceed) {
+                    // Pause reading until enough content has been sent
+                    mPendingCallback = callback;
+                    messageQueue.stalled(this);
+                    proxyStatistics.requestStalled();
+                    logger.debug("Pausing request {} with {} bytes in flight", mRequestId, mBytesInFlight);
+                }
+            }
+            if (proceed) {
+                callback.succeeded();
+            } else {
+                // capacity might have become available while we registered as stalled
+                resume();
+            }
+        }
+
+        @Override
+        public void onContentSent(int bytes) {
+            synchronized (this) {
+                mBytesInFlight -= bytes;
+            }
+            resume();
+        }
+
+        @Override
+        public void resume() {
+            Callback callback = null;
+            synchronized (this) {
+                if (mPendingCallback == null) {
+                    return;
+                }
+                if (mBytesInFlight <= PROXY_MAX_BYTES_IN_FLIGHT_PER_REQUEST && messageQueue.hasCapacity()) {
+                    callback = mPendingCallback;
+                    mPendingCallback = null;
+                } else if (mBytesInFlight <= PROXY_MAX_BYTES_IN_FLIGHT_PER_REQUEST) {
+                    messageQueue.stalled(this);
+                }
+            }
+            if (callback != null) {
+                logger.debug("Resuming request {}", mRequestId);
+                callback.succeeded();
+            }
+        }
+
+        @Override
+        public void abort(Throwable cause) {
+            Callback callback;
+            synchronized (this) {
+                callback = mPendingCallback;
+                mPendingCallback = null;
+            }
+            if (callback != null) {
+                logger.debug("Aborting paused request {}: {}", mRequestId, cause.getMessage());
+                callback.failed(cause);
             }
         }
 
@@ -648,8 +783,8 @@ public class CloudClient {
                     responseJson.put("headers", getJSONHeaders(response.getHeaders()));
                     responseJson.put("responseStatusCode", response.getStatus());
                     responseJson.put("responseStatusText", "OK");
-                    socket.emit("responseHeader", responseJson);
-                    logger.debug("Sent headers to request {}", mRequestId);
+                    messageQueue.sendBulk("responseHeader", responseJson);
+                    logger.debug("Queued headers for request {}", mRequestId);
                     logger.debug("{}", responseJson.toString());
                 } catch (JSONException e) {
                     logger.error("{}", e.getMessage());
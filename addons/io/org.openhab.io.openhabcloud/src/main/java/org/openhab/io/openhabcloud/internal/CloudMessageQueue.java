@@ -0,0 +1,274 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.socket.client.Socket;
+
+/**
+ * This class serializes all messages which are sent to the openHAB Cloud through a single sender thread.
+ * Item updates and notifications are sent with a higher priority than proxied response data, so that
+ * bulk content of many parallel app requests cannot starve them. Messages of the same priority are
+ * sent in the order they have been queued, which keeps headers, content and completion of a proxied
+ * request in order.
+ *
+ * Proxied content is flow controlled: the number of bytes which are queued but not yet sent is limited
+ * per request and globally. A {@link FlowControlled} producer which exceeds a limit stops reading from
+ * the local openHAB instance until enough data has been sent.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+public class CloudMessageQueue {
+
+    /**
+     * A producer of proxied content which can be paused and resumed
+     */
+    public interface FlowControlled {
+        /**
+         * Called by the sender thread after content of this producer has been sent
+         *
+         * @param bytes number of bytes which have been sent or discarded
+         */
+        void onContentSent(int bytes);
+
+        /**
+         * Called by the sender thread whenever global capacity has become available
+         */
+        void resume();
+
+        /**
+         * Called when the producer is paused but its content cannot be sent anymore
+         *
+         * @param cause the reason why the producer is aborted
+         */
+        void abort(Throwable cause);
+    }
+
+    private static final int PRIORITY_HIGH = 0;
+    private static final int PRIORITY_BULK = 1;
+
+    private final Logger logger = LoggerFactory.getLogger(CloudMessageQueue.class);
+
+    private final PriorityBlockingQueue<Message> queue = new PriorityBlockingQueue<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong globalBytesInFlight = new AtomicLong();
+    private final Set<FlowControlled> stalledProducers = ConcurrentHashMap.newKeySet();
+    private final long globalMaxBytesInFlight;
+
+    private volatile Socket socket;
+    private volatile Thread senderThread;
+
+    /**
+     * @param globalMaxBytesInFlight maximum number of proxied content bytes which may be queued for all requests
+     */
+    public CloudMessageQueue(long globalMaxBytesInFlight) {
+        this.globalMaxBytesInFlight = globalMaxBytesInFlight;
+    }
+
+    /**
+     * Starts the sender thread which emits queued messages on the given socket
+     */
+    public synchronized void start(Socket socket) {
+        this.socket = socket;
+        if (senderThread == null) {
+            senderThread = new Thread(this::run, "openhabcloud-sender");
+            senderThread.setDaemon(true);
+            senderThread.start();
+        }
+    }
+
+    /**
+     * Stops the sender thread and discards all queued messages
+     */
+    public synchronized void stop() {
+        if (senderThread != null) {
+            senderThread.interrupt();
+            senderThread = null;
+        }
+        clear();
+    }
+
+    /**
+     * Discards all queued messages, e.g. after the connection to the openHAB Cloud was lost.
+     * Producers which are still paused are aborted.
+     */
+    public void clear() {
+        Message message;
+        while ((message = queue.poll()) != null) {
+            message.discard();
+        }
+        IOException cause = new IOException("Connection to the openHAB Cloud lost");
+        for (FlowControlled producer : stalledProducers) {
+            if (stalledProducers.remove(producer)) {
+                producer.abort(cause);
+            }
+        }
+    }
+
+    /**
+     * Queues a message which is sent before any proxied response data
+     */
+    public void sendPriority(String event, JSONObject payload) {
+        sendPriority(event, payload, null);
+    }
+
+    /**
+     * Queues a message which is sent before any proxied response data
+     *
+     * @param discarded called if the message is discarded instead of being sent, may be null
+     */
+    public void sendPriority(String event, JSONObject payload, Runnable discarded) {
+        queue.offer(new Message(PRIORITY_HIGH, sequence.incrementAndGet(), event, payload, null, null, discarded));
+    }
+
+    /**
+     * Queues a control message of a proxied request (headers, completion, errors)
+     */
+    public void sendBulk(String event, JSONObject payload) {
+        queue.offer(new Message(PRIORITY_BULK, sequence.incrementAndGet(), event, payload, null, null, null));
+    }
+
+    /**
+     * Queues a content frame of a proxied request. The frame may still be filled until it is sent.
+     */
+    public void sendContent(String event, JSONObject payload, ProxyContentFrame frame, FlowControlled producer) {
+        queue.offer(new Message(PRIORITY_BULK, sequence.incrementAndGet(), event, payload, frame, producer, null));
+    }
+
+    /**
+     * Accounts content bytes which have been added to a queued frame
+     *
+     * @return true if the global in-flight limit still allows the producer to continue
+     */
+    public boolean addBytesInFlight(int bytes) {
+        return globalBytesInFlight.addAndGet(bytes) <= globalMaxBytesInFlight;
+    }
+
+    /**
+     * Returns true if the global in-flight limit allows producers to continue
+     */
+    public boolean hasCapacity() {
+        return globalBytesInFlight.get() <= globalMaxBytesInFlight;
+    }
+
+    /**
+     * Registers a producer which has been paused and needs to be resumed when capacity is available
+     */
+    public void stalled(FlowControlled producer) {
+        stalledProducers.add(producer);
+    }
+
+    /**
+     * Removes a producer from the set of paused producers, e.g. when its request has completed
+     */
+    public void unregister(FlowControlled producer) {
+        stalledProducers.remove(producer);
+    }
+
+    public long getBytesInFlight() {
+        return globalBytesInFlight.get();
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            Message message;
+            try {
+                message = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                emit(message);
+            } catch (RuntimeException e) {
+                logger.error("Error sending '{}' to the openHAB Cloud: {}", message.event, e.getMessage());
+            }
+        }
+    }
+
+    private void emit(Message message) throws JSONException {
+        Socket currentSocket = socket;
+        if (currentSocket == null || !currentSocket.connected()) {
+            message.discard();
+            return;
+        }
+        if (message.frame == null) {
+            currentSocket.emit(message.event, message.payload);
+            return;
+        }
+        byte[] content = message.frame.seal();
+        message.payload.put("body", content);
+        currentSocket.emit(message.event, message.payload);
+        contentDone(message.producer, content.length);
+    }
+
+    private void contentDone(FlowControlled producer, int bytes) {
+        globalBytesInFlight.addAndGet(-bytes);
+        producer.onContentSent(bytes);
+        if (!stalledProducers.isEmpty() && hasCapacity()) {
+            for (FlowControlled stalled : stalledProducers) {
+                stalledProducers.remove(stalled);
+                stalled.resume();
+            }
+        }
+    }
+
+    private class Message implements Comparable<Message> {
+        private final int priority;
+        private final long sequence;
+        private final String event;
+        private final JSONObject payload;
+        private final ProxyContentFrame frame;
+        private final FlowControlled producer;
+        private final Runnable discarded;
+
+        Message(int priority, long sequence, String event, JSONObject payload, ProxyContentFrame frame,
+                FlowControlled producer, Runnable discarded) {
+            this.priority = priority;
+            this.sequence = sequence;
+            this.event = event;
+            this.payload = payload;
+            this.frame = frame;
+            this.producer = producer;
+            this.discarded = discarded;
+        }
+
+        void discard() {
+            if (frame != null) {
+                contentDone(producer, frame.discard());
+            }
+            if (discarded != null) {
+                discarded.run();
+            }
+        }
+
+        @Override
+        public int compareTo(Message other) {
+            if (priority != other.priority) {
+                return Integer.compare(priority, other.priority);
+            }
+            return Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
+
+/**
+ * This class collects item updates for the openHAB Cloud. Within a configurable window only the latest state
+ * of every item is kept and all collected states are handed over as one batch. While there is no connection
+ * to the openHAB Cloud the latest states are kept and sent as one snapshot as soon as the connection is
+ * established again.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+public class ItemUpdateBatcher {
+
+    /**
+     * Receives the batches of item updates which have to be sent to the openHAB Cloud
+     */
+    public interface ItemUpdateSink {
+        /**
+         * @param updates the latest state for every updated item, in the order of their first update
+         * @return number of updates which could not be sent
+         */
+        int sendItemUpdates(Map<String, String> updates);
+    }
+
+    private static final String THREADPOOL_OPENHABCLOUD = "openhabcloud";
+
+    private final ItemUpdateSink sink;
+    private final long window;
+
+    private Map<String, String> pendingUpdates = new LinkedHashMap<>();
+    private ScheduledFuture<?> flushJob;
+    private boolean connected;
+
+    private final AtomicLong receivedUpdates = new AtomicLong();
+    private final AtomicLong supersededUpdates = new AtomicLong();
+    private final AtomicLong droppedUpdates = new AtomicLong();
+    private final AtomicLong sentUpdates = new AtomicLong();
+    private final AtomicLong sentBatches = new AtomicLong();
+
+    /**
+     * @param sink the receiver of the batches
+     * @param window time in milliseconds during which updates are collected, 0 to send every update immediately
+     */
+    public ItemUpdateBatcher(ItemUpdateSink sink, long window) {
+        this.sink = sink;
+        this.window = window;
+    }
+
+    /**
+     * Adds an item update. An update of the same item which has not been sent yet is replaced.
+     */
+    public void update(String itemName, String itemState) {
+        receivedUpdates.incrementAndGet();
+        boolean flushNow = false;
+        synchronized (this) {
+            if (pendingUpdates.put(itemName, itemState) != null) {
+                supersededUpdates.incrementAndGet();
+            }
+            if (connected && flushJob == null) {
+                if (window <= 0) {
+                    flushNow = true;
+                } else {
+                    flushJob = ThreadPoolManager.getScheduledPool(THREADPOOL_OPENHABCLOUD).schedule(this::flush,
+                            window, TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+        if (flushNow) {
+            flush();
+        }
+    }
+
+    /**
+     * Informs the batcher about the connection state. Updates collected while disconnected are sent
+     * as one snapshot when the connection is established.
+     */
+    public void setConnected(boolean connected) {
+        synchronized (this) {
+            this.connected = connected;
+            if (!connected && flushJob != null) {
+                flushJob.cancel(false);
+                flushJob = null;
+            }
+        }
+        if (connected) {
+            flush();
+        }
+    }
+
+    /**
+     * Adds an update again which has been handed to the sink but could not be sent, e.g. because the connection
+     * was lost. It is sent with the next batch, unless the item has been updated again in the meantime.
+     */
+    public synchronized void requeue(String itemName, String itemState) {
+        sentUpdates.decrementAndGet();
+        if (pendingUpdates.putIfAbsent(itemName, itemState) != null) {
+            supersededUpdates.incrementAndGet();
+        }
+    }
+
+    /**
+     * Discards all pending updates, e.g. when the connector is shut down
+     */
+    public void shutdown() {
+        synchronized (this) {
+            connected = false;
+            if (flushJob != null) {
+                flushJob.cancel(false);
+                flushJob = null;
+            }
+            droppedUpdates.addAndGet(pendingUpdates.size());
+            pendingUpdates.clear();
+        }
+    }
+
+    private void flush() {
+        Map<String, String> updates;
+        synchronized (this) {
+            flushJob = null;
+            if (!connected || pendingUpdates.isEmpty()) {
+                return;
+            }
+            updates = pendingUpdates;
+            pendingUpdates = new LinkedHashMap<>();
+        }
+        int failed = sink.sendItemUpdates(updates);
+        droppedUpdates.addAndGet(failed);
+        sentUpdates.addAndGet(updates.size() - failed);
+        sentBatches.incrementAndGet();
+    }
+
+    /**
+     * Number of item updates which have been passed to the batcher
+     */
+    public long getReceivedUpdates() {
+        return receivedUpdates.get();
+    }
+
+    /**
+     * Number of item updates which were replaced by a newer state of the same item before being sent
+     */
+    public long getSupersededUpdates() {
+        return supersededUpdates.get();
+    }
+
+    /**
+     * Number of item updates which were discarded without being sent
+     */
+    public long getDroppedUpdates() {
+        return droppedUpdates.get();
+    }
+
+    /**
+     * Number of item updates which have been sent
+     */
+    public long getSentUpdates() {
+        return sentUpdates.get();
+    }
+
+    /**
+     * Number of batches which have been sent
+     */
+    public long getSentBatches() {
+        return sentBatches.get();
+    }
+
+    @Override
+    public String toString() {
+        return "received=" + getReceivedUpdates() + ", superseded=" + getSupersededUpdates() + ", dropped="
+                + getDroppedUpdates() + ", sent=" + getSentUpdates() + ", batches=" + getSentBatches();
+    }
+}
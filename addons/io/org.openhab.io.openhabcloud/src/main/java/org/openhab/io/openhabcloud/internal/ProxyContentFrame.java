@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A frame of proxied response content. Jetty content chunks of one request are appended to the
+ * frame until it is full or until it is taken by the {@link CloudMessageQueue} for sending, so
+ * that many small chunks are coalesced into a single binary socket.io message.
+ *
+ * The buffer of the frame grows with its content, so a queued frame only holds about as many bytes
+ * as it contains. A frame which has been filled exactly is sent without copying its buffer.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+public class ProxyContentFrame {
+    private static final byte[] EMPTY = new byte[0];
+
+    private final int maxSize;
+    private byte[] buffer = EMPTY;
+    private int length;
+    private boolean sealed;
+
+    /**
+     * @param maxSize maximum number of content bytes of this frame
+     */
+    public ProxyContentFrame(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Copies as much of the given content into this frame as fits.
+     *
+     * @return number of bytes copied, or -1 if the frame is already sealed
+     */
+    public synchronized int append(ByteBuffer content) {
+        if (sealed) {
+            return -1;
+        }
+        int count = Math.min(content.remaining(), maxSize - length);
+        if (length + count > buffer.length) {
+            // Grow to the content size, but at least double to keep copying of small chunks low
+            int capacity = Math.min(maxSize, Math.max(length + count, buffer.length * 2));
+            buffer = Arrays.copyOf(buffer, capacity);
+        }
+        content.get(buffer, length, count);
+        length += count;
+        return count;
+    }
+
+    public synchronized boolean isFull() {
+        return sealed || length == maxSize;
+    }
+
+    /**
+     * Closes the frame for further content and returns its payload.
+     */
+    public synchronized byte[] seal() {
+        if (sealed) {
+            return EMPTY;
+        }
+        sealed = true;
+        byte[] payload = length == buffer.length ? buffer : Arrays.copyOf(buffer, length);
+        buffer = null;
+        return payload;
+    }
+
+    /**
+     * Seals the frame without sending it, e.g. when the connection to the openHAB Cloud was lost.
+     *
+     * @return number of bytes which have been discarded
+     */
+    public synchronized int discard() {
+        if (sealed) {
+            return 0;
+        }
+        sealed = true;
+        buffer = null;
+        return length;
+    }
+}
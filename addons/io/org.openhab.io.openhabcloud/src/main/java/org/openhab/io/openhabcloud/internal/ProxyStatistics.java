@@ -0,0 +1,100 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Aggregated latency and volume figures of the requests which have been proxied from the openHAB Cloud
+ * to the local openHAB instance.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+public class ProxyStatistics {
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong failedRequests = new AtomicLong();
+    private final AtomicLong bytes = new AtomicLong();
+    private final AtomicLong frames = new AtomicLong();
+    private final AtomicLong stalls = new AtomicLong();
+    private final AtomicLong totalLatency = new AtomicLong();
+    private final AtomicLong maxLatency = new AtomicLong();
+
+    void requestCompleted(long latencyMillis, long requestBytes, int requestFrames, boolean failed) {
+        requests.incrementAndGet();
+        if (failed) {
+            failedRequests.incrementAndGet();
+        }
+        bytes.addAndGet(requestBytes);
+        frames.addAndGet(requestFrames);
+        totalLatency.addAndGet(latencyMillis);
+        maxLatency.accumulateAndGet(latencyMillis, Math::max);
+    }
+
+    void requestStalled() {
+        stalls.incrementAndGet();
+    }
+
+    /**
+     * Number of completed proxied requests
+     */
+    public long getRequests() {
+        return requests.get();
+    }
+
+    /**
+     * Number of proxied requests which failed
+     */
+    public long getFailedRequests() {
+        return failedRequests.get();
+    }
+
+    /**
+     * Number of response content bytes sent to the openHAB Cloud
+     */
+    public long getBytes() {
+        return bytes.get();
+    }
+
+    /**
+     * Number of binary content frames sent to the openHAB Cloud
+     */
+    public long getFrames() {
+        return frames.get();
+    }
+
+    /**
+     * Number of times a request had to wait for in-flight content to be sent
+     */
+    public long getStalls() {
+        return stalls.get();
+    }
+
+    /**
+     * Average time in milliseconds from receiving a request until its response was completed
+     */
+    public long getAverageLatency() {
+        long count = requests.get();
+        return count == 0 ? 0 : totalLatency.get() / count;
+    }
+
+    /**
+     * Maximum time in milliseconds from receiving a request until its response was completed
+     */
+    public long getMaxLatency() {
+        return maxLatency.get();
+    }
+
+    @Override
+    public String toString() {
+        return "requests=" + getRequests() + ", failed=" + getFailedRequests() + ", bytes=" + getBytes()
+                + ", frames=" + getFrames() + ", stalls=" + getStalls() + ", avgLatency=" + getAverageLatency()
+                + "ms, maxLatency=" + getMaxLatency() + "ms";
+    }
+}
@@ -0,0 +1,233 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.transport.image.internal;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.smarthome.core.library.types.RawType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.openhab.io.transport.image.ImageListener;
+import org.openhab.io.transport.image.ImageLoader;
+
+/**
+ * Tests cases for {@link ImageCacheImpl}, with loaders that return images of a given size without downloading them.
+ *
+ * @author agent - Initial contribution
+ */
+public class ImageCacheImplTest {
+
+    private static final int TIMEOUT = 5000;
+    private static final int IMAGE_BYTES = 100;
+
+    private static final String URL_1 = "http://localhost/image1.jpg";
+    private static final String URL_2 = "http://localhost/image2.jpg";
+    private static final String URL_3 = "http://localhost/image3.jpg";
+
+    /**
+     * Records the image it has been called with.
+     */
+    private static class RecordingListener implements ImageListener {
+        private final CountDownLatch received = new CountDownLatch(1);
+        private volatile RawType image;
+
+        @Override
+        public void imageReceived(String url, RawType image) {
+            this.image = image;
+            received.countDown();
+        }
+
+        RawType awaitImage() throws InterruptedException {
+            assertTrue("The listener has not been called", received.await(TIMEOUT, TimeUnit.MILLISECONDS));
+            return image;
+        }
+    }
+
+    /**
+     * Returns an image of the given size and counts how often each URL has been loaded.
+     */
+    private static class CountingLoader implements ImageLoader {
+        private final Map<String, AtomicInteger> loads = new ConcurrentHashMap<>();
+        private final int bytes;
+
+        CountingLoader(int bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public RawType load(String url) throws IOException {
+            loads.computeIfAbsent(url, key -> new AtomicInteger()).incrementAndGet();
+            return image(bytes);
+        }
+
+        int getLoads(String url) {
+            AtomicInteger count = loads.get(url);
+            return count != null ? count.get() : 0;
+        }
+    }
+
+    /**
+     * Blocks every download until it is released by the test, then returns an image or fails.
+     */
+    private static class BlockingLoader extends CountingLoader {
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+        private final boolean fail;
+
+        BlockingLoader(boolean fail) {
+            super(IMAGE_BYTES);
+            this.fail = fail;
+        }
+
+        @Override
+        public RawType load(String url) throws IOException {
+            RawType image = super.load(url);
+            started.countDown();
+            try {
+                released.await(TIMEOUT, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            if (fail) {
+                throw new IOException("Connection refused");
+            }
+            return image;
+        }
+
+        void awaitStarted() throws InterruptedException {
+            assertTrue("The download has not been started", started.await(TIMEOUT, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    private ImageCacheImpl cache;
+
+    @Before
+    public void setUp() {
+        cache = new ImageCacheImpl();
+        configure(3 * IMAGE_BYTES);
+    }
+
+    @After
+    public void tearDown() {
+        cache.deactivate();
+    }
+
+    @Test
+    public void evictsTheLeastRecentlyUsedImagesAtMaxBytes() throws InterruptedException {
+        CountingLoader loader = new CountingLoader(IMAGE_BYTES);
+        getImage(URL_1, loader);
+        getImage(URL_2, loader);
+        getImage(URL_3, loader);
+        // The first image is now used more recently than the second one
+        getImage(URL_1, loader);
+
+        getImage("http://localhost/image4.jpg", loader);
+
+        getImage(URL_1, loader);
+        getImage(URL_3, loader);
+        assertEquals(1, loader.getLoads(URL_1));
+        assertEquals(1, loader.getLoads(URL_3));
+
+        getImage(URL_2, loader);
+        assertEquals(2, loader.getLoads(URL_2));
+    }
+
+    @Test
+    public void passesCachedImagesToTheListenerOnTheCallingThread() throws InterruptedException {
+        CountingLoader loader = new CountingLoader(IMAGE_BYTES);
+        RawType image = getImage(URL_1, loader);
+
+        RecordingListener listener = new RecordingListener();
+        cache.getImage(URL_1, new CountingLoader(IMAGE_BYTES), listener);
+        assertSame(image, listener.image);
+        assertEquals(1, loader.getLoads(URL_1));
+    }
+
+    @Test
+    public void doesNotCacheImagesLargerThanMaxBytes() throws InterruptedException {
+        CountingLoader loader = new CountingLoader(IMAGE_BYTES);
+        CountingLoader oversizeLoader = new CountingLoader(3 * IMAGE_BYTES + 1);
+        getImage(URL_1, loader);
+
+        assertNotNull(getImage(URL_2, oversizeLoader));
+        assertNotNull(getImage(URL_2, oversizeLoader));
+        assertEquals(2, oversizeLoader.getLoads(URL_2));
+
+        // The cached images have not been evicted for it
+        getImage(URL_1, loader);
+        assertEquals(1, loader.getLoads(URL_1));
+    }
+
+    @Test
+    public void sharesOneDownloadBetweenConcurrentRequestsWithTheSameLoader() throws InterruptedException {
+        BlockingLoader loader = new BlockingLoader(false);
+        RecordingListener first = new RecordingListener();
+        RecordingListener second = new RecordingListener();
+        RecordingListener third = new RecordingListener();
+
+        cache.getImage(URL_1, loader, first);
+        loader.awaitStarted();
+        cache.getImage(URL_1, loader, second);
+        cache.getImage(URL_1, loader, third);
+        loader.released.countDown();
+
+        RawType image = first.awaitImage();
+        assertNotNull(image);
+        assertSame(image, second.awaitImage());
+        assertSame(image, third.awaitImage());
+        assertEquals(1, loader.getLoads(URL_1));
+    }
+
+    @Test
+    public void notifiesTheListenersWhichJoinedAFailingDownload() throws InterruptedException {
+        BlockingLoader loader = new BlockingLoader(true);
+        RecordingListener first = new RecordingListener();
+        RecordingListener late = new RecordingListener();
+
+        cache.getImage(URL_1, loader, first);
+        loader.awaitStarted();
+        cache.getImage(URL_1, loader, late);
+        loader.released.countDown();
+
+        assertNull(first.awaitImage());
+        assertNull(late.awaitImage());
+        assertEquals(1, loader.getLoads(URL_1));
+
+        // A failed download is not cached, so the image is requested again
+        CountingLoader retryLoader = new CountingLoader(IMAGE_BYTES);
+        assertNotNull(getImage(URL_1, retryLoader));
+        assertEquals(1, retryLoader.getLoads(URL_1));
+    }
+
+    private void configure(long maxBytes) {
+        Map<String, Object> config = new HashMap<>();
+        config.put("maxBytes", maxBytes);
+        cache.activate(Collections.unmodifiableMap(config));
+    }
+
+    private RawType getImage(String url, ImageLoader loader) throws InterruptedException {
+        RecordingListener listener = new RecordingListener();
+        cache.getImage(url, loader, listener);
+        return listener.awaitImage();
+    }
+
+    private static RawType image(int bytes) {
+        return new RawType(new byte[bytes], "image/jpeg");
+    }
+}
@@ -0,0 +1,54 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.transport.image;
+
+/**
+ * The {@link ImageCache} provides the images (e.g. cover art or camera snapshots) that bindings publish on their image
+ * channels. It is shared by all bindings, so an image that is shown by several things (e.g. the players of a
+ * multi-room group) is only downloaded once.
+ *
+ * Images are fetched asynchronously: a binding requests an image and publishes it when its listener is called, so the
+ * thread processing the status of a device is never blocked by a download. Concurrent requests for the same URL share
+ * a single download. The cache is bounded by the total number of bytes of the images it holds and may downscale
+ * images to a configured maximum width and height.
+ *
+ * @author agent - Initial contribution
+ */
+public interface ImageCache {
+
+    /**
+     * Gets the image at the given URL. A cached image is passed to the listener immediately, on the calling thread.
+     * Otherwise the image is downloaded in the background and passed to the listener when it has arrived.
+     *
+     * @param url the URL of the image
+     * @param listener called with the image, or with null if the image could not be downloaded
+     */
+    void getImage(String url, ImageListener listener);
+
+    /**
+     * Gets the image at the given URL like {@link #getImage(String, ImageListener)}, but uses the given loader to
+     * download it, e.g. for devices that need a special request or return invalid responses. Only requests with the
+     * same loader instance share a download; a cached image is returned whichever loader downloaded it.
+     *
+     * @param url the URL of the image
+     * @param loader the loader used if the image is not cached
+     * @param listener called with the image, or with null if the image could not be downloaded
+     */
+    void getImage(String url, ImageLoader loader, ImageListener listener);
+
+    /**
+     * Downloads the image at the given URL again, ignoring a cached image. This is meant for URLs whose image changes,
+     * like the live snapshot of a camera.
+     *
+     * @param url the URL of the image
+     * @param listener called with the image, or with null if the image could not be downloaded
+     */
+    void refreshImage(String url, ImageListener listener);
+
+}
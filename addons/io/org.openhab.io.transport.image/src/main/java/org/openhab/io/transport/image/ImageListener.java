@@ -0,0 +1,30 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.transport.image;
+
+import org.eclipse.smarthome.core.library.types.RawType;
+
+/**
+ * The {@link ImageListener} is called by the {@link ImageCache} when a requested image is available.
+ *
+ * @author agent - Initial contribution
+ */
+@FunctionalInterface
+public interface ImageListener {
+
+    /**
+     * Called with the requested image. As the image may arrive after the binding requested an image for another URL,
+     * the URL should be checked before the image is published.
+     *
+     * @param url the URL of the image
+     * @param image the (possibly downscaled) image or null if the image could not be downloaded
+     */
+    void imageReceived(String url, RawType image);
+
+}
@@ -0,0 +1,32 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.transport.image;
+
+import java.io.IOException;
+
+import org.eclipse.smarthome.core.library.types.RawType;
+
+/**
+ * The {@link ImageLoader} downloads an image for the {@link ImageCache}. It is called on a thread of the cache.
+ *
+ * @author agent - Initial contribution
+ */
+@FunctionalInterface
+public interface ImageLoader {
+
+    /**
+     * Downloads the image at the given URL.
+     *
+     * @param url the URL of the image
+     * @return the image or null if the URL doesn't provide an image
+     * @throws IOException if the image could not be downloaded
+     */
+    RawType load(String url) throws IOException;
+
+}
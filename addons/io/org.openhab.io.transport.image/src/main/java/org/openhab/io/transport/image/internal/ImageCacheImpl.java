@@ -0,0 +1,296 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.transport.image.internal;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+
+import javax.imageio.ImageIO;
+
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
+import org.eclipse.smarthome.core.library.types.RawType;
+import org.eclipse.smarthome.io.net.http.HttpUtil;
+import org.openhab.io.transport.image.ImageCache;
+import org.openhab.io.transport.image.ImageListener;
+import org.openhab.io.transport.image.ImageLoader;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link ImageCacheImpl} keeps the most recently used images up to a maximum number of bytes. Images are
+ * downloaded on the threads of a shared pool, each URL by at most one download per loader at a time. Images are
+ * cached by URL only, as the image of a URL does not depend on the loader that downloaded it.
+ *
+ * The cache is configured with the PID org.openhab.imagecache:
+ * <ul>
+ * <li>maxBytes: the maximum number of bytes of all cached images (default 16 MiB)</li>
+ * <li>maxImageSize: the maximum width and height in pixels, larger images are downscaled (default 0, no
+ * downscaling)</li>
+ * </ul>
+ *
+ * @author agent - Initial contribution
+ */
+@Component(service = ImageCache.class, immediate = true, configurationPid = "org.openhab.imagecache")
+public class ImageCacheImpl implements ImageCache {
+
+    private static final String THREADPOOL_NAME = "imageCache";
+    private static final String CONFIG_MAX_BYTES = "maxBytes";
+    private static final String CONFIG_MAX_IMAGE_SIZE = "maxImageSize";
+    private static final long DEFAULT_MAX_BYTES = 16 * 1024 * 1024;
+    private static final ImageLoader DEFAULT_LOADER = HttpUtil::downloadImage;
+
+    private final Logger logger = LoggerFactory.getLogger(ImageCacheImpl.class);
+
+    private final ExecutorService executor = ThreadPoolManager.getPool(THREADPOOL_NAME);
+
+    // Cached images by URL in access order, so the first one is the least recently used
+    private final Map<String, RawType> images = new LinkedHashMap<>(16, 0.75f, true);
+
+    // Listeners of the images being downloaded by URL and loader
+    private final Map<Download, List<ImageListener>> pendingListeners = new HashMap<>();
+
+    private long cachedBytes;
+    private long maxBytes = DEFAULT_MAX_BYTES;
+    private int maxImageSize;
+
+    @Activate
+    protected void activate(Map<String, Object> config) {
+        modified(config);
+    }
+
+    @Modified
+    protected synchronized void modified(Map<String, Object> config) {
+        maxBytes = getLong(config, CONFIG_MAX_BYTES, DEFAULT_MAX_BYTES);
+        maxImageSize = (int) getLong(config, CONFIG_MAX_IMAGE_SIZE, 0);
+        logger.debug("Image cache configured with maxBytes {} and maxImageSize {}", maxBytes, maxImageSize);
+
+        // The cached images may have been downscaled to another size
+        clear();
+    }
+
+    @Deactivate
+    protected synchronized void deactivate() {
+        clear();
+    }
+
+    @Override
+    public void getImage(String url, ImageListener listener) {
+        getImage(url, DEFAULT_LOADER, listener, false);
+    }
+
+    @Override
+    public void getImage(String url, ImageLoader loader, ImageListener listener) {
+        getImage(url, loader, listener, false);
+    }
+
+    @Override
+    public void refreshImage(String url, ImageListener listener) {
+        getImage(url, DEFAULT_LOADER, listener, true);
+    }
+
+    private void getImage(String url, ImageLoader loader, ImageListener listener, boolean refresh) {
+        Download download = new Download(url, loader);
+        RawType image = null;
+        synchronized (this) {
+            if (!refresh) {
+                image = images.get(url);
+            }
+            if (image == null) {
+                List<ImageListener> listeners = pendingListeners.get(download);
+                if (listeners != null) {
+                    logger.trace("Waiting for the pending download of image {}", url);
+                    listeners.add(listener);
+                    return;
+                }
+                listeners = new ArrayList<>();
+                listeners.add(listener);
+                pendingListeners.put(download, listeners);
+            }
+        }
+
+        if (image != null) {
+            notifyListener(listener, url, image);
+        } else {
+            executor.execute(() -> download(download));
+        }
+    }
+
+    private void download(Download download) {
+        String url = download.url;
+        ImageLoader loader = download.loader;
+        RawType image = null;
+        try {
+            logger.debug("Downloading image {}", url);
+            image = loader.load(url);
+            if (image != null) {
+                image = downscale(url, image);
+            } else {
+                logger.debug("No image received from {}", url);
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.debug("Failed to download image {}: {}", url, e.getMessage());
+        }
+
+        List<ImageListener> listeners;
+        synchronized (this) {
+            listeners = pendingListeners.remove(download);
+            if (image != null) {
+                put(url, image);
+            }
+        }
+
+        if (listeners != null) {
+            for (ImageListener listener : listeners) {
+                notifyListener(listener, url, image);
+            }
+        }
+    }
+
+    private void notifyListener(ImageListener listener, String url, RawType image) {
+        try {
+            listener.imageReceived(url, image);
+        } catch (RuntimeException e) {
+            logger.warn("Image listener failed to process image {}", url, e);
+        }
+    }
+
+    private void put(String url, RawType image) {
+        RawType previous = images.remove(url);
+        if (previous != null) {
+            cachedBytes -= previous.getBytes().length;
+        }
+
+        long bytes = image.getBytes().length;
+        if (bytes > maxBytes) {
+            logger.debug("Not caching image {} of {} bytes, the cache holds at most {} bytes", url, bytes, maxBytes);
+            return;
+        }
+
+        images.put(url, image);
+        cachedBytes += bytes;
+
+        Iterator<RawType> iterator = images.values().iterator();
+        while (cachedBytes > maxBytes && iterator.hasNext()) {
+            cachedBytes -= iterator.next().getBytes().length;
+            iterator.remove();
+        }
+    }
+
+    private void clear() {
+        images.clear();
+        cachedBytes = 0;
+    }
+
+    /**
+     * Downscales the image if it is larger than the configured maximum size, keeping its aspect ratio. Images that
+     * cannot be decoded are returned unchanged.
+     */
+    private RawType downscale(String url, RawType image) {
+        int maxSize = maxImageSize;
+        if (maxSize <= 0) {
+            return image;
+        }
+
+        try {
+            BufferedImage source = ImageIO.read(new ByteArrayInputStream(image.getBytes()));
+            if (source == null || (source.getWidth() <= maxSize && source.getHeight() <= maxSize)) {
+                return image;
+            }
+
+            double scale = Math.min((double) maxSize / source.getWidth(), (double) maxSize / source.getHeight());
+            int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+            int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+            boolean alpha = source.getColorModel().hasAlpha();
+
+            BufferedImage scaled = new BufferedImage(width, height,
+                    alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = scaled.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                        RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(source, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            if (!ImageIO.write(scaled, alpha ? "png" : "jpg", out)) {
+                return image;
+            }
+            logger.debug("Downscaled image {} from {}x{} to {}x{}", url, source.getWidth(), source.getHeight(), width,
+                    height);
+            return new RawType(out.toByteArray(), alpha ? "image/png" : "image/jpeg");
+        } catch (IOException e) {
+            logger.debug("Failed to downscale image {}: {}", url, e.getMessage());
+            return image;
+        }
+    }
+
+    private long getLong(Map<String, Object> config, String key, long defaultValue) {
+        Object value = config != null ? config.get(key) : null;
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        } else if (value instanceof String && !((String) value).trim().isEmpty()) {
+            try {
+                return Long.parseLong(((String) value).trim());
+            } catch (NumberFormatException e) {
+                logger.warn("Ignoring invalid image cache configuration {}={}", key, value);
+            }
+        }
+        return defaultValue;
+    }
+
+    /**
+     * The key of a pending download: the URL of the image and the loader downloading it.
+     */
+    private static final class Download {
+        private final String url;
+        private final ImageLoader loader;
+
+        Download(String url, ImageLoader loader) {
+            this.url = url;
+            this.loader = loader;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Download)) {
+                return false;
+            }
+            Download other = (Download) obj;
+            return url.equals(other.url) && loader.equals(other.loader);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(url, loader);
+        }
+    }
+
+}
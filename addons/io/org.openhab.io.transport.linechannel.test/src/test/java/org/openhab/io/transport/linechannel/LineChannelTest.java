@@ -0,0 +1,191 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.transport.linechannel;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests cases for {@link LineChannel} and its {@link SelectorTransport}, against a local server socket.
+ *
+ * @author agent - Initial contribution
+ */
+public class LineChannelTest {
+
+    private static final int TIMEOUT = 5000;
+
+    private final BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+    private final BlockingQueue<IOException> exceptions = new LinkedBlockingQueue<>();
+
+    private final LineChannel.Listener listener = new LineChannel.Listener() {
+        @Override
+        public void lineReceived(String line) {
+            lines.add(line);
+        }
+
+        @Override
+        public void exceptionReceived(IOException e) {
+            exceptions.add(e);
+        }
+    };
+
+    private ServerSocket server;
+    private LineChannel channel;
+
+    @Before
+    public void setUp() throws IOException {
+        server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+        server.setSoTimeout(TIMEOUT);
+        channel = new LineChannel(server.getInetAddress().getHostAddress(), server.getLocalPort(), listener,
+                "Login: ");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        channel.disconnect();
+        server.close();
+    }
+
+    @Test
+    public void framesLinesAndPrompts() throws Exception {
+        channel.connect(TIMEOUT);
+        channel.setDispatching(true);
+
+        try (Socket socket = server.accept()) {
+            final OutputStream out = socket.getOutputStream();
+            out.write("Login: first\r\nsec".getBytes(StandardCharsets.ISO_8859_1));
+            out.flush();
+            assertEquals("Login", lines.poll(TIMEOUT, TimeUnit.MILLISECONDS));
+            assertEquals("first", lines.poll(TIMEOUT, TimeUnit.MILLISECONDS));
+
+            out.write("ond\n\r\n".getBytes(StandardCharsets.ISO_8859_1));
+            out.flush();
+            assertEquals("second", lines.poll(TIMEOUT, TimeUnit.MILLISECONDS));
+            assertEquals("", lines.poll(TIMEOUT, TimeUnit.MILLISECONDS));
+        }
+
+        assertEquals(4, channel.getMetrics().getLinesReceived());
+        assertEquals(23, channel.getMetrics().getBytesRead());
+    }
+
+    @Test
+    public void holdsResponsesUntilDispatchingIsEnabled() throws Exception {
+        channel.connect(TIMEOUT);
+
+        try (Socket socket = server.accept()) {
+            socket.getOutputStream().write("one\r\ntwo\r\n".getBytes(StandardCharsets.ISO_8859_1));
+            socket.getOutputStream().flush();
+
+            assertNull(lines.poll(500, TimeUnit.MILLISECONDS));
+
+            channel.setDispatching(true);
+            assertEquals("one", lines.poll(TIMEOUT, TimeUnit.MILLISECONDS));
+            assertEquals("two", lines.poll(TIMEOUT, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    @Test
+    public void sendsQueuedCommandsInOrder() throws Exception {
+        channel.connect(TIMEOUT);
+
+        try (Socket socket = server.accept()) {
+            channel.send("first\r\n");
+            channel.send("second\r\n");
+
+            final String expected = "first\r\nsecond\r\n";
+            final byte[] received = new byte[expected.length()];
+            final InputStream in = socket.getInputStream();
+            socket.setSoTimeout(TIMEOUT);
+            int read = 0;
+            while (read < received.length) {
+                final int n = in.read(received, read, received.length - read);
+                assertTrue("Connection closed after " + read + " bytes", n > 0);
+                read += n;
+            }
+            assertEquals(expected, new String(received, StandardCharsets.ISO_8859_1));
+        }
+
+        assertEquals(2, channel.getMetrics().getCommandsSent());
+        assertEquals(15, channel.getMetrics().getBytesWritten());
+    }
+
+    @Test(expected = IOException.class)
+    public void sendFailsWhenDisconnected() throws IOException {
+        channel.send("command\r\n");
+    }
+
+    @Test
+    public void dispatchesServerClose() throws Exception {
+        channel.connect(TIMEOUT);
+        channel.setDispatching(true);
+
+        server.accept().close();
+
+        assertNotNull(exceptions.poll(TIMEOUT, TimeUnit.MILLISECONDS));
+        assertFalse(channel.isConnected());
+    }
+
+    @Test
+    public void backsOffReconnectsAfterShortConnections() throws Exception {
+        assertEquals(10, channel.getReconnectDelay(10));
+
+        channel.connect(TIMEOUT);
+        server.accept().close();
+        channel.disconnect();
+        assertEquals(10, channel.getReconnectDelay(10));
+
+        channel.connect(TIMEOUT);
+        server.accept().close();
+        channel.disconnect();
+        assertEquals(20, channel.getReconnectDelay(10));
+        assertEquals(1, channel.getMetrics().getReconnects());
+
+        for (int i = 0; i < 10; i++) {
+            channel.connect(TIMEOUT);
+            server.accept().close();
+            channel.disconnect();
+        }
+        assertEquals(300, channel.getReconnectDelay(10));
+        assertEquals(600, channel.getReconnectDelay(600));
+    }
+
+    @Test
+    public void shutsDownTheTransportWithTheLastChannel() throws Exception {
+        channel.connect(TIMEOUT);
+        server.accept().close();
+
+        final SelectorTransport transport = SelectorTransport.acquire();
+        SelectorTransport.release(transport);
+        assertFalse(transport.getDispatcher().isShutdown());
+
+        channel.disconnect();
+        assertTrue(transport.getDispatcher().isShutdown());
+        assertFalse(transport.getSelector().isOpen());
+
+        channel.connect(TIMEOUT);
+        server.accept().close();
+        final SelectorTransport restarted = SelectorTransport.acquire();
+        SelectorTransport.release(restarted);
+        assertNotSame(transport, restarted);
+    }
+}
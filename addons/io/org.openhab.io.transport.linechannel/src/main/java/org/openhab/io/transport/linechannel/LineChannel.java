@@ -0,0 +1,600 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.transport.linechannel;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A restartable, non-blocking connection to a CR/LF delimited (telnet like) protocol served by the shared
+ * {@link SelectorTransport}, so no thread is held per connection:
+ * <ul>
+ * <li>Lines are framed in place in the read buffer and only the line itself is decoded (no per byte copy). Prompts
+ * that are not followed by a newline (ie "Login: ") can be given and will be received as a line without their trailing
+ * ": ".</li>
+ * <li>Commands are queued and written by the selector thread, gathering all the commands queued since the last write
+ * into a single socket write.</li>
+ * <li>Responses (and exceptions) are dispatched in order to the {@link Listener} on the shared dispatch pool, once
+ * dispatching has been enabled via {@link #setDispatching(boolean)} (responses received before are held).</li>
+ * <li>Connections that fail (or close within a minute) are counted to back off reconnect attempts via
+ * {@link #getReconnectDelay(int)}.</li>
+ * </ul>
+ *
+ * @author agent - Initial contribution
+ */
+public class LineChannel {
+    private final Logger logger = LoggerFactory.getLogger(LineChannel.class);
+
+    /**
+     * The charset the protocol is read and written in
+     */
+    private static final Charset CHARSET = StandardCharsets.ISO_8859_1;
+
+    /**
+     * The initial and maximum size of the read buffer (which grows when a line does not fit)
+     */
+    private static final int READ_BUFFER_SIZE = 4096;
+    private static final int MAX_READ_BUFFER_SIZE = 1024 * 1024;
+
+    /**
+     * The maximum number of commands gathered in a single write
+     */
+    private static final int MAX_GATHERED_WRITES = 64;
+
+    /**
+     * The maximum number of responses waiting to be dispatched - the oldest are dropped beyond
+     */
+    private static final int MAX_PENDING_RESPONSES = 1000;
+
+    /**
+     * A connection closing before that time (in milliseconds) is counted as a failure
+     */
+    private static final long STABLE_CONNECTION = 60000;
+
+    /**
+     * The maximum reconnect delay (in seconds) that the backoff will reach
+     */
+    private static final int MAX_RECONNECT_DELAY = 300;
+
+    /**
+     * The host/ip address to connect to
+     */
+    private final String host;
+
+    /**
+     * The port to connect to
+     */
+    private final int port;
+
+    /**
+     * The prompts (ie "Login: ") to consider as a line even though they are not followed by a newline
+     */
+    private final byte[][] prompts;
+
+    /**
+     * The listener that will receive the responses
+     */
+    private final Listener listener;
+
+    /**
+     * The current connection - will be null if not connected
+     */
+    private final AtomicReference<Connection> connection = new AtomicReference<Connection>();
+
+    /**
+     * The responses (strings or exceptions) waiting to be dispatched
+     */
+    private final Queue<Object> responses = new ConcurrentLinkedQueue<Object>();
+
+    /**
+     * The number of {@link #responses} (as the size of a concurrent queue is not constant-time)
+     */
+    private final AtomicInteger pendingResponses = new AtomicInteger();
+
+    /**
+     * Whether a dispatch of the {@link #responses} is queued or running
+     */
+    private final AtomicBoolean dispatching = new AtomicBoolean(false);
+
+    /**
+     * Whether responses should be dispatched to the {@link #listener}
+     */
+    private volatile boolean dispatchEnabled;
+
+    /**
+     * The number of consecutive failed connections
+     */
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+    /**
+     * The counters of this channel
+     */
+    private final SessionMetrics metrics = new SessionMetrics();
+
+    /**
+     * Listener to the responses of a {@link LineChannel}
+     */
+    public interface Listener {
+        /**
+         * Called (from the dispatch pool) for each line received
+         *
+         * @param line a non-null, possibly empty line without its terminator
+         * @throws InterruptedException if the response processing was interrupted
+         */
+        void lineReceived(String line) throws InterruptedException;
+
+        /**
+         * Called (from the dispatch pool) when the connection failed or was closed by the server
+         *
+         * @param e a non-null io exception
+         * @throws InterruptedException if the exception processing was interrupted
+         */
+        void exceptionReceived(IOException e) throws InterruptedException;
+    }
+
+    /**
+     * Creates the channel from the given host and port
+     *
+     * @param host a non-null, non-empty host/ip address
+     * @param port the port number between 1 and 65535
+     * @param listener a non-null {@link Listener}
+     * @param prompts the (possibly empty) prompts to consider as lines - each must end with ": "
+     */
+    public LineChannel(String host, int port, Listener listener, String... prompts) {
+        if (host == null || host.trim().length() == 0) {
+            throw new IllegalArgumentException("Host cannot be null or empty");
+        }
+
+        if (port < 1 || port > 65535) {
+            throw new IllegalArgumentException("Port must be between 1 and 65535");
+        }
+
+        if (listener == null) {
+            throw new IllegalArgumentException("listener cannot be null");
+        }
+
+        this.host = host;
+        this.port = port;
+        this.listener = listener;
+        this.prompts = new byte[prompts.length][];
+        for (int i = 0; i < prompts.length; i++) {
+            if (!prompts[i].endsWith(": ")) {
+                throw new IllegalArgumentException("Prompt must end with ': ': " + prompts[i]);
+            }
+            this.prompts[i] = prompts[i].getBytes(CHARSET);
+        }
+    }
+
+    /**
+     * Connects to the {@link #host} on port {@link #port}, disconnecting first if we are connected. The connection is
+     * established on the calling thread, after which the channel is handed over to the {@link SelectorTransport}.
+     * Any response not yet dispatched from a previous connection is discarded.
+     *
+     * @param timeout a connection timeout (in milliseconds) - 0 for none
+     * @throws IOException if an exception occurs during the connection attempt
+     */
+    public void connect(int timeout) throws IOException {
+        disconnect();
+
+        final SocketChannel channel = SocketChannel.open();
+        try {
+            logger.debug("Connecting to {}:{}", host, port);
+            channel.socket().setKeepAlive(true);
+            channel.socket().connect(new InetSocketAddress(host, port), timeout);
+            channel.configureBlocking(false);
+        } catch (IOException e) {
+            consecutiveFailures.incrementAndGet();
+            channel.close();
+            throw e;
+        }
+
+        clearResponses();
+
+        final SelectorTransport transport = SelectorTransport.acquire();
+        final Connection conn = new Connection(channel, transport);
+        connection.set(conn);
+        metrics.connected();
+
+        transport.execute(conn::register);
+    }
+
+    /**
+     * Disconnects from the {@link #host} if connected and discards any response not yet dispatched
+     *
+     * @throws IOException if an exception occurs closing the socket
+     */
+    public void disconnect() throws IOException {
+        final Connection conn = connection.getAndSet(null);
+        if (conn != null) {
+            logger.debug("Disconnecting from {}:{} ({})", host, port, metrics);
+
+            if (System.currentTimeMillis() - conn.connectedTime < STABLE_CONNECTION) {
+                consecutiveFailures.incrementAndGet();
+            } else {
+                consecutiveFailures.set(0);
+            }
+
+            try {
+                conn.channel.close();
+            } finally {
+                SelectorTransport.release(conn.transport);
+                clearResponses();
+            }
+        }
+    }
+
+    /**
+     * Returns true if we are connected (the connection has not failed nor been closed)
+     *
+     * @return true if connected, false otherwise
+     */
+    public boolean isConnected() {
+        final Connection conn = connection.get();
+        return conn != null && conn.channel.isConnected();
+    }
+
+    /**
+     * Queues the text to be written to the socket. The text is written by the selector thread together with any other
+     * text queued in the meantime.
+     *
+     * @param text a non-null text, including its terminator
+     * @throws IOException if we are not connected
+     */
+    public void send(String text) throws IOException {
+        final Connection conn = connection.get();
+        if (conn == null || !conn.channel.isConnected()) {
+            throw new IOException("Cannot send message - disconnected");
+        }
+
+        conn.writeQueue.add(ByteBuffer.wrap(text.getBytes(CHARSET)));
+        metrics.commandSent();
+
+        if (conn.writeScheduled.compareAndSet(false, true)) {
+            conn.transport.execute(conn::flushQueued);
+        }
+    }
+
+    /**
+     * Enables or disables the dispatching of responses to the {@link #listener}. Responses received while dispatching
+     * is disabled are held (up to {@link #MAX_PENDING_RESPONSES}) until it is enabled again.
+     *
+     * @param enabled true to dispatch responses, false to hold them
+     */
+    public void setDispatching(boolean enabled) {
+        dispatchEnabled = enabled;
+        scheduleDispatch();
+    }
+
+    /**
+     * Returns the delay before the next reconnect attempt: the given delay doubled for each consecutive failed
+     * connection beyond the first (up to 5 minutes, unless the given delay is already higher)
+     *
+     * @param retryDelay the configured retry delay (in seconds)
+     * @return the delay (in seconds) to wait before reconnecting
+     */
+    public int getReconnectDelay(int retryDelay) {
+        final int failures = consecutiveFailures.get();
+        if (failures <= 1 || retryDelay <= 0) {
+            return retryDelay;
+        }
+        final long delay = (long) retryDelay << Math.min(failures - 1, 16);
+        return (int) Math.min(delay, Math.max(retryDelay, MAX_RECONNECT_DELAY));
+    }
+
+    /**
+     * Returns the counters of this channel
+     *
+     * @return a non-null {@link SessionMetrics}
+     */
+    public SessionMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Queues a response for dispatching, dropping the oldest one if the listener does not keep up
+     *
+     * @param response a non-null string or io exception
+     */
+    private void addResponse(Object response) {
+        if (pendingResponses.incrementAndGet() > MAX_PENDING_RESPONSES) {
+            if (responses.poll() != null) {
+                pendingResponses.decrementAndGet();
+                metrics.responseDropped();
+                logger.debug("Too many pending responses from {}:{} - dropping the oldest", host, port);
+            }
+        }
+        responses.add(response);
+        scheduleDispatch();
+    }
+
+    /**
+     * Discards the responses not dispatched yet
+     */
+    private void clearResponses() {
+        while (responses.poll() != null) {
+            pendingResponses.decrementAndGet();
+        }
+    }
+
+    /**
+     * Submits a dispatch of the responses to the dispatch pool of the current connection if enabled and none is
+     * queued/running. Without a connection there is nothing to dispatch (responses are discarded on disconnect).
+     */
+    private void scheduleDispatch() {
+        if (dispatchEnabled && !responses.isEmpty() && dispatching.compareAndSet(false, true)) {
+            final Connection conn = connection.get();
+            try {
+                if (conn == null) {
+                    dispatching.set(false);
+                } else {
+                    conn.transport.getDispatcher().execute(this::dispatch);
+                }
+            } catch (RejectedExecutionException e) {
+                // the transport has been released in the meantime - the responses are discarded on disconnect
+                dispatching.set(false);
+            }
+        }
+    }
+
+    /**
+     * Dispatches the responses, in order, to the {@link #listener}
+     */
+    private void dispatch() {
+        try {
+            Object response;
+            while (dispatchEnabled && (response = responses.poll()) != null) {
+                pendingResponses.decrementAndGet();
+                try {
+                    if (response instanceof String) {
+                        logger.debug("Dispatching response: {}", response);
+                        listener.lineReceived((String) response);
+                    } else {
+                        logger.debug("Dispatching exception: {}", response);
+                        listener.exceptionReceived((IOException) response);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (Exception e) {
+                    logger.warn("Exception occurred processing the response '{}': {}", response, e.getMessage(), e);
+                }
+            }
+        } finally {
+            dispatching.set(false);
+            // pick up any response added after the last poll
+            scheduleDispatch();
+        }
+    }
+
+    /**
+     * A single connection of the channel. Everything but the {@link #writeQueue} and {@link #writeScheduled} is only
+     * touched by the selector thread.
+     */
+    private class Connection implements SelectorTransport.SelectionHandler {
+        private final SocketChannel channel;
+        private final SelectorTransport transport;
+        private final long connectedTime = System.currentTimeMillis();
+
+        /**
+         * The commands queued by {@link LineChannel#send(String)}
+         */
+        private final Queue<ByteBuffer> writeQueue = new ConcurrentLinkedQueue<ByteBuffer>();
+
+        /**
+         * Whether a {@link #flush()} is queued or write interest is set
+         */
+        private final AtomicBoolean writeScheduled = new AtomicBoolean(false);
+
+        /**
+         * The commands taken from the {@link #writeQueue} that have not been fully written yet
+         */
+        private final Deque<ByteBuffer> writing = new ArrayDeque<ByteBuffer>();
+
+        private SelectionKey key;
+        private ByteBuffer readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+
+        /**
+         * The position in the {@link #readBuffer} up to which no line terminator was found
+         */
+        private int scanPosition;
+
+        private Connection(SocketChannel channel, SelectorTransport transport) {
+            this.channel = channel;
+            this.transport = transport;
+        }
+
+        /**
+         * Registers the channel with the selector
+         */
+        private void register() {
+            try {
+                key = channel.register(transport.getSelector(), SelectionKey.OP_READ, this);
+            } catch (ClosedChannelException e) {
+                // disconnected before being registered
+            }
+        }
+
+        @Override
+        public void selected(SelectionKey selectedKey) {
+            try {
+                if (selectedKey.isValid() && selectedKey.isReadable()) {
+                    read();
+                }
+                if (selectedKey.isValid() && selectedKey.isWritable()) {
+                    flush();
+                }
+            } catch (IOException e) {
+                failed(e);
+            }
+        }
+
+        /**
+         * Reads what is available and frames the lines received
+         */
+        private void read() throws IOException {
+            final int bytesRead = channel.read(readBuffer);
+            if (bytesRead == -1) {
+                throw new IOException("server closed connection");
+            }
+            metrics.read(bytesRead);
+
+            final byte[] data = readBuffer.array();
+            final int end = readBuffer.position();
+            int lineStart = 0;
+            for (int i = scanPosition; i < end; i++) {
+                if (data[i] == '\n') {
+                    final int lineEnd = i > lineStart && data[i - 1] == '\r' ? i - 1 : i;
+                    lineReceived(new String(data, lineStart, lineEnd - lineStart, CHARSET));
+                    lineStart = i + 1;
+                } else if (data[i] == ' ' && isPrompt(data, lineStart, i + 1)) {
+                    // the prompt is received without its trailing ": "
+                    lineReceived(new String(data, lineStart, i - 1 - lineStart, CHARSET));
+                    lineStart = i + 1;
+                }
+            }
+
+            if (lineStart > 0) {
+                System.arraycopy(data, lineStart, data, 0, end - lineStart);
+                readBuffer.position(end - lineStart);
+            }
+            scanPosition = readBuffer.position();
+
+            if (!readBuffer.hasRemaining()) {
+                if (readBuffer.capacity() >= MAX_READ_BUFFER_SIZE) {
+                    throw new IOException("Response exceeds " + MAX_READ_BUFFER_SIZE + " bytes");
+                }
+                final ByteBuffer larger = ByteBuffer.allocate(readBuffer.capacity() * 2);
+                readBuffer.flip();
+                larger.put(readBuffer);
+                readBuffer = larger;
+            }
+        }
+
+        /**
+         * Whether the bytes from start to end (exclusive) end with one of the {@link LineChannel#prompts}
+         */
+        private boolean isPrompt(byte[] data, int start, int end) {
+            for (byte[] prompt : prompts) {
+                if (end - start >= prompt.length) {
+                    boolean matches = true;
+                    for (int i = 0; i < prompt.length && matches; i++) {
+                        matches = data[end - prompt.length + i] == prompt[i];
+                    }
+                    if (matches) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Queues a line for dispatching unless this connection has been replaced
+         */
+        private void lineReceived(String line) {
+            if (connection.get() == this) {
+                metrics.lineReceived();
+                addResponse(line);
+            }
+        }
+
+        /**
+         * Runs {@link #flush()} as a task queued by {@link LineChannel#send(String)}
+         */
+        private void flushQueued() {
+            try {
+                flush();
+            } catch (IOException e) {
+                failed(e);
+            }
+        }
+
+        /**
+         * Writes the queued commands, gathering them in as few writes as possible. Write interest is only kept while
+         * the socket cannot take everything.
+         */
+        private void flush() throws IOException {
+            if (key == null || !key.isValid()) {
+                writeScheduled.set(false);
+                return;
+            }
+
+            while (true) {
+                ByteBuffer buffer;
+                while ((buffer = writeQueue.poll()) != null) {
+                    writing.add(buffer);
+                }
+
+                while (!writing.isEmpty()) {
+                    final ByteBuffer[] buffers = new ByteBuffer[Math.min(writing.size(), MAX_GATHERED_WRITES)];
+                    int i = 0;
+                    for (ByteBuffer b : writing) {
+                        if (i == buffers.length) {
+                            break;
+                        }
+                        buffers[i++] = b;
+                    }
+
+                    final long written = channel.write(buffers);
+                    metrics.written(written);
+
+                    while (!writing.isEmpty() && !writing.peekFirst().hasRemaining()) {
+                        writing.removeFirst();
+                    }
+
+                    if (written == 0) {
+                        // socket buffer is full - wait until writable
+                        key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+                        return;
+                    }
+                }
+
+                key.interestOps(SelectionKey.OP_READ);
+                writeScheduled.set(false);
+
+                // a command may have been queued after the queue was drained but before the flag was reset
+                if (writeQueue.isEmpty() || !writeScheduled.compareAndSet(false, true)) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Closes the connection after a failure and dispatches the exception to the listener
+         */
+        private void failed(IOException e) {
+            logger.debug("Connection to {}:{} failed: {}", host, port, e.getMessage());
+            try {
+                channel.close();
+            } catch (IOException e1) {
+                // ignore - we are failing anyway
+            }
+            if (connection.get() == this) {
+                addResponse(e);
+            }
+        }
+    }
+}
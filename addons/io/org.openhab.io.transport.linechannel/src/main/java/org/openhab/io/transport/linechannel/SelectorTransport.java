@@ -0,0 +1,188 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.transport.linechannel;
+
+import java.io.IOException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The single selector thread shared by all the {@link LineChannel}s. The selector is created when the first channel
+ * connects and closed (ending the thread) when the last one disconnects. Any work that touches the selector or its keys
+ * is queued via {@link #execute(Runnable)} and run on the selector thread.
+ * <p>
+ * Responses are never dispatched from the selector thread (listeners may block waiting on other responses) but from
+ * the {@link #getDispatcher() dispatcher} pool of the transport, whose threads only exist while there is something to
+ * dispatch. The pool is shut down together with the selector, so no thread outlives the last channel.
+ *
+ * @author agent - Initial contribution
+ */
+class SelectorTransport implements Runnable {
+    private static final Logger logger = LoggerFactory.getLogger(SelectorTransport.class);
+
+    /**
+     * The current transport - will be null if no channel is connected
+     */
+    private static SelectorTransport instance;
+
+    /**
+     * The number of channels using this transport
+     */
+    private int channels;
+
+    /**
+     * The selector all channels are registered with
+     */
+    private final Selector selector;
+
+    /**
+     * The pool the {@link LineChannel}s dispatch their responses on (each channel dispatches serially)
+     */
+    private final ExecutorService dispatcher;
+
+    /**
+     * The tasks to run on the selector thread
+     */
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<Runnable>();
+
+    /**
+     * Handler of the events selected for a key - set as the attachment of the key
+     */
+    interface SelectionHandler {
+        /**
+         * Called on the selector thread when the key has been selected
+         *
+         * @param key a non-null, selected {@link SelectionKey}
+         */
+        void selected(SelectionKey key);
+    }
+
+    /**
+     * Returns the current transport (starting it if needed) and counts the caller as one of its channels. Each call
+     * must be balanced by a call to {@link #release(SelectorTransport)}.
+     *
+     * @return a non-null {@link SelectorTransport}
+     * @throws IOException if the selector could not be opened
+     */
+    static synchronized SelectorTransport acquire() throws IOException {
+        if (instance == null) {
+            instance = new SelectorTransport();
+        }
+        instance.channels++;
+        return instance;
+    }
+
+    /**
+     * Releases a transport acquired via {@link #acquire()}, closing it if no channel uses it anymore
+     *
+     * @param transport a non-null {@link SelectorTransport}
+     */
+    static synchronized void release(SelectorTransport transport) {
+        if (--transport.channels == 0) {
+            if (instance == transport) {
+                instance = null;
+            }
+            // responses already queued are still dispatched, after which the threads end
+            transport.dispatcher.shutdown();
+            try {
+                transport.selector.close();
+            } catch (IOException e) {
+                logger.debug("Exception closing the selector: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Opens the selector, creates the dispatcher pool and starts the selector thread
+     *
+     * @throws IOException if the selector could not be opened
+     */
+    private SelectorTransport() throws IOException {
+        selector = Selector.open();
+
+        final AtomicInteger dispatcherThreads = new AtomicInteger();
+        dispatcher = Executors.newCachedThreadPool(runnable -> {
+            final Thread thread = new Thread(runnable, "linechannel-dispatcher-" + dispatcherThreads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        final Thread thread = new Thread(this, "linechannel-selector");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Returns the selector - may only be used on the selector thread (ie from a task or a {@link SelectionHandler})
+     *
+     * @return a non-null {@link Selector}
+     */
+    Selector getSelector() {
+        return selector;
+    }
+
+    /**
+     * Returns the pool to dispatch the responses on - shut down once the transport has been released by all channels
+     *
+     * @return a non-null {@link ExecutorService}
+     */
+    ExecutorService getDispatcher() {
+        return dispatcher;
+    }
+
+    /**
+     * Queues a task to run on the selector thread and wakes up the selector
+     *
+     * @param task a non-null task
+     */
+    void execute(Runnable task) {
+        tasks.add(task);
+        selector.wakeup();
+    }
+
+    /**
+     * Runs the selector loop until the selector is closed
+     */
+    @Override
+    public void run() {
+        while (selector.isOpen()) {
+            try {
+                selector.select();
+
+                Runnable task;
+                while ((task = tasks.poll()) != null) {
+                    task.run();
+                }
+
+                final Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    final SelectionKey key = keys.next();
+                    keys.remove();
+                    ((SelectionHandler) key.attachment()).selected(key);
+                }
+            } catch (ClosedSelectorException e) {
+                // closed by the release of the last channel
+                break;
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Exception in the selector loop: {}", e.getMessage(), e);
+            }
+        }
+        tasks.clear();
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.transport.linechannel;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The counters of a {@link LineChannel} since it has been created (ie over all of its connections)
+ *
+ * @author agent - Initial contribution
+ */
+public class SessionMetrics {
+    private final AtomicLong connects = new AtomicLong();
+    private final AtomicLong bytesRead = new AtomicLong();
+    private final AtomicLong bytesWritten = new AtomicLong();
+    private final AtomicLong linesReceived = new AtomicLong();
+    private final AtomicLong commandsSent = new AtomicLong();
+    private final AtomicLong writes = new AtomicLong();
+    private final AtomicLong droppedResponses = new AtomicLong();
+
+    void connected() {
+        connects.incrementAndGet();
+    }
+
+    void read(long bytes) {
+        bytesRead.addAndGet(bytes);
+    }
+
+    void written(long bytes) {
+        writes.incrementAndGet();
+        bytesWritten.addAndGet(bytes);
+    }
+
+    void lineReceived() {
+        linesReceived.incrementAndGet();
+    }
+
+    void commandSent() {
+        commandsSent.incrementAndGet();
+    }
+
+    void responseDropped() {
+        droppedResponses.incrementAndGet();
+    }
+
+    /**
+     * @return the number of reconnects (successful connects after the first one)
+     */
+    public long getReconnects() {
+        return Math.max(0, connects.get() - 1);
+    }
+
+    public long getBytesRead() {
+        return bytesRead.get();
+    }
+
+    public long getBytesWritten() {
+        return bytesWritten.get();
+    }
+
+    public long getLinesReceived() {
+        return linesReceived.get();
+    }
+
+    public long getCommandsSent() {
+        return commandsSent.get();
+    }
+
+    /**
+     * @return the number of socket writes - lower than {@link #getCommandsSent()} when commands have been coalesced
+     */
+    public long getWrites() {
+        return writes.get();
+    }
+
+    /**
+     * @return the number of responses dropped because the listeners could not keep up
+     */
+    public long getDroppedResponses() {
+        return droppedResponses.get();
+    }
+
+    @Override
+    public String toString() {
+        return "reconnects=" + getReconnects() + ", bytesRead=" + getBytesRead() + ", bytesWritten="
+                + getBytesWritten() + ", linesReceived=" + getLinesReceived() + ", commandsSent="
+                + getCommandsSent() + ", writes=" + getWrites() + ", droppedResponses=" + getDroppedResponses();
+    }
+}